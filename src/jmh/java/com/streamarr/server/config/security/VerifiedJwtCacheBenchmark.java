@@ -0,0 +1,104 @@
+package com.streamarr.server.config.security;
+
+import com.streamarr.server.domain.auth.AccountRole;
+import com.streamarr.server.domain.auth.HouseholdRole;
+import com.streamarr.server.services.auth.TokenClaims;
+import com.streamarr.server.services.auth.TokenIdentityValidator;
+import com.streamarr.server.services.auth.TokenScope;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+/**
+ * The per-segment authentication path: decode a playback token and convert it into an
+ * Authentication, once through the full ES256 verification and validator chain and once through
+ * the verified-token cache, as a viewer's repeated segment requests see it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerifiedJwtCacheBenchmark {
+
+  private final TokenCryptoConfig config = new TokenCryptoConfig();
+  private final JwtIdentityConverter converter = new JwtIdentityConverter();
+
+  private JwtDecoder uncachedDecoder;
+  private JwtDecoder cachedDecoder;
+  private String playbackToken;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var keys = config.tokenSigningKeys(properties(10_000));
+    uncachedDecoder = config.jwtDecoder(keys, new TokenIdentityValidator(), properties(0));
+    cachedDecoder = config.jwtDecoder(keys, new TokenIdentityValidator(), properties(10_000));
+    playbackToken = mintPlaybackToken(config, keys);
+  }
+
+  @Benchmark
+  public AbstractAuthenticationToken decodeAndConvertUncached() {
+    return converter.convert(uncachedDecoder.decode(playbackToken));
+  }
+
+  @Benchmark
+  public AbstractAuthenticationToken decodeAndConvertCached() {
+    return converter.convert(cachedDecoder.decode(playbackToken));
+  }
+
+  private static String mintPlaybackToken(TokenCryptoConfig config, TokenSigningKeys keys) {
+    var now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    var claims =
+        JwtClaimsSet.builder()
+            .issuer("streamarr")
+            .audience(List.of("streamarr"))
+            .id(UUID.randomUUID().toString())
+            .subject(UUID.randomUUID().toString())
+            .issuedAt(now)
+            .expiresAt(now.plus(Duration.ofHours(1)))
+            .claim(TokenClaims.ROLES, List.of(AccountRole.USER.name()))
+            .claim(TokenClaims.SESSION_ID, UUID.randomUUID().toString())
+            .claim(TokenClaims.SCOPE, TokenScope.PLAYBACK.claimValue())
+            .claim(TokenClaims.HOUSEHOLD_ID, UUID.randomUUID().toString())
+            .claim(TokenClaims.HOUSEHOLD_ROLE, HouseholdRole.MEMBER.name())
+            .claim(TokenClaims.PROFILE_ID, UUID.randomUUID().toString())
+            .claim(TokenClaims.STREAM_SESSION_ID, UUID.randomUUID().toString())
+            .build();
+    return config
+        .jwtEncoder(keys)
+        .encode(
+            JwtEncoderParameters.from(JwsHeader.with(SignatureAlgorithm.ES256).build(), claims))
+        .getTokenValue();
+  }
+
+  private static AuthTokenProperties properties(int verifiedTokenCacheSize) {
+    return AuthTokenProperties.builder()
+        .signingKey("")
+        .accessTokenTtl(Duration.ofMinutes(10))
+        .refreshTokenTtl(Duration.ofDays(30))
+        .rotationGrace(Duration.ofSeconds(30))
+        .verifiedTokenCacheSize(verifiedTokenCacheSize)
+        .build();
+  }
+}
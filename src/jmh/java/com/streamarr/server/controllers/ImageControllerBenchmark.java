@@ -0,0 +1,114 @@
+package com.streamarr.server.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.streamarr.server.config.ImageProperties;
+import com.streamarr.server.domain.media.Image;
+import com.streamarr.server.domain.media.ImageEntityType;
+import com.streamarr.server.domain.media.ImageSize;
+import com.streamarr.server.domain.media.ImageType;
+import com.streamarr.server.fakes.FakeImageRepository;
+import com.streamarr.server.services.ImageService;
+import com.streamarr.server.services.metadata.ImageVariantService;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * One library grid page: every poster on it requested through the image endpoint, with the
+ * metadata cache on and off. Files are real (default filesystem) so streaming cost is measured;
+ * the repository is in-memory, so the database round trip the cache removes is not modeled and the
+ * gap between the two modes is a lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageControllerBenchmark {
+
+  private static final int POSTER_BYTES = 40 * 1024;
+
+  @Param({"0", "20000"})
+  private int metadataCacheSize;
+
+  @Param({"200"})
+  private int postersPerPage;
+
+  private Path storage;
+  private MockMvc mockMvc;
+  private UUID[] page;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    storage = Files.createTempDirectory("streamarr-image-benchmark");
+    var repository = new FakeImageRepository();
+    var poster = new byte[POSTER_BYTES];
+    ThreadLocalRandom.current().nextBytes(poster);
+
+    page = new UUID[postersPerPage];
+    for (int i = 0; i < postersPerPage; i++) {
+      var entityId = UUID.randomUUID();
+      var relativePath = "movie/" + entityId + "/poster/small.jpg";
+      var file = storage.resolve(relativePath);
+      Files.createDirectories(file.getParent());
+      Files.write(file, poster);
+      page[i] =
+          repository
+              .save(
+                  Image.builder()
+                      .entityId(entityId)
+                      .entityType(ImageEntityType.MOVIE)
+                      .imageType(ImageType.POSTER)
+                      .variant(ImageSize.SMALL)
+                      .path(relativePath)
+                      .build())
+              .getId();
+    }
+
+    var properties = new ImageProperties(storage.toString(), null, metadataCacheSize, null, null);
+    var imageService =
+        new ImageService(
+            repository, new ImageVariantService(), properties, FileSystems.getDefault());
+    mockMvc = MockMvcBuilders.standaloneSetup(new ImageController(imageService)).build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    FileSystemUtils.deleteRecursively(storage);
+  }
+
+  @Benchmark
+  public void loadGridPage(Blackhole blackhole) throws Exception {
+    for (var imageId : page) {
+      blackhole.consume(
+          mockMvc
+              .perform(get("/api/images/{imageId}", imageId))
+              .andReturn()
+              .getResponse()
+              .getContentLength());
+    }
+  }
+}
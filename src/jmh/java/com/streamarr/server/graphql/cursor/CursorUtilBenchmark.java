@@ -0,0 +1,82 @@
+package com.streamarr.server.graphql.cursor;
+
+import com.streamarr.server.services.pagination.MediaFilter;
+import com.streamarr.server.services.pagination.MediaPaginationOptions;
+import com.streamarr.server.services.pagination.OrderMediaBy;
+import com.streamarr.server.services.pagination.PaginationDirection;
+import com.streamarr.server.services.pagination.PaginationOptions;
+import graphql.relay.DefaultConnectionCursor;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.jooq.SortOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Media cursor round trips for a filtered library grid. A page of results encodes one cursor per
+ * edge and the next request decodes one, so {@code encode} is paid per item and {@code decode}
+ * per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CursorUtilBenchmark {
+
+  private CursorUtil cursorUtil;
+  private MediaPaginationOptions options;
+  private UUID cursorId;
+  private PaginationOptions nextPage;
+
+  @Setup
+  public void setUp() {
+    cursorUtil = new CursorUtil(new ObjectMapper());
+    cursorId = UUID.randomUUID();
+    var filter =
+        MediaFilter.builder()
+            .libraryId(UUID.randomUUID())
+            .profileId(UUID.randomUUID())
+            .sortBy(OrderMediaBy.TITLE)
+            .sortDirection(SortOrder.ASC)
+            .genreIds(List.of(UUID.randomUUID(), UUID.randomUUID()))
+            .years(List.of(1999, 2004))
+            .build();
+    var firstPage =
+        PaginationOptions.builder()
+            .cursor(Optional.empty())
+            .paginationDirection(PaginationDirection.FORWARD)
+            .limit(50)
+            .build();
+    options =
+        MediaPaginationOptions.builder()
+            .cursorId(cursorId)
+            .mediaFilter(filter)
+            .paginationOptions(firstPage)
+            .build();
+    var cursor = cursorUtil.encodeMediaCursor(options, cursorId, "matrix").getValue();
+    nextPage = firstPage.toBuilder().cursor(Optional.of(cursor)).build();
+  }
+
+  @Benchmark
+  public DefaultConnectionCursor encode() {
+    return cursorUtil.encodeMediaCursor(options, cursorId, "matrix");
+  }
+
+  @Benchmark
+  public MediaPaginationOptions decode() {
+    return cursorUtil.decodeMediaCursor(nextPage);
+  }
+}
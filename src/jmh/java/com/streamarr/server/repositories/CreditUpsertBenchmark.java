@@ -0,0 +1,272 @@
+package com.streamarr.server.repositories;
+
+import static com.streamarr.server.jooq.generated.tables.BaseCollectable.BASE_COLLECTABLE;
+import static com.streamarr.server.jooq.generated.tables.Company.COMPANY;
+import static com.streamarr.server.jooq.generated.tables.Genre.GENRE;
+import static com.streamarr.server.jooq.generated.tables.Library.LIBRARY;
+import static com.streamarr.server.jooq.generated.tables.Movie.MOVIE;
+import static com.streamarr.server.jooq.generated.tables.MovieCompany.MOVIE_COMPANY;
+import static com.streamarr.server.jooq.generated.tables.MovieGenre.MOVIE_GENRE;
+import static com.streamarr.server.jooq.generated.tables.MoviePerson.MOVIE_PERSON;
+import static com.streamarr.server.jooq.generated.tables.Person.PERSON;
+
+import com.streamarr.server.jooq.generated.enums.LibraryBackend;
+import com.streamarr.server.jooq.generated.enums.LibraryStatus;
+import com.streamarr.server.jooq.generated.enums.MediaType;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.AuditorAware;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Enrichment writes for one movie: its cast, studios and genres upserted by source id and linked to
+ * the movie through the join tables. {@code perCredit} is the old path, one {@code INSERT ... ON
+ * CONFLICT}, one lookup and one join-table row per credit. {@code setBased} is the current one, a
+ * set-based statement and a single lookup per table, then the join-table rows in JDBC batches of
+ * {@code hibernate.jdbc.batch_size} as Hibernate flushes them. Runs against PostgreSQL in a
+ * container so round trips are real, one transaction per movie as in enrichment. Half of each cast
+ * recurs from earlier movies, as actors do across a library.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreditUpsertBenchmark {
+
+  private static final int RECURRING_ACTORS = 2_000;
+  private static final int STUDIOS = 200;
+  private static final int GENRES = 19;
+  // hibernate.jdbc.batch_size in application.yml
+  private static final int JDBC_BATCH_SIZE = 100;
+
+  @Param({"20", "120"})
+  private int castSize;
+
+  private PostgreSQLContainer postgres;
+  private Connection connection;
+  private DSLContext dsl;
+  private PersonRepositoryCustomImpl persons;
+  private CompanyRepositoryCustomImpl companies;
+  private GenreRepositoryCustomImpl genres;
+  private final SplittableRandom random = new SplittableRandom(42);
+  private UUID libraryId;
+  private long movie;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    postgres = new PostgreSQLContainer("postgres:18-alpine");
+    postgres.start();
+    Flyway.configure()
+        .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+        .table("schema_history")
+        .load()
+        .migrate();
+
+    connection =
+        DriverManager.getConnection(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    connection.setAutoCommit(false);
+    dsl = DSL.using(connection, SQLDialect.POSTGRES);
+
+    AuditorAware<UUID> noAuditor = Optional::empty;
+    persons = new PersonRepositoryCustomImpl(dsl, noAuditor, null);
+    companies = new CompanyRepositoryCustomImpl(dsl, noAuditor, null);
+    genres = new GenreRepositoryCustomImpl(dsl, noAuditor, null);
+
+    libraryId =
+        dsl.insertInto(LIBRARY, LIBRARY.FILEPATH_URI, LIBRARY.STATUS, LIBRARY.BACKEND, LIBRARY.TYPE)
+            .values(
+                "file:///benchmark", LibraryStatus.HEALTHY, LibraryBackend.LOCAL, MediaType.MOVIE)
+            .returning(LIBRARY.ID)
+            .fetchOne(LIBRARY.ID);
+    connection.commit();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+    postgres.stop();
+  }
+
+  @Benchmark
+  public int perCredit() throws SQLException {
+    var credits = nextMovie();
+    var movieId = insertMovie();
+    var written = 0;
+    var ordinal = 0;
+    for (var cast : credits.cast().entrySet()) {
+      var personId = insertIfAbsent(PERSON, PERSON.ID, PERSON.SOURCE_ID, PERSON.NAME, cast);
+      written +=
+          dsl.insertInto(
+                  MOVIE_PERSON, MOVIE_PERSON.MOVIE_ID, MOVIE_PERSON.PERSON_ID, MOVIE_PERSON.ORDINAL)
+              .values(movieId, personId, ordinal++)
+              .execute();
+    }
+    for (var studio : credits.studios().entrySet()) {
+      var companyId = insertIfAbsent(COMPANY, COMPANY.ID, COMPANY.SOURCE_ID, COMPANY.NAME, studio);
+      written +=
+          dsl.insertInto(MOVIE_COMPANY, MOVIE_COMPANY.MOVIE_ID, MOVIE_COMPANY.COMPANY_ID)
+              .values(movieId, companyId)
+              .execute();
+    }
+    for (var genre : credits.genres().entrySet()) {
+      var genreId = insertIfAbsent(GENRE, GENRE.ID, GENRE.SOURCE_ID, GENRE.NAME, genre);
+      written +=
+          dsl.insertInto(MOVIE_GENRE, MOVIE_GENRE.MOVIE_ID, MOVIE_GENRE.GENRE_ID)
+              .values(movieId, genreId)
+              .execute();
+    }
+    connection.commit();
+    return written;
+  }
+
+  @Benchmark
+  public int setBased() throws SQLException {
+    var credits = nextMovie();
+    var movieId = insertMovie();
+    persons.insertAllIfAbsent(credits.cast());
+    companies.insertAllIfAbsent(credits.studios());
+    genres.insertAllIfAbsent(credits.genres());
+
+    var personIds = findIds(PERSON, PERSON.ID, PERSON.SOURCE_ID, credits.cast());
+    var companyIds = findIds(COMPANY, COMPANY.ID, COMPANY.SOURCE_ID, credits.studios());
+    var genreIds = findIds(GENRE, GENRE.ID, GENRE.SOURCE_ID, credits.genres());
+
+    var castRows = new ArrayList<Object[]>();
+    for (var sourceId : credits.cast().keySet()) {
+      castRows.add(new Object[] {movieId, personIds.get(sourceId), castRows.size()});
+    }
+    var written =
+        insertBatched(
+            dsl.insertInto(
+                    MOVIE_PERSON,
+                    MOVIE_PERSON.MOVIE_ID,
+                    MOVIE_PERSON.PERSON_ID,
+                    MOVIE_PERSON.ORDINAL)
+                .values((UUID) null, null, null),
+            castRows);
+    written +=
+        insertBatched(
+            dsl.insertInto(MOVIE_COMPANY, MOVIE_COMPANY.MOVIE_ID, MOVIE_COMPANY.COMPANY_ID)
+                .values((UUID) null, null),
+            linkRows(movieId, companyIds));
+    written +=
+        insertBatched(
+            dsl.insertInto(MOVIE_GENRE, MOVIE_GENRE.MOVIE_ID, MOVIE_GENRE.GENRE_ID)
+                .values((UUID) null, null),
+            linkRows(movieId, genreIds));
+    connection.commit();
+    return written;
+  }
+
+  private UUID insertMovie() {
+    var movieId =
+        dsl.insertInto(BASE_COLLECTABLE, BASE_COLLECTABLE.LIBRARY_ID, BASE_COLLECTABLE.TITLE)
+            .values(libraryId, "Movie " + movie)
+            .returning(BASE_COLLECTABLE.ID)
+            .fetchOne(BASE_COLLECTABLE.ID);
+    dsl.insertInto(MOVIE, MOVIE.ID).values(movieId).execute();
+    return movieId;
+  }
+
+  private <R extends Record> UUID insertIfAbsent(
+      Table<R> table,
+      TableField<R, UUID> id,
+      TableField<R, String> sourceId,
+      TableField<R, String> name,
+      Map.Entry<String, String> credit) {
+    dsl.insertInto(table)
+        .set(sourceId, credit.getKey())
+        .set(name, credit.getValue())
+        .onConflict(sourceId)
+        .doNothing()
+        .execute();
+    return dsl.select(id).from(table).where(sourceId.eq(credit.getKey())).fetchOne(id);
+  }
+
+  private <R extends Record> Map<String, UUID> findIds(
+      Table<R> table,
+      TableField<R, UUID> id,
+      TableField<R, String> sourceId,
+      Map<String, String> namesBySourceId) {
+    return dsl.select(sourceId, id)
+        .from(table)
+        .where(sourceId.in(namesBySourceId.keySet()))
+        .fetchMap(sourceId, id);
+  }
+
+  private static List<Object[]> linkRows(UUID movieId, Map<String, UUID> idsBySourceId) {
+    return idsBySourceId.values().stream().map(id -> new Object[] {movieId, id}).toList();
+  }
+
+  private int insertBatched(Query insert, List<Object[]> rows) {
+    var written = 0;
+    for (int from = 0; from < rows.size(); from += JDBC_BATCH_SIZE) {
+      var batch = dsl.batch(insert);
+      for (var row : rows.subList(from, Math.min(from + JDBC_BATCH_SIZE, rows.size()))) {
+        batch = batch.bind(row);
+      }
+      written += batch.execute().length;
+    }
+    return written;
+  }
+
+  private Credits nextMovie() {
+    movie++;
+    var cast = new TreeMap<String, String>();
+    for (int i = 0; i < castSize; i++) {
+      var sourceId =
+          i % 2 == 0 ? "actor-" + random.nextInt(RECURRING_ACTORS) : "actor-" + movie + "-" + i;
+      cast.put(sourceId, "Actor " + sourceId);
+    }
+
+    var studios = new TreeMap<String, String>();
+    for (int i = 0; i < 3; i++) {
+      var sourceId = "studio-" + random.nextInt(STUDIOS);
+      studios.put(sourceId, "Studio " + sourceId);
+    }
+
+    var genreNames = new TreeMap<String, String>();
+    for (int i = 0; i < 3; i++) {
+      var sourceId = "genre-" + random.nextInt(GENRES);
+      genreNames.put(sourceId, "Genre " + sourceId);
+    }
+
+    return new Credits(cast, studios, genreNames);
+  }
+
+  private record Credits(
+      Map<String, String> cast, Map<String, String> studios, Map<String, String> genres) {}
+}
@@ -0,0 +1,76 @@
+package com.streamarr.server.services.auth;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Login-throttle reservations under a spray of one million distinct keys against the default key
+ * cap, next to the steady case of one household hammering a single key. Run with {@code -prof gc}
+ * to confirm allocation stays flat once the cap is reached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlidingWindowAttemptBudgetBenchmark {
+
+  private static final int DISTINCT_KEYS = 1_000_000;
+
+  @Param({"100000"})
+  private int maximumKeys;
+
+  private SlidingWindowAttemptBudget<String> budget;
+  private String[] keys;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    budget =
+        new SlidingWindowAttemptBudget<>(
+            5, Duration.ofMinutes(15), maximumKeys, Clock.systemUTC());
+    keys = new String[DISTINCT_KEYS];
+    for (int i = 0; i < DISTINCT_KEYS; i++) {
+      keys[i] = "src:198.51." + (i >>> 8 & 0xff) + "." + (i & 0xff) + "/" + i;
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public boolean sprayedDistinctKeys(Cursor cursor) {
+    return budget.reserve(keys[cursor.next()]);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public boolean singleHotKey() {
+    return budget.reserve("email:household@example.com");
+  }
+
+  /** Per-thread position in the key array, so threads spray without sharing a counter. */
+  @State(Scope.Thread)
+  public static class Cursor {
+
+    private int position = ThreadLocalRandom.current().nextInt(DISTINCT_KEYS);
+
+    int next() {
+      position = position + 1 == DISTINCT_KEYS ? 0 : position + 1;
+      return position;
+    }
+  }
+}
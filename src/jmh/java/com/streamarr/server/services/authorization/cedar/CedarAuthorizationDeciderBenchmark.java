@@ -0,0 +1,106 @@
+package com.streamarr.server.services.authorization.cedar;
+
+import com.cedarpolicy.BasicAuthorizationEngine;
+import com.streamarr.server.domain.auth.AccountRole;
+import com.streamarr.server.fakes.FakeTransactionManager;
+import com.streamarr.server.fakes.FakeUserAccountRepository;
+import com.streamarr.server.fixtures.AccountFixture;
+import com.streamarr.server.fixtures.AuthenticatedIdentityFixture;
+import com.streamarr.server.services.auth.AuthenticatedIdentity;
+import com.streamarr.server.services.auth.TokenScope;
+import com.streamarr.server.services.authorization.AuthorizationUnit;
+import com.streamarr.server.services.authorization.Decision;
+import com.streamarr.server.services.authorization.Intent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * One library-administration check through the Cedar decider: with every slice validated (the
+ * default), with the trusted slice skipping entity validation, and repeated inside one transaction
+ * the way a mutation re-checks. The repository is an in-memory fake, so the numbers are engine and
+ * assembly cost only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CedarAuthorizationDeciderBenchmark {
+
+  // One guard at the edge, one re-check inside the mutation transaction.
+  private static final int CHECKS_PER_TRANSACTION = 2;
+
+  private CedarAuthorizationDecider validating;
+  private CedarAuthorizationDecider trusting;
+  private TransactionTemplate transactions;
+  private AuthenticatedIdentity identity;
+
+  @Setup
+  public void setUp() {
+    var engine = new BasicAuthorizationEngine();
+    var bundle = new CedarPolicyBundle(engine, new PathMatchingResourcePatternResolver());
+    var accounts = new FakeUserAccountRepository();
+    var assembler =
+        new SliceAssembler(List.of(new LivePrincipalAuthorityContributor(accounts)));
+    var meters = new SimpleMeterRegistry();
+
+    validating = new CedarAuthorizationDecider(engine, bundle, assembler, meters, true);
+    trusting = new CedarAuthorizationDecider(engine, bundle, assembler, meters, false);
+    transactions = new TransactionTemplate(new FakeTransactionManager());
+
+    var account =
+        accounts.save(AccountFixture.defaultAccountBuilder().accountRole(AccountRole.ADMIN).build());
+    identity =
+        AuthenticatedIdentityFixture.defaultIdentityBuilder()
+            .accountId(account.getId())
+            .role(AccountRole.ADMIN)
+            .scope(TokenScope.PROFILE)
+            .streamSessionId(null)
+            .build();
+  }
+
+  @Benchmark
+  public Decision<AuthorizationUnit> validatedSlice() {
+    return validating.decide(identity, new Intent.AddLibrary());
+  }
+
+  @Benchmark
+  public Decision<AuthorizationUnit> trustedSlice() {
+    return trusting.decide(identity, new Intent.AddLibrary());
+  }
+
+  @Benchmark
+  public Decision<AuthorizationUnit> repeatedOutsideTransaction() {
+    Decision<AuthorizationUnit> decision = null;
+    for (var i = 0; i < CHECKS_PER_TRANSACTION; i++) {
+      decision = validating.decide(identity, new Intent.AddLibrary());
+    }
+    return decision;
+  }
+
+  @Benchmark
+  public Decision<AuthorizationUnit> repeatedInsideTransaction() {
+    return transactions.execute(
+        _ -> {
+          Decision<AuthorizationUnit> decision = null;
+          for (var i = 0; i < CHECKS_PER_TRANSACTION; i++) {
+            decision = validating.decide(identity, new Intent.AddLibrary());
+          }
+          return decision;
+        });
+  }
+}
@@ -0,0 +1,54 @@
+package com.streamarr.server.services.metadata;
+
+import com.streamarr.server.config.ImageProperties;
+import com.streamarr.server.domain.media.ImageType;
+import com.streamarr.server.fakes.TestImages;
+import com.streamarr.server.services.metadata.ImageVariantService.GeneratedVariant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Every stored size of one TMDB original poster, as image enrichment produces them after a scan
+ * commits: JPEG only, and JPEG plus WebP where a WebP encoder loads (elsewhere the second mode
+ * falls back to JPEG and matches the first).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageVariantServiceBenchmark {
+
+  @Param({"jpeg", "allFormats"})
+  private String formats;
+
+  private ImageVariantService service;
+  private byte[] original;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    service =
+        "jpeg".equals(formats)
+            ? new ImageVariantService()
+            : new ImageVariantService(new ImageProperties("/data/images"));
+    original = TestImages.encodeJpeg(TestImages.createArtworkImage(2000, 3000, 40L));
+  }
+
+  @Benchmark
+  public List<GeneratedVariant> generateVariants() {
+    return service.generateVariants(original, ImageType.POSTER);
+  }
+}
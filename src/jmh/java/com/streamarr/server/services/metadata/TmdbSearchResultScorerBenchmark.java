@@ -0,0 +1,100 @@
+package com.streamarr.server.services.metadata;
+
+import com.streamarr.server.services.metadata.TmdbSearchResultScorer.CandidateResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Choosing the match from one page of TMDB search results: the title itself among its sequels,
+ * remakes, and loosely related titles, the mix a common title's search returns. Each invocation
+ * scores the next lookup, so a result is the matching cost per file a library scan pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TmdbSearchResultScorerBenchmark {
+
+  private static final List<String> TITLES =
+      List.of(
+          "Inception",
+          "The Lord of the Rings: The Fellowship of the Ring",
+          "Blade Runner 2049",
+          "Amélie",
+          "Mission: Impossible - Dead Reckoning Part One",
+          "Spider-Man: Into the Spider-Verse",
+          "Crouching Tiger, Hidden Dragon",
+          "Heat",
+          "Ocean's Eleven",
+          "The Thing");
+
+  private static final List<String> RELATED =
+      List.of("%s 2", "The %s", "%s: Director's Cut", "Return of %s", "Making %s", "%s Returns");
+
+  private static final int LOOKUPS = 64;
+
+  @Param({"20"})
+  private int candidatesPerPage;
+
+  private Lookup[] lookups;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var random = new SplittableRandom(40L);
+    lookups = new Lookup[LOOKUPS];
+    for (int i = 0; i < LOOKUPS; i++) {
+      var title = TITLES.get(random.nextInt(TITLES.size()));
+      var year = random.nextInt(1960, 2026);
+      var candidates = new ArrayList<CandidateResult>(candidatesPerPage);
+      for (int c = 0; c < candidatesPerPage; c++) {
+        candidates.add(candidate(random, title, year, c));
+      }
+      lookups[i] = new Lookup(title, Integer.toString(year), List.copyOf(candidates));
+    }
+  }
+
+  @Benchmark
+  public OptionalInt selectBestMatch() {
+    var lookup = lookups[next];
+    next = next + 1 == lookups.length ? 0 : next + 1;
+    return TmdbSearchResultScorer.selectBestMatch(lookup.title(), lookup.year(), lookup.page());
+  }
+
+  // The true match sits somewhere in the first page, not always first.
+  private static CandidateResult candidate(
+      SplittableRandom random, String title, int year, int position) {
+    var popularity = random.nextDouble(0, 1500);
+    if (position == 3) {
+      return new CandidateResult(title, title, Integer.toString(year), popularity);
+    }
+
+    var candidateYear = Integer.toString(year + random.nextInt(-30, 30));
+    if (random.nextBoolean()) {
+      var related = RELATED.get(random.nextInt(RELATED.size())).formatted(title);
+      return new CandidateResult(related, related, candidateYear, popularity);
+    }
+
+    var other = TITLES.get(random.nextInt(TITLES.size()));
+    return new CandidateResult(other, other, candidateYear, popularity);
+  }
+
+  private record Lookup(String title, String year, List<CandidateResult> page) {}
+}
@@ -0,0 +1,48 @@
+package com.streamarr.server.services.metadata.color;
+
+import com.streamarr.server.domain.media.AmbientColors;
+import com.streamarr.server.fakes.TestImages;
+import java.awt.image.BufferedImage;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Ambient color extraction from decoded poster artwork, at a grid-thumbnail width and at TMDB's
+ * original width. Sampling caps the quantized pixel count, so the gap between the two is the
+ * per-pixel quadrant and opacity pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AmbientColorExtractorBenchmark {
+
+  @Param({"342", "2000"})
+  private int posterWidth;
+
+  private BufferedImage poster;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    poster = TestImages.createArtworkImage(posterWidth, posterWidth * 3 / 2, 40L);
+  }
+
+  @Benchmark
+  public Optional<AmbientColors> extract() {
+    return AmbientColorExtractor.extract(poster);
+  }
+}
@@ -0,0 +1,62 @@
+package com.streamarr.server.services.parsers.show;
+
+import com.streamarr.server.fixtures.EpisodeFilenameFixture;
+import com.streamarr.server.services.parsers.show.regex.EpisodeRegexFixtures;
+import com.streamarr.server.services.parsers.show.regex.UnfilteredEpisodeRegexFixtures;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Episode path parsing over a seeded corpus of release-style filenames, with the character-scan
+ * prefilters ({@code prefiltered}) and with every regex in the cascade attempted ({@code
+ * fullCascade}). Each invocation parses the next filename, so a result is the cost per file a
+ * library scan pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EpisodePathMetadataParserBenchmark {
+
+  @Param({"prefiltered", "fullCascade"})
+  private String matcher;
+
+  @Param({"10000"})
+  private int corpusSize;
+
+  private EpisodePathMetadataParser parser;
+  private String[] filenames;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var fixtures =
+        "prefiltered".equals(matcher)
+            ? new EpisodeRegexFixtures()
+            : new UnfilteredEpisodeRegexFixtures();
+    parser = new EpisodePathMetadataParser(fixtures);
+    filenames =
+        EpisodeFilenameFixture.releaseStyleCorpus(corpusSize, 40L).toArray(String[]::new);
+  }
+
+  @Benchmark
+  public Optional<EpisodePathResult> parse() {
+    var filename = filenames[next];
+    next = next + 1 == filenames.length ? 0 : next + 1;
+    return parser.parse(filename);
+  }
+}
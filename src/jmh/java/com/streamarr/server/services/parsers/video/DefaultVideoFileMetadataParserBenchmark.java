@@ -0,0 +1,50 @@
+package com.streamarr.server.services.parsers.video;
+
+import com.streamarr.server.fixtures.MovieFilenameFixture;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Movie filename parsing over a seeded corpus of release-style names. Each invocation parses the
+ * next filename, so a result is the cost per file a library scan pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultVideoFileMetadataParserBenchmark {
+
+  @Param({"10000"})
+  private int corpusSize;
+
+  private DefaultVideoFileMetadataParser parser;
+  private String[] filenames;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    parser = new DefaultVideoFileMetadataParser();
+    filenames = MovieFilenameFixture.releaseStyleCorpus(corpusSize, 40L).toArray(String[]::new);
+  }
+
+  @Benchmark
+  public Optional<VideoFileParserResult> parse() {
+    var filename = filenames[next];
+    next = next + 1 == filenames.length ? 0 : next + 1;
+    return parser.parse(filename);
+  }
+}
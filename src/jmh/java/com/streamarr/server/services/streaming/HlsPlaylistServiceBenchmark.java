@@ -0,0 +1,55 @@
+package com.streamarr.server.services.streaming;
+
+import com.streamarr.server.config.StreamingProperties;
+import com.streamarr.server.domain.streaming.StreamSession;
+import com.streamarr.server.fixtures.StreamSessionFixture;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The media playlist a player fetches when playback starts, for a feature-length and a three-hour
+ * source at the default six-second segments. Cost grows with the segment count, one line pair per
+ * segment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HlsPlaylistServiceBenchmark {
+
+  // The length of a real playback token, which every segment line repeats.
+  private static final String TOKEN = "Zm9vYmFyYmF6cXV4LXBsYXliYWNrLXRva2VuLXNpZ25hdHVyZQ";
+
+  @Param({"5400", "10800"})
+  private int durationSeconds;
+
+  private HlsPlaylistService service;
+  private StreamSession session;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    service =
+        new HlsPlaylistService(
+            StreamingProperties.builder().targetSegmentDuration(Duration.ofSeconds(6)).build());
+    session = StreamSessionFixture.sessionWithDurationBuilder(durationSeconds).build();
+  }
+
+  @Benchmark
+  public String generateMediaPlaylist() {
+    return service.generateMediaPlaylist(session, TOKEN);
+  }
+}
@@ -0,0 +1,57 @@
+package com.streamarr.server.services.streaming;
+
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Segment index parsing over the names one ABR session's segment requests carry: MPEG-TS and fMP4
+ * media segments, with and without a variant directory, and the init segments that match no
+ * index. Each invocation parses the next name, so a result is the cost per segment request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SegmentNamesBenchmark {
+
+  // A two-hour source at six-second segments.
+  private static final int SEGMENTS = 1200;
+
+  private String[] names;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    names = new String[SEGMENTS];
+    for (int i = 0; i < SEGMENTS; i++) {
+      names[i] =
+          switch (i % 5) {
+            case 0 -> "segment" + i + ".ts";
+            case 1 -> "1080p/segment" + i + ".m4s";
+            case 2 -> "720p/segment" + i + ".m4s";
+            case 3 -> "480p/segment" + i + ".ts";
+            default -> i % 2 == 0 ? "1080p/init.mp4" : "init.mp4";
+          };
+    }
+  }
+
+  @Benchmark
+  public OptionalInt indexOf() {
+    var name = names[next];
+    next = next + 1 == names.length ? 0 : next + 1;
+    return SegmentNames.indexOf(name);
+  }
+}
@@ -0,0 +1,27 @@
+package com.streamarr.server.config;
+
+import com.streamarr.server.graphql.instrumentation.QueryCostCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rejects pathological queries before any resolver runs: too deeply nested, or asking for more
+ * items across its pages and lists than {@link GraphQLQueryCostProperties#maxCost()} allows. The
+ * client gets an execution-aborted error naming the limit; nothing is fetched.
+ */
+@Configuration
+public class GraphQLInstrumentationConfiguration {
+
+  @Bean
+  MaxQueryDepthInstrumentation graphQLQueryDepthLimit(GraphQLQueryCostProperties properties) {
+    return new MaxQueryDepthInstrumentation(properties.maxDepth());
+  }
+
+  @Bean
+  MaxQueryComplexityInstrumentation graphQLQueryCostLimit(GraphQLQueryCostProperties properties) {
+    return new MaxQueryComplexityInstrumentation(
+        properties.maxCost(), new QueryCostCalculator(properties));
+  }
+}
@@ -0,0 +1,57 @@
+package com.streamarr.server.config;
+
+import java.util.Map;
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits on what a single GraphQL query may ask for, checked before any resolver runs. A field
+ * costs its weight plus the cost of its selections, multiplied by the number of items it can
+ * return: the page size for paginated fields, {@code defaultListSize} for other lists.
+ *
+ * @param maxCost highest total cost accepted; costlier queries are rejected unexecuted
+ * @param maxDepth deepest selection nesting accepted
+ * @param defaultListSize items assumed for a list field that takes no page size
+ * @param fieldWeights per-field weight keyed by {@code Type.field}; fields returning objects
+ *     otherwise weigh 1, and scalar fields nothing
+ */
+@Builder
+@ConfigurationProperties(prefix = "graphql.query-cost")
+public record GraphQLQueryCostProperties(
+    Integer maxCost,
+    Integer maxDepth,
+    Integer defaultListSize,
+    Map<String, Integer> fieldWeights) {
+
+  public GraphQLQueryCostProperties {
+    maxCost = positive("graphql.query-cost.max-cost", maxCost, 100_000);
+    maxDepth = positive("graphql.query-cost.max-depth", maxDepth, 15);
+    defaultListSize = positive("graphql.query-cost.default-list-size", defaultListSize, 10);
+
+    if (fieldWeights == null) {
+      fieldWeights = Map.of();
+    }
+
+    fieldWeights.forEach(
+        (field, weight) -> {
+          if (weight < 0) {
+            throw new IllegalArgumentException(
+                "graphql.query-cost.field-weights." + field + " must not be negative, got "
+                    + weight);
+          }
+        });
+    fieldWeights = Map.copyOf(fieldWeights);
+  }
+
+  private static int positive(String name, Integer value, int fallback) {
+    if (value == null) {
+      return fallback;
+    }
+
+    if (value <= 0) {
+      throw new IllegalArgumentException(name + " must be positive, got " + value);
+    }
+
+    return value;
+  }
+}
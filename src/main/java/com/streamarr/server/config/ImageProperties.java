@@ -1,17 +1,31 @@
 package com.streamarr.server.config;
 
+import com.streamarr.server.domain.media.ImageFormat;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
 @ConfigurationProperties(prefix = "image")
-public record ImageProperties(String storagePath, Duration replacementLockTimeout) {
+public record ImageProperties(
+    String storagePath,
+    Duration replacementLockTimeout,
+    // Image ids whose file location is remembered so repeat requests skip the database.
+    Integer metadataCacheSize,
+    // Encodings each resized variant is stored in; clients are served the best one they accept.
+    Set<ImageFormat> variantFormats,
+    // Images decoded and resized at once; each holds its decoded pixels until its variants are
+    // encoded, so this bounds the heap a library scan spends on artwork. Defaults to half the
+    // available cores.
+    Integer processingConcurrency) {
 
   private static final Duration DEFAULT_REPLACEMENT_LOCK_TIMEOUT = Duration.ofSeconds(5);
+  private static final int DEFAULT_METADATA_CACHE_SIZE = 20_000;
 
   public ImageProperties(String storagePath) {
-    this(storagePath, DEFAULT_REPLACEMENT_LOCK_TIMEOUT);
+    this(storagePath, DEFAULT_REPLACEMENT_LOCK_TIMEOUT, DEFAULT_METADATA_CACHE_SIZE, null, null);
   }
 
   @ConstructorBinding
@@ -25,5 +39,27 @@ public record ImageProperties(String storagePath, Duration replacementLockTimeou
     if (replacementLockTimeout.compareTo(Duration.ofMillis(1)) < 0) {
       throw new IllegalArgumentException("Image replacement lock timeout must be at least 1ms");
     }
+    if (metadataCacheSize == null) {
+      metadataCacheSize = DEFAULT_METADATA_CACHE_SIZE;
+    }
+    if (metadataCacheSize < 0) {
+      throw new IllegalArgumentException(
+          "image.metadata-cache-size must not be negative, got " + metadataCacheSize);
+    }
+    if (variantFormats == null || variantFormats.isEmpty()) {
+      variantFormats = EnumSet.allOf(ImageFormat.class);
+    }
+    if (!variantFormats.contains(ImageFormat.JPEG)) {
+      throw new IllegalArgumentException(
+          "image.variant-formats must include JPEG, got " + variantFormats);
+    }
+    variantFormats = Set.copyOf(variantFormats);
+    if (processingConcurrency == null) {
+      processingConcurrency = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+    if (processingConcurrency < 1) {
+      throw new IllegalArgumentException(
+          "image.processing-concurrency must be positive, got " + processingConcurrency);
+    }
   }
 }
@@ -1,7 +1,6 @@
 package com.streamarr.server.config;
 
-import com.streamarr.server.services.library.FileStabilityChecker;
-import com.streamarr.server.services.library.PollingFileStabilityChecker;
+import com.streamarr.server.services.library.FileStabilityTracker;
 import java.time.Clock;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,9 +14,8 @@ public class LibraryWatcherConfig {
   }
 
   @Bean
-  public FileStabilityChecker fileStabilityChecker(
+  public FileStabilityTracker fileStabilityTracker(
       Clock clock, LibraryWatcherProperties properties) {
-    return new PollingFileStabilityChecker(
-        clock, properties, duration -> Thread.sleep(duration.toMillis()));
+    return new FileStabilityTracker(clock, properties);
   }
 }
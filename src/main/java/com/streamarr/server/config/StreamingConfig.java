@@ -10,6 +10,7 @@ import com.streamarr.server.services.streaming.QualityLadderService;
 import com.streamarr.server.services.streaming.RuntimeStreamSessionRegistry;
 import com.streamarr.server.services.streaming.SegmentDeliveryCoordinator;
 import com.streamarr.server.services.streaming.SegmentStore;
+import com.streamarr.server.services.streaming.StreamingMetrics;
 import com.streamarr.server.services.streaming.StreamingService;
 import com.streamarr.server.services.streaming.TranscodeDecisionService;
 import com.streamarr.server.services.streaming.TranscodeExecutor;
@@ -21,6 +22,7 @@ import com.streamarr.server.services.streaming.ffmpeg.LocalTranscodeExecutor;
 import com.streamarr.server.services.streaming.ffmpeg.TranscodeCapabilityService;
 import com.streamarr.server.services.streaming.local.InMemoryStreamSessionRegistry;
 import com.streamarr.server.services.streaming.local.LocalSegmentStore;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
@@ -121,13 +123,26 @@ public class StreamingConfig {
         .build();
   }
 
+  @Bean
+  public StreamingMetrics streamingMetrics(
+      MeterRegistry meterRegistry,
+      RuntimeStreamSessionRegistry runtimeRegistry,
+      LocalSegmentStore segmentStore) {
+    var metrics = new StreamingMetrics(meterRegistry);
+    metrics.bindSessions(runtimeRegistry);
+    metrics.bindSegmentStore(segmentStore);
+
+    return metrics;
+  }
+
   @Bean
   public SegmentDeliveryCoordinator segmentDeliveryCoordinator(
       RuntimeStreamSessionRegistry runtimeRegistry,
       SegmentStore segmentStore,
       TranscodeExecutor transcodeExecutor,
       ProducerLifecycleService producerLifecycleService,
-      StreamingProperties properties) {
+      StreamingProperties properties,
+      StreamingMetrics streamingMetrics) {
     return SegmentDeliveryCoordinator.builder()
         .runtimeRegistry(runtimeRegistry)
         .segmentStore(segmentStore)
@@ -135,6 +150,7 @@ public class StreamingConfig {
         .producerLifecycle(producerLifecycleService)
         .properties(properties)
         .clock(Clock.systemUTC())
+        .metrics(streamingMetrics)
         .build();
   }
 
@@ -21,6 +21,18 @@ public record StreamingProperties(
     // A producer that publishes nothing for this long is classified stalled and replaced; the
     // recovery budget is attempt-bounded (targets × threshold), never a wall clock.
     Duration producerStallThreshold,
+    // A producer that reports encode progress but whose output time stops moving for this long is
+    // classified stalled without waiting out the publication threshold.
+    Duration producerProgressStallThreshold,
+    // A producer whose output time advances slower than this many media seconds per wall-clock
+    // second across a whole window is classified slow and moved to another execution target if one
+    // is untried. Zero turns the check off.
+    Double producerMinEncodeSpeed,
+    Duration producerSlowEncodeWindow,
+    // How long an allowed live-authority answer is reused on the segment path. Revocations written
+    // through this instance invalidate it on commit; anything else is bounded by this window.
+    // Zero queries the database on every request.
+    Duration playbackAuthorityCacheTtl,
     String segmentBasePath,
     String ffmpegPath,
     String ffprobePath) {
@@ -65,6 +77,47 @@ public record StreamingProperties(
           "streaming.producer-stall-threshold must be positive, got " + producerStallThreshold);
     }
 
+    if (producerProgressStallThreshold == null) {
+      producerProgressStallThreshold = Duration.ofSeconds(5);
+    }
+
+    if (producerProgressStallThreshold.isZero() || producerProgressStallThreshold.isNegative()) {
+      throw new IllegalArgumentException(
+          "streaming.producer-progress-stall-threshold must be positive, got "
+              + producerProgressStallThreshold);
+    }
+
+    if (producerMinEncodeSpeed == null) {
+      producerMinEncodeSpeed = 1.0;
+    }
+
+    if (producerMinEncodeSpeed.isNaN() || producerMinEncodeSpeed < 0) {
+      throw new IllegalArgumentException(
+          "streaming.producer-min-encode-speed must not be negative, got "
+              + producerMinEncodeSpeed);
+    }
+
+    if (producerSlowEncodeWindow == null) {
+      producerSlowEncodeWindow = Duration.ofSeconds(30);
+    }
+
+    // The encode rate is measured across this window; zero divides by zero.
+    if (producerSlowEncodeWindow.isZero() || producerSlowEncodeWindow.isNegative()) {
+      throw new IllegalArgumentException(
+          "streaming.producer-slow-encode-window must be positive, got "
+              + producerSlowEncodeWindow);
+    }
+
+    if (playbackAuthorityCacheTtl == null) {
+      playbackAuthorityCacheTtl = Duration.ofSeconds(30);
+    }
+
+    if (playbackAuthorityCacheTtl.isNegative()) {
+      throw new IllegalArgumentException(
+          "streaming.playback-authority-cache-ttl must not be negative, got "
+              + playbackAuthorityCacheTtl);
+    }
+
     if (segmentBasePath == null || segmentBasePath.isBlank()) {
       segmentBasePath =
           Path.of(System.getProperty("java.io.tmpdir"), "streamarr-segments").toString();
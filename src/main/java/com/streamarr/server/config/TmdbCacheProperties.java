@@ -0,0 +1,56 @@
+package com.streamarr.server.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The on-disk TMDB response cache. TTLs are per endpoint type and extend, never shorten, the
+ * freshness TMDB itself declares: a stored answer is reused without a request for its TMDB
+ * lifetime plus the TTL for its kind.
+ *
+ * @param directory where responses are stored; survives restarts when it sits on a persistent
+ *     volume
+ * @param maxSizeMb disk budget; the least recently used responses are evicted beyond it
+ * @param searchTtl reuse window for search and external-id lookups, whose results shift as TMDB
+ *     adds titles
+ * @param detailsTtl reuse window for movie and series details and credits
+ * @param seasonTtl reuse window for season details, which change while a season airs
+ */
+@Builder
+@ConfigurationProperties(prefix = "tmdb.cache")
+public record TmdbCacheProperties(
+    String directory, Long maxSizeMb, Duration searchTtl, Duration detailsTtl, Duration seasonTtl) {
+
+  public TmdbCacheProperties {
+    if (directory == null || directory.isBlank()) {
+      directory = Path.of(System.getProperty("java.io.tmpdir"), "streamarr-tmdb-cache").toString();
+    }
+
+    if (maxSizeMb == null) {
+      maxSizeMb = 200L;
+    }
+
+    if (maxSizeMb <= 0) {
+      throw new IllegalArgumentException(
+          "tmdb.cache.max-size-mb must be positive, got " + maxSizeMb);
+    }
+
+    searchTtl = nonNegative("tmdb.cache.search-ttl", searchTtl, Duration.ofDays(1));
+    detailsTtl = nonNegative("tmdb.cache.details-ttl", detailsTtl, Duration.ofDays(7));
+    seasonTtl = nonNegative("tmdb.cache.season-ttl", seasonTtl, Duration.ofDays(1));
+  }
+
+  private static Duration nonNegative(String name, Duration value, Duration fallback) {
+    if (value == null) {
+      return fallback;
+    }
+
+    if (value.isNegative()) {
+      throw new IllegalArgumentException(name + " must not be negative, got " + value);
+    }
+
+    return value;
+  }
+}
@@ -6,7 +6,18 @@ import com.github.mizosoft.methanol.RetryInterceptor;
 import com.github.mizosoft.methanol.RetryInterceptor.BackoffStrategy;
 import com.streamarr.server.config.health.TmdbHealthProperties;
 import com.streamarr.server.config.http.RateLimitingInterceptor;
+import com.streamarr.server.config.http.TmdbCachePolicyInterceptor;
+import com.streamarr.server.config.http.TmdbConnectionMetricsInterceptor;
+import com.streamarr.server.config.http.TmdbRequestScheduler;
+import com.streamarr.server.config.http.TmdbScanAttributionInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
 import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -15,16 +26,58 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class TmdbHttpClientConfiguration {
 
+  static final String CACHE_REQUESTS_METRIC = "streamarr.tmdb.cache.requests";
+  static final String CACHE_HIT_RATIO_METRIC = "streamarr.tmdb.cache.hit_ratio";
+
+  /** On disk so a restart keeps every stored TMDB answer; closed on shutdown to flush its index. */
+  @Bean
+  HttpCache tmdbHttpCache(TmdbCacheProperties properties) throws IOException {
+    var directory = Files.createDirectories(Path.of(properties.directory()));
+    return HttpCache.newBuilder()
+        .cacheOnDisk(directory, properties.maxSizeMb() * 1024 * 1024)
+        .build();
+  }
+
+  @Bean
+  MeterBinder tmdbHttpCacheMetrics(HttpCache tmdbHttpCache) {
+    return registry -> {
+      FunctionCounter.builder(CACHE_REQUESTS_METRIC, tmdbHttpCache, c -> c.stats().hitCount())
+          .tag("result", "hit")
+          .register(registry);
+      FunctionCounter.builder(CACHE_REQUESTS_METRIC, tmdbHttpCache, c -> c.stats().missCount())
+          .tag("result", "miss")
+          .register(registry);
+      Gauge.builder(CACHE_HIT_RATIO_METRIC, tmdbHttpCache, c -> c.stats().hitRate())
+          .register(registry);
+    };
+  }
+
+  /** One rate budget shared by every TMDB caller, handed out by request priority. */
   @Bean
-  HttpCache tmdbHttpCache(@Value("${tmdb.api.cache-size-mb:200}") long cacheSizeMb) {
-    return HttpCache.newBuilder().cacheOnMemory(cacheSizeMb * 1024 * 1024).build();
+  TmdbRequestScheduler tmdbRequestScheduler(
+      @Value("${tmdb.api.requests-per-second:35}") double requestsPerSecond,
+      MeterRegistry meterRegistry) {
+    return new TmdbRequestScheduler(requestsPerSecond, meterRegistry);
   }
 
+  @Bean
+  TmdbConnectionMetricsInterceptor tmdbConnectionMetrics() {
+    return new TmdbConnectionMetricsInterceptor();
+  }
+
+  /**
+   * The rate limiter sits behind the cache so only requests that reach TMDB spend a token; a warm
+   * refresh answered from disk is not paced at all. HTTP/2 is preferred so concurrent requests
+   * share one multiplexed connection; the client falls back to HTTP/1.1 where TMDB or a proxy does
+   * not negotiate it. Scan attribution runs first, so a retried request still counts once.
+   */
   @Bean("tmdb")
   HttpClient tmdbHttpClient(
-      @Value("${tmdb.api.requests-per-second:35}") double requestsPerSecond,
+      TmdbRequestScheduler tmdbRequestScheduler,
+      TmdbConnectionMetricsInterceptor tmdbConnectionMetrics,
       @Value("${tmdb.api.request-timeout-seconds:30}") long requestTimeoutSeconds,
-      HttpCache tmdbHttpCache) {
+      HttpCache tmdbHttpCache,
+      TmdbCacheProperties cacheProperties) {
     var retryInterceptor =
         RetryInterceptor.newBuilder()
             .maxRetries(5)
@@ -35,15 +88,18 @@ public class TmdbHttpClientConfiguration {
                         .withJitter()))
             .build();
 
-    var rateLimitingInterceptor = new RateLimitingInterceptor(requestsPerSecond);
+    var rateLimitingInterceptor = new RateLimitingInterceptor(tmdbRequestScheduler);
 
     return Methanol.newBuilder()
-        .version(HttpClient.Version.HTTP_1_1)
+        .version(HttpClient.Version.HTTP_2)
         .connectTimeout(Duration.ofSeconds(15))
         .requestTimeout(Duration.ofSeconds(requestTimeoutSeconds))
         .cache(tmdbHttpCache)
+        .interceptor(new TmdbScanAttributionInterceptor())
+        .interceptor(new TmdbCachePolicyInterceptor(cacheProperties))
         .interceptor(retryInterceptor)
-        .interceptor(rateLimitingInterceptor)
+        .backendInterceptor(rateLimitingInterceptor)
+        .backendInterceptor(tmdbConnectionMetrics)
         .build();
   }
 
@@ -1,31 +1,92 @@
 package com.streamarr.server.config.http;
 
 import com.github.mizosoft.methanol.Methanol;
-import com.google.common.util.concurrent.RateLimiter;
+import com.github.mizosoft.methanol.TaggableRequest;
+import com.streamarr.server.services.metadata.TmdbRequestPriority;
 import java.io.IOException;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * Admits each request through the shared {@link TmdbRequestScheduler} at the priority tagged on the
+ * request, and reports every answer back so a 429 slows all callers rather than only the one that
+ * was refused. Untagged requests are scheduled as scans.
+ */
 public class RateLimitingInterceptor implements Methanol.Interceptor {
 
-  private final RateLimiter rateLimiter;
+  private static final int TOO_MANY_REQUESTS = 429;
 
-  public RateLimitingInterceptor(double requestsPerSecond) {
-    this.rateLimiter = RateLimiter.create(requestsPerSecond);
+  private final TmdbRequestScheduler scheduler;
+  private final Clock clock;
+
+  public RateLimitingInterceptor(TmdbRequestScheduler scheduler) {
+    this(scheduler, Clock.systemUTC());
+  }
+
+  RateLimitingInterceptor(TmdbRequestScheduler scheduler, Clock clock) {
+    this.scheduler = scheduler;
+    this.clock = clock;
   }
 
   @Override
   public <T> HttpResponse<T> intercept(HttpRequest request, Chain<T> chain)
       throws IOException, InterruptedException {
-    rateLimiter.acquire();
-    return chain.forward(request);
+    scheduler.acquire(priorityOf(request));
+    return observe(chain.forward(request));
   }
 
   @Override
   public <T> CompletableFuture<HttpResponse<T>> interceptAsync(
       HttpRequest request, Chain<T> chain) {
-    rateLimiter.acquire();
-    return chain.forwardAsync(request);
+    try {
+      scheduler.acquire(priorityOf(request));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return CompletableFuture.failedFuture(e);
+    }
+    return chain.forwardAsync(request).thenApply(this::observe);
+  }
+
+  private static TmdbRequestPriority priorityOf(HttpRequest request) {
+    return TaggableRequest.tagOf(request, TmdbRequestPriority.class)
+        .orElse(TmdbRequestPriority.SCAN);
+  }
+
+  private <T> HttpResponse<T> observe(HttpResponse<T> response) {
+    if (response.statusCode() == TOO_MANY_REQUESTS) {
+      scheduler.throttle(retryAfter(response.headers()));
+    } else {
+      scheduler.succeeded();
+    }
+    return response;
+  }
+
+  /** Retry-After as delta-seconds or an HTTP-date; absent or unparseable means no extra pause. */
+  Duration retryAfter(HttpHeaders headers) {
+    var value = headers.firstValue("Retry-After").map(String::trim).orElse("");
+    if (value.isEmpty()) {
+      return Duration.ZERO;
+    }
+
+    try {
+      return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+    } catch (NumberFormatException _) {
+      // Not delta-seconds; try the HTTP-date form.
+    }
+
+    try {
+      var until = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+      var pause = Duration.between(clock.instant(), until);
+      return pause.isNegative() ? Duration.ZERO : pause;
+    } catch (DateTimeParseException _) {
+      return Duration.ZERO;
+    }
   }
 }
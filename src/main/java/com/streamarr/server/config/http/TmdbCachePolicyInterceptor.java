@@ -0,0 +1,64 @@
+package com.streamarr.server.config.http;
+
+import com.github.mizosoft.methanol.CacheControl;
+import com.github.mizosoft.methanol.Methanol;
+import com.github.mizosoft.methanol.MutableRequest;
+import com.streamarr.server.config.TmdbCacheProperties;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Applies the per-endpoint TTL from {@link TmdbCacheProperties} as a request {@code max-stale}
+ * directive, so the cache may answer from a stored response that far past TMDB's own freshness.
+ * Requests that already carry a {@code Cache-Control} (image downloads opt out with {@code
+ * no-store}) pass through untouched.
+ */
+public class TmdbCachePolicyInterceptor implements Methanol.Interceptor {
+
+  private final TmdbCacheProperties properties;
+
+  public TmdbCachePolicyInterceptor(TmdbCacheProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public <T> HttpResponse<T> intercept(HttpRequest request, Chain<T> chain)
+      throws IOException, InterruptedException {
+    return chain.forward(withPolicy(request));
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> interceptAsync(
+      HttpRequest request, Chain<T> chain) {
+    return chain.forwardAsync(withPolicy(request));
+  }
+
+  HttpRequest withPolicy(HttpRequest request) {
+    if (request.headers().firstValue("Cache-Control").isPresent()) {
+      return request;
+    }
+
+    var ttl = ttlFor(request.uri().getPath());
+    if (ttl.isZero()) {
+      return request;
+    }
+
+    return MutableRequest.copyOf(request)
+        .cacheControl(CacheControl.newBuilder().maxStale(ttl).build());
+  }
+
+  private Duration ttlFor(String path) {
+    if (path.contains("/search/") || path.contains("/find/")) {
+      return properties.searchTtl();
+    }
+
+    if (path.contains("/season/")) {
+      return properties.seasonTtl();
+    }
+
+    return properties.detailsTtl();
+  }
+}
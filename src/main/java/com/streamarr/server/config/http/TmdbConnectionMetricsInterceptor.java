@@ -0,0 +1,75 @@
+package com.streamarr.server.config.http;
+
+import com.github.mizosoft.methanol.Methanol;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sizes the TMDB connection pool as far as the JDK client lets it be observed: it exposes no pool
+ * of its own, but over HTTP/1.1 every in-flight request holds a connection, while HTTP/2
+ * multiplexes them all over one. In-flight requests counted until response headers arrive, plus
+ * responses by negotiated protocol, give the connection count.
+ */
+public class TmdbConnectionMetricsInterceptor implements Methanol.Interceptor, MeterBinder {
+
+  static final String IN_FLIGHT_METRIC = "streamarr.tmdb.http.in_flight";
+  static final String RESPONSES_METRIC = "streamarr.tmdb.http.responses";
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Map<HttpClient.Version, LongAdder> responses =
+      new EnumMap<>(HttpClient.Version.class);
+
+  public TmdbConnectionMetricsInterceptor() {
+    for (var version : HttpClient.Version.values()) {
+      responses.put(version, new LongAdder());
+    }
+  }
+
+  @Override
+  public <T> HttpResponse<T> intercept(HttpRequest request, Chain<T> chain)
+      throws IOException, InterruptedException {
+    inFlight.incrementAndGet();
+    try {
+      return counted(chain.forward(request));
+    } finally {
+      inFlight.decrementAndGet();
+    }
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> interceptAsync(
+      HttpRequest request, Chain<T> chain) {
+    inFlight.incrementAndGet();
+    return chain
+        .forwardAsync(request)
+        .whenComplete((_, _) -> inFlight.decrementAndGet())
+        .thenApply(this::counted);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(IN_FLIGHT_METRIC, inFlight, AtomicInteger::get).register(registry);
+    responses.forEach(
+        (version, count) ->
+            FunctionCounter.builder(RESPONSES_METRIC, count, LongAdder::sum)
+                .tag("protocol", version.name().toLowerCase(Locale.ROOT))
+                .register(registry));
+  }
+
+  private <T> HttpResponse<T> counted(HttpResponse<T> response) {
+    responses.get(response.version()).increment();
+    return response;
+  }
+}
@@ -0,0 +1,168 @@
+package com.streamarr.server.config.http;
+
+import com.streamarr.server.services.metadata.TmdbRequestPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Paces every request that reaches TMDB through one shared rate budget, handing each free slot to
+ * the oldest waiter of the highest {@link TmdbRequestPriority}. Within a priority, order is
+ * arrival.
+ *
+ * <p>The rate adapts: a 429 halves it for everyone and pauses the budget for the server's
+ * Retry-After, and each later success wins back a small step toward the configured rate. Slots are
+ * spaced evenly with no stored burst, so a refresh starting cold does not spike into the limit.
+ */
+public final class TmdbRequestScheduler {
+
+  static final String QUEUED_METRIC = "streamarr.tmdb.scheduler.queued";
+  static final String WAIT_METRIC = "streamarr.tmdb.scheduler.wait";
+  static final String RATE_METRIC = "streamarr.tmdb.scheduler.rate";
+  static final String THROTTLED_METRIC = "streamarr.tmdb.scheduler.throttled";
+
+  private static final double BACKOFF_FACTOR = 0.5;
+  // Share of the configured rate regained per successful request after a backoff.
+  private static final double RECOVERY_STEP = 0.02;
+  private static final double MIN_RATE = 1.0;
+  // A bogus Retry-After must not stall every TMDB caller indefinitely.
+  private static final Duration MAX_PAUSE = Duration.ofMinutes(1);
+
+  private final double maxRate;
+  private final double minRate;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Map<TmdbRequestPriority, ArrayDeque<Condition>> waiting =
+      new EnumMap<>(TmdbRequestPriority.class);
+  private final Map<TmdbRequestPriority, Timer> waits = new EnumMap<>(TmdbRequestPriority.class);
+  private final Counter throttled;
+
+  private volatile double rate;
+  private long nextFreeNanos;
+
+  public TmdbRequestScheduler(double requestsPerSecond, MeterRegistry meterRegistry) {
+    if (requestsPerSecond <= 0) {
+      throw new IllegalArgumentException(
+          "tmdb.api.requests-per-second must be positive, got " + requestsPerSecond);
+    }
+    this.maxRate = requestsPerSecond;
+    this.minRate = Math.min(MIN_RATE, requestsPerSecond);
+    this.rate = requestsPerSecond;
+    this.nextFreeNanos = System.nanoTime();
+
+    for (var priority : TmdbRequestPriority.values()) {
+      var queue = new ArrayDeque<Condition>();
+      waiting.put(priority, queue);
+      var tag = priority.name().toLowerCase(Locale.ROOT);
+      waits.put(
+          priority, Timer.builder(WAIT_METRIC).tag("priority", tag).register(meterRegistry));
+      Gauge.builder(QUEUED_METRIC, this, scheduler -> scheduler.queued(priority))
+          .tag("priority", tag)
+          .register(meterRegistry);
+    }
+    Gauge.builder(RATE_METRIC, this, scheduler -> scheduler.rate).register(meterRegistry);
+    this.throttled = Counter.builder(THROTTLED_METRIC).register(meterRegistry);
+  }
+
+  /** Blocks until a slot is free and no higher-priority or earlier request is still waiting. */
+  public void acquire(TmdbRequestPriority priority) throws InterruptedException {
+    var queuedAt = System.nanoTime();
+    lock.lock();
+    try {
+      var turn = lock.newCondition();
+      var queue = waiting.get(priority);
+      queue.addLast(turn);
+      try {
+        awaitSlot(turn);
+      } finally {
+        queue.remove(turn);
+        var next = head();
+        if (next != null) {
+          next.signal();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    waits.get(priority).record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+  }
+
+  /** TMDB answered 429: lower the rate for every caller and hold all slots for the pause. */
+  public void throttle(Duration retryAfter) {
+    var pause = retryAfter.compareTo(MAX_PAUSE) > 0 ? MAX_PAUSE : retryAfter;
+    lock.lock();
+    try {
+      rate = Math.max(minRate, rate * BACKOFF_FACTOR);
+      nextFreeNanos = Math.max(nextFreeNanos, System.nanoTime() + pause.toNanos());
+      throttled.increment();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** TMDB answered without throttling: win back part of any earlier backoff. */
+  public void succeeded() {
+    if (rate >= maxRate) {
+      return;
+    }
+
+    lock.lock();
+    try {
+      rate = Math.min(maxRate, rate + maxRate * RECOVERY_STEP);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  double rate() {
+    return rate;
+  }
+
+  int queued(TmdbRequestPriority priority) {
+    lock.lock();
+    try {
+      return waiting.get(priority).size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void awaitSlot(Condition turn) throws InterruptedException {
+    while (true) {
+      if (head() != turn) {
+        turn.await();
+        continue;
+      }
+
+      var now = System.nanoTime();
+      var wait = nextFreeNanos - now;
+      if (wait <= 0) {
+        nextFreeNanos = Math.max(nextFreeNanos, now) + intervalNanos();
+        return;
+      }
+      turn.awaitNanos(wait);
+    }
+  }
+
+  private Condition head() {
+    return Arrays.stream(TmdbRequestPriority.values())
+        .map(waiting::get)
+        .filter(queue -> !queue.isEmpty())
+        .map(ArrayDeque::peekFirst)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private long intervalNanos() {
+    return (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+  }
+}
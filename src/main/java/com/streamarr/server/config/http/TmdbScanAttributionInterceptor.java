@@ -0,0 +1,45 @@
+package com.streamarr.server.config.http;
+
+import com.github.mizosoft.methanol.CacheAwareResponse;
+import com.github.mizosoft.methanol.CacheAwareResponse.CacheStatus;
+import com.github.mizosoft.methanol.Methanol;
+import com.streamarr.server.services.library.LibraryScanProgress;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Counts each TMDB request against the library scan that made it, and whether the cache answered
+ * it. Sits ahead of the cache so it sees every request exactly once, and reads the scan on the
+ * calling thread because async responses complete on the client's executor.
+ */
+public class TmdbScanAttributionInterceptor implements Methanol.Interceptor {
+
+  @Override
+  public <T> HttpResponse<T> intercept(HttpRequest request, Chain<T> chain)
+      throws IOException, InterruptedException {
+    var scan = LibraryScanProgress.current();
+    var response = chain.forward(request);
+    scan.ifPresent(s -> s.recordTmdbRequest(isCacheHit(response)));
+    return response;
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> interceptAsync(
+      HttpRequest request, Chain<T> chain) {
+    var scan = LibraryScanProgress.current();
+    return chain
+        .forwardAsync(request)
+        .thenApply(
+            response -> {
+              scan.ifPresent(s -> s.recordTmdbRequest(isCacheHit(response)));
+              return response;
+            });
+  }
+
+  static boolean isCacheHit(HttpResponse<?> response) {
+    return response instanceof CacheAwareResponse<?> cached
+        && cached.cacheStatus() == CacheStatus.HIT;
+  }
+}
@@ -0,0 +1,22 @@
+package com.streamarr.server.config.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares against the request being served, so lazy loads and
+ * derived queries issued once per parent show up as a repeated query name. Hibernate statements
+ * are counted, not timed; the inspector sees a statement before it runs and never after.
+ */
+@RequiredArgsConstructor
+public class HibernateQueryInspector implements StatementInspector {
+
+  private final QueryObservations observations;
+
+  @Override
+  public String inspect(String sql) {
+    // Walking the stack for a name is only worth it when a request will read the count.
+    RequestQueries.current().ifPresent(request -> request.count(observations.callSite()));
+    return sql;
+  }
+}
@@ -0,0 +1,74 @@
+package com.streamarr.server.config.observability;
+
+import com.streamarr.server.repositories.JooqQueryHelper;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.Query;
+
+/**
+ * Times the statements jOOQ runs through the application's {@code DSLContext}, and the jOOQ-built
+ * statements {@link JooqQueryHelper#nativeQuery} hands to JPA instead. Both are recorded under the
+ * repository method that issued them, with the SQL jOOQ rendered for the driver.
+ */
+@RequiredArgsConstructor
+public class JooqQueryListener implements ExecuteListener {
+
+  private static final String QUERY_NAME = JooqQueryListener.class.getName() + ".queryName";
+  private static final String START_NANOS = JooqQueryListener.class.getName() + ".startNanos";
+
+  private final QueryObservations observations;
+
+  /**
+   * Runs {@code execution} of {@code query}, timed by the listener of the {@code DSLContext} that
+   * built it. A query built without one is run untimed.
+   */
+  public static <E> List<E> time(Query query, Supplier<List<E>> execution) {
+    var configuration = query.configuration();
+    if (configuration == null) {
+      return execution.get();
+    }
+
+    return Arrays.stream(configuration.executeListenerProviders())
+        .map(ExecuteListenerProvider::provide)
+        .filter(JooqQueryListener.class::isInstance)
+        .map(JooqQueryListener.class::cast)
+        .findFirst()
+        .map(listener -> listener.timeNative(query, execution))
+        .orElseGet(execution);
+  }
+
+  @Override
+  public void executeStart(ExecuteContext ctx) {
+    var queryName = observations.callSite();
+    ctx.data(QUERY_NAME, queryName);
+    ctx.data(START_NANOS, System.nanoTime());
+    observations.countExecution(queryName);
+  }
+
+  @Override
+  public void end(ExecuteContext ctx) {
+    // A statement that failed before it reached the driver was never started.
+    if (!(ctx.data(QUERY_NAME) instanceof String queryName)
+        || !(ctx.data(START_NANOS) instanceof Long startNanos)) {
+      return;
+    }
+
+    var sql = ctx.sql() != null ? ctx.sql() : String.join("; ", ctx.batchSQL());
+    var rows = ctx.result() != null ? ctx.result().size() : Math.max(ctx.rows(), 0);
+    observations.recordQuery(queryName, sql, System.nanoTime() - startNanos, rows);
+  }
+
+  // JPA counts the statement itself through HibernateQueryInspector, so it is only timed here.
+  private <E> List<E> timeNative(Query query, Supplier<List<E>> execution) {
+    var queryName = observations.callSite();
+    var start = System.nanoTime();
+    var results = execution.get();
+    observations.recordQuery(queryName, query.getSQL(), System.nanoTime() - start, results.size());
+    return results;
+  }
+}
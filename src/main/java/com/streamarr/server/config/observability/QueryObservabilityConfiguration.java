@@ -0,0 +1,28 @@
+package com.streamarr.server.config.observability;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks {@link QueryObservations} into both ways the repositories reach the database: jOOQ's
+ * {@code DSLContext}, whose statements are timed, and Hibernate, whose statements are counted.
+ */
+@Configuration
+public class QueryObservabilityConfiguration {
+
+  @Bean
+  ExecuteListenerProvider jooqQueryListener(QueryObservations observations) {
+    return new DefaultExecuteListenerProvider(new JooqQueryListener(observations));
+  }
+
+  @Bean
+  HibernatePropertiesCustomizer hibernateQueryInspector(QueryObservations observations) {
+    return properties ->
+        properties.put(
+            AvailableSettings.STATEMENT_INSPECTOR, new HibernateQueryInspector(observations));
+  }
+}
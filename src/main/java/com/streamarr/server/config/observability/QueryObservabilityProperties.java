@@ -0,0 +1,49 @@
+package com.streamarr.server.config.observability;
+
+import java.time.Duration;
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Database statement reporting. Reports are logged at most once per interval for each query name,
+ * so a query that is slow or repeated on every request costs one line per interval, not one per
+ * request.
+ *
+ * @param slowThreshold a timed query at or above this latency is reported as slow
+ * @param reportInterval the least time between two reports for the same query name
+ * @param repeatedThreshold a query name run this many times within one request is reported as a
+ *     likely N+1
+ */
+@Builder
+@ConfigurationProperties(prefix = "observability.queries")
+public record QueryObservabilityProperties(
+    Duration slowThreshold, Duration reportInterval, Integer repeatedThreshold) {
+
+  public QueryObservabilityProperties {
+    slowThreshold =
+        nonNegative("observability.queries.slow-threshold", slowThreshold, Duration.ofMillis(200));
+    reportInterval =
+        nonNegative("observability.queries.report-interval", reportInterval, Duration.ofMinutes(1));
+
+    if (repeatedThreshold == null) {
+      repeatedThreshold = 10;
+    }
+
+    if (repeatedThreshold <= 0) {
+      throw new IllegalArgumentException(
+          "observability.queries.repeated-threshold must be positive, got " + repeatedThreshold);
+    }
+  }
+
+  private static Duration nonNegative(String name, Duration value, Duration fallback) {
+    if (value == null) {
+      return fallback;
+    }
+
+    if (value.isNegative()) {
+      throw new IllegalArgumentException(name + " must not be negative, got " + value);
+    }
+
+    return value;
+  }
+}
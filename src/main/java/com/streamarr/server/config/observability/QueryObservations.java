@@ -0,0 +1,157 @@
+package com.streamarr.server.config.observability;
+
+import com.streamarr.server.repositories.JooqQueryHelper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latency, row counts, and per-request repetition for database statements, keyed by a query name.
+ *
+ * <p>The name is the repository method that issued the statement, such as {@code
+ * MovieRepositoryCustomImpl.seekWithFilter}: stable across releases that do not rename it, and
+ * bounded by the code rather than by the SQL a filter produces. Slow and repeated queries are
+ * reported with the SQL as it was prepared, placeholders and all, so no bound value reaches the
+ * log.
+ */
+@Slf4j
+@Component
+public class QueryObservations {
+
+  static final String QUERY_METRIC = "streamarr.db.query";
+  static final String ROWS_METRIC = "streamarr.db.query.rows";
+  static final String REPEATED_METRIC = "streamarr.db.query.repeated";
+
+  static final String UNATTRIBUTED = "unattributed";
+
+  private static final String APPLICATION_PACKAGE = "com.streamarr.server.";
+  private static final List<String> INSTRUMENTATION_CLASSES =
+      List.of(
+          QueryObservations.class.getName(),
+          JooqQueryListener.class.getName(),
+          HibernateQueryInspector.class.getName(),
+          JooqQueryHelper.class.getName());
+  private static final StackWalker STACK = StackWalker.getInstance();
+
+  private final MeterRegistry meterRegistry;
+  private final QueryObservabilityProperties properties;
+  private final Map<String, QueryMeters> queries = new ConcurrentHashMap<>();
+  private final Map<String, Counter> repeats = new ConcurrentHashMap<>();
+  private final Map<String, Long> lastSlowReport = new ConcurrentHashMap<>();
+  private final Map<String, Long> lastRepeatedReport = new ConcurrentHashMap<>();
+
+  @Autowired
+  public QueryObservations(MeterRegistry meterRegistry, QueryObservabilityProperties properties) {
+    this.meterRegistry = meterRegistry;
+    this.properties = properties;
+  }
+
+  /** The application method the calling thread is running a statement for. */
+  String callSite() {
+    return STACK.walk(
+        frames ->
+            frames
+                .filter(QueryObservations::isApplicationFrame)
+                .findFirst()
+                .map(QueryObservations::queryName)
+                .orElse(UNATTRIBUTED));
+  }
+
+  /** Counts one statement against the request the calling thread serves, if any. */
+  void countExecution(String queryName) {
+    RequestQueries.current().ifPresent(request -> request.count(queryName));
+  }
+
+  /** Records one finished statement, reporting it if it ran slow. */
+  void recordQuery(String queryName, String sql, long elapsedNanos, long rows) {
+    var meters = queries.computeIfAbsent(queryName, this::queryMeters);
+    meters.latency().record(elapsedNanos, TimeUnit.NANOSECONDS);
+    meters.rows().record(rows);
+
+    var elapsed = Duration.ofNanos(elapsedNanos);
+    if (elapsed.compareTo(properties.slowThreshold()) >= 0
+        && claimReport(lastSlowReport, queryName)) {
+      log.warn(
+          "Slow query {} took {} ms and returned {} rows: {}",
+          queryName,
+          elapsed.toMillis(),
+          rows,
+          sql);
+    }
+  }
+
+  /** Reports the query names a finished request ran often enough to suggest an N+1 pattern. */
+  void recordRequest(RequestQueries request, String route) {
+    request
+        .repeatedAtLeast(properties.repeatedThreshold())
+        .forEach(
+            (queryName, count) -> {
+              repeats.computeIfAbsent(queryName, this::repeatedCounter).increment();
+              if (claimReport(lastRepeatedReport, queryName)) {
+                log.warn(
+                    "Query {} ran {} times while serving {}; likely an N+1 pattern",
+                    queryName,
+                    count,
+                    route);
+              }
+            });
+  }
+
+  private boolean claimReport(Map<String, Long> lastReport, String queryName) {
+    var now = System.nanoTime();
+    var interval = properties.reportInterval().toNanos();
+    var reported =
+        lastReport.compute(
+            queryName, (_, last) -> last == null || now - last >= interval ? now : last);
+    return reported == now;
+  }
+
+  private static boolean isApplicationFrame(StackWalker.StackFrame frame) {
+    var className = frame.getClassName();
+    return className.startsWith(APPLICATION_PACKAGE)
+        && !className.contains("$$")
+        && !className.contains("$HibernateProxy")
+        && INSTRUMENTATION_CLASSES.stream()
+            .noneMatch(name -> className.equals(name) || className.startsWith(name + "$"));
+  }
+
+  // Lambdas are named after the method that declares them, so a query keeps its name when its
+  // call moves into or out of a lambda.
+  private static String queryName(StackWalker.StackFrame frame) {
+    var className = frame.getClassName();
+    var simpleName = className.substring(className.lastIndexOf('.') + 1);
+    var method = frame.getMethodName();
+    if (method.startsWith("lambda$")) {
+      var end = method.indexOf('$', "lambda$".length());
+      method = method.substring("lambda$".length(), end < 0 ? method.length() : end);
+    }
+    return simpleName + "." + method;
+  }
+
+  private QueryMeters queryMeters(String queryName) {
+    return new QueryMeters(
+        Timer.builder(QUERY_METRIC)
+            .tag("query", queryName)
+            .publishPercentileHistogram()
+            .register(meterRegistry),
+        DistributionSummary.builder(ROWS_METRIC)
+            .tag("query", queryName)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+  }
+
+  private Counter repeatedCounter(String queryName) {
+    return Counter.builder(REPEATED_METRIC).tag("query", queryName).register(meterRegistry);
+  }
+
+  private record QueryMeters(Timer latency, DistributionSummary rows) {}
+}
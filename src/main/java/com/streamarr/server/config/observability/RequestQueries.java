@@ -0,0 +1,53 @@
+package com.streamarr.server.config.observability;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * The statements one HTTP request has run, counted by query name.
+ *
+ * <p>Like {@code LibraryScanProgress}, the request is carried by the serving thread, so statements
+ * issued anywhere below a controller or resolver are counted without the request being passed
+ * down. It is not inherited: a fire-and-forget thread a mutation starts, such as an async scan or
+ * refresh, outlives the request, and a pool thread created while serving it would keep it. Work
+ * on another thread is counted only where that thread binds the request itself.
+ */
+public final class RequestQueries {
+
+  private static final ThreadLocal<RequestQueries> CURRENT = new ThreadLocal<>();
+
+  private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+  /** The request the calling thread serves, if any. */
+  static Optional<RequestQueries> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /** Counts the statements the calling thread runs here until the returned binding is closed. */
+  Binding bind() {
+    var previous = CURRENT.get();
+    CURRENT.set(this);
+    return () -> CURRENT.set(previous);
+  }
+
+  void count(String queryName) {
+    counts.computeIfAbsent(queryName, _ -> new LongAdder()).increment();
+  }
+
+  /** The query names run at least {@code threshold} times, with how often each ran. */
+  Map<String, Long> repeatedAtLeast(int threshold) {
+    return counts.entrySet().stream()
+        .filter(entry -> entry.getValue().sum() >= threshold)
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+  }
+
+  /** Restores whatever the thread counted into before it was bound. */
+  @FunctionalInterface
+  interface Binding extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,56 @@
+package com.streamarr.server.config.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Counts the statements each request runs and reports the repeated ones once it completes. An
+ * asynchronous request is counted across all of its dispatches and reported after the last.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class RequestQueriesFilter extends OncePerRequestFilter {
+
+  private static final String ATTRIBUTE = RequestQueries.class.getName();
+
+  private final QueryObservations observations;
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    var queries = requestQueries(request);
+    try (var _ = queries.bind()) {
+      filterChain.doFilter(request, response);
+    } finally {
+      if (!isAsyncStarted(request)) {
+        // The path without its query string: parameters can carry playback tokens.
+        observations.recordRequest(queries, request.getMethod() + " " + request.getRequestURI());
+      }
+    }
+  }
+
+  private static RequestQueries requestQueries(HttpServletRequest request) {
+    if (request.getAttribute(ATTRIBUTE) instanceof RequestQueries queries) {
+      return queries;
+    }
+
+    var queries = new RequestQueries();
+    request.setAttribute(ATTRIBUTE, queries);
+    return queries;
+  }
+}
@@ -0,0 +1,95 @@
+package com.streamarr.server.config.security;
+
+import com.streamarr.server.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Admits at most {@link Argon2Properties#maxConcurrentHashes()} encode or match operations at once
+ * so a login burst commits a bounded amount of heap instead of one Argon2 block per request thread.
+ * Callers queue in arrival order; one still waiting after {@code auth.argon2.admission-timeout} is
+ * refused with {@link PasswordHashingBusyException} before any credential is examined, so the
+ * refusal discloses nothing about the Account.
+ *
+ * <p>Request threads are virtual, so a queued caller parks without holding a carrier; hashing runs
+ * on the caller rather than a separate pool because a hand-off would add latency and no bound the
+ * permits do not already give. {@code upgradeEncoding} only parses the stored hash and is never
+ * gated.
+ */
+public final class AdmissionBoundedPasswordEncoder implements PasswordEncoder {
+
+  static final String QUEUE_WAIT_METRIC = "streamarr.auth.password_hashing.queue_wait";
+  static final String DURATION_METRIC = "streamarr.auth.password_hashing.duration";
+  static final String REJECTED_METRIC = "streamarr.auth.password_hashing.rejected";
+  static final String QUEUED_METRIC = "streamarr.auth.password_hashing.queued";
+
+  private final PasswordEncoder delegate;
+  private final Semaphore permits;
+  private final Duration admissionTimeout;
+  private final Timer queueWait;
+  private final Timer encodeDuration;
+  private final Timer matchDuration;
+  private final Counter rejected;
+
+  AdmissionBoundedPasswordEncoder(
+      PasswordEncoder delegate, Argon2Properties properties, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.permits = new Semaphore(properties.maxConcurrentHashes(), true);
+    this.admissionTimeout = properties.admissionTimeout();
+    this.queueWait = Timer.builder(QUEUE_WAIT_METRIC).register(meterRegistry);
+    this.encodeDuration =
+        Timer.builder(DURATION_METRIC).tag("operation", "encode").register(meterRegistry);
+    this.matchDuration =
+        Timer.builder(DURATION_METRIC).tag("operation", "matches").register(meterRegistry);
+    this.rejected = Counter.builder(REJECTED_METRIC).register(meterRegistry);
+    Gauge.builder(QUEUED_METRIC, permits, Semaphore::getQueueLength).register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return admitted(encodeDuration, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return admitted(matchDuration, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T admitted(Timer duration, Supplier<T> hash) {
+    acquire();
+    try {
+      return duration.record(hash);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private void acquire() {
+    var queuedAt = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(admissionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+
+    if (!acquired) {
+      rejected.increment();
+      throw new PasswordHashingBusyException(admissionTimeout);
+    }
+  }
+}
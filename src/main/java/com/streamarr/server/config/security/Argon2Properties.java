@@ -1,6 +1,7 @@
 package com.streamarr.server.config.security;
 
 import jakarta.validation.constraints.Positive;
+import java.time.Duration;
 import lombok.Builder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -9,4 +10,42 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 @ConfigurationProperties(prefix = "auth.argon2")
 public record Argon2Properties(
-    @Positive int memoryKib, @Positive int iterations, @Positive int parallelism) {}
+    @Positive int memoryKib,
+    @Positive int iterations,
+    @Positive int parallelism,
+    // Heap the server will commit to concurrent hashes; memoryBudgetKib / memoryKib hashes run at
+    // once and the rest queue. Defaults to four hashes' worth.
+    Integer memoryBudgetKib,
+    // How long a queued hash waits for admission before the request is refused as busy.
+    Duration admissionTimeout) {
+
+  private static final int DEFAULT_CONCURRENT_HASHES = 4;
+
+  public Argon2Properties {
+    if (memoryBudgetKib == null) {
+      memoryBudgetKib = memoryKib * DEFAULT_CONCURRENT_HASHES;
+    }
+
+    if (memoryKib > 0 && memoryBudgetKib < memoryKib) {
+      throw new IllegalArgumentException(
+          "auth.argon2.memory-budget-kib must cover at least one hash ("
+              + memoryKib
+              + " KiB), got "
+              + memoryBudgetKib);
+    }
+
+    if (admissionTimeout == null) {
+      admissionTimeout = Duration.ofSeconds(5);
+    }
+
+    if (admissionTimeout.isZero() || admissionTimeout.isNegative()) {
+      throw new IllegalArgumentException(
+          "auth.argon2.admission-timeout must be positive, got " + admissionTimeout);
+    }
+  }
+
+  /** Hashes admitted at once: as many as the memory budget holds. */
+  public int maxConcurrentHashes() {
+    return memoryBudgetKib / memoryKib;
+  }
+}
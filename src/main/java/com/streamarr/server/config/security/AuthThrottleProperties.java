@@ -13,4 +13,14 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties(prefix = "auth.throttle")
 public record AuthThrottleProperties(
     @Positive int maxAttempts,
-    @NotNull @DurationMin(seconds = 0, inclusive = false) Duration window) {}
+    @NotNull @DurationMin(seconds = 0, inclusive = false) Duration window,
+    // Keys each throttle dimension remembers before forgetting the least recently touched one;
+    // bounds throttle memory under a spray of distinct emails or sources.
+    @Positive Integer maxTrackedKeys) {
+
+  public AuthThrottleProperties {
+    if (maxTrackedKeys == null) {
+      maxTrackedKeys = 100_000;
+    }
+  }
+}
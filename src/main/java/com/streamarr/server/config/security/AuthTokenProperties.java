@@ -1,6 +1,7 @@
 package com.streamarr.server.config.security;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.time.Duration;
 import java.util.List;
 import lombok.Builder;
@@ -24,10 +25,13 @@ public record AuthTokenProperties(
     @NotNull @DurationMin(seconds = 0, inclusive = false) @DurationMax(minutes = 15)
         Duration accessTokenTtl,
     @NotNull @DurationMin(seconds = 0, inclusive = false) Duration refreshTokenTtl,
-    @NotNull @DurationMin Duration rotationGrace) {
+    @NotNull @DurationMin Duration rotationGrace,
+    // Already-verified tokens remembered until their own expiry; 0 verifies every request.
+    @PositiveOrZero Integer verifiedTokenCacheSize) {
 
   private static final String DEFAULT_ISSUER = "streamarr";
   private static final String DEFAULT_AUDIENCE = "streamarr";
+  private static final int DEFAULT_VERIFIED_TOKEN_CACHE_SIZE = 10_000;
 
   public AuthTokenProperties {
     if (issuer == null || issuer.isBlank()) {
@@ -36,6 +40,9 @@ public record AuthTokenProperties(
     if (audience == null || audience.isBlank()) {
       audience = DEFAULT_AUDIENCE;
     }
+    if (verifiedTokenCacheSize == null) {
+      verifiedTokenCacheSize = DEFAULT_VERIFIED_TOKEN_CACHE_SIZE;
+    }
   }
 
   public static class AuthTokenPropertiesBuilder {
@@ -1,5 +1,6 @@
 package com.streamarr.server.config.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Map;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,10 +19,12 @@ public class PasswordEncoderConfig {
   /**
    * Delegating encoder per ADR 0016: stored hashes carry their algorithm id (e.g. {@code
    * {argon2id}$argon2id$...}), so rehash-on-login and future algorithm swaps need no schema change.
-   * Custom rather than the Spring factory default, whose id-for-encode is still bcrypt.
+   * Custom rather than the Spring factory default, whose id-for-encode is still bcrypt. Every
+   * hash passes memory-budgeted admission ({@link AdmissionBoundedPasswordEncoder}).
    */
   @Bean
-  public PasswordEncoder passwordEncoder(Argon2Properties properties) {
+  public PasswordEncoder passwordEncoder(
+      Argon2Properties properties, MeterRegistry meterRegistry) {
     var argon2 =
         new Argon2PasswordEncoder(
             SALT_LENGTH_BYTES,
@@ -36,7 +39,8 @@ public class PasswordEncoderConfig {
             "bcrypt",
             strictMatching(new BCryptPasswordEncoder()));
 
-    return new DelegatingPasswordEncoder(ARGON2_ID, encoders);
+    return new AdmissionBoundedPasswordEncoder(
+        new DelegatingPasswordEncoder(ARGON2_ID, encoders), properties, meterRegistry);
   }
 
   private static PasswordEncoder strictMatching(PasswordEncoder encoder) {
@@ -76,7 +76,8 @@ public class TokenCryptoConfig {
   /**
    * Identity validation runs inside the decoder, so malformed tokens never become an
    * Authentication. The key selector is pinned to ES256: HMAC or unsigned tokens never reach
-   * validation.
+   * validation. Verified tokens are remembered until expiry, so repeat segment requests skip the
+   * signature check.
    */
   @Bean
   public JwtDecoder jwtDecoder(
@@ -104,7 +105,7 @@ public class TokenCryptoConfig {
                 audience -> audience != null && audience.contains(properties.audience())),
             new StrictJwtExpiryValidator(Clock.systemUTC()),
             identityValidator));
-    return decoder;
+    return new VerifiedJwtCache(decoder, properties.verifiedTokenCacheSize(), Clock.systemUTC());
   }
 
   private ECKey loadOrGenerateSigningKey(String configured) {
@@ -0,0 +1,82 @@
+package com.streamarr.server.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Tokens the delegate has already verified, remembered until their own expiry. Playback tokens ride
+ * on every segment URL, so a viewer would otherwise cost one signature verification per segment.
+ *
+ * <p>Only successful decodes are remembered; every failure is the delegate's and is re-run on the
+ * next attempt. A remembered token is served only while {@code now < exp}, matching the strict
+ * expiry validator; past that the delegate decodes it again so the rejection carries the usual
+ * "expired" signal. Entries are keyed by the token's SHA-256, so raw bearer credentials never sit
+ * in the heap as keys. The cache belongs to one decoder built over one verification key set, and
+ * rotating keys is a restart, so nothing verified under a retired key set survives rotation.
+ */
+final class VerifiedJwtCache implements JwtDecoder {
+
+  private final JwtDecoder delegate;
+  private final int maxEntries;
+  private final Clock clock;
+
+  private final ConcurrentHashMap<String, Jwt> verified = new ConcurrentHashMap<>();
+
+  VerifiedJwtCache(JwtDecoder delegate, int maxEntries, Clock clock) {
+    this.delegate = delegate;
+    this.maxEntries = maxEntries;
+    this.clock = clock;
+  }
+
+  @Override
+  public Jwt decode(String token) {
+    var key = hash(token);
+    var cached = verified.get(key);
+    if (cached != null) {
+      if (clock.instant().isBefore(cached.getExpiresAt())) {
+        return cached;
+      }
+      verified.remove(key, cached);
+    }
+
+    var jwt = delegate.decode(token);
+    remember(key, jwt);
+    return jwt;
+  }
+
+  int size() {
+    return verified.size();
+  }
+
+  private void remember(String key, Jwt jwt) {
+    if (maxEntries == 0 || jwt.getExpiresAt() == null) {
+      return;
+    }
+
+    if (verified.size() >= maxEntries) {
+      var now = clock.instant();
+      verified.values().removeIf(entry -> !now.isBefore(entry.getExpiresAt()));
+      if (verified.size() >= maxEntries) {
+        return;
+      }
+    }
+
+    verified.put(key, jwt);
+  }
+
+  private static String hash(String token) {
+    try {
+      var digest =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is required but unavailable.", e);
+    }
+  }
+}
@@ -1,17 +1,24 @@
 package com.streamarr.server.controllers;
 
+import com.streamarr.server.domain.media.ImageFormat;
 import com.streamarr.server.services.ImageService;
+import com.streamarr.server.services.ImageService.StoredImage;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.WebRequest;
@@ -31,31 +38,79 @@ public class ImageController {
   private static final CacheControl PRIVATE_IMMUTABLE =
       CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
 
+  private static final MediaType WEBP = MediaType.parseMediaType(ImageFormat.WEBP.mimeType());
+
   private final ImageService imageService;
 
+  /**
+   * The file is streamed rather than read into memory, and a Resource body lets Spring answer Range
+   * requests with 206 partial content. Any variant id serves the same artwork and size in the best
+   * format the client accepts, so the ETag names the row actually served and responses vary by
+   * Accept.
+   */
   @GetMapping("/{imageId}")
-  public ResponseEntity<byte[]> getImage(@PathVariable UUID imageId, WebRequest request) {
-    var imageOpt = imageService.findById(imageId);
+  public ResponseEntity<Resource> getImage(
+      @PathVariable UUID imageId,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      WebRequest request) {
+    var imageOpt = imageService.findStoredImage(imageId, preferredFormat(accept));
 
     if (imageOpt.isEmpty()) {
       return ResponseEntity.notFound().build();
     }
 
-    if (request.checkNotModified(imageId.toString())) {
-      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(PRIVATE_IMMUTABLE).build();
+    var servedId = imageOpt.get().id().toString();
+    if (request.checkNotModified(servedId)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .cacheControl(PRIVATE_IMMUTABLE)
+          .varyBy(HttpHeaders.ACCEPT)
+          .build();
     }
 
     try {
-      var imageData = imageService.readImageFile(imageOpt.get());
+      var image = imageService.sizeStoredImage(imageOpt.get());
 
       return ResponseEntity.ok()
-          .contentType(MediaType.IMAGE_JPEG)
+          .contentType(image.contentType())
           .cacheControl(PRIVATE_IMMUTABLE)
-          .eTag(imageId.toString())
-          .body(imageData);
+          .varyBy(HttpHeaders.ACCEPT)
+          .eTag(servedId)
+          .body(new StoredImageResource(image));
     } catch (IOException e) {
       log.error("Failed to read image file for id: {}", imageId, e);
       return ResponseEntity.internalServerError().build();
     }
   }
+
+  // Only an explicit image/webp counts: wildcards come from clients that may not decode it.
+  private static ImageFormat preferredFormat(String accept) {
+    if (accept == null) {
+      return ImageFormat.JPEG;
+    }
+
+    try {
+      var acceptsWebp =
+          MediaType.parseMediaTypes(accept).stream()
+              .anyMatch(type -> type.equalsTypeAndSubtype(WEBP) && type.getQualityValue() > 0);
+      return acceptsWebp ? ImageFormat.WEBP : ImageFormat.JPEG;
+    } catch (InvalidMediaTypeException e) {
+      return ImageFormat.JPEG;
+    }
+  }
+
+  /** Reports the remembered size, so serving a known image never stats the file. */
+  private static final class StoredImageResource extends FileSystemResource {
+
+    private final long contentLength;
+
+    StoredImageResource(StoredImage image) {
+      super(image.file());
+      this.contentLength = image.contentLength();
+    }
+
+    @Override
+    public long contentLength() {
+      return contentLength;
+    }
+  }
 }
@@ -5,11 +5,13 @@ import com.streamarr.server.exceptions.HouseholdAccessDeniedException;
 import com.streamarr.server.exceptions.HouseholdRequiredException;
 import com.streamarr.server.exceptions.InvalidCredentialsException;
 import com.streamarr.server.exceptions.InvalidRefreshTokenException;
+import com.streamarr.server.exceptions.PasswordHashingBusyException;
 import com.streamarr.server.exceptions.ProfileAccessDeniedException;
 import com.streamarr.server.exceptions.SetupAlreadyCompletedException;
 import com.streamarr.server.exceptions.TokenReuseDetectedException;
 import com.streamarr.server.exceptions.TooManyCredentialAttemptsException;
 import com.streamarr.server.exceptions.TooManyLoginAttemptsException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -37,6 +39,17 @@ public class AuthExceptionHandler {
     return respond(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_ATTEMPTS", e);
   }
 
+  /** 503, not 429: the caller did nothing wrong, the server is out of hashing budget. */
+  @ExceptionHandler(PasswordHashingBusyException.class)
+  public ResponseEntity<AuthErrorResponse> handlePasswordHashingBusy(
+      PasswordHashingBusyException e) {
+    // Delta-seconds, rounded up so a prompt retry does not land inside the same saturated window.
+    var retryAfterSeconds = e.getRetryAfter().plusNanos(999_999_999L).toSeconds();
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+        .body(new AuthErrorResponse("PASSWORD_HASHING_BUSY", e.getMessage()));
+  }
+
   @ExceptionHandler({InvalidRefreshTokenException.class, TokenReuseDetectedException.class})
   public ResponseEntity<AuthErrorResponse> handleInvalidRefresh() {
     return respond(HttpStatus.UNAUTHORIZED, "INVALID_REFRESH_TOKEN", REFRESH_TOKEN_REJECTED);
@@ -33,6 +33,10 @@ public class Library extends BaseAuditableEntity<Library> {
 
   private Instant scanCompletedOn;
 
+  // Start of the last metadata refresh that completed for every item; changed-only refreshes ask
+  // the metadata agent for changes since this instant.
+  private Instant metadataSyncedOn;
+
   @Enumerated(EnumType.STRING)
   @JdbcTypeCode(SqlTypes.NAMED_ENUM)
   private LibraryStatus status;
@@ -11,6 +11,7 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -40,6 +41,12 @@ public class Image extends BaseAuditableEntity<Image> {
   @JdbcTypeCode(SqlTypes.NAMED_ENUM)
   private ImageSize variant;
 
+  // Mirrors the V056 column default.
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+  @Builder.Default
+  private ImageFormat format = ImageFormat.JPEG;
+
   private int width;
   private int height;
   private String blurHash;
@@ -0,0 +1,23 @@
+package com.streamarr.server.domain.media;
+
+/** Encodings a variant file is stored in. JPEG is the baseline every client decodes. */
+public enum ImageFormat {
+  JPEG("jpg", "image/jpeg"),
+  WEBP("webp", "image/webp");
+
+  private final String extension;
+  private final String mimeType;
+
+  ImageFormat(String extension, String mimeType) {
+    this.extension = extension;
+    this.mimeType = mimeType;
+  }
+
+  public String extension() {
+    return extension;
+  }
+
+  public String mimeType() {
+    return mimeType;
+  }
+}
@@ -0,0 +1,27 @@
+package com.streamarr.server.domain.streaming;
+
+/**
+ * One block of FFmpeg's {@code -progress} report for a running producer. FFmpeg writes {@code N/A}
+ * for values it cannot yet compute; those read as {@link Double#NaN} for the rates and {@code -1}
+ * for the counters and {@code outTimeMicros}.
+ *
+ * <p>{@code outTimeMicros} is the output timestamp the encoder has reached. With {@code -copyts} it
+ * starts at the seek offset rather than zero, so only its movement is meaningful.
+ */
+public record TranscodeProgress(
+    long frame,
+    double fps,
+    double bitrateKbps,
+    long outTimeMicros,
+    long duplicatedFrames,
+    long droppedFrames,
+    double speed,
+    boolean ended) {
+
+  public static final TranscodeProgress UNKNOWN =
+      new TranscodeProgress(-1, Double.NaN, Double.NaN, -1, -1, -1, Double.NaN, false);
+
+  public boolean hasOutTime() {
+    return outTimeMicros >= 0;
+  }
+}
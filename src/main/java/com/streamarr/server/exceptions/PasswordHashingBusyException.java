@@ -0,0 +1,25 @@
+package com.streamarr.server.exceptions;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Password hashing was refused admission: the Argon2 memory budget stayed fully committed for the
+ * whole admission timeout. Says nothing about the credentials, which were never examined.
+ */
+@Getter
+public class PasswordHashingBusyException extends RuntimeException implements RetryAfterAware {
+
+  private final transient Duration retryAfter;
+
+  public PasswordHashingBusyException(@NonNull Duration retryAfter) {
+    super("The server is busy verifying passwords; try again shortly.");
+    this.retryAfter = retryAfter;
+  }
+
+  @Override
+  public Duration retryAfter() {
+    return retryAfter;
+  }
+}
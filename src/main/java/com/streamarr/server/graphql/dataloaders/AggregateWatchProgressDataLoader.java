@@ -2,6 +2,7 @@ package com.streamarr.server.graphql.dataloaders;
 
 import com.netflix.graphql.dgs.DgsDataLoader;
 import com.streamarr.server.domain.streaming.CollectableScope;
+import com.streamarr.server.graphql.instrumentation.GraphQLMetrics;
 import com.streamarr.server.services.watchprogress.WatchProgressDto;
 import com.streamarr.server.services.watchprogress.WatchStatusService;
 import java.util.HashMap;
@@ -21,11 +22,13 @@ public class AggregateWatchProgressDataLoader
     implements MappedBatchLoader<WatchProgressLoaderKey, WatchProgressDto> {
 
   private final WatchStatusService watchStatusService;
+  private final GraphQLMetrics metrics;
 
   @Override
   public CompletionStage<Map<WatchProgressLoaderKey, WatchProgressDto>> load(
       Set<WatchProgressLoaderKey> keys) {
-    return CompletableFuture.completedFuture(loadProgress(keys));
+    return CompletableFuture.completedFuture(
+        metrics.timeBatch("aggregateWatchProgress", keys, () -> loadProgress(keys)));
   }
 
   private Map<WatchProgressLoaderKey, WatchProgressDto> loadProgress(
@@ -5,6 +5,7 @@ import com.streamarr.server.domain.media.Image;
 import com.streamarr.server.domain.media.ImageSize;
 import com.streamarr.server.graphql.dto.ImageDto;
 import com.streamarr.server.graphql.dto.ImageVariantDto;
+import com.streamarr.server.graphql.instrumentation.GraphQLMetrics;
 import com.streamarr.server.repositories.media.ImageRepository;
 import java.util.HashMap;
 import java.util.List;
@@ -21,10 +22,12 @@ import org.dataloader.MappedBatchLoader;
 public class ImageDataLoader implements MappedBatchLoader<ImageLoaderKey, List<ImageDto>> {
 
   private final ImageRepository imageRepository;
+  private final GraphQLMetrics metrics;
 
   @Override
   public CompletionStage<Map<ImageLoaderKey, List<ImageDto>>> load(Set<ImageLoaderKey> keys) {
-    return CompletableFuture.completedFuture(loadImages(keys));
+    return CompletableFuture.completedFuture(
+        metrics.timeBatch("images", keys, () -> loadImages(keys)));
   }
 
   private Map<ImageLoaderKey, List<ImageDto>> loadImages(Set<ImageLoaderKey> keys) {
@@ -77,6 +80,7 @@ public class ImageDataLoader implements MappedBatchLoader<ImageLoaderKey, List<I
                               new ImageVariantDto(
                                   v.getId(),
                                   v.getVariant(),
+                                  v.getFormat(),
                                   v.getWidth(),
                                   v.getHeight(),
                                   "/api/images/" + v.getId()))
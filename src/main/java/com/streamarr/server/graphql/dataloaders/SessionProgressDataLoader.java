@@ -1,6 +1,7 @@
 package com.streamarr.server.graphql.dataloaders;
 
 import com.netflix.graphql.dgs.DgsDataLoader;
+import com.streamarr.server.graphql.instrumentation.GraphQLMetrics;
 import com.streamarr.server.services.watchprogress.WatchProgressDto;
 import com.streamarr.server.services.watchprogress.WatchStatusService;
 import java.util.HashMap;
@@ -18,11 +19,13 @@ public class SessionProgressDataLoader
     implements MappedBatchLoader<SessionProgressLoaderKey, WatchProgressDto> {
 
   private final WatchStatusService watchStatusService;
+  private final GraphQLMetrics metrics;
 
   @Override
   public CompletionStage<Map<SessionProgressLoaderKey, WatchProgressDto>> load(
       Set<SessionProgressLoaderKey> keys) {
-    return CompletableFuture.completedFuture(loadProgress(keys));
+    return CompletableFuture.completedFuture(
+        metrics.timeBatch("watchProgress", keys, () -> loadProgress(keys)));
   }
 
   private Map<SessionProgressLoaderKey, WatchProgressDto> loadProgress(
@@ -3,6 +3,7 @@ package com.streamarr.server.graphql.dataloaders;
 import com.netflix.graphql.dgs.DgsDataLoader;
 import com.streamarr.server.domain.streaming.CollectableScope;
 import com.streamarr.server.domain.streaming.WatchStatus;
+import com.streamarr.server.graphql.instrumentation.GraphQLMetrics;
 import com.streamarr.server.services.watchprogress.WatchStatusService;
 import java.util.HashMap;
 import java.util.List;
@@ -20,11 +21,13 @@ import org.dataloader.MappedBatchLoader;
 public class WatchStatusDataLoader implements MappedBatchLoader<WatchStatusLoaderKey, WatchStatus> {
 
   private final WatchStatusService watchStatusService;
+  private final GraphQLMetrics metrics;
 
   @Override
   public CompletionStage<Map<WatchStatusLoaderKey, WatchStatus>> load(
       Set<WatchStatusLoaderKey> keys) {
-    return CompletableFuture.completedFuture(loadStatuses(keys));
+    return CompletableFuture.completedFuture(
+        metrics.timeBatch("watchStatus", keys, () -> loadStatuses(keys)));
   }
 
   private Map<WatchStatusLoaderKey, WatchStatus> loadStatuses(Set<WatchStatusLoaderKey> keys) {
@@ -0,0 +1,3 @@
+package com.streamarr.server.graphql.dto;
+
+public record ScanProgressDto(long filesDiscovered, long filesProcessed) {}
@@ -0,0 +1,46 @@
+package com.streamarr.server.graphql.instrumentation;
+
+import graphql.execution.instrumentation.FieldFetchingInstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every resolver call until its value, including one a DataLoader completes later, is
+ * ready. Property reads need no timing and are skipped, so a wide node costs only its resolvers.
+ */
+@Component
+@RequiredArgsConstructor
+public class FieldTimingInstrumentation extends SimplePerformantInstrumentation {
+
+  private final GraphQLMetrics metrics;
+
+  @Override
+  public FieldFetchingInstrumentationContext beginFieldFetching(
+      InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
+    if (parameters.isTrivialDataFetcher()) {
+      return super.beginFieldFetching(parameters, state);
+    }
+
+    var step = parameters.getExecutionStepInfo();
+    var timing =
+        metrics.startField(
+            step.getObjectType().getName(),
+            step.getFieldDefinition().getName(),
+            () -> step.getPath().toString());
+
+    return new FieldFetchingInstrumentationContext() {
+      @Override
+      public void onDispatched() {
+        // Timing runs from fetch start to completion; dispatch is not a boundary of interest.
+      }
+
+      @Override
+      public void onCompleted(Object result, Throwable failure) {
+        timing.finish(failure);
+      }
+    };
+  }
+}
@@ -0,0 +1,135 @@
+package com.streamarr.server.graphql.instrumentation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolver and DataLoader timing for GraphQL execution. Meters are histograms tagged by schema
+ * coordinates and loader name, both fixed by the schema and code, never by the query. Spans are
+ * only started under a sampled parent, so an unsampled request pays for the meters alone.
+ */
+@Component
+public class GraphQLMetrics {
+
+  static final String FIELD_METRIC = "streamarr.graphql.field";
+  static final String BATCH_METRIC = "streamarr.graphql.dataloader.batch";
+  static final String BATCH_SIZE_METRIC = "streamarr.graphql.dataloader.batch.size";
+
+  static final String FIELD_SPAN = "graphql.field";
+  static final String BATCH_SPAN = "graphql.dataloader.batch";
+  static final AttributeKey<String> FIELD_COORDINATES =
+      AttributeKey.stringKey("graphql.field.coordinates");
+  static final AttributeKey<String> FIELD_PATH = AttributeKey.stringKey("graphql.field.path");
+  static final AttributeKey<String> LOADER = AttributeKey.stringKey("graphql.dataloader.name");
+  static final AttributeKey<Long> BATCH_SIZE =
+      AttributeKey.longKey("graphql.dataloader.batch.size");
+
+  private static final String INSTRUMENTATION_SCOPE = "com.streamarr.server.graphql";
+
+  private final MeterRegistry meterRegistry;
+  private final Tracer tracer;
+  private final Map<String, Timer> fields = new ConcurrentHashMap<>();
+  private final Map<String, BatchMeters> batches = new ConcurrentHashMap<>();
+
+  @Autowired
+  public GraphQLMetrics(MeterRegistry meterRegistry, OpenTelemetry openTelemetry) {
+    this.meterRegistry = meterRegistry;
+    this.tracer = openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+  }
+
+  /** Meters and spans nothing reads, for wiring that has no metrics or tracing backend. */
+  public static GraphQLMetrics noop() {
+    return new GraphQLMetrics(new CompositeMeterRegistry(), OpenTelemetry.noop());
+  }
+
+  /** Starts timing one resolver call; the returned timing is finished when its value is. */
+  FieldTiming startField(String parentType, String fieldName, Supplier<String> path) {
+    var coordinates = parentType + "." + fieldName;
+    var timer =
+        fields.computeIfAbsent(
+            coordinates,
+            _ ->
+                Timer.builder(FIELD_METRIC)
+                    .tag("parent", parentType)
+                    .tag("field", fieldName)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+    var span = startSpanIfSampled(FIELD_SPAN);
+    if (span.getSpanContext().isValid()) {
+      span.setAttribute(FIELD_COORDINATES, coordinates);
+      span.setAttribute(FIELD_PATH, path.get());
+    }
+    return new FieldTiming(timer, span, System.nanoTime());
+  }
+
+  /** Runs one DataLoader batch, recording how many keys it carried and how long it took. */
+  public <K, V> Map<K, V> timeBatch(String loader, Set<K> keys, Supplier<Map<K, V>> load) {
+    var meters = batches.computeIfAbsent(loader, this::batchMeters);
+    meters.size().record(keys.size());
+
+    var span = startSpanIfSampled(BATCH_SPAN);
+    span.setAttribute(LOADER, loader);
+    span.setAttribute(BATCH_SIZE, (long) keys.size());
+    var start = System.nanoTime();
+    try (var _ = span.makeCurrent()) {
+      return load.get();
+    } catch (RuntimeException e) {
+      span.recordException(e);
+      span.setStatus(StatusCode.ERROR);
+      throw e;
+    } finally {
+      meters.latency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      span.end();
+    }
+  }
+
+  private Span startSpanIfSampled(String name) {
+    var parent = Context.current();
+    if (!Span.fromContext(parent).getSpanContext().isSampled()) {
+      return Span.getInvalid();
+    }
+    return tracer.spanBuilder(name).setParent(parent).startSpan();
+  }
+
+  private BatchMeters batchMeters(String loader) {
+    return new BatchMeters(
+        DistributionSummary.builder(BATCH_SIZE_METRIC)
+            .tag("loader", loader)
+            .publishPercentileHistogram()
+            .register(meterRegistry),
+        Timer.builder(BATCH_METRIC)
+            .tag("loader", loader)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+  }
+
+  private record BatchMeters(DistributionSummary size, Timer latency) {}
+
+  /** One resolver call in flight. */
+  record FieldTiming(Timer timer, Span span, long startNanos) {
+
+    void finish(Throwable failure) {
+      timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      if (failure != null) {
+        span.recordException(failure);
+        span.setStatus(StatusCode.ERROR);
+      }
+      span.end();
+    }
+  }
+}
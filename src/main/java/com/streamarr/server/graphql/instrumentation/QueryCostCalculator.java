@@ -0,0 +1,60 @@
+package com.streamarr.server.graphql.instrumentation;
+
+import com.streamarr.server.config.GraphQLQueryCostProperties;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+import java.util.Map;
+
+/**
+ * Prices each field of a query from its selections up, so nesting multiplies: {@code items(first:
+ * 500)} selecting {@code cast} selecting {@code images} costs 500 casts' worth of image lists.
+ * Lists inside a {@code *Connection} are the page its field already paid for, so they count once.
+ */
+public class QueryCostCalculator implements FieldComplexityCalculator {
+
+  private static final String CONNECTION_SUFFIX = "Connection";
+
+  private final GraphQLQueryCostProperties properties;
+
+  public QueryCostCalculator(GraphQLQueryCostProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+    var definition = environment.getFieldDefinition();
+    var type = GraphQLTypeUtil.unwrapNonNull(definition.getType());
+    var parentType = environment.getParentType().getName();
+    var weight =
+        properties
+            .fieldWeights()
+            .getOrDefault(
+                parentType + "." + definition.getName(), GraphQLTypeUtil.isLeaf(type) ? 0 : 1);
+
+    var cost = ((long) weight + childComplexity) * items(environment, type, parentType);
+    return (int) Math.min(cost, Integer.MAX_VALUE);
+  }
+
+  private long items(FieldComplexityEnvironment environment, GraphQLType type, String parent) {
+    var pageSize = pageSize(environment.getArguments());
+    if (pageSize > 0) {
+      return pageSize;
+    }
+
+    if (GraphQLTypeUtil.isList(type) && !parent.endsWith(CONNECTION_SUFFIX)) {
+      return properties.defaultListSize();
+    }
+
+    return 1;
+  }
+
+  private static long pageSize(Map<String, Object> arguments) {
+    return Math.max(intArgument(arguments, "first"), intArgument(arguments, "last"));
+  }
+
+  private static long intArgument(Map<String, Object> arguments, String name) {
+    return arguments.get(name) instanceof Number number ? number.longValue() : 0;
+  }
+}
@@ -17,6 +17,7 @@ import com.streamarr.server.graphql.cursor.CursorUtil;
 import com.streamarr.server.graphql.cursor.CursorValidator;
 import com.streamarr.server.graphql.cursor.RelayConnectionAdapter;
 import com.streamarr.server.graphql.dto.AlphabetIndexDto;
+import com.streamarr.server.graphql.dto.ScanProgressDto;
 import com.streamarr.server.graphql.inputs.AddLibraryInput;
 import com.streamarr.server.graphql.inputs.MediaFilterInput;
 import com.streamarr.server.graphql.inputs.MediaSortInput;
@@ -30,6 +31,7 @@ import com.streamarr.server.services.authorization.AuthorizationService;
 import com.streamarr.server.services.library.LibraryAdministrationService;
 import com.streamarr.server.services.library.LibraryManagementService;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
+import com.streamarr.server.services.metadata.MetadataRefreshMode;
 import com.streamarr.server.services.pagination.MediaFilter;
 import com.streamarr.server.services.pagination.MediaPaginationOptionsResolver;
 import com.streamarr.server.services.pagination.PaginationService;
@@ -92,10 +94,16 @@ public class LibraryResolver {
   }
 
   @DgsMutation
-  public boolean refreshLibrary(String id, @InputArgument ImageRefreshMode imageRefreshMode) {
+  public boolean refreshLibrary(
+      String id,
+      @InputArgument ImageRefreshMode imageRefreshMode,
+      @InputArgument MetadataRefreshMode metadataRefreshMode) {
     var libraryId = parseUuid(id);
     libraryAdministrationService.refreshLibrary(
-        authorizationService.currentIdentity(), libraryId, imageRefreshMode);
+        authorizationService.currentIdentity(),
+        libraryId,
+        imageRefreshMode,
+        metadataRefreshMode);
     return true;
   }
 
@@ -170,6 +178,15 @@ public class LibraryResolver {
         .toList();
   }
 
+  @DgsData(parentType = "Library")
+  public Optional<ScanProgressDto> scanProgress(DataFetchingEnvironment dfe) {
+    authorizationService.requireProfile();
+    Library library = dfe.getSource();
+    return libraryManagementService
+        .getScanProgress(library.getId())
+        .map(p -> new ScanProgressDto(p.filesDiscovered(), p.filesProcessed()));
+  }
+
   @DgsTypeResolver(name = "Media")
   public String resolveMedia(Object media) {
     if (media instanceof Movie) {
@@ -97,7 +97,7 @@ public class Indexes {
     public static final Index IDX_SESSION_PROGRESS_PROFILE_ID = Internal.createIndex(DSL.name("idx_session_progress_profile_id"), SessionProgress.SESSION_PROGRESS, new OrderField[] { SessionProgress.SESSION_PROGRESS.PROFILE_ID }, false);
     public static final Index IDX_SESSION_PROGRESS_RESUME = Internal.createIndex(DSL.name("idx_session_progress_resume"), SessionProgress.SESSION_PROGRESS, new OrderField[] { SessionProgress.SESSION_PROGRESS.PROFILE_ID, SessionProgress.SESSION_PROGRESS.MEDIA_FILE_ID, SessionProgress.SESSION_PROGRESS.LAST_MODIFIED_ON.desc() }, false);
     public static final Index IDX_WATCH_HISTORY_PROFILE_COLLECTABLE = Internal.createIndex(DSL.name("idx_watch_history_profile_collectable"), WatchHistory.WATCH_HISTORY, new OrderField[] { WatchHistory.WATCH_HISTORY.PROFILE_ID, WatchHistory.WATCH_HISTORY.COLLECTABLE_ID, WatchHistory.WATCH_HISTORY.WATCHED_AT.desc() }, false);
-    public static final Index IMAGE_ENTITY_ID_IMAGE_TYPE_VARIANT_IDX = Internal.createIndex(DSL.name("image_entity_id_image_type_variant_idx"), Image.IMAGE, new OrderField[] { Image.IMAGE.ENTITY_ID, Image.IMAGE.IMAGE_TYPE, Image.IMAGE.VARIANT }, true);
+    public static final Index IMAGE_ENTITY_ID_IMAGE_TYPE_VARIANT_FORMAT_IDX = Internal.createIndex(DSL.name("image_entity_id_image_type_variant_format_idx"), Image.IMAGE, new OrderField[] { Image.IMAGE.ENTITY_ID, Image.IMAGE.IMAGE_TYPE, Image.IMAGE.VARIANT, Image.IMAGE.FORMAT }, true);
     public static final Index IMAGE_ENTITY_TYPE_ENTITY_ID_IDX = Internal.createIndex(DSL.name("image_entity_type_entity_id_idx"), Image.IMAGE, new OrderField[] { Image.IMAGE.ENTITY_TYPE, Image.IMAGE.ENTITY_ID }, false);
     public static final Index LIBRARY_FILEPATH_URI_IDX = Internal.createIndex(DSL.name("library_filepath_uri_idx"), Library.LIBRARY, new OrderField[] { Library.LIBRARY.FILEPATH_URI }, true);
     public static final Index MEDIA_FILE_FILEPATH_URI_IDX = Internal.createIndex(DSL.name("media_file_filepath_uri_idx"), MediaFile.MEDIA_FILE, new OrderField[] { MediaFile.MEDIA_FILE.FILEPATH_URI }, true);
@@ -8,6 +8,7 @@ import com.streamarr.server.jooq.generated.Indexes;
 import com.streamarr.server.jooq.generated.Keys;
 import com.streamarr.server.jooq.generated.Public;
 import com.streamarr.server.jooq.generated.enums.ImageEntityType;
+import com.streamarr.server.jooq.generated.enums.ImageFormat;
 import com.streamarr.server.jooq.generated.enums.ImageSize;
 import com.streamarr.server.jooq.generated.enums.ImageType;
 import com.streamarr.server.jooq.generated.tables.records.ImageRecord;
@@ -160,6 +161,11 @@ public class Image extends TableImpl<ImageRecord> {
      */
     public final TableField<ImageRecord, String> CONTENT_SHA256 = createField(DSL.name("content_sha256"), SQLDataType.CLOB, this, "");
 
+    /**
+     * The column <code>public.image.format</code>.
+     */
+    public final TableField<ImageRecord, ImageFormat> FORMAT = createField(DSL.name("format"), SQLDataType.VARCHAR.nullable(false).defaultValue(DSL.field(DSL.raw("'JPEG'::image_format"), SQLDataType.VARCHAR)).asEnumDataType(ImageFormat.class), this, "");
+
     private Image(Name alias, Table<ImageRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
@@ -196,7 +202,7 @@ public class Image extends TableImpl<ImageRecord> {
 
     @Override
     public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.IMAGE_ENTITY_ID_IMAGE_TYPE_VARIANT_IDX, Indexes.IMAGE_ENTITY_TYPE_ENTITY_ID_IDX);
+        return Arrays.asList(Indexes.IMAGE_ENTITY_ID_IMAGE_TYPE_VARIANT_FORMAT_IDX, Indexes.IMAGE_ENTITY_TYPE_ENTITY_ID_IDX);
     }
 
     @Override
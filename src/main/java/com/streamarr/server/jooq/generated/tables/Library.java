@@ -133,6 +133,11 @@ public class Library extends TableImpl<LibraryRecord> {
      */
     public final TableField<LibraryRecord, ExternalAgentStrategy> EXTERNAL_AGENT_STRATEGY = createField(DSL.name("external_agent_strategy"), SQLDataType.VARCHAR.nullable(false).defaultValue(DSL.field(DSL.raw("'TMDB'::external_agent_strategy"), SQLDataType.VARCHAR)).asEnumDataType(ExternalAgentStrategy.class), this, "");
 
+    /**
+     * The column <code>public.library.metadata_synced_on</code>.
+     */
+    public final TableField<LibraryRecord, OffsetDateTime> METADATA_SYNCED_ON = createField(DSL.name("metadata_synced_on"), SQLDataType.TIMESTAMPWITHTIMEZONE(6), this, "");
+
     private Library(Name alias, Table<LibraryRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
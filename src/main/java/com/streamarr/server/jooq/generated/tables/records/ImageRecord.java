@@ -5,6 +5,7 @@ package com.streamarr.server.jooq.generated.tables.records;
 
 
 import com.streamarr.server.jooq.generated.enums.ImageEntityType;
+import com.streamarr.server.jooq.generated.enums.ImageFormat;
 import com.streamarr.server.jooq.generated.enums.ImageSize;
 import com.streamarr.server.jooq.generated.enums.ImageType;
 import com.streamarr.server.jooq.generated.tables.Image;
@@ -304,6 +305,20 @@ public class ImageRecord extends UpdatableRecordImpl<ImageRecord> {
         return (String) get(19);
     }
 
+    /**
+     * Setter for <code>public.image.format</code>.
+     */
+    public void setFormat(ImageFormat value) {
+        set(20, value);
+    }
+
+    /**
+     * Getter for <code>public.image.format</code>.
+     */
+    public ImageFormat getFormat() {
+        return (ImageFormat) get(20);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -327,7 +342,7 @@ public class ImageRecord extends UpdatableRecordImpl<ImageRecord> {
     /**
      * Create a detached, initialised ImageRecord
      */
-    public ImageRecord(UUID id, OffsetDateTime createdOn, UUID createdBy, OffsetDateTime lastModifiedOn, UUID lastModifiedBy, UUID entityId, ImageEntityType entityType, ImageType imageType, ImageSize variant, Integer width, Integer height, String blurHash, String path, String ambientTopLeft, String ambientTopRight, String ambientBottomRight, String ambientBottomLeft, String ambientPrimary, String key, String contentSha256) {
+    public ImageRecord(UUID id, OffsetDateTime createdOn, UUID createdBy, OffsetDateTime lastModifiedOn, UUID lastModifiedBy, UUID entityId, ImageEntityType entityType, ImageType imageType, ImageSize variant, Integer width, Integer height, String blurHash, String path, String ambientTopLeft, String ambientTopRight, String ambientBottomRight, String ambientBottomLeft, String ambientPrimary, String key, String contentSha256, ImageFormat format) {
         super(Image.IMAGE);
 
         setId(id);
@@ -350,6 +365,7 @@ public class ImageRecord extends UpdatableRecordImpl<ImageRecord> {
         setAmbientPrimary(ambientPrimary);
         setKey(key);
         setContentSha256(contentSha256);
+        setFormat(format);
         resetTouchedOnNotNull();
     }
 }
@@ -207,6 +207,20 @@ public class LibraryRecord extends UpdatableRecordImpl<LibraryRecord> {
         return (ExternalAgentStrategy) get(12);
     }
 
+    /**
+     * Setter for <code>public.library.metadata_synced_on</code>.
+     */
+    public void setMetadataSyncedOn(OffsetDateTime value) {
+        set(13, value);
+    }
+
+    /**
+     * Getter for <code>public.library.metadata_synced_on</code>.
+     */
+    public OffsetDateTime getMetadataSyncedOn() {
+        return (OffsetDateTime) get(13);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -230,7 +244,7 @@ public class LibraryRecord extends UpdatableRecordImpl<LibraryRecord> {
     /**
      * Create a detached, initialised LibraryRecord
      */
-    public LibraryRecord(UUID id, OffsetDateTime createdOn, UUID createdBy, OffsetDateTime lastModifiedOn, UUID lastModifiedBy, String filepathUri, String name, OffsetDateTime scanStartedOn, OffsetDateTime scanCompletedOn, LibraryStatus status, LibraryBackend backend, MediaType type, ExternalAgentStrategy externalAgentStrategy) {
+    public LibraryRecord(UUID id, OffsetDateTime createdOn, UUID createdBy, OffsetDateTime lastModifiedOn, UUID lastModifiedBy, String filepathUri, String name, OffsetDateTime scanStartedOn, OffsetDateTime scanCompletedOn, LibraryStatus status, LibraryBackend backend, MediaType type, ExternalAgentStrategy externalAgentStrategy, OffsetDateTime metadataSyncedOn) {
         super(Library.LIBRARY);
 
         setId(id);
@@ -246,6 +260,7 @@ public class LibraryRecord extends UpdatableRecordImpl<LibraryRecord> {
         setBackend(backend);
         setType(type);
         setExternalAgentStrategy(externalAgentStrategy);
+        setMetadataSyncedOn(metadataSyncedOn);
         resetTouchedOnNotNull();
     }
 }
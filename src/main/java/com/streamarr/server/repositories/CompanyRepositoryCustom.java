@@ -2,11 +2,14 @@ package com.streamarr.server.repositories;
 
 import com.streamarr.server.domain.metadata.Company;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CompanyRepositoryCustom {
 
-  boolean insertIfAbsent(String sourceId, String name);
+  /** Inserts the source ids not stored yet; see {@link JooqQueryHelper#insertAllIfAbsent}. */
+  Set<String> insertAllIfAbsent(Map<String, String> namesBySourceId);
 
   List<Company> findByMovieId(UUID movieId);
 
@@ -7,6 +7,8 @@ import static com.streamarr.server.jooq.generated.tables.SeriesCompany.SERIES_CO
 import com.streamarr.server.domain.metadata.Company;
 import jakarta.persistence.EntityManager;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
@@ -20,18 +22,16 @@ public class CompanyRepositoryCustomImpl implements CompanyRepositoryCustom {
   private final EntityManager entityManager;
 
   @Override
-  public boolean insertIfAbsent(String sourceId, String name) {
-    var auditUser = auditorAware.getCurrentAuditor().orElse(null);
-    var rowsAffected =
-        dsl.insertInto(COMPANY)
-            .set(COMPANY.SOURCE_ID, sourceId)
-            .set(COMPANY.NAME, name)
-            .set(COMPANY.CREATED_BY, auditUser)
-            .set(COMPANY.LAST_MODIFIED_BY, auditUser)
-            .onConflict(COMPANY.SOURCE_ID)
-            .doNothing()
-            .execute();
-    return rowsAffected > 0;
+  public Set<String> insertAllIfAbsent(Map<String, String> namesBySourceId) {
+    return JooqQueryHelper.insertAllIfAbsent(
+        dsl,
+        COMPANY,
+        COMPANY.SOURCE_ID,
+        COMPANY.NAME,
+        COMPANY.CREATED_BY,
+        COMPANY.LAST_MODIFIED_BY,
+        auditorAware.getCurrentAuditor().orElse(null),
+        namesBySourceId);
   }
 
   @Override
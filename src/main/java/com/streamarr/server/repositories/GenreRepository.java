@@ -1,7 +1,9 @@
 package com.streamarr.server.repositories;
 
 import com.streamarr.server.domain.metadata.Genre;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -9,5 +11,7 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface GenreRepository extends JpaRepository<Genre, UUID>, GenreRepositoryCustom {
 
+  Set<Genre> findGenresBySourceIdIn(List<String> sourceIds);
+
   Optional<Genre> findBySourceId(String sourceId);
 }
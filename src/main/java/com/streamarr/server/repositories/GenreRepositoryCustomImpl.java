@@ -7,6 +7,8 @@ import static com.streamarr.server.jooq.generated.tables.SeriesGenre.SERIES_GENR
 import com.streamarr.server.domain.metadata.Genre;
 import jakarta.persistence.EntityManager;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
@@ -20,18 +22,16 @@ public class GenreRepositoryCustomImpl implements GenreRepositoryCustom {
   private final EntityManager entityManager;
 
   @Override
-  public boolean insertIfAbsent(String sourceId, String name) {
-    var auditUser = auditorAware.getCurrentAuditor().orElse(null);
-    var rowsAffected =
-        dsl.insertInto(GENRE)
-            .set(GENRE.SOURCE_ID, sourceId)
-            .set(GENRE.NAME, name)
-            .set(GENRE.CREATED_BY, auditUser)
-            .set(GENRE.LAST_MODIFIED_BY, auditUser)
-            .onConflict(GENRE.SOURCE_ID)
-            .doNothing()
-            .execute();
-    return rowsAffected > 0;
+  public Set<String> insertAllIfAbsent(Map<String, String> namesBySourceId) {
+    return JooqQueryHelper.insertAllIfAbsent(
+        dsl,
+        GENRE,
+        GENRE.SOURCE_ID,
+        GENRE.NAME,
+        GENRE.CREATED_BY,
+        GENRE.LAST_MODIFIED_BY,
+        auditorAware.getCurrentAuditor().orElse(null),
+        namesBySourceId);
   }
 
   @Override
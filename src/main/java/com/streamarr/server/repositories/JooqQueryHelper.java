@@ -1,15 +1,19 @@
 package com.streamarr.server.repositories;
 
 import static org.jooq.impl.DSL.exists;
+import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.inline;
 import static org.jooq.impl.DSL.left;
 import static org.jooq.impl.DSL.lower;
+import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.noCondition;
 import static org.jooq.impl.DSL.not;
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.table;
 import static org.jooq.impl.DSL.val;
 
+import com.streamarr.server.config.observability.JooqQueryListener;
 import com.streamarr.server.domain.AlphabetLetter;
 import com.streamarr.server.jooq.generated.Tables;
 import com.streamarr.server.services.pagination.MediaFilter;
@@ -20,11 +24,14 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import org.jooq.Condition;
+import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.Query;
 import org.jooq.Record;
@@ -32,10 +39,59 @@ import org.jooq.SortField;
 import org.jooq.SortOrder;
 import org.jooq.Table;
 import org.jooq.TableField;
+import org.jooq.impl.SQLDataType;
 
 @UtilityClass
 public class JooqQueryHelper {
 
+  private static final Field<String> INCOMING_SOURCE_ID =
+      field(name("incoming", "source_id"), SQLDataType.CLOB);
+  private static final Field<String> INCOMING_NAME =
+      field(name("incoming", "name"), SQLDataType.CLOB);
+
+  // Inserts every (source_id, name) pair whose source id is not stored yet and returns the source
+  // ids it inserted, leaving stored rows untouched. The batch is bound as two text arrays and
+  // unnested, so a batch of any size is one INSERT ... SELECT ... ON CONFLICT DO NOTHING with two
+  // parameters. Rows go in source id order so concurrent batches take their row locks in the same
+  // order.
+  public <R extends Record> Set<String> insertAllIfAbsent(
+      DSLContext dsl,
+      Table<R> table,
+      TableField<R, String> sourceIdField,
+      TableField<R, String> nameField,
+      TableField<R, UUID> createdByField,
+      TableField<R, UUID> lastModifiedByField,
+      UUID auditUser,
+      Map<String, String> namesBySourceId) {
+    if (namesBySourceId.isEmpty()) {
+      return Set.of();
+    }
+
+    var sourceIds = namesBySourceId.keySet().toArray(String[]::new);
+    var names = namesBySourceId.keySet().stream().map(namesBySourceId::get).toArray(String[]::new);
+    var incoming =
+        table(
+                "unnest({0}, {1})",
+                val(sourceIds, SQLDataType.CLOB.array()),
+                val(names, SQLDataType.CLOB.array()))
+            .as("incoming", "source_id", "name");
+
+    return dsl.insertInto(table, sourceIdField, nameField, createdByField, lastModifiedByField)
+        .select(
+            select(
+                    INCOMING_SOURCE_ID,
+                    INCOMING_NAME,
+                    val(auditUser, createdByField),
+                    val(auditUser, lastModifiedByField))
+                .from(incoming)
+                .orderBy(INCOMING_SOURCE_ID))
+        .onConflict(sourceIdField)
+        .doNothing()
+        .returning(sourceIdField)
+        .fetch()
+        .intoSet(sourceIdField);
+  }
+
   @SuppressWarnings("unchecked")
   public <E> List<E> nativeQuery(EntityManager em, Query query, Class<E> type) {
     var result = em.createNativeQuery(query.getSQL(), type);
@@ -45,7 +101,7 @@ public class JooqQueryHelper {
       result.setParameter(i + 1, values.get(i));
     }
 
-    return result.getResultList();
+    return JooqQueryListener.time(query, () -> (List<E>) result.getResultList());
   }
 
   public Condition startLetterCondition(
@@ -9,6 +9,8 @@ import static com.streamarr.server.jooq.generated.tables.SeriesPerson.SERIES_PER
 import com.streamarr.server.domain.metadata.Person;
 import jakarta.persistence.EntityManager;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
@@ -22,18 +24,16 @@ public class PersonRepositoryCustomImpl implements PersonRepositoryCustom {
   private final EntityManager entityManager;
 
   @Override
-  public boolean insertIfAbsent(String sourceId, String name) {
-    var auditUser = auditorAware.getCurrentAuditor().orElse(null);
-    var rowsAffected =
-        dsl.insertInto(PERSON)
-            .set(PERSON.SOURCE_ID, sourceId)
-            .set(PERSON.NAME, name)
-            .set(PERSON.CREATED_BY, auditUser)
-            .set(PERSON.LAST_MODIFIED_BY, auditUser)
-            .onConflict(PERSON.SOURCE_ID)
-            .doNothing()
-            .execute();
-    return rowsAffected > 0;
+  public Set<String> insertAllIfAbsent(Map<String, String> namesBySourceId) {
+    return JooqQueryHelper.insertAllIfAbsent(
+        dsl,
+        PERSON,
+        PERSON.SOURCE_ID,
+        PERSON.NAME,
+        PERSON.CREATED_BY,
+        PERSON.LAST_MODIFIED_BY,
+        auditorAware.getCurrentAuditor().orElse(null),
+        namesBySourceId);
   }
 
   @Override
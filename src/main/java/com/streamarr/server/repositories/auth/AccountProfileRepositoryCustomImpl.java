@@ -3,9 +3,11 @@ package com.streamarr.server.repositories.auth;
 import static com.streamarr.server.jooq.generated.tables.AccountProfile.ACCOUNT_PROFILE;
 
 import com.streamarr.server.domain.auth.AccountProfile;
+import com.streamarr.server.services.events.auth.PlaybackAuthorityRevokedEvent;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +16,7 @@ public class AccountProfileRepositoryCustomImpl implements AccountProfileReposit
 
   private final DSLContext dsl;
   private final AuditorAware<UUID> auditorAware;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -32,11 +35,17 @@ public class AccountProfileRepositoryCustomImpl implements AccountProfileReposit
   @Override
   @Transactional
   public boolean revokeProfileLink(AccountProfile link) {
-    return dsl.deleteFrom(ACCOUNT_PROFILE)
-            .where(ACCOUNT_PROFILE.ACCOUNT_ID.eq(link.getAccountId()))
-            .and(ACCOUNT_PROFILE.HOUSEHOLD_ID.eq(link.getHouseholdId()))
-            .and(ACCOUNT_PROFILE.PROFILE_ID.eq(link.getProfileId()))
-            .execute()
-        > 0;
+    var revoked =
+        dsl.deleteFrom(ACCOUNT_PROFILE)
+                .where(ACCOUNT_PROFILE.ACCOUNT_ID.eq(link.getAccountId()))
+                .and(ACCOUNT_PROFILE.HOUSEHOLD_ID.eq(link.getHouseholdId()))
+                .and(ACCOUNT_PROFILE.PROFILE_ID.eq(link.getProfileId()))
+                .execute()
+            > 0;
+
+    if (revoked) {
+      eventPublisher.publishEvent(PlaybackAuthorityRevokedEvent.forAccount(link.getAccountId()));
+    }
+    return revoked;
   }
 }
@@ -7,6 +7,7 @@ import com.streamarr.server.domain.auth.AuthSession;
 import com.streamarr.server.domain.auth.SessionRevocationReason;
 import com.streamarr.server.domain.streaming.PlaybackAuthority;
 import com.streamarr.server.repositories.JooqQueryHelper;
+import com.streamarr.server.services.events.auth.PlaybackAuthorityRevokedEvent;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -14,6 +15,7 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class AuthSessionRepositoryCustomImpl implements AuthSessionRepositoryCus
   private final AuditorAware<UUID> auditorAware;
 
   private final EntityManager entityManager;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   public boolean hasLivePlaybackAuthority(PlaybackAuthority authority) {
@@ -46,33 +49,46 @@ public class AuthSessionRepositoryCustomImpl implements AuthSessionRepositoryCus
   public boolean revoke(UUID sessionId, SessionRevocationReason reason, Instant now) {
     var nowOffset = now.atOffset(ZoneOffset.UTC);
 
-    return dsl.update(AUTH_SESSION)
-            .set(AUTH_SESSION.REVOKED_AT, nowOffset)
-            .set(
-                AUTH_SESSION.REVOKED_REASON,
-                com.streamarr.server.jooq.generated.enums.SessionRevocationReason.valueOf(
-                    reason.name()))
-            .set(AUTH_SESSION.LAST_MODIFIED_ON, nowOffset)
-            .set(AUTH_SESSION.LAST_MODIFIED_BY, auditorAware.getCurrentAuditor().orElse(null))
-            .where(AUTH_SESSION.ID.eq(sessionId))
-            .and(AUTH_SESSION.REVOKED_AT.isNull())
-            .execute()
-        > 0;
+    var revoked =
+        dsl.update(AUTH_SESSION)
+                .set(AUTH_SESSION.REVOKED_AT, nowOffset)
+                .set(
+                    AUTH_SESSION.REVOKED_REASON,
+                    com.streamarr.server.jooq.generated.enums.SessionRevocationReason.valueOf(
+                        reason.name()))
+                .set(AUTH_SESSION.LAST_MODIFIED_ON, nowOffset)
+                .set(AUTH_SESSION.LAST_MODIFIED_BY, auditorAware.getCurrentAuditor().orElse(null))
+                .where(AUTH_SESSION.ID.eq(sessionId))
+                .and(AUTH_SESSION.REVOKED_AT.isNull())
+                .execute()
+            > 0;
+
+    if (revoked) {
+      eventPublisher.publishEvent(PlaybackAuthorityRevokedEvent.forSession(sessionId));
+    }
+    return revoked;
   }
 
   @Override
   public boolean updateSelectionIfLive(AuthSession session, Instant now) {
     var nowOffset = now.atOffset(ZoneOffset.UTC);
 
-    return dsl.update(AUTH_SESSION)
-            .set(AUTH_SESSION.ACTIVE_HOUSEHOLD_ID, session.getActiveHouseholdId())
-            .set(AUTH_SESSION.ACTIVE_PROFILE_ID, session.getActiveProfileId())
-            .set(AUTH_SESSION.LAST_MODIFIED_ON, nowOffset)
-            .set(AUTH_SESSION.LAST_MODIFIED_BY, auditorAware.getCurrentAuditor().orElse(null))
-            .where(AUTH_SESSION.ID.eq(session.getId()))
-            .and(AUTH_SESSION.REVOKED_AT.isNull())
-            .execute()
-        > 0;
+    var updated =
+        dsl.update(AUTH_SESSION)
+                .set(AUTH_SESSION.ACTIVE_HOUSEHOLD_ID, session.getActiveHouseholdId())
+                .set(AUTH_SESSION.ACTIVE_PROFILE_ID, session.getActiveProfileId())
+                .set(AUTH_SESSION.LAST_MODIFIED_ON, nowOffset)
+                .set(AUTH_SESSION.LAST_MODIFIED_BY, auditorAware.getCurrentAuditor().orElse(null))
+                .where(AUTH_SESSION.ID.eq(session.getId()))
+                .and(AUTH_SESSION.REVOKED_AT.isNull())
+                .execute()
+            > 0;
+
+    // A changed selection withdraws the authority of playback tokens minted for the old one.
+    if (updated) {
+      eventPublisher.publishEvent(PlaybackAuthorityRevokedEvent.forSession(session.getId()));
+    }
+    return updated;
   }
 
   @Override
@@ -3,12 +3,14 @@ package com.streamarr.server.repositories.auth;
 import static com.streamarr.server.jooq.generated.tables.HouseholdMembership.HOUSEHOLD_MEMBERSHIP;
 
 import com.streamarr.server.domain.auth.HouseholdMembership;
+import com.streamarr.server.services.events.auth.PlaybackAuthorityRevokedEvent;
 import jakarta.persistence.EntityManager;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class HouseholdMembershipRepositoryCustomImpl
   private final EntityManager entityManager;
   private final DSLContext dsl;
   private final AuditorAware<UUID> auditorAware;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -49,10 +52,16 @@ public class HouseholdMembershipRepositoryCustomImpl
   @Override
   @Transactional
   public boolean revokeMembership(UUID accountId, UUID householdId) {
-    return dsl.deleteFrom(HOUSEHOLD_MEMBERSHIP)
-            .where(HOUSEHOLD_MEMBERSHIP.ACCOUNT_ID.eq(accountId))
-            .and(HOUSEHOLD_MEMBERSHIP.HOUSEHOLD_ID.eq(householdId))
-            .execute()
-        > 0;
+    var revoked =
+        dsl.deleteFrom(HOUSEHOLD_MEMBERSHIP)
+                .where(HOUSEHOLD_MEMBERSHIP.ACCOUNT_ID.eq(accountId))
+                .and(HOUSEHOLD_MEMBERSHIP.HOUSEHOLD_ID.eq(householdId))
+                .execute()
+            > 0;
+
+    if (revoked) {
+      eventPublisher.publishEvent(PlaybackAuthorityRevokedEvent.forAccount(accountId));
+    }
+    return revoked;
   }
 }
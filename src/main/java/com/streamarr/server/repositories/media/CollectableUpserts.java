@@ -0,0 +1,78 @@
+package com.streamarr.server.repositories.media;
+
+import static com.streamarr.server.jooq.generated.tables.BaseCollectable.BASE_COLLECTABLE;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.row;
+
+import com.streamarr.server.domain.BaseCollectable;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.jooq.DSLContext;
+
+/**
+ * Steps shared by the batched upserts of JOINED collectable subtypes: a subtype row can only be
+ * written once its {@code base_collectable} row exists under the same id.
+ */
+@UtilityClass
+class CollectableUpserts {
+
+  void upsertBaseRows(
+      DSLContext dsl, List<? extends BaseCollectable<?>> collectables, UUID auditUser) {
+    var rows =
+        collectables.stream()
+            .map(
+                collectable ->
+                    row(
+                        collectable.getId(),
+                        collectable.getTitle(),
+                        collectable.getLibrary().getId(),
+                        auditUser,
+                        auditUser))
+            .toList();
+
+    dsl.insertInto(
+            BASE_COLLECTABLE,
+            BASE_COLLECTABLE.ID,
+            BASE_COLLECTABLE.TITLE,
+            BASE_COLLECTABLE.LIBRARY_ID,
+            BASE_COLLECTABLE.CREATED_BY,
+            BASE_COLLECTABLE.LAST_MODIFIED_BY)
+        .valuesOfRows(rows)
+        .onConflict(BASE_COLLECTABLE.ID)
+        .doUpdate()
+        .set(BASE_COLLECTABLE.TITLE, excluded(BASE_COLLECTABLE.TITLE))
+        .set(BASE_COLLECTABLE.LAST_MODIFIED_ON, OffsetDateTime.now(ZoneOffset.UTC))
+        .set(BASE_COLLECTABLE.LAST_MODIFIED_BY, excluded(BASE_COLLECTABLE.LAST_MODIFIED_BY))
+        .execute();
+  }
+
+  /**
+   * Points each collectable at the row stored under its natural key. A concurrent writer can
+   * create that row between our id lookup and our insert; the base row written for the losing id
+   * is then dropped and the winner takes its title.
+   */
+  <C extends BaseCollectable<?>, K> void adoptStoredIds(
+      DSLContext dsl,
+      List<C> collectables,
+      Function<C, K> naturalKey,
+      Map<K, UUID> storedIds,
+      UUID auditUser) {
+    var displaced =
+        collectables.stream()
+            .filter(c -> !c.getId().equals(storedIds.get(naturalKey.apply(c))))
+            .toList();
+    if (displaced.isEmpty()) {
+      return;
+    }
+
+    var orphanIds = displaced.stream().map(BaseCollectable::getId).toList();
+    displaced.forEach(c -> c.setId(storedIds.get(naturalKey.apply(c))));
+    dsl.deleteFrom(BASE_COLLECTABLE).where(BASE_COLLECTABLE.ID.in(orphanIds)).execute();
+    upsertBaseRows(dsl, displaced, auditUser);
+  }
+}
@@ -1,5 +1,6 @@
 package com.streamarr.server.repositories.media;
 
+import com.streamarr.server.domain.media.Episode;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -8,4 +9,11 @@ import java.util.UUID;
 public interface EpisodeRepositoryCustom {
 
   Map<UUID, List<UUID>> findEpisodeIdsBySeasonIds(Collection<UUID> seasonIds);
+
+  /**
+   * Inserts or updates {@code episodes}, across any number of stored seasons, in a fixed number of
+   * statements, matching stored episodes by season and episode number. Returns the given
+   * episodes, each carrying its stored id.
+   */
+  List<Episode> upsertAllByEpisodeNumber(List<Episode> episodes);
 }
@@ -1,18 +1,26 @@
 package com.streamarr.server.repositories.media;
 
 import static com.streamarr.server.jooq.generated.tables.Episode.EPISODE;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.row;
 
+import com.streamarr.server.domain.media.Episode;
+import com.streamarr.server.jooq.generated.tables.records.EpisodeRecord;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
+import org.jooq.Result;
+import org.springframework.data.domain.AuditorAware;
 
 @RequiredArgsConstructor
 public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
 
   private final DSLContext dsl;
+  private final AuditorAware<UUID> auditorAware;
 
   @Override
   public Map<UUID, List<UUID>> findEpisodeIdsBySeasonIds(Collection<UUID> seasonIds) {
@@ -21,4 +29,74 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
         .where(EPISODE.SEASON_ID.in(seasonIds))
         .fetchGroups(EPISODE.SEASON_ID, EPISODE.ID);
   }
+
+  @Override
+  public List<Episode> upsertAllByEpisodeNumber(List<Episode> episodes) {
+    if (episodes.isEmpty()) {
+      return episodes;
+    }
+
+    var auditUser = auditorAware.getCurrentAuditor().orElse(null);
+    var seasonIds =
+        episodes.stream().map(episode -> episode.getSeason().getId()).distinct().toList();
+    var existingIds =
+        idsByKey(
+            dsl.select(EPISODE.SEASON_ID, EPISODE.EPISODE_NUMBER, EPISODE.ID)
+                .from(EPISODE)
+                .where(EPISODE.SEASON_ID.in(seasonIds))
+                .fetchInto(EPISODE));
+    episodes.forEach(
+        episode -> episode.setId(existingIds.getOrDefault(keyOf(episode), UUID.randomUUID())));
+
+    CollectableUpserts.upsertBaseRows(dsl, episodes, auditUser);
+
+    var rows =
+        episodes.stream()
+            .map(
+                episode ->
+                    row(
+                        episode.getId(),
+                        episode.getSeason().getId(),
+                        episode.getEpisodeNumber(),
+                        episode.getOverview(),
+                        episode.getAirDate(),
+                        episode.getRuntime()))
+            .toList();
+    var storedIds =
+        idsByKey(
+            dsl.insertInto(
+                    EPISODE,
+                    EPISODE.ID,
+                    EPISODE.SEASON_ID,
+                    EPISODE.EPISODE_NUMBER,
+                    EPISODE.OVERVIEW,
+                    EPISODE.AIR_DATE,
+                    EPISODE.RUNTIME)
+                .valuesOfRows(rows)
+                .onConflict(EPISODE.SEASON_ID, EPISODE.EPISODE_NUMBER)
+                .doUpdate()
+                .set(EPISODE.OVERVIEW, excluded(EPISODE.OVERVIEW))
+                .set(EPISODE.AIR_DATE, excluded(EPISODE.AIR_DATE))
+                .set(EPISODE.RUNTIME, excluded(EPISODE.RUNTIME))
+                .returning(EPISODE.SEASON_ID, EPISODE.EPISODE_NUMBER, EPISODE.ID)
+                .fetch());
+
+    CollectableUpserts.adoptStoredIds(
+        dsl, episodes, EpisodeRepositoryCustomImpl::keyOf, storedIds, auditUser);
+    return episodes;
+  }
+
+  private static EpisodeKey keyOf(Episode episode) {
+    return new EpisodeKey(episode.getSeason().getId(), episode.getEpisodeNumber());
+  }
+
+  private static Map<EpisodeKey, UUID> idsByKey(Result<EpisodeRecord> records) {
+    var ids = new HashMap<EpisodeKey, UUID>();
+    for (var stored : records) {
+      ids.put(new EpisodeKey(stored.getSeasonId(), stored.getEpisodeNumber()), stored.getId());
+    }
+    return ids;
+  }
+
+  private record EpisodeKey(UUID seasonId, int episodeNumber) {}
 }
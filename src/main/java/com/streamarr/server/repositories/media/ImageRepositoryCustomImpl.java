@@ -6,6 +6,7 @@ import com.streamarr.server.config.ImageProperties;
 import com.streamarr.server.domain.media.AmbientColors;
 import com.streamarr.server.domain.media.Image;
 import com.streamarr.server.jooq.generated.enums.ImageEntityType;
+import com.streamarr.server.jooq.generated.enums.ImageFormat;
 import com.streamarr.server.jooq.generated.enums.ImageSize;
 import com.streamarr.server.jooq.generated.enums.ImageType;
 import java.nio.charset.StandardCharsets;
@@ -79,7 +80,7 @@ public class ImageRepositoryCustomImpl implements ImageRepositoryCustom {
   private boolean insertIfAbsent(Image image, UUID auditUser) {
     return dsl.insertInto(IMAGE)
             .set(imageValues(image, auditUser))
-            .onConflict(IMAGE.ENTITY_ID, IMAGE.IMAGE_TYPE, IMAGE.VARIANT)
+            .onConflict(IMAGE.ENTITY_ID, IMAGE.IMAGE_TYPE, IMAGE.VARIANT, IMAGE.FORMAT)
             .doNothing()
             .execute()
         > 0;
@@ -94,6 +95,7 @@ public class ImageRepositoryCustomImpl implements ImageRepositoryCustom {
     values.put(IMAGE.ENTITY_TYPE, ImageEntityType.lookupLiteral(image.getEntityType().name()));
     values.put(IMAGE.IMAGE_TYPE, ImageType.lookupLiteral(image.getImageType().name()));
     values.put(IMAGE.VARIANT, ImageSize.lookupLiteral(image.getVariant().name()));
+    values.put(IMAGE.FORMAT, ImageFormat.lookupLiteral(image.getFormat().name()));
     values.put(IMAGE.WIDTH, image.getWidth());
     values.put(IMAGE.HEIGHT, image.getHeight());
     values.put(IMAGE.BLUR_HASH, image.getBlurHash());
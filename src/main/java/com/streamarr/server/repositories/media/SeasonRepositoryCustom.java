@@ -1,5 +1,6 @@
 package com.streamarr.server.repositories.media;
 
+import com.streamarr.server.domain.media.Season;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -8,4 +9,10 @@ import java.util.UUID;
 public interface SeasonRepositoryCustom {
 
   Map<UUID, List<UUID>> findSeasonIdsBySeriesIds(Collection<UUID> seriesIds);
+
+  /**
+   * Inserts or updates {@code seasons} of one series in a fixed number of statements, matching
+   * stored seasons by season number. Returns the given seasons, each carrying its stored id.
+   */
+  List<Season> upsertAllBySeasonNumber(List<Season> seasons);
 }
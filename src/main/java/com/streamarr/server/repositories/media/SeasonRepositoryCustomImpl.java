@@ -1,18 +1,23 @@
 package com.streamarr.server.repositories.media;
 
 import static com.streamarr.server.jooq.generated.tables.Season.SEASON;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.row;
 
+import com.streamarr.server.domain.media.Season;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
+import org.springframework.data.domain.AuditorAware;
 
 @RequiredArgsConstructor
 public class SeasonRepositoryCustomImpl implements SeasonRepositoryCustom {
 
   private final DSLContext dsl;
+  private final AuditorAware<UUID> auditorAware;
 
   @Override
   public Map<UUID, List<UUID>> findSeasonIdsBySeriesIds(Collection<UUID> seriesIds) {
@@ -21,4 +26,57 @@ public class SeasonRepositoryCustomImpl implements SeasonRepositoryCustom {
         .where(SEASON.SERIES_ID.in(seriesIds))
         .fetchGroups(SEASON.SERIES_ID, SEASON.ID);
   }
+
+  @Override
+  public List<Season> upsertAllBySeasonNumber(List<Season> seasons) {
+    if (seasons.isEmpty()) {
+      return seasons;
+    }
+
+    var auditUser = auditorAware.getCurrentAuditor().orElse(null);
+    var seriesId = seasons.getFirst().getSeries().getId();
+    var existingIds =
+        dsl.select(SEASON.SEASON_NUMBER, SEASON.ID)
+            .from(SEASON)
+            .where(SEASON.SERIES_ID.eq(seriesId))
+            .fetchMap(SEASON.SEASON_NUMBER, SEASON.ID);
+    seasons.forEach(
+        season ->
+            season.setId(
+                existingIds.getOrDefault(season.getSeasonNumber(), UUID.randomUUID())));
+
+    CollectableUpserts.upsertBaseRows(dsl, seasons, auditUser);
+
+    var rows =
+        seasons.stream()
+            .map(
+                season ->
+                    row(
+                        season.getId(),
+                        seriesId,
+                        season.getSeasonNumber(),
+                        season.getOverview(),
+                        season.getAirDate()))
+            .toList();
+    var storedIds =
+        dsl.insertInto(
+                SEASON,
+                SEASON.ID,
+                SEASON.SERIES_ID,
+                SEASON.SEASON_NUMBER,
+                SEASON.OVERVIEW,
+                SEASON.AIR_DATE)
+            .valuesOfRows(rows)
+            .onConflict(SEASON.SERIES_ID, SEASON.SEASON_NUMBER)
+            .doUpdate()
+            .set(SEASON.OVERVIEW, excluded(SEASON.OVERVIEW))
+            .set(SEASON.AIR_DATE, excluded(SEASON.AIR_DATE))
+            .returning(SEASON.SEASON_NUMBER, SEASON.ID)
+            .fetch()
+            .intoMap(SEASON.SEASON_NUMBER, SEASON.ID);
+
+    CollectableUpserts.adoptStoredIds(
+        dsl, seasons, Season::getSeasonNumber, storedIds, auditUser);
+    return seasons;
+  }
 }
@@ -2,6 +2,7 @@ package com.streamarr.server.repositories.task;
 
 import com.streamarr.server.domain.task.FileProcessingTask;
 import com.streamarr.server.domain.task.FileProcessingTaskStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +16,9 @@ public interface FileProcessingTaskRepository
   Optional<FileProcessingTask> findByFilepathUriAndStatusIn(
       String filepathUri, List<FileProcessingTaskStatus> statuses);
 
+  List<FileProcessingTask> findByFilepathUriInAndStatusIn(
+      Collection<String> filepathUris, List<FileProcessingTaskStatus> statuses);
+
   List<FileProcessingTask> findByOwnerInstanceId(String ownerInstanceId);
 
   void deleteByFilepathUriAndStatusIn(String filepathUri, List<FileProcessingTaskStatus> statuses);
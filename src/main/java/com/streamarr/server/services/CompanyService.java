@@ -6,9 +6,12 @@ import com.streamarr.server.repositories.CompanyRepository;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
 import com.streamarr.server.services.metadata.events.ImageSource;
 import com.streamarr.server.services.metadata.events.MetadataEnrichedEvent;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,36 +50,42 @@ public class CompanyService {
       return Set.of();
     }
 
-    return companies.stream()
-        .map(c -> findOrCreateCompany(c, imageSourcesBySourceId, imageRefreshMode))
-        .collect(Collectors.toSet());
-  }
-
-  private Company findOrCreateCompany(
-      Company company,
-      Map<String, List<ImageSource>> imageSourcesBySourceId,
-      ImageRefreshMode imageRefreshMode) {
-    if (company.getSourceId() == null) {
-      throw new IllegalArgumentException("Company sourceId must not be null");
+    companies.forEach(CompanyService::requireSourceId);
+    if (companies.isEmpty()) {
+      return Set.of();
     }
 
-    var imageSources = imageSourcesBySourceId.getOrDefault(company.getSourceId(), List.of());
+    var namesBySourceId = new TreeMap<String, String>();
+    companies.forEach(company -> namesBySourceId.put(company.getSourceId(), company.getName()));
+    companyRepository.insertAllIfAbsent(namesBySourceId);
 
-    companyRepository.insertIfAbsent(company.getSourceId(), company.getName());
-    var saved =
-        companyRepository
-            .findBySourceId(company.getSourceId())
-            .orElseThrow(
-                () ->
-                    new IllegalStateException(
-                        "Company not found after upsert for sourceId: " + company.getSourceId()));
+    var savedBySourceId =
+        companyRepository.findCompaniesBySourceIdIn(List.copyOf(namesBySourceId.keySet())).stream()
+            .collect(Collectors.toMap(Company::getSourceId, Function.identity()));
 
-    saved.setName(company.getName());
+    var saved = new HashSet<Company>();
+    namesBySourceId.forEach(
+        (sourceId, name) -> {
+          var company = savedBySourceId.get(sourceId);
+          if (company == null) {
+            throw new IllegalStateException(
+                "Company not found after upsert for sourceId: " + sourceId);
+          }
 
-    publishImageEvent(saved, imageSources, imageRefreshMode);
+          company.setName(name);
+          publishImageEvent(
+              company, imageSourcesBySourceId.getOrDefault(sourceId, List.of()), imageRefreshMode);
+          saved.add(company);
+        });
     return saved;
   }
 
+  private static void requireSourceId(Company company) {
+    if (company.getSourceId() == null) {
+      throw new IllegalArgumentException("Company sourceId must not be null");
+    }
+  }
+
   private void publishImageEvent(
       Company company, List<ImageSource> imageSources, ImageRefreshMode imageRefreshMode) {
     if (imageSources.isEmpty()) {
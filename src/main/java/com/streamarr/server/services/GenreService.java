@@ -2,7 +2,11 @@ package com.streamarr.server.services;
 
 import com.streamarr.server.domain.metadata.Genre;
 import com.streamarr.server.repositories.GenreRepository;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,24 +24,37 @@ public class GenreService {
       return Set.of();
     }
 
-    return genres.stream().map(this::findOrCreateGenre).collect(Collectors.toSet());
+    genres.forEach(GenreService::requireSourceId);
+    if (genres.isEmpty()) {
+      return Set.of();
+    }
+
+    var namesBySourceId = new TreeMap<String, String>();
+    genres.forEach(genre -> namesBySourceId.put(genre.getSourceId(), genre.getName()));
+    genreRepository.insertAllIfAbsent(namesBySourceId);
+
+    var savedBySourceId =
+        genreRepository.findGenresBySourceIdIn(List.copyOf(namesBySourceId.keySet())).stream()
+            .collect(Collectors.toMap(Genre::getSourceId, Function.identity()));
+
+    var saved = new HashSet<Genre>();
+    namesBySourceId.forEach(
+        (sourceId, name) -> {
+          var genre = savedBySourceId.get(sourceId);
+          if (genre == null) {
+            throw new IllegalStateException(
+                "Genre not found after upsert for sourceId: " + sourceId);
+          }
+
+          genre.setName(name);
+          saved.add(genre);
+        });
+    return saved;
   }
 
-  private Genre findOrCreateGenre(Genre genre) {
+  private static void requireSourceId(Genre genre) {
     if (genre.getSourceId() == null) {
       throw new IllegalArgumentException("Genre sourceId must not be null");
     }
-
-    genreRepository.insertIfAbsent(genre.getSourceId(), genre.getName());
-    var saved =
-        genreRepository
-            .findBySourceId(genre.getSourceId())
-            .orElseThrow(
-                () ->
-                    new IllegalStateException(
-                        "Genre not found after upsert for sourceId: " + genre.getSourceId()));
-
-    saved.setName(genre.getName());
-    return saved;
   }
 }
@@ -4,6 +4,8 @@ import com.streamarr.server.domain.media.Image;
 import com.streamarr.server.services.ImageService.ProcessedImage;
 import com.streamarr.server.services.concurrency.MutexFactory;
 import com.streamarr.server.services.concurrency.MutexFactoryProvider;
+import com.streamarr.server.services.library.LibraryScanProgress;
+import com.streamarr.server.services.library.ScanStage;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
 import com.streamarr.server.services.metadata.TmdbImageDownloader;
 import com.streamarr.server.services.metadata.events.ImageSource;
@@ -30,20 +32,23 @@ public class ImageEnrichmentListener {
 
   private final TmdbImageDownloader tmdbImageDownloader;
   private final ImageService imageService;
+  private final ImageProcessingPipeline imageProcessingPipeline;
   private final MutexFactory<String> mutexFactory;
 
   public ImageEnrichmentListener(
       TmdbImageDownloader tmdbImageDownloader,
       ImageService imageService,
+      ImageProcessingPipeline imageProcessingPipeline,
       MutexFactoryProvider mutexFactoryProvider) {
     this.tmdbImageDownloader = tmdbImageDownloader;
     this.imageService = imageService;
+    this.imageProcessingPipeline = imageProcessingPipeline;
     this.mutexFactory = mutexFactoryProvider.getMutexFactory();
   }
 
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void onMetadataEnriched(MetadataEnrichedEvent event) {
-    Thread.startVirtualThread(() -> enrichImages(event));
+    Thread.startVirtualThread(LibraryScanProgress.carryCurrent(() -> enrichImages(event)));
   }
 
   private void enrichImages(MetadataEnrichedEvent event) {
@@ -72,7 +77,8 @@ public class ImageEnrichmentListener {
           return;
         }
 
-        downloadAllImages(event, pendingSources);
+        LibraryScanProgress.timeStage(
+            ScanStage.IMAGES, () -> downloadAllImages(event, pendingSources));
       } finally {
         mutex.unlock();
       }
@@ -139,9 +145,16 @@ public class ImageEnrichmentListener {
             case TmdbImageSource tmdb -> tmdbImageDownloader.downloadImage(tmdb.key());
           };
 
+      // Downloads stay concurrent; decoding and resizing wait for a pipeline slot.
       var processedImage =
-          imageService.processImage(
-              imageData, source.imageType(), event.entityId(), event.entityType(), source.key());
+          imageProcessingPipeline.process(
+              () ->
+                  imageService.processImage(
+                      imageData,
+                      source.imageType(),
+                      event.entityId(),
+                      event.entityType(),
+                      source.key()));
       return new ProcessedImageResult(processedImage, pendingSource.replacement());
     } catch (InterruptedException _) {
       Thread.currentThread().interrupt();
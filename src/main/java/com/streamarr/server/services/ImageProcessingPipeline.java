@@ -0,0 +1,105 @@
+package com.streamarr.server.services;
+
+import com.streamarr.server.config.ImageProperties;
+import com.streamarr.server.exceptions.ImageProcessingException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * The one place artwork is decoded and resized. Enrichment fans out a virtual thread per entity and
+ * per image, which is right for downloads but would let a library scan decode thousands of
+ * full-resolution originals at once; here at most {@link ImageProperties#processingConcurrency()}
+ * run and the rest queue in arrival order.
+ *
+ * <p>Work runs on platform threads rather than the caller's virtual thread so that per-image CPU
+ * time can be measured: the JVM reports no CPU time for virtual threads.
+ */
+@Component
+public class ImageProcessingPipeline implements DisposableBean {
+
+  static final String QUEUED_METRIC = "streamarr.image.processing.queued";
+  static final String QUEUE_WAIT_METRIC = "streamarr.image.processing.queue_wait";
+  static final String CPU_TIME_METRIC = "streamarr.image.processing.cpu_time";
+
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+  private final ThreadPoolExecutor executor;
+  private final Timer queueWait;
+  private final Timer cpuTime;
+
+  public ImageProcessingPipeline(ImageProperties properties, MeterRegistry meterRegistry) {
+    var concurrency = properties.processingConcurrency();
+    this.executor =
+        new ThreadPoolExecutor(
+            concurrency,
+            concurrency,
+            0,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            Thread.ofPlatform().name("image-processing-", 0).daemon().factory());
+    this.queueWait = Timer.builder(QUEUE_WAIT_METRIC).register(meterRegistry);
+    this.cpuTime = Timer.builder(CPU_TIME_METRIC).register(meterRegistry);
+    Gauge.builder(QUEUED_METRIC, executor, e -> e.getQueue().size()).register(meterRegistry);
+  }
+
+  /**
+   * Runs {@code task} once a slot frees up and waits for its result. Runtime exceptions from the
+   * task surface unchanged; checked ones are wrapped in {@link ImageProcessingException}.
+   */
+  public <T> T process(Callable<T> task) throws InterruptedException {
+    var submittedAt = System.nanoTime();
+    var future =
+        executor.submit(
+            () -> {
+              queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+              return measured(task);
+            });
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      throw e;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new ImageProcessingException(e.getCause());
+    }
+  }
+
+  int queued() {
+    return executor.getQueue().size();
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private <T> T measured(Callable<T> task) throws Exception {
+    if (!THREADS.isCurrentThreadCpuTimeSupported()) {
+      return task.call();
+    }
+
+    var startedAt = THREADS.getCurrentThreadCpuTime();
+    try {
+      return task.call();
+    } finally {
+      cpuTime.record(THREADS.getCurrentThreadCpuTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+  }
+}
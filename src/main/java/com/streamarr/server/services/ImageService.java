@@ -1,8 +1,11 @@
 package com.streamarr.server.services;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.streamarr.server.config.ImageProperties;
 import com.streamarr.server.domain.media.Image;
 import com.streamarr.server.domain.media.ImageEntityType;
+import com.streamarr.server.domain.media.ImageFormat;
 import com.streamarr.server.domain.media.ImageSize;
 import com.streamarr.server.domain.media.ImageType;
 import com.streamarr.server.exceptions.ImageProcessingException;
@@ -15,14 +18,16 @@ import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.regex.Pattern;
-import lombok.RequiredArgsConstructor;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,7 +36,6 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ImageService {
 
   private static final Pattern CONTENT_SHA256 = Pattern.compile("[0-9a-f]{64}");
@@ -44,8 +48,46 @@ public class ImageService {
   private final ImageProperties imageProperties;
   private final FileSystem fileSystem;
 
+  /**
+   * Where each served image lives. A row never changes under its id, so an entry stays correct
+   * until the row is deleted; deletions and replacements drop their entries once they commit.
+   */
+  private final Cache<UUID, StoredImage> storedImages;
+
+  /** Which row answers a request for an image id in another format; the id itself if none. */
+  private final Cache<Representation, UUID> representations;
+
+  public ImageService(
+      ImageRepository imageRepository,
+      ImageVariantService imageVariantService,
+      ImageProperties imageProperties,
+      FileSystem fileSystem) {
+    this.imageRepository = imageRepository;
+    this.imageVariantService = imageVariantService;
+    this.imageProperties = imageProperties;
+    this.fileSystem = fileSystem;
+    this.storedImages =
+        CacheBuilder.newBuilder().maximumSize(imageProperties.metadataCacheSize()).build();
+    this.representations =
+        CacheBuilder.newBuilder().maximumSize(imageProperties.metadataCacheSize()).build();
+  }
+
   public record ProcessedImage(List<Image> images, List<Path> writtenFiles) {}
 
+  /**
+   * An image file ready to serve. {@code contentLength} is -1 until the file is first served, so a
+   * conditional request can be answered without touching the file.
+   */
+  public record StoredImage(
+      UUID id, ImageFormat format, Path file, MediaType contentType, long contentLength) {
+
+    StoredImage withContentLength(long contentLength) {
+      return new StoredImage(id, format, file, contentType, contentLength);
+    }
+  }
+
+  private record Representation(UUID imageId, ImageFormat format) {}
+
   public ProcessedImage processImage(
       byte[] originalData, ImageType imageType, UUID entityId, ImageEntityType entityType) {
     return processImage(originalData, imageType, entityId, entityType, null);
@@ -67,7 +109,8 @@ public class ImageService {
       for (var variant : variants) {
         var imageId = UUID.randomUUID();
         var relativePath =
-            buildRelativePath(entityType, entityId, imageType, variant.variant(), imageId);
+            buildRelativePath(
+                entityType, entityId, imageType, variant.variant(), variant.format(), imageId);
         var absolutePath = resolveAbsolutePath(relativePath);
 
         Files.createDirectories(absolutePath.getParent());
@@ -81,6 +124,7 @@ public class ImageService {
                 .entityType(entityType)
                 .imageType(imageType)
                 .variant(variant.variant())
+                .format(variant.format())
                 .width(variant.width())
                 .height(variant.height())
                 .blurHash(variant.blurHash())
@@ -176,10 +220,18 @@ public class ImageService {
     }
   }
 
+  // Every size needs its JPEG baseline; other formats are optional but never duplicated.
   private void validateVariantSet(List<Image> images) {
-    var variants = EnumSet.copyOf(images.stream().map(Image::getVariant).toList());
-    if (images.size() != ImageSize.values().length
-        || !variants.equals(EnumSet.allOf(ImageSize.class))) {
+    var jpegVariants =
+        images.stream()
+            .filter(image -> image.getFormat() == ImageFormat.JPEG)
+            .map(Image::getVariant)
+            .toList();
+    var distinctRenditions =
+        images.stream().map(image -> image.getVariant() + "/" + image.getFormat()).distinct();
+    if (jpegVariants.size() != ImageSize.values().length
+        || !EnumSet.allOf(ImageSize.class).equals(EnumSet.copyOf(jpegVariants))
+        || distinctRenditions.count() != images.size()) {
       throw new IllegalArgumentException(
           "Replacement must contain exactly one of every image variant");
     }
@@ -204,7 +256,7 @@ public class ImageService {
 
   private void scheduleSupersededFileCleanup(List<Path> existingFiles) {
     if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-      deleteFiles(existingFiles);
+      deleteSupersededFiles(existingFiles);
       return;
     }
 
@@ -212,15 +264,94 @@ public class ImageService {
         new TransactionSynchronization() {
           @Override
           public void afterCommit() {
-            deleteFiles(existingFiles);
+            deleteSupersededFiles(existingFiles);
           }
         });
   }
 
+  private void deleteSupersededFiles(List<Path> existingFiles) {
+    var supersededIds =
+        storedImages.asMap().values().stream()
+            .filter(image -> existingFiles.contains(image.file()))
+            .map(StoredImage::id)
+            .collect(Collectors.toSet());
+    invalidateStoredImages(supersededIds);
+    deleteFiles(existingFiles);
+  }
+
   public Optional<Image> findById(UUID imageId) {
     return imageRepository.findById(imageId);
   }
 
+  public Optional<StoredImage> findStoredImage(UUID imageId) {
+    var cached = storedImages.getIfPresent(imageId);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    var stored = imageRepository.findById(imageId).map(this::toStoredImage);
+    stored.ifPresent(image -> storedImages.put(imageId, image));
+    return stored;
+  }
+
+  /**
+   * The same artwork and size as {@code imageId}, in {@code format} when a sibling row was stored
+   * in it; otherwise the requested image itself.
+   */
+  public Optional<StoredImage> findStoredImage(UUID imageId, ImageFormat format) {
+    var requested = findStoredImage(imageId);
+    if (requested.isEmpty() || requested.get().format() == format) {
+      return requested;
+    }
+
+    var representation = new Representation(imageId, format);
+    var siblingId = representations.getIfPresent(representation);
+    if (siblingId == null) {
+      siblingId = findSiblingId(imageId, format);
+      // Like row misses, a missing sibling is not remembered: it may be stored by a later refresh.
+      if (!siblingId.equals(imageId)) {
+        representations.put(representation, siblingId);
+      }
+    }
+    return findStoredImage(siblingId).or(() -> requested);
+  }
+
+  private UUID findSiblingId(UUID imageId, ImageFormat format) {
+    return imageRepository
+        .findById(imageId)
+        .flatMap(
+            image ->
+                imageRepository
+                    .findByEntityIdAndEntityTypeAndImageType(
+                        image.getEntityId(), image.getEntityType(), image.getImageType())
+                    .stream()
+                    .filter(sibling -> sibling.getVariant() == image.getVariant())
+                    .filter(sibling -> sibling.getFormat() == format)
+                    .map(Image::getId)
+                    .findFirst())
+        .orElse(imageId);
+  }
+
+  /** Sizes the file on first serve and remembers it; later serves skip the filesystem stat. */
+  public StoredImage sizeStoredImage(StoredImage image) throws IOException {
+    if (image.contentLength() >= 0) {
+      return image;
+    }
+
+    var sized = image.withContentLength(Files.size(image.file()));
+    storedImages.asMap().replace(image.id(), image, sized);
+    return sized;
+  }
+
+  private StoredImage toStoredImage(Image image) {
+    return new StoredImage(
+        image.getId(),
+        image.getFormat(),
+        resolveAbsolutePath(image.getPath()),
+        MediaType.parseMediaType(image.getFormat().mimeType()),
+        -1);
+  }
+
   public List<Image> findByEntity(UUID entityId, ImageEntityType entityType) {
     return imageRepository.findByEntityIdAndEntityType(entityId, entityType);
   }
@@ -239,6 +370,33 @@ public class ImageService {
     }
 
     imageRepository.deleteByEntityIdAndEntityType(entityId, entityType);
+    forgetStoredImages(images.stream().map(Image::getId).toList());
+  }
+
+  private void forgetStoredImages(List<UUID> imageIds) {
+    invalidateStoredImages(imageIds);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+
+    // A concurrent lookup may re-read the rows before this transaction commits.
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            invalidateStoredImages(imageIds);
+          }
+        });
+  }
+
+  private void invalidateStoredImages(Collection<UUID> imageIds) {
+    storedImages.invalidateAll(imageIds);
+    representations
+        .asMap()
+        .entrySet()
+        .removeIf(
+            entry ->
+                imageIds.contains(entry.getKey().imageId()) || imageIds.contains(entry.getValue()));
   }
 
   private String buildRelativePath(
@@ -246,13 +404,14 @@ public class ImageService {
       UUID entityId,
       ImageType imageType,
       ImageSize variant,
+      ImageFormat format,
       UUID imageId) {
     return String.join(
         "/",
         entityType.name().toLowerCase(),
         entityId.toString(),
         imageType.name().toLowerCase(),
-        variant.name().toLowerCase() + "-" + imageId + ".jpg");
+        variant.name().toLowerCase() + "-" + imageId + "." + format.extension());
   }
 
   private Path resolveAbsolutePath(String relativePath) {
@@ -6,10 +6,11 @@ import com.streamarr.server.repositories.PersonRepository;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
 import com.streamarr.server.services.metadata.events.ImageSource;
 import com.streamarr.server.services.metadata.events.MetadataEnrichedEvent;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -45,38 +46,32 @@ public class PersonService {
     }
 
     persons.forEach(PersonService::requireSourceId);
+    if (persons.isEmpty()) {
+      return List.of();
+    }
 
-    var savedBySourceId = new HashMap<String, Person>();
-    persons.stream()
-        .sorted(Comparator.comparing(Person::getSourceId))
-        .forEach(
-            person ->
-                savedBySourceId.put(
-                    person.getSourceId(),
-                    findOrCreatePerson(person, imageSourcesBySourceId, imageRefreshMode)));
-
-    return persons.stream().map(person -> savedBySourceId.get(person.getSourceId())).toList();
-  }
+    var namesBySourceId = new TreeMap<String, String>();
+    persons.forEach(person -> namesBySourceId.put(person.getSourceId(), person.getName()));
+    personRepository.insertAllIfAbsent(namesBySourceId);
 
-  private Person findOrCreatePerson(
-      Person person,
-      Map<String, List<ImageSource>> imageSourcesBySourceId,
-      ImageRefreshMode imageRefreshMode) {
-    var imageSources = imageSourcesBySourceId.getOrDefault(person.getSourceId(), List.of());
+    var savedBySourceId =
+        personRepository.findPersonsBySourceIdIn(List.copyOf(namesBySourceId.keySet())).stream()
+            .collect(Collectors.toMap(Person::getSourceId, Function.identity()));
 
-    personRepository.insertIfAbsent(person.getSourceId(), person.getName());
-    var saved =
-        personRepository
-            .findPersonBySourceId(person.getSourceId())
-            .orElseThrow(
-                () ->
-                    new IllegalStateException(
-                        "Person not found after upsert for sourceId: " + person.getSourceId()));
+    namesBySourceId.forEach(
+        (sourceId, name) -> {
+          var saved = savedBySourceId.get(sourceId);
+          if (saved == null) {
+            throw new IllegalStateException(
+                "Person not found after upsert for sourceId: " + sourceId);
+          }
 
-    saved.setName(person.getName());
+          saved.setName(name);
+          publishImageEvent(
+              saved, imageSourcesBySourceId.getOrDefault(sourceId, List.of()), imageRefreshMode);
+        });
 
-    publishImageEvent(saved, imageSources, imageRefreshMode);
-    return saved;
+    return persons.stream().map(person -> savedBySourceId.get(person.getSourceId())).toList();
   }
 
   private static void requireSourceId(Person person) {
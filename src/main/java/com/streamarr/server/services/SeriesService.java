@@ -29,6 +29,7 @@ import com.streamarr.server.services.pagination.OrderMediaBy;
 import com.streamarr.server.services.pagination.PageItem;
 import com.streamarr.server.services.pagination.PaginationService;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -198,68 +199,68 @@ public class SeriesService {
 
   @Transactional
   public Season refreshSeasonWithEpisodes(Series series, SeasonDetails details, Library library) {
-    return refreshSeasonWithEpisodesInternal(series, details, library, ImageRefreshMode.PRESERVE);
+    return refreshSeasonsWithEpisodes(series, List.of(details), library, ImageRefreshMode.PRESERVE)
+        .getFirst();
   }
 
+  /**
+   * Writes the given seasons of {@code series} and all of their episodes in one transaction, as
+   * two batched upserts per table however many seasons and episodes the series has.
+   */
   @Transactional
-  public Season refreshSeasonWithEpisodes(
-      Series series, SeasonDetails details, Library library, ImageRefreshMode imageRefreshMode) {
-    return refreshSeasonWithEpisodesInternal(series, details, library, imageRefreshMode);
-  }
-
-  private Season refreshSeasonWithEpisodesInternal(
-      Series series, SeasonDetails details, Library library, ImageRefreshMode imageRefreshMode) {
-    var season =
-        seasonRepository
-            .findBySeriesIdAndSeasonNumber(series.getId(), details.seasonNumber())
-            .orElseGet(() -> Season.builder().series(series).library(library).build());
-
-    season.setTitle(details.name());
-    season.setSeasonNumber(details.seasonNumber());
-    season.setOverview(details.overview());
-    season.setAirDate(details.airDate());
-
-    var savedSeason = seasonRepository.saveAndFlush(season);
-    publishImageEvent(
-        savedSeason.getId(), ImageEntityType.SEASON, details.imageSources(), imageRefreshMode);
-
-    var episodes =
-        details.episodes().stream()
-            .map(
-                epDetails -> {
-                  var episode =
-                      episodeRepository
-                          .findBySeasonIdAndEpisodeNumber(
-                              savedSeason.getId(), epDetails.episodeNumber())
-                          .orElseGet(
-                              () -> Episode.builder().season(savedSeason).library(library).build());
-
-                  episode.setTitle(epDetails.name());
-                  episode.setEpisodeNumber(epDetails.episodeNumber());
-                  episode.setOverview(epDetails.overview());
-                  episode.setAirDate(epDetails.airDate());
-                  episode.setRuntime(epDetails.runtime());
-
-                  return episode;
-                })
-            .toList();
-
-    var savedEpisodes = episodeRepository.saveAllAndFlush(episodes);
+  public List<Season> refreshSeasonsWithEpisodes(
+      Series series,
+      List<SeasonDetails> seasonDetails,
+      Library library,
+      ImageRefreshMode imageRefreshMode) {
+    var seasons =
+        seasonRepository.upsertAllBySeasonNumber(
+            seasonDetails.stream()
+                .map(
+                    details ->
+                        Season.builder()
+                            .title(details.name())
+                            .seasonNumber(details.seasonNumber())
+                            .overview(details.overview())
+                            .airDate(details.airDate())
+                            .series(series)
+                            .library(library)
+                            .build())
+                .toList());
+
+    var episodes = new ArrayList<Episode>();
+    var episodeDetails = new ArrayList<SeasonDetails.EpisodeDetails>();
+    for (int i = 0; i < seasons.size(); i++) {
+      var season = seasons.get(i);
+      var details = seasonDetails.get(i);
+      publishImageEvent(
+          season.getId(), ImageEntityType.SEASON, details.imageSources(), imageRefreshMode);
+
+      for (var epDetails : details.episodes()) {
+        episodeDetails.add(epDetails);
+        episodes.add(
+            Episode.builder()
+                .title(epDetails.name())
+                .episodeNumber(epDetails.episodeNumber())
+                .overview(epDetails.overview())
+                .airDate(epDetails.airDate())
+                .runtime(epDetails.runtime())
+                .season(season)
+                .library(library)
+                .build());
+      }
+    }
 
-    for (var episode : savedEpisodes) {
-      details.episodes().stream()
-          .filter(ed -> ed.episodeNumber() == episode.getEpisodeNumber())
-          .findFirst()
-          .ifPresent(
-              ed ->
-                  publishImageEvent(
-                      episode.getId(),
-                      ImageEntityType.EPISODE,
-                      ed.imageSources(),
-                      imageRefreshMode));
+    var savedEpisodes = episodeRepository.upsertAllByEpisodeNumber(episodes);
+    for (int i = 0; i < savedEpisodes.size(); i++) {
+      publishImageEvent(
+          savedEpisodes.get(i).getId(),
+          ImageEntityType.EPISODE,
+          episodeDetails.get(i).imageSources(),
+          imageRefreshMode);
     }
 
-    return savedSeason;
+    return seasons;
   }
 
   @Transactional
@@ -19,7 +19,9 @@ public class CredentialGuessThrottle {
   private final SlidingWindowAttemptBudget<UUID> budget;
 
   public CredentialGuessThrottle(AuthThrottleProperties properties, Clock clock) {
-    budget = new SlidingWindowAttemptBudget<>(properties.maxAttempts(), properties.window(), clock);
+    budget =
+        new SlidingWindowAttemptBudget<>(
+            properties.maxAttempts(), properties.window(), properties.maxTrackedKeys(), clock);
   }
 
   public void registerAccountPasswordAttempt(UUID accountId) {
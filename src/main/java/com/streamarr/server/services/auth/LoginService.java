@@ -2,6 +2,7 @@ package com.streamarr.server.services.auth;
 
 import com.streamarr.server.domain.auth.UserAccount;
 import com.streamarr.server.exceptions.InvalidCredentialsException;
+import com.streamarr.server.exceptions.PasswordHashingBusyException;
 import com.streamarr.server.repositories.auth.UserAccountRepository;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -76,6 +77,13 @@ public class LoginService {
       return Optional.empty();
     }
 
-    return Optional.of(passwordEncoder.encode(rawPassword));
+    try {
+      return Optional.of(passwordEncoder.encode(rawPassword));
+    } catch (PasswordHashingBusyException _) {
+      // The password is already verified; refusing now would answer a correct password
+      // differently from a wrong one. Keep the old hash and upgrade on a later login.
+      log.info("Skipped password hash upgrade for account {}: hashing busy.", account.getId());
+      return Optional.empty();
+    }
   }
 }
@@ -3,13 +3,7 @@ package com.streamarr.server.services.auth;
 import com.streamarr.server.config.security.AuthThrottleProperties;
 import com.streamarr.server.exceptions.TooManyLoginAttemptsException;
 import java.time.Clock;
-import java.time.Instant;
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.Locale;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -28,27 +22,33 @@ import org.springframework.stereotype.Component;
  * <p>Restart resets the counters and N instances multiply the attempt budget by N — the same
  * single-JVM posture as MutexFactory; database-backed throttling is the fast-follow if
  * multi-instance deployment materialises.
+ *
+ * <p>Each dimension is a fixed-memory {@link SlidingWindowAttemptBudget} capped at {@code
+ * auth.throttle.max-tracked-keys}, so a spray of distinct emails or sources cannot grow the heap
+ * between sweeps.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class LoginThrottle {
 
-  private final AuthThrottleProperties properties;
-  private final Clock clock;
+  private final SlidingWindowAttemptBudget<String> emails;
+  private final SlidingWindowAttemptBudget<String> sources;
 
-  private final ConcurrentHashMap<String, Deque<Instant>> attempts = new ConcurrentHashMap<>();
+  public LoginThrottle(AuthThrottleProperties properties, Clock clock) {
+    emails = budget(properties, clock);
+    sources = budget(properties, clock);
+  }
 
   /** Reserves one email slot or throws; source exhaustion only raises the alerting signal. */
   public void registerAttempt(String email, String source) {
     var emailKey = emailKey(email);
     var sourceKey = sourceKey(source);
 
-    if (!reserve(emailKey)) {
+    if (emailKey != null && !emails.reserve(emailKey)) {
       log.warn("Login throttled: attempt budget exhausted for {}", emailKey);
       throw new TooManyLoginAttemptsException();
     }
-    if (!reserve(sourceKey)) {
+    if (sourceKey != null && !sources.reserve(sourceKey)) {
       log.warn(
           "Login pressure: source attempt budget exhausted for {} — attempts continue; the"
               + " per-account budget remains the hard limit",
@@ -62,85 +62,29 @@ public class LoginThrottle {
    * accumulated failures against other accounts.
    */
   public void reset(String email, String source) {
-    removeKey(emailKey(email));
-    release(sourceKey(source));
-  }
-
-  /**
-   * Drops entries whose attempts all fell out of the window. Without this, unique sprayed keys
-   * would accumulate forever — they are never touched again, so per-touch pruning cannot reach
-   * them. Returns the number of evicted entries for observability.
-   */
-  public int sweepExpired() {
-    var evicted = 0;
-    for (var key : attempts.keySet()) {
-      var remaining = attempts.computeIfPresent(key, (_, timestamps) -> pruned(timestamps));
-      if (remaining == null) {
-        evicted++;
-      }
+    var emailKey = emailKey(email);
+    if (emailKey != null) {
+      emails.reset(emailKey);
     }
-    return evicted;
-  }
-
-  private boolean reserve(String key) {
-    if (key == null) {
-      return true;
+    var sourceKey = sourceKey(source);
+    if (sourceKey != null) {
+      sources.release(sourceKey);
     }
-
-    var reserved = new AtomicBoolean();
-    attempts.compute(
-        key,
-        (_, timestamps) -> {
-          var current = timestamps == null ? new ArrayDeque<Instant>() : timestamps;
-          prune(current);
-          if (current.size() < properties.maxAttempts()) {
-            current.addLast(clock.instant());
-            reserved.set(true);
-          }
-          // Never empty here: blocked means at least maxAttempts entries, reserved means one
-          // was just added.
-          return current;
-        });
-    return reserved.get();
   }
 
   /**
-   * Returns one reserved slot. Timestamps within the window are fungible — the deque is an expiring
-   * counter, not a set of identified reservations — so removing the newest entry on behalf of an
-   * older reservation keeps the observable budget (count per window) exactly right under any
-   * interleaving; only the retained entry's expiry shifts, by the microseconds between the
-   * concurrent appends.
+   * Drops entries whose attempts all fell out of the window. The key cap already bounds memory;
+   * sweeping returns it once a spray subsides rather than holding it until the cap is reached.
+   * Returns the number of evicted entries for observability.
    */
-  private void release(String key) {
-    if (key == null) {
-      return;
-    }
-
-    attempts.computeIfPresent(
-        key,
-        (_, timestamps) -> {
-          timestamps.pollLast();
-          return timestamps.isEmpty() ? null : timestamps;
-        });
-  }
-
-  private void removeKey(String key) {
-    if (key == null) {
-      return;
-    }
-    attempts.remove(key);
-  }
-
-  private Deque<Instant> pruned(Deque<Instant> timestamps) {
-    prune(timestamps);
-    return timestamps.isEmpty() ? null : timestamps;
+  public int sweepExpired() {
+    return emails.sweepExpired() + sources.sweepExpired();
   }
 
-  private void prune(Deque<Instant> timestamps) {
-    var cutoff = clock.instant().minus(properties.window());
-    while (!timestamps.isEmpty() && timestamps.peekFirst().isBefore(cutoff)) {
-      timestamps.pollFirst();
-    }
+  private static SlidingWindowAttemptBudget<String> budget(
+      AuthThrottleProperties properties, Clock clock) {
+    return new SlidingWindowAttemptBudget<>(
+        properties.maxAttempts(), properties.window(), properties.maxTrackedKeys(), clock);
   }
 
   private static String emailKey(String email) {
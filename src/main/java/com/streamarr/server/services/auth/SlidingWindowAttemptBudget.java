@@ -2,72 +2,128 @@ package com.streamarr.server.services.auth;
 
 import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * An in-memory sliding-window attempt counter per key. {@link #reserve} takes a slot atomically
  * before any expensive work so a concurrent burst cannot overrun the budget; a blocked attempt
  * reserves nothing, so hostile traffic cannot extend a lockout. Single-JVM, like {@link
  * LoginThrottle}.
+ *
+ * <p>Memory is fixed: each key holds one ring of {@code maximumAttempts} primitive timestamps, and
+ * at most {@code maximumKeys} keys are tracked — past that the least recently touched key is
+ * forgotten. Evicting a live key restores its budget early, so the cap is sized well above the
+ * keys a window normally sees; pushing out a particular key takes that many fresh keys, each paid
+ * for with a login attempt. Every operation holds the monitor for a few array writes; callers are
+ * about to spend milliseconds on Argon2, so the lock is never the bottleneck.
  */
 final class SlidingWindowAttemptBudget<K> {
 
   private final int maximumAttempts;
-  private final Duration window;
+  private final long windowMillis;
   private final Clock clock;
-  private final ConcurrentHashMap<K, Deque<Instant>> attempts = new ConcurrentHashMap<>();
+  private final LinkedHashMap<K, AttemptRing> attempts;
 
-  SlidingWindowAttemptBudget(int maximumAttempts, Duration window, Clock clock) {
+  SlidingWindowAttemptBudget(int maximumAttempts, Duration window, int maximumKeys, Clock clock) {
     this.maximumAttempts = maximumAttempts;
-    this.window = window;
+    this.windowMillis = window.toMillis();
     this.clock = clock;
+    this.attempts =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, AttemptRing> eldest) {
+            return size() > maximumKeys;
+          }
+        };
   }
 
-  boolean reserve(K key) {
-    var reserved = new AtomicBoolean();
-    attempts.compute(
-        key,
-        (_, timestamps) -> {
-          var current = timestamps == null ? new ArrayDeque<Instant>() : timestamps;
-          prune(current);
-          if (current.size() < maximumAttempts) {
-            current.addLast(clock.instant());
-            reserved.set(true);
-          }
-          return current;
-        });
-    return reserved.get();
+  synchronized boolean reserve(K key) {
+    var now = clock.millis();
+    var ring = attempts.get(key);
+    if (ring == null) {
+      ring = new AttemptRing(maximumAttempts);
+      attempts.put(key, ring);
+    }
+    ring.prune(now - windowMillis);
+    return ring.tryAdd(now);
+  }
+
+  /**
+   * Returns one reserved slot. Timestamps within the window are fungible — the ring is an expiring
+   * counter, not a set of identified reservations — so dropping the newest entry on behalf of an
+   * older reservation keeps the count per window exactly right; only the retained entry's expiry
+   * shifts, by the time between the two reservations.
+   */
+  synchronized void release(K key) {
+    var ring = attempts.get(key);
+    if (ring == null) {
+      return;
+    }
+    ring.removeNewest();
+    if (ring.isEmpty()) {
+      attempts.remove(key);
+    }
   }
 
-  void reset(K key) {
+  synchronized void reset(K key) {
     attempts.remove(key);
   }
 
   /** Evicts keys whose attempts all fell out of the window; returns how many were evicted. */
-  int sweepExpired() {
+  synchronized int sweepExpired() {
+    var cutoff = clock.millis() - windowMillis;
     var evicted = 0;
-    for (var key : attempts.keySet()) {
-      var remaining = attempts.computeIfPresent(key, (_, timestamps) -> pruned(timestamps));
-      if (remaining == null) {
+    var entries = attempts.values().iterator();
+    while (entries.hasNext()) {
+      var ring = entries.next();
+      ring.prune(cutoff);
+      if (ring.isEmpty()) {
+        entries.remove();
         evicted++;
       }
     }
     return evicted;
   }
 
-  private Deque<Instant> pruned(Deque<Instant> timestamps) {
-    prune(timestamps);
-    return timestamps.isEmpty() ? null : timestamps;
+  synchronized int trackedKeys() {
+    return attempts.size();
   }
 
-  private void prune(Deque<Instant> timestamps) {
-    var cutoff = clock.instant().minus(window);
-    while (!timestamps.isEmpty() && timestamps.peekFirst().isBefore(cutoff)) {
-      timestamps.pollFirst();
+  /** Attempt times in epoch millis, oldest first, in a fixed array used as a ring. */
+  private static final class AttemptRing {
+
+    private final long[] times;
+    private int head;
+    private int size;
+
+    private AttemptRing(int capacity) {
+      times = new long[capacity];
+    }
+
+    /** Drops attempts strictly older than the cutoff; one exactly at the cutoff still counts. */
+    private void prune(long cutoff) {
+      while (size > 0 && times[head] < cutoff) {
+        head = (head + 1) % times.length;
+        size--;
+      }
+    }
+
+    private boolean tryAdd(long time) {
+      if (size == times.length) {
+        return false;
+      }
+      times[(head + size) % times.length] = time;
+      size++;
+      return true;
+    }
+
+    private void removeNewest() {
+      size--;
+    }
+
+    private boolean isEmpty() {
+      return size == 0;
     }
   }
 }
@@ -17,8 +17,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -26,10 +26,14 @@ import org.springframework.stereotype.Component;
  * before evaluation, any evaluation diagnostic fails closed even when Cedar also reports allow, and
  * every exception fails closed with an ERROR log and a {@code streamarr.authorization.fail_closed}
  * count by cause. Diagnostics stay here; callers see only the {@link Decision}.
+ *
+ * <p>Two opt-outs trade work for nothing the answer depends on: a decision repeated inside one
+ * transaction is answered from {@link TransactionDecisionMemo}, and with {@code
+ * auth.authorization.validate-trusted-slices=false} a slice built only by schema-conforming
+ * contributors skips entity validation. The request itself is always validated.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 class CedarAuthorizationDecider implements AuthorizationDecider {
 
   static final String FAIL_CLOSED_METRIC = "streamarr.authorization.fail_closed";
@@ -38,9 +42,29 @@ class CedarAuthorizationDecider implements AuthorizationDecider {
   private final CedarPolicyBundle bundle;
   private final SliceAssembler sliceAssembler;
   private final MeterRegistry meterRegistry;
+  private final boolean validateTrustedSlices;
+
+  private final TransactionDecisionMemo memo = new TransactionDecisionMemo();
+
+  CedarAuthorizationDecider(
+      AuthorizationEngine engine,
+      CedarPolicyBundle bundle,
+      SliceAssembler sliceAssembler,
+      MeterRegistry meterRegistry,
+      @Value("${auth.authorization.validate-trusted-slices:true}") boolean validateTrustedSlices) {
+    this.engine = engine;
+    this.bundle = bundle;
+    this.sliceAssembler = sliceAssembler;
+    this.meterRegistry = meterRegistry;
+    this.validateTrustedSlices = validateTrustedSlices;
+  }
 
   @Override
   public <T> Decision<T> decide(AuthenticatedIdentity identity, Intent<T> intent) {
+    return memo.decide(identity, intent, () -> evaluate(identity, intent));
+  }
+
+  private <T> Decision<T> evaluate(AuthenticatedIdentity identity, Intent<T> intent) {
     var authorizationContext = "unplanned intent";
     try {
       var plan = IntentPlanner.plan(intent);
@@ -48,7 +72,10 @@ class CedarAuthorizationDecider implements AuthorizationDecider {
       authorizationContext = check.action().toString();
       var slice = sliceAssembler.assemble(identity, check);
       var entities = slice.entities();
-      var sliceViolation = sliceViolation(entities);
+      var sliceViolation =
+          validateTrustedSlices || slice.requiresValidation()
+              ? sliceViolation(entities)
+              : Optional.<String>empty();
       if (sliceViolation.isPresent()) {
         return failClosed(FailureCause.INVALID_SLICE, check, sliceViolation.get());
       }
@@ -16,6 +16,7 @@ final class EntitySlice {
   private final EntityUID principal;
   private final EntityUID resource;
   private final Map<String, Value> principalAttributes = new LinkedHashMap<>();
+  private boolean requiresValidation;
 
   EntitySlice(EntityUID principal, EntityUID resource) {
     this.principal = principal;
@@ -26,6 +27,15 @@ final class EntitySlice {
     principalAttributes.put(name, value);
   }
 
+  /** Marks the slice as carrying facts no schema-conformance claim covers. */
+  void requireValidation() {
+    requiresValidation = true;
+  }
+
+  boolean requiresValidation() {
+    return requiresValidation;
+  }
+
   EntityUID principal() {
     return principal;
   }
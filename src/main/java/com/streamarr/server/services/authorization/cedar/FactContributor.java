@@ -8,4 +8,13 @@ interface FactContributor {
   FactRequirement provides();
 
   void contribute(AuthenticatedIdentity identity, EntitySlice slice);
+
+  /**
+   * True only when every attribute this contributor writes is declared by the schema with the type
+   * it writes, so its slices may skip per-call entity validation when the operator opts in. A test
+   * must prove the claim against the shipped schema.
+   */
+  default boolean schemaConforming() {
+    return false;
+  }
 }
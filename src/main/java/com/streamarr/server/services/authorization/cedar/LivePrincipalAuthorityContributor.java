@@ -25,6 +25,11 @@ class LivePrincipalAuthorityContributor implements FactContributor {
     return FactRequirement.LIVE_PRINCIPAL_AUTHORITY;
   }
 
+  @Override
+  public boolean schemaConforming() {
+    return true;
+  }
+
   @Override
   public void contribute(AuthenticatedIdentity identity, EntitySlice slice) {
     userAccountRepository
@@ -45,7 +45,11 @@ class SliceAssembler {
   EntitySlice assemble(AuthenticatedIdentity identity, AuthorizationCheck check) {
     var slice = new EntitySlice(CedarIds.account(identity.accountId()), check.resource());
     for (var requirement : check.action().facts()) {
-      contributors.get(requirement).contribute(identity, slice);
+      var contributor = contributors.get(requirement);
+      contributor.contribute(identity, slice);
+      if (!contributor.schemaConforming()) {
+        slice.requireValidation();
+      }
     }
     return slice;
   }
@@ -0,0 +1,67 @@
+package com.streamarr.server.services.authorization.cedar;
+
+import com.streamarr.server.services.auth.AuthenticatedIdentity;
+import com.streamarr.server.services.authorization.Decision;
+import com.streamarr.server.services.authorization.Intent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Decisions already made inside the current transaction. The live facts are read {@code FOR
+ * SHARE}, so once one decision has read them no other transaction can change them before this one
+ * ends; repeating the identical check can only reproduce the same answer. Outside a transaction
+ * nothing holds the row, so every call decides afresh — the facts are never cached across
+ * transactions.
+ *
+ * <p>{@code Failed} is not remembered: it describes the attempt, not the authority.
+ */
+final class TransactionDecisionMemo {
+
+  private final Object resourceKey = new Object();
+
+  <T> Decision<T> decide(
+      AuthenticatedIdentity identity, Intent<T> intent, Supplier<Decision<T>> decision) {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()
+        || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return decision.get();
+    }
+
+    var decisions = transactionDecisions();
+    var key = new Key(identity, intent);
+    @SuppressWarnings("unchecked")
+    var remembered = (Decision<T>) decisions.get(key);
+    if (remembered != null) {
+      return remembered;
+    }
+
+    var decided = decision.get();
+    if (!(decided instanceof Decision.Failed<T>)) {
+      decisions.put(key, decided);
+    }
+    return decided;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<Key, Decision<?>> transactionDecisions() {
+    var bound = (Map<Key, Decision<?>>) TransactionSynchronizationManager.getResource(resourceKey);
+    if (bound != null) {
+      return bound;
+    }
+
+    var decisions = new HashMap<Key, Decision<?>>();
+    TransactionSynchronizationManager.bindResource(resourceKey, decisions);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+          }
+        });
+    return decisions;
+  }
+
+  private record Key(AuthenticatedIdentity identity, Intent<?> intent) {}
+}
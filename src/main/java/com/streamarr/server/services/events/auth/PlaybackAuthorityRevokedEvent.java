@@ -0,0 +1,19 @@
+package com.streamarr.server.services.events.auth;
+
+import java.util.UUID;
+
+/**
+ * A committed write that can withdraw live playback authority: either one authorization session
+ * (revocation, selection change) or every session of an account (membership or profile-grant
+ * loss). Exactly one of the two ids is set.
+ */
+public record PlaybackAuthorityRevokedEvent(UUID authSessionId, UUID accountId) {
+
+  public static PlaybackAuthorityRevokedEvent forSession(UUID authSessionId) {
+    return new PlaybackAuthorityRevokedEvent(authSessionId, null);
+  }
+
+  public static PlaybackAuthorityRevokedEvent forAccount(UUID accountId) {
+    return new PlaybackAuthorityRevokedEvent(null, accountId);
+  }
+}
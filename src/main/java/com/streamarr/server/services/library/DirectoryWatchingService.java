@@ -2,19 +2,30 @@ package com.streamarr.server.services.library;
 
 import com.streamarr.server.domain.Library;
 import com.streamarr.server.repositories.LibraryRepository;
+import com.streamarr.server.repositories.media.MediaFileRepository;
 import com.streamarr.server.services.events.library.LibraryRemovedEvent;
 import com.streamarr.server.services.filepath.FilepathCodec;
 import com.streamarr.server.services.task.FileProcessingTaskCoordinator;
 import com.streamarr.server.services.validation.IgnoredFileValidator;
+import io.methvin.watcher.DirectoryChangeEvent;
 import io.methvin.watcher.DirectoryWatcher;
-import io.methvin.watcher.hashing.FileHasher;
+import io.methvin.watcher.visitor.DefaultFileTreeVisitor;
+import io.methvin.watcher.visitor.FileTreeVisitor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.annotation.DependsOn;
@@ -22,100 +33,128 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * Keeps one watcher per library directory, so adding or removing a library registers or closes
+ * only that library's watcher while the others keep reporting. Registration walks the library once
+ * and reuses the scan's media file index instead of hashing files the scan already knows.
+ */
 @Slf4j
 @Service
 @DependsOn("libraryRepository")
 public class DirectoryWatchingService implements InitializingBean, LibraryWatchTrigger {
 
+  static final String DIRECTORIES_METRIC = "streamarr.library.watcher.directories";
+  static final String REGISTRATION_METRIC = "streamarr.library.watcher.registration";
+  static final String PENDING_FILES_METRIC = "streamarr.library.watcher.pending.files";
+
+  // Each watcher blocks its event loop on the OS watch service; virtual threads keep that off the
+  // common pool no matter how many libraries there are.
+  private static final Executor EVENT_LOOPS =
+      command -> Thread.ofVirtual().name("library-watcher").start(command);
+
+  private record LibraryWatch(DirectoryWatcher watcher, AtomicInteger directories) {}
+
   private final LibraryRepository libraryRepository;
+  private final MediaFileRepository mediaFileRepository;
   private final FileEventProcessor fileEventProcessor;
+  private final Timer registration;
 
-  private final Set<Path> directoriesToWatch = new HashSet<>();
-  private DirectoryWatcher watcher;
+  private final Map<Path, LibraryWatch> watches = new ConcurrentHashMap<>();
+  private final ReentrantLock registrationLock = new ReentrantLock();
 
   public DirectoryWatchingService(
       LibraryRepository libraryRepository,
-      FileStabilityChecker fileStabilityChecker,
+      MediaFileRepository mediaFileRepository,
+      FileStabilityTracker stabilityTracker,
       LibraryManagementService libraryManagementService,
       IgnoredFileValidator ignoredFileValidator,
-      FileProcessingTaskCoordinator taskCoordinator) {
+      FileProcessingTaskCoordinator taskCoordinator,
+      MeterRegistry meterRegistry) {
     this.libraryRepository = libraryRepository;
+    this.mediaFileRepository = mediaFileRepository;
     this.fileEventProcessor =
         new FileEventProcessor(
-            fileStabilityChecker, libraryManagementService, ignoredFileValidator, taskCoordinator);
+            stabilityTracker,
+            mediaFileRepository,
+            libraryManagementService,
+            ignoredFileValidator,
+            taskCoordinator);
+    this.registration = Timer.builder(REGISTRATION_METRIC).register(meterRegistry);
+    Gauge.builder(DIRECTORIES_METRIC, watches, DirectoryWatchingService::registeredDirectories)
+        .register(meterRegistry);
+    Gauge.builder(PENDING_FILES_METRIC, stabilityTracker, FileStabilityTracker::pendingFiles)
+        .register(meterRegistry);
   }
 
   public void setup(List<Library> libraries) throws IOException {
-    if (directoriesToWatch.isEmpty()) {
+    if (libraries.isEmpty()) {
       log.debug("No directories configured for watching, skipping setup.");
       return;
     }
 
     fileEventProcessor.reset(libraries);
 
-    this.watcher =
-        DirectoryWatcher.builder()
-            .paths(directoriesToWatch.stream().toList())
-            .listener(event -> fileEventProcessor.handleFileEvent(event.eventType(), event.path()))
-            .fileHasher(FileHasher.LAST_MODIFIED_TIME)
-            .build();
-
-    watch();
+    for (var library : libraries) {
+      try {
+        register(FilepathCodec.decode(library.getFilepathUri()), Optional.of(library));
+      } catch (IOException e) {
+        log.error("Failed to start watching directory for library: {}", library.getName(), e);
+      }
+    }
   }
 
   public void addDirectory(Path path) throws IOException {
-    if (watcher == null || watcher.isClosed()) {
-      directoriesToWatch.add(path);
-
-      setup(libraryRepository.findAll());
-
+    if (watches.containsKey(path)) {
       return;
     }
 
-    stopWatching();
-
-    directoriesToWatch.add(path);
+    var libraries = libraryRepository.findAll();
+    fileEventProcessor.track(libraries);
 
-    setup(libraryRepository.findAll());
+    register(path, libraryAt(libraries, path));
   }
 
   public void removeDirectory(Path path) throws IOException {
-    if (directoriesToWatch.isEmpty()) {
-      return;
+    LibraryWatch watch;
+
+    registrationLock.lock();
+    try {
+      watch = watches.remove(path);
+    } finally {
+      registrationLock.unlock();
     }
 
-    if (!directoriesToWatch.contains(path)) {
+    if (watch == null) {
       return;
     }
 
-    stopWatching();
-
-    directoriesToWatch.remove(path);
-
-    if (!directoriesToWatch.isEmpty()) {
-      setup(libraryRepository.findAll());
-    }
+    watch.watcher().close();
+    fileEventProcessor.track(libraryRepository.findAll());
   }
 
   @PreDestroy
   public void stopWatching() throws IOException {
-    if (watcher != null) {
-      watcher.close();
+    registrationLock.lock();
+    try {
+      for (var watch : watches.values()) {
+        watch.watcher().close();
+      }
+      watches.clear();
+    } finally {
+      registrationLock.unlock();
     }
 
     fileEventProcessor.shutdown();
   }
 
-  public CompletableFuture<Void> watch() {
-    return watcher.watchAsync();
+  Set<Path> watchedDirectories() {
+    return Set.copyOf(watches.keySet());
   }
 
   @Override
   public void afterPropertiesSet() {
     var libraries = libraryRepository.findAll();
 
-    libraries.forEach(lib -> directoriesToWatch.add(FilepathCodec.decode(lib.getFilepathUri())));
-
     Thread.startVirtualThread(
         () -> {
           try {
@@ -149,4 +188,82 @@ public class DirectoryWatchingService implements InitializingBean, LibraryWatchT
       log.warn("Failed to stop watching directory: {}", event.filepathUri(), e);
     }
   }
+
+  private void register(Path directory, Optional<Library> library) throws IOException {
+    registrationLock.lock();
+    try {
+      if (watches.containsKey(directory)) {
+        return;
+      }
+
+      var startedAt = System.nanoTime();
+      var hasher = new ScanIndexFileHasher(indexedFiles(library));
+      var directories = new AtomicInteger();
+      var watcher =
+          DirectoryWatcher.builder()
+              .paths(List.of(directory))
+              .listener(
+                  event ->
+                      fileEventProcessor.handleFileEvent(
+                          event.eventType(), eventPath(event, directory)))
+              .fileHasher(hasher)
+              .fileTreeVisitor(countingDirectories(directories))
+              .build();
+
+      // Registration walks the tree before the event loop is handed to the executor.
+      var eventLoop = watcher.watchAsync(EVENT_LOOPS);
+      hasher.discardIndex();
+      if (eventLoop.isCompletedExceptionally()) {
+        watcher.close();
+        throw new IOException("Failed to register " + directory, eventLoop.exceptionNow());
+      }
+
+      watches.put(directory, new LibraryWatch(watcher, directories));
+      var elapsedNanos = System.nanoTime() - startedAt;
+      registration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+      log.info(
+          "Watching {} directories under {} after {} ms.",
+          directories.get(),
+          directory,
+          TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    } finally {
+      registrationLock.unlock();
+    }
+  }
+
+  private List<Path> indexedFiles(Optional<Library> library) {
+    return library
+        .map(lib -> mediaFileRepository.findByLibraryId(lib.getId()))
+        .orElse(List.of())
+        .stream()
+        .map(mediaFile -> FilepathCodec.decode(mediaFile.getFilepathUri()))
+        .toList();
+  }
+
+  // Overflow events need not name a path; the watcher's own root is then the subtree to rescan.
+  private static Path eventPath(DirectoryChangeEvent event, Path directory) {
+    return Optional.ofNullable(event.path()).orElse(directory);
+  }
+
+  private static Optional<Library> libraryAt(List<Library> libraries, Path directory) {
+    return libraries.stream()
+        .filter(library -> FilepathCodec.decode(library.getFilepathUri()).equals(directory))
+        .findFirst();
+  }
+
+  private static FileTreeVisitor countingDirectories(AtomicInteger directories) {
+    var visitor = new DefaultFileTreeVisitor();
+    return (root, onDirectory, onFile) ->
+        visitor.recursiveVisitFiles(
+            root,
+            directory -> {
+              directories.incrementAndGet();
+              onDirectory.call(directory);
+            },
+            onFile);
+  }
+
+  private static int registeredDirectories(Map<Path, LibraryWatch> watches) {
+    return watches.values().stream().mapToInt(watch -> watch.directories().get()).sum();
+  }
 }
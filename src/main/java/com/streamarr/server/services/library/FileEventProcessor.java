@@ -2,13 +2,19 @@ package com.streamarr.server.services.library;
 
 import com.streamarr.server.domain.Library;
 import com.streamarr.server.domain.task.FileProcessingTask;
+import com.streamarr.server.repositories.media.MediaFileRepository;
 import com.streamarr.server.services.filepath.FilepathCodec;
+import com.streamarr.server.services.library.FileStabilityTracker.Failure;
+import com.streamarr.server.services.library.FileStabilityTracker.PendingFile;
+import com.streamarr.server.services.library.FileStabilityTracker.Tick;
+import com.streamarr.server.services.metadata.TmdbRequestPriority;
 import com.streamarr.server.services.task.FileProcessingTaskCoordinator;
 import com.streamarr.server.services.validation.IgnoredFileValidator;
 import io.methvin.watcher.DirectoryChangeEvent;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,7 +22,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,37 +32,49 @@ import lombok.extern.slf4j.Slf4j;
 class FileEventProcessor {
 
   // identity-based cancellation token
-  private record StabilityToken() {}
+  private record ProcessingToken() {}
 
-  private record InFlightTask(Future<?> future, StabilityToken token) {}
+  private record InFlightTask(Future<?> future, ProcessingToken token) {}
 
-  private final FileStabilityChecker fileStabilityChecker;
+  private final FileStabilityTracker stabilityTracker;
   private final LibraryManagementService libraryManagementService;
   private final IgnoredFileValidator ignoredFileValidator;
   private final FileProcessingTaskCoordinator taskCoordinator;
+  private final OverflowRescanner overflowRescanner;
 
-  private final ConcurrentHashMap<Path, InFlightTask> inFlightChecks = new ConcurrentHashMap<>();
+  // Tasks created for files the tracker is still waiting on, keyed until they stabilize.
+  private final ConcurrentHashMap<Path, FileProcessingTask> pendingTasks =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Path, InFlightTask> inFlightProcessing =
+      new ConcurrentHashMap<>();
   private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+  // A tick's tasks must exist before any later tick reports the same files as stable.
+  private final ReentrantLock tickLock = new ReentrantLock();
 
   private ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private ScheduledExecutorService ticker;
   private List<Library> cachedLibraries = List.of();
 
   FileEventProcessor(
-      FileStabilityChecker fileStabilityChecker,
+      FileStabilityTracker stabilityTracker,
+      MediaFileRepository mediaFileRepository,
       LibraryManagementService libraryManagementService,
       IgnoredFileValidator ignoredFileValidator,
       FileProcessingTaskCoordinator taskCoordinator) {
-    this.fileStabilityChecker = fileStabilityChecker;
+    this.stabilityTracker = stabilityTracker;
     this.libraryManagementService = libraryManagementService;
     this.ignoredFileValidator = ignoredFileValidator;
     this.taskCoordinator = taskCoordinator;
+    this.overflowRescanner =
+        new OverflowRescanner(
+            mediaFileRepository, this::handleCreateOrModify, OverflowRescanner.MAX_FILES);
   }
 
   void handleFileEvent(DirectoryChangeEvent.EventType eventType, Path path) {
     switch (eventType) {
       case CREATE, MODIFY -> handleCreateOrModify(path);
       case DELETE -> handleDelete(path);
-      case OVERFLOW -> log.warn("Watcher event buffer overflow, some events may have been lost");
+      case OVERFLOW -> handleOverflow(path);
     }
   }
 
@@ -63,8 +83,27 @@ class FileEventProcessor {
 
     try {
       executor.shutdownNow();
-      inFlightChecks.clear();
+      inFlightProcessing.clear();
+      pendingTasks.clear();
+      stabilityTracker.clear();
+      overflowRescanner.clear();
       executor = Executors.newVirtualThreadPerTaskExecutor();
+      startTicking();
+      cachedLibraries = List.copyOf(libraries);
+    } finally {
+      stateLock.writeLock().unlock();
+    }
+  }
+
+  // Unlike reset, keeps the files already being tracked or processed for other libraries.
+  void track(List<Library> libraries) {
+    stateLock.writeLock().lock();
+
+    try {
+      if (executor.isShutdown()) {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+      }
+      startTicking();
       cachedLibraries = List.copyOf(libraries);
     } finally {
       stateLock.writeLock().unlock();
@@ -75,13 +114,78 @@ class FileEventProcessor {
     stateLock.writeLock().lock();
 
     try {
+      if (ticker != null) {
+        ticker.shutdownNow();
+      }
       executor.shutdownNow();
-      inFlightChecks.clear();
+      inFlightProcessing.clear();
+      pendingTasks.clear();
+      stabilityTracker.clear();
+      overflowRescanner.clear();
     } finally {
       stateLock.writeLock().unlock();
     }
   }
 
+  /**
+   * Advances the stability tracker once: creates the tasks for files that arrived since the last
+   * tick in one batch, hands stabilized files to processing and fails the ones given up on. Also
+   * starts any overflow rescan whose burst has settled. Arrivals whose tasks cannot be created are
+   * tracked again and retried on a later tick.
+   */
+  void tick() {
+    tickLock.lock();
+
+    try {
+      handleTick(stabilityTracker.advance());
+    } finally {
+      tickLock.unlock();
+    }
+  }
+
+  private void handleTick(Tick tick) {
+    stateLock.readLock().lock();
+
+    try {
+      if (executor.isShutdown()) {
+        return;
+      }
+
+      try {
+        createTasks(tick.arrived());
+      } catch (Exception e) {
+        log.error("Failed to create tasks for {} arrived files", tick.arrived().size(), e);
+        retrack(tick.arrived());
+      }
+      tick.failed().forEach(this::failUnstableFile);
+      tick.stabilized().forEach(this::submitStableFile);
+      overflowRescanner.tick(executor);
+    } finally {
+      stateLock.readLock().unlock();
+    }
+  }
+
+  private void startTicking() {
+    if (ticker != null && !ticker.isShutdown()) {
+      return;
+    }
+
+    ticker =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("file-stability-tracker").factory());
+    var period = FileStabilityTracker.TICK.toMillis();
+    ticker.scheduleWithFixedDelay(this::tickSafely, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  // An exception escaping a scheduled run would cancel every later tick.
+  private void tickSafely() {
+    try {
+      tick();
+    } catch (Exception e) {
+      log.error("File stability tick failed", e);
+    }
+  }
+
   private void handleCreateOrModify(Path path) {
     if (Files.isDirectory(path)) {
       log.debug("Ignoring directory: {}", path);
@@ -99,59 +203,119 @@ class FileEventProcessor {
       return;
     }
 
-    try {
-      scheduleStabilityCheck(path, optionalLibraryId.get());
-    } catch (RejectedExecutionException _) {
-      log.warn(
-          "Executor shut down while scheduling stability check for: {}. "
-              + "Any created task will be reclaimed by distributed lease recovery.",
-          path);
+    trackFile(path, optionalLibraryId.get());
+  }
+
+  private void handleOverflow(Path path) {
+    var root = Files.isDirectory(path) ? path : path.getParent();
+    var optionalLibraryId = resolveLibrary(root);
+
+    if (optionalLibraryId.isEmpty()) {
+      log.warn("Watcher event buffer overflow outside any library: {}", path);
+      return;
     }
+
+    log.warn("Watcher event buffer overflow, rescanning {} for missed files", root);
+    overflowRescanner.request(root, optionalLibraryId.get());
   }
 
-  private void scheduleStabilityCheck(Path path, UUID libraryId) {
+  private void trackFile(Path path, UUID libraryId) {
     stateLock.readLock().lock();
 
     try {
-      var token = new StabilityToken();
-      inFlightChecks.compute(
-          path,
-          (key, existing) -> {
-            if (existing != null && !existing.future().isDone()) {
-              log.debug("Stability check already in progress for: {}", path);
-              return existing;
-            }
-            var task = taskCoordinator.createTask(key, libraryId);
-            var future = executor.submit(() -> runStabilityCheckWithCleanup(key, token, task));
-            return new InFlightTask(future, token);
-          });
+      if (executor.isShutdown()) {
+        log.warn("File event processor shut down, not tracking: {}", path);
+        return;
+      }
+
+      var inFlight = inFlightProcessing.get(path);
+      if (inFlight != null && !inFlight.future().isDone()) {
+        log.debug("Processing already in progress for: {}", path);
+        return;
+      }
+
+      if (stabilityTracker.track(path, libraryId)) {
+        log.info("Starting stability check for: {}", path);
+      } else {
+        log.debug("Stability check already in progress for: {}", path);
+      }
     } finally {
       stateLock.readLock().unlock();
     }
   }
 
-  private void runStabilityCheckWithCleanup(
-      Path path, StabilityToken token, FileProcessingTask task) {
+  private void createTasks(List<PendingFile> arrived) {
+    if (arrived.isEmpty()) {
+      return;
+    }
+
+    var libraryIdsByPath = new LinkedHashMap<Path, UUID>();
+    arrived.forEach(file -> libraryIdsByPath.put(file.path(), file.libraryId()));
+
+    taskCoordinator
+        .createTasks(libraryIdsByPath)
+        .forEach(
+            (path, task) -> {
+              pendingTasks.put(path, task);
+              // A delete between the tick and the insert left a task nobody will finish.
+              if (!stabilityTracker.isTracked(path) && pendingTasks.remove(path, task)) {
+                taskCoordinator.cancelTask(path);
+              }
+            });
+  }
+
+  // Tracked again from scratch so the next tick retries the insert; left as they were, the files
+  // would stabilize without a task and be dropped.
+  private void retrack(List<PendingFile> arrived) {
+    for (var file : arrived) {
+      if (!pendingTasks.containsKey(file.path()) && stabilityTracker.cancel(file.path())) {
+        stabilityTracker.track(file.path(), file.libraryId());
+      }
+    }
+  }
+
+  private void failUnstableFile(Failure failure) {
+    var path = failure.file().path();
+    var task = pendingTasks.remove(path);
+
+    if (task == null) {
+      return;
+    }
+
+    log.warn("File did not stabilize: {}", path);
+    var result = taskCoordinator.fail(task.getId(), failure.reason());
+    logIfTaskAlreadyCancelled(result, path);
+  }
+
+  private void submitStableFile(PendingFile file) {
+    var task = pendingTasks.remove(file.path());
+
+    if (task == null) {
+      return;
+    }
+
+    var token = new ProcessingToken();
+    inFlightProcessing.compute(
+        file.path(),
+        (key, existing) ->
+            new InFlightTask(
+                executor.submit(() -> processWithCleanup(key, token, task)), token));
+  }
+
+  private void processWithCleanup(Path path, ProcessingToken token, FileProcessingTask task) {
     try {
       processStableFile(path, task);
     } finally {
-      inFlightChecks.compute(
+      inFlightProcessing.compute(
           path, (k, current) -> current != null && current.token() == token ? null : current);
     }
   }
 
   private void processStableFile(Path path, FileProcessingTask task) {
-    log.info("Starting stability check for: {}", path);
-
-    if (!fileStabilityChecker.waitForStability(path)) {
-      log.warn("File did not stabilize: {}", path);
-      var result = taskCoordinator.fail(task.getId(), "File did not stabilize within timeout");
-      logIfTaskAlreadyCancelled(result, path);
-      return;
-    }
-
     try {
-      libraryManagementService.processDiscoveredFile(task.getLibraryId(), path);
+      // A file someone just dropped in is waited on; it goes ahead of scans and refreshes.
+      TmdbRequestPriority.INTERACTIVE.run(
+          () -> libraryManagementService.processDiscoveredFile(task.getLibraryId(), path));
       var result = taskCoordinator.complete(task.getId());
       logIfTaskAlreadyCancelled(result, path);
     } catch (Exception e) {
@@ -171,11 +335,16 @@ class FileEventProcessor {
   }
 
   private void handleDelete(Path path) {
-    var inFlight = inFlightChecks.remove(path);
+    if (stabilityTracker.cancel(path)) {
+      log.info("Stopped stability check for deleted file: {}", path);
+    }
+    pendingTasks.remove(path);
+
+    var inFlight = inFlightProcessing.remove(path);
 
     if (inFlight != null) {
       cancelInterrupting(inFlight.future());
-      log.info("Cancelled in-flight check for deleted file: {}", path);
+      log.info("Cancelled in-flight processing for deleted file: {}", path);
     }
 
     taskCoordinator.cancelTask(path);
@@ -0,0 +1,303 @@
+package com.streamarr.server.services.library;
+
+import com.streamarr.server.config.LibraryWatcherProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks files waiting to stop growing on a hashed timer wheel. A file is a small entry in the slot
+ * of the tick its next size check is due, so thousands of files copied in at once cost one entry
+ * each rather than one sleeping thread each. Every {@link #advance()} collects the slots that came
+ * due since the last one, checks their sizes in a single pass and reports what arrived, what
+ * stabilized and what gave up.
+ *
+ * <p>A file is stable once its size has not changed for the stabilization period, and is given up
+ * on when it keeps changing past the max wait or can no longer be read.
+ */
+@Slf4j
+public class FileStabilityTracker {
+
+  static final Duration TICK = Duration.ofSeconds(1);
+
+  // Power of two so a tick maps to its slot with a mask; checks due further out than one rotation
+  // stay in their slot until the wheel comes round to their tick.
+  private static final int WHEEL_SIZE = 512;
+  private static final long TICK_MILLIS = TICK.toMillis();
+
+  public record PendingFile(Path path, UUID libraryId) {}
+
+  public record Failure(PendingFile file, String reason) {}
+
+  /**
+   * Files first seen since the previous advance, files that stopped growing, and files given up on.
+   */
+  public record Tick(
+      List<PendingFile> arrived, List<PendingFile> stabilized, List<Failure> failed) {
+
+    public boolean isEmpty() {
+      return arrived.isEmpty() && stabilized.isEmpty() && failed.isEmpty();
+    }
+  }
+
+  private static final class Entry {
+    private final PendingFile file;
+    private final long trackedAt;
+    private long lastSize;
+    private long lastChangeAt;
+    private long dueTick;
+    private boolean cancelled;
+
+    private Entry(PendingFile file, long trackedAt) {
+      this.file = file;
+      this.trackedAt = trackedAt;
+      this.lastChangeAt = trackedAt;
+    }
+  }
+
+  private sealed interface Check permits Check.Continue, Check.Stabilized, Check.Failed {
+    record Continue() implements Check {}
+
+    record Stabilized() implements Check {}
+
+    record Failed(String reason) implements Check {}
+  }
+
+  private final Clock clock;
+  private final long pollTicks;
+  private final long stabilizationMillis;
+  private final long maxWaitMillis;
+
+  private final List<List<Entry>> wheel = new ArrayList<>(WHEEL_SIZE);
+  private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private List<Entry> arrivals = new ArrayList<>();
+  private long currentTick;
+
+  public FileStabilityTracker(Clock clock, LibraryWatcherProperties properties) {
+    this.clock = clock;
+    this.pollTicks =
+        Math.max(1, Math.ceilDiv(properties.pollIntervalSeconds() * 1000L, TICK_MILLIS));
+    this.stabilizationMillis = properties.stabilizationPeriodSeconds() * 1000L;
+    this.maxWaitMillis = properties.maxWaitSeconds() * 1000L;
+    this.currentTick = tickOf(clock.millis());
+
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel.add(new ArrayList<>());
+    }
+  }
+
+  /** Starts tracking a file, or returns false when it is already being tracked. */
+  public boolean track(Path path, UUID libraryId) {
+    lock.lock();
+    try {
+      if (entries.containsKey(path)) {
+        return false;
+      }
+
+      var entry = new Entry(new PendingFile(path, libraryId), clock.millis());
+      entries.put(path, entry);
+      arrivals.add(entry);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Stops tracking a file; it will not be reported by any later advance. */
+  public boolean cancel(Path path) {
+    lock.lock();
+    try {
+      var entry = entries.remove(path);
+      if (entry == null) {
+        return false;
+      }
+
+      entry.cancelled = true;
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public boolean isTracked(Path path) {
+    return entries.containsKey(path);
+  }
+
+  public int pendingFiles() {
+    return entries.size();
+  }
+
+  /** Drops every tracked file, as after a shutdown or a full reset of the watched libraries. */
+  public void clear() {
+    lock.lock();
+    try {
+      entries.values().forEach(entry -> entry.cancelled = true);
+      entries.clear();
+      arrivals = new ArrayList<>();
+      wheel.forEach(List::clear);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Moves the wheel up to the current time. Size checks happen outside the lock, so files can be
+   * tracked and cancelled while a slow filesystem is being polled.
+   */
+  public Tick advance() {
+    List<Entry> arrivedEntries;
+    var dueEntries = new ArrayList<Entry>();
+
+    lock.lock();
+    try {
+      arrivedEntries = arrivals;
+      arrivals = new ArrayList<>();
+      collectDue(tickOf(clock.millis()), dueEntries);
+    } finally {
+      lock.unlock();
+    }
+
+    var readable = new ArrayList<Entry>(arrivedEntries.size());
+    var unreadable = new ArrayList<Entry>();
+    for (var entry : arrivedEntries) {
+      if (readInitialSize(entry)) {
+        readable.add(entry);
+      } else {
+        unreadable.add(entry);
+      }
+    }
+
+    var now = clock.millis();
+    var checks = new ArrayList<Check>(dueEntries.size());
+    for (var entry : dueEntries) {
+      checks.add(check(entry, now));
+    }
+
+    return settle(readable, unreadable, dueEntries, checks);
+  }
+
+  private void collectDue(long targetTick, List<Entry> due) {
+    // A clock jump past a whole rotation still only has to visit every slot once.
+    var steps = Math.min(targetTick - currentTick, WHEEL_SIZE);
+
+    for (long step = 1; step <= steps; step++) {
+      var iterator = wheel.get(slotOf(currentTick + step)).iterator();
+      while (iterator.hasNext()) {
+        var entry = iterator.next();
+        if (entry.cancelled) {
+          iterator.remove();
+        } else if (entry.dueTick <= targetTick) {
+          iterator.remove();
+          due.add(entry);
+        }
+      }
+    }
+
+    currentTick = Math.max(currentTick, targetTick);
+  }
+
+  private Tick settle(
+      List<Entry> readable, List<Entry> unreadable, List<Entry> dueEntries, List<Check> checks) {
+    var arrived = new ArrayList<PendingFile>();
+    var stabilized = new ArrayList<PendingFile>();
+    var failed = new ArrayList<Failure>();
+
+    lock.lock();
+    try {
+      for (var entry : readable) {
+        if (!entry.cancelled) {
+          arrived.add(entry.file);
+          schedule(entry);
+        }
+      }
+
+      for (var entry : unreadable) {
+        entries.remove(entry.file.path(), entry);
+      }
+
+      for (int i = 0; i < dueEntries.size(); i++) {
+        var entry = dueEntries.get(i);
+        if (entry.cancelled) {
+          continue;
+        }
+
+        switch (checks.get(i)) {
+          case Check.Continue() -> schedule(entry);
+          case Check.Stabilized() -> {
+            entries.remove(entry.file.path(), entry);
+            stabilized.add(entry.file);
+          }
+          case Check.Failed(var reason) -> {
+            entries.remove(entry.file.path(), entry);
+            failed.add(new Failure(entry.file, reason));
+          }
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    return new Tick(arrived, stabilized, failed);
+  }
+
+  private void schedule(Entry entry) {
+    entry.dueTick = currentTick + pollTicks;
+    wheel.get(slotOf(entry.dueTick)).add(entry);
+  }
+
+  private static boolean readInitialSize(Entry entry) {
+    try {
+      entry.lastSize = Files.size(entry.file.path());
+      return true;
+    } catch (IOException | SecurityException e) {
+      log.warn("Cannot read file size for {}: {}", entry.file.path(), e.getMessage());
+      return false;
+    }
+  }
+
+  private Check check(Entry entry, long now) {
+    long currentSize;
+    try {
+      currentSize = Files.size(entry.file.path());
+    } catch (IOException | SecurityException _) {
+      log.warn("File became inaccessible during stability check: {}", entry.file.path());
+      return new Check.Failed("File became inaccessible during stability check");
+    }
+
+    if (currentSize != entry.lastSize) {
+      entry.lastSize = currentSize;
+      entry.lastChangeAt = now;
+    }
+
+    if (now - entry.lastChangeAt >= stabilizationMillis) {
+      log.info("File stabilized: {}", entry.file.path());
+      return new Check.Stabilized();
+    }
+
+    if (now - entry.trackedAt >= maxWaitMillis) {
+      log.warn("Max wait exceeded for file: {}", entry.file.path());
+      return new Check.Failed("File did not stabilize within timeout");
+    }
+
+    return new Check.Continue();
+  }
+
+  private static long tickOf(long millis) {
+    return Math.floorDiv(millis, TICK_MILLIS);
+  }
+
+  private static int slotOf(long tick) {
+    return (int) (tick & (WHEEL_SIZE - 1));
+  }
+}
@@ -5,6 +5,7 @@ import com.streamarr.server.services.auth.AuthenticatedIdentity;
 import com.streamarr.server.services.authorization.AuthorizationService;
 import com.streamarr.server.services.authorization.Intent;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
+import com.streamarr.server.services.metadata.MetadataRefreshMode;
 import com.streamarr.server.services.mutation.Outcome;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -34,8 +35,12 @@ public class LibraryAdministrationService {
   }
 
   public void refreshLibrary(
-      AuthenticatedIdentity identity, UUID libraryId, ImageRefreshMode imageRefreshMode) {
+      AuthenticatedIdentity identity,
+      UUID libraryId,
+      ImageRefreshMode imageRefreshMode,
+      MetadataRefreshMode metadataRefreshMode) {
     authorizationService.requireAllowed(identity, new Intent.RefreshLibrary(libraryId));
-    libraryManagementService.triggerAsyncRefresh(libraryId, imageRefreshMode);
+    libraryManagementService.triggerAsyncRefresh(
+        libraryId, imageRefreshMode, metadataRefreshMode);
   }
 }
@@ -26,6 +26,7 @@ import com.streamarr.server.services.events.library.ScanCompletedEvent;
 import com.streamarr.server.services.events.library.ScanEndedEvent;
 import com.streamarr.server.services.filepath.FilepathCodec;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
+import com.streamarr.server.services.metadata.MetadataRefreshMode;
 import com.streamarr.server.services.mutation.MutationTransactions;
 import com.streamarr.server.services.mutation.Outcome;
 import com.streamarr.server.services.validation.IgnoredFileValidator;
@@ -40,6 +41,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -47,7 +49,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
@@ -78,7 +79,9 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
   private final LibraryMutationTransaction libraryMutationTransaction;
   private final MutexFactory<String> mutexFactory;
   private final MutationTransactions mutationTransactions;
+  private final LibraryScanMetrics scanMetrics;
   private final Set<UUID> activeScans = ConcurrentHashMap.newKeySet();
+  private final Map<UUID, LibraryScanProgress> scanProgress = new ConcurrentHashMap<>();
   private final Set<UUID> activeRefreshes = ConcurrentHashMap.newKeySet();
 
   public LibraryManagementService(
@@ -96,7 +99,8 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
       LibraryRefreshService libraryRefreshService,
       FileSystem fileSystem,
       LibraryMutationTransaction libraryMutationTransaction,
-      MutationTransactions mutationTransactions) {
+      MutationTransactions mutationTransactions,
+      LibraryScanMetrics scanMetrics) {
     this.ignoredFileValidator = ignoredFileValidator;
     this.videoExtensionValidator = videoExtensionValidator;
     this.movieFileProcessor = movieFileProcessor;
@@ -111,10 +115,16 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
     this.fileSystem = fileSystem;
     this.libraryMutationTransaction = libraryMutationTransaction;
     this.mutationTransactions = mutationTransactions;
+    this.scanMetrics = scanMetrics;
 
     this.mutexFactory = mutexFactoryProvider.getMutexFactory();
   }
 
+  /** The running scan of the library, while one is walking or processing its files. */
+  public Optional<LibraryScanProgress> getScanProgress(UUID libraryId) {
+    return Optional.ofNullable(scanProgress.get(libraryId));
+  }
+
   @Override
   public boolean isActivelyScanning(UUID libraryId) {
     return activeScans.contains(libraryId);
@@ -212,19 +222,14 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
         });
   }
 
-  public void triggerAsyncRefresh(UUID libraryId) {
-    startAsyncRefresh(libraryId, () -> refreshLibrary(libraryId));
-  }
-
-  public void triggerAsyncRefresh(UUID libraryId, ImageRefreshMode imageRefreshMode) {
-    startAsyncRefresh(libraryId, () -> refreshLibrary(libraryId, imageRefreshMode));
-  }
-
-  private void startAsyncRefresh(UUID libraryId, Runnable refresh) {
+  public void triggerAsyncRefresh(
+      UUID libraryId,
+      ImageRefreshMode imageRefreshMode,
+      MetadataRefreshMode metadataRefreshMode) {
     Thread.startVirtualThread(
         () -> {
           try {
-            refresh.run();
+            refreshLibrary(libraryId, imageRefreshMode, metadataRefreshMode);
           } catch (Exception e) {
             log.error("Async library refresh failed for library: {}", libraryId, e);
           }
@@ -285,16 +290,10 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
     mediaFileRepository.deleteAll(mediaFiles);
   }
 
-  public void refreshLibrary(UUID libraryId) {
-    refreshLibrary(libraryId, libraryRefreshService::refreshLibrary);
-  }
-
-  public void refreshLibrary(UUID libraryId, ImageRefreshMode imageRefreshMode) {
-    refreshLibrary(
-        libraryId, library -> libraryRefreshService.refreshLibrary(library, imageRefreshMode));
-  }
-
-  private void refreshLibrary(UUID libraryId, Consumer<Library> refresh) {
+  public void refreshLibrary(
+      UUID libraryId,
+      ImageRefreshMode imageRefreshMode,
+      MetadataRefreshMode metadataRefreshMode) {
     if (!activeRefreshes.add(libraryId)) {
       throw new LibraryRefreshInProgressException(libraryId);
     }
@@ -304,7 +303,7 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
       var startTime = Instant.now();
 
       try {
-        refresh.accept(library);
+        libraryRefreshService.refreshLibrary(library, imageRefreshMode, metadataRefreshMode);
         completeRefreshSuccessfully(library, startTime);
       } catch (Exception ex) {
         log.error("Refresh failed for library '{}'", library.getName(), ex);
@@ -361,7 +360,7 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
             .findById(libraryId)
             .orElseThrow(() -> new LibraryNotFoundException(libraryId));
 
-    if (processFile(library, path)) {
+    if (processFile(library, path).enriched()) {
       eventPublisher.publishEvent(new ItemProcessedEvent(libraryId));
     }
   }
@@ -374,12 +373,19 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
     try {
       var library = transitionToScanning(libraryId);
       var startTime = library.getScanStartedOn();
+      var scan = scanMetrics.start(library);
+      scanProgress.put(libraryId, scan);
+      LibraryScanFailedException failure = null;
 
       try {
-        walkAndProcessFiles(library);
-        completeScanSuccessfully(library, startTime);
+        scan.run(() -> walkAndProcessFiles(library, scan));
+        completeScanSuccessfully(library, startTime, scan);
       } catch (LibraryScanFailedException e) {
+        failure = e;
         completeScanWithFailure(library, e);
+      } finally {
+        scanProgress.remove(libraryId);
+        scanMetrics.finish(library, scan, failure);
       }
     } finally {
       eventPublisher.publishEvent(new ScanEndedEvent(libraryId));
@@ -387,16 +393,19 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
     }
   }
 
-  private void walkAndProcessFiles(Library library) {
+  private void walkAndProcessFiles(Library library, LibraryScanProgress scan) {
     try (var executor = Executors.newVirtualThreadPerTaskExecutor();
         var stream = Files.walk(FilepathCodec.decode(fileSystem, library.getFilepathUri()))) {
 
       var tasks =
-          stream
-              .filter(Files::isRegularFile)
-              .filter(file -> !ignoredFileValidator.shouldIgnore(file))
-              .map(file -> executor.submit(() -> processFile(library, file)))
-              .toList();
+          LibraryScanProgress.timeStage(
+              ScanStage.WALK,
+              () ->
+                  stream
+                      .filter(Files::isRegularFile)
+                      .filter(file -> shouldScan(scan, file))
+                      .map(file -> executor.submit(() -> scanFile(scan, library, file)))
+                      .toList());
       awaitFileProcessing(library, tasks);
 
     } catch (IOException | UncheckedIOException | SecurityException | InvalidPathException e) {
@@ -404,6 +413,19 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
     }
   }
 
+  private boolean shouldScan(LibraryScanProgress scan, Path file) {
+    scan.recordWalked();
+    if (ignoredFileValidator.shouldIgnore(file)) {
+      scan.recordSettled(ScanFileOutcome.SKIPPED);
+      return false;
+    }
+    return true;
+  }
+
+  private ScanFileOutcome scanFile(LibraryScanProgress scan, Library library, Path file) {
+    return scan.traceFile(file.getFileName().toString(), () -> processFile(library, file));
+  }
+
   private static void awaitFileProcessing(Library library, List<? extends Future<?>> tasks) {
     var failures = new ArrayList<Throwable>();
 
@@ -428,7 +450,8 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
     throw scanFailure;
   }
 
-  private void completeScanSuccessfully(Library library, Instant startTime) {
+  private void completeScanSuccessfully(
+      Library library, Instant startTime, LibraryScanProgress scan) {
     eventPublisher.publishEvent(new ScanCompletedEvent(library.getId()));
 
     var endTime = Instant.now();
@@ -438,7 +461,11 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
     library.setScanCompletedOn(endTime);
     libraryRepository.save(library);
 
-    log.info("Finished {} library scan in {} seconds.", library.getName(), elapsedSeconds);
+    log.info(
+        "Finished {} library scan in {} seconds: {}.",
+        library.getName(),
+        elapsedSeconds,
+        scan.summary());
   }
 
   private void completeScanWithFailure(Library library, Throwable cause) {
@@ -478,20 +505,21 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
     }
   }
 
-  private boolean processFile(Library library, Path path) {
+  private ScanFileOutcome processFile(Library library, Path path) {
 
     if (!hasSupportedExtension(path)) {
       log.warn(
           "Unsupported file extension: {} for filepath {}.",
           getExtension(path),
           path.toAbsolutePath());
-      return false;
+      return ScanFileOutcome.SKIPPED;
     }
 
-    var mediaFile = probeFile(library, path);
+    var probed = LibraryScanProgress.timeStage(ScanStage.PROBE, () -> probeFile(library, path));
+    var mediaFile = probed.mediaFile();
 
     if (isAlreadyMatched(mediaFile)) {
-      return false;
+      return ScanFileOutcome.UNCHANGED;
     }
 
     switch (library.getType()) {
@@ -500,7 +528,7 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
       default -> throw new IllegalStateException("Unsupported media type: " + library.getType());
     }
 
-    return true;
+    return probed.created() ? ScanFileOutcome.NEW : ScanFileOutcome.CHANGED;
   }
 
   private boolean hasSupportedExtension(Path path) {
@@ -511,7 +539,9 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
     return FilenameUtils.getExtension(path.getFileName().toString());
   }
 
-  private MediaFile probeFile(Library library, Path path) {
+  private record ProbedFile(MediaFile mediaFile, boolean created) {}
+
+  private ProbedFile probeFile(Library library, Path path) {
     var absoluteFilepath = FilepathCodec.encode(path);
     var filepathMutex = mutexFactory.getMutex(absoluteFilepath);
 
@@ -520,7 +550,7 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
       var optionalMediaFile = mediaFileRepository.findFirstByFilepathUri(absoluteFilepath);
 
       if (optionalMediaFile.isEmpty()) {
-        return createNewMediaFile(library, path, absoluteFilepath);
+        return new ProbedFile(createNewMediaFile(library, path, absoluteFilepath), true);
       }
 
       var mediaFile = optionalMediaFile.orElseThrow();
@@ -531,7 +561,7 @@ public class LibraryManagementService implements ActiveScanChecker, LibraryScanT
       }
 
       log.info("MediaFile id: '{}' already exists, not adding again.", mediaFile.getId());
-      return mediaFile;
+      return new ProbedFile(mediaFile, false);
     } finally {
       filepathMutex.unlock();
     }
@@ -12,11 +12,23 @@ import com.streamarr.server.repositories.media.SeriesRepository;
 import com.streamarr.server.services.MovieService;
 import com.streamarr.server.services.SeriesService;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
+import com.streamarr.server.services.metadata.MetadataRefreshMode;
 import com.streamarr.server.services.metadata.RemoteSearchResult;
+import com.streamarr.server.services.metadata.TmdbCacheMode;
+import com.streamarr.server.services.metadata.TmdbRequestPriority;
 import com.streamarr.server.services.metadata.movie.MovieMetadataProviderResolver;
+import com.streamarr.server.services.metadata.series.SeasonDetails;
 import com.streamarr.server.services.metadata.series.SeriesMetadataProviderResolver;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -33,21 +45,52 @@ public class LibraryRefreshService {
   private final SeriesMetadataProviderResolver seriesMetadataProviderResolver;
   private final MovieMetadataProviderResolver movieMetadataProviderResolver;
 
-  public void refreshLibrary(Library library) {
-    refreshLibrary(library, ImageRefreshMode.PRESERVE);
-  }
-
-  public void refreshLibrary(Library library, ImageRefreshMode imageRefreshMode) {
+  /**
+   * Re-fetches metadata for the library's items. {@link MetadataRefreshMode#CHANGED_ONLY} skips
+   * items the metadata agent reports unchanged since the library's last complete sync, and falls
+   * back to every item when the agent cannot tell. When every fetched item refreshes cleanly, the
+   * library's sync watermark moves to the start of this run; the caller persists the library.
+   * Because of that, every fetch revalidates its cached TMDB response: a stale copy applied here
+   * would be hidden from the next changed-only run.
+   */
+  public void refreshLibrary(
+      Library library,
+      ImageRefreshMode imageRefreshMode,
+      MetadataRefreshMode metadataRefreshMode) {
     switch (library.getType()) {
-      case SERIES -> refreshSeriesLibrary(library, imageRefreshMode);
-      case MOVIE -> refreshMovieLibrary(library, imageRefreshMode);
+      case SERIES ->
+          TmdbRequestPriority.REFRESH.run(
+              () -> refreshSeriesLibrary(library, imageRefreshMode, metadataRefreshMode));
+      case MOVIE ->
+          TmdbRequestPriority.REFRESH.run(
+              () -> refreshMovieLibrary(library, imageRefreshMode, metadataRefreshMode));
       case OTHER -> throw new UnsupportedMediaTypeException(library.getType().name());
     }
   }
 
-  private void refreshSeriesLibrary(Library library, ImageRefreshMode imageRefreshMode) {
+  private void refreshSeriesLibrary(
+      Library library,
+      ImageRefreshMode imageRefreshMode,
+      MetadataRefreshMode metadataRefreshMode) {
+    var syncStartedOn = Instant.now();
     var seriesList = seriesRepository.findWithExternalIdsByLibrary_Id(library.getId());
+    var changedIds =
+        findChangedIds(
+            library, metadataRefreshMode, seriesMetadataProviderResolver::getChangedExternalIds);
+    var failures = new AtomicInteger();
+
+    TmdbCacheMode.REVALIDATE.run(
+        () -> refreshEachSeries(seriesList, changedIds, library, imageRefreshMode, failures));
+
+    recordSync(library, syncStartedOn, failures.get());
+  }
 
+  private void refreshEachSeries(
+      List<Series> seriesList,
+      Optional<Set<String>> changedIds,
+      Library library,
+      ImageRefreshMode imageRefreshMode,
+      AtomicInteger failures) {
     try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
       for (var series : seriesList) {
         var tmdbId = findTmdbId(series);
@@ -56,12 +99,20 @@ public class LibraryRefreshService {
           continue;
         }
         var id = tmdbId.get();
-        executor.submit(() -> refreshSeries(series, id, library, imageRefreshMode));
+        if (isUnchanged(changedIds, id)) {
+          continue;
+        }
+        executor.submit(
+            () -> {
+              if (!refreshSeries(series, id, library, imageRefreshMode)) {
+                failures.incrementAndGet();
+              }
+            });
       }
     }
   }
 
-  private void refreshSeries(
+  private boolean refreshSeries(
       Series series, String tmdbId, Library library, ImageRefreshMode imageRefreshMode) {
     try {
       var searchResult =
@@ -75,34 +126,80 @@ public class LibraryRefreshService {
       if (metadataOpt.isEmpty()) {
         log.error(
             "Failed to fetch metadata for series '{}' TMDB id '{}'", series.getTitle(), tmdbId);
-        return;
+        return false;
       }
 
       var refreshedSeries =
           seriesService.refreshSeriesMetadata(series, metadataOpt.get(), imageRefreshMode);
 
       var seasonNumbers = seriesMetadataProviderResolver.getAvailableSeasonNumbers(library, tmdbId);
+      var seasons = fetchSeasons(library, tmdbId, seasonNumbers);
 
-      for (var seasonNumber : seasonNumbers) {
-        var seasonDetailsOpt =
-            seriesMetadataProviderResolver.getSeasonDetails(library, tmdbId, seasonNumber);
-
-        if (seasonDetailsOpt.isEmpty()) {
-          log.warn("Failed to fetch season {} for series TMDB id '{}'", seasonNumber, tmdbId);
-          continue;
-        }
+      seriesService.refreshSeasonsWithEpisodes(refreshedSeries, seasons, library, imageRefreshMode);
 
-        seriesService.refreshSeasonWithEpisodes(
-            refreshedSeries, seasonDetailsOpt.get(), library, imageRefreshMode);
-      }
+      return seasons.size() == seasonNumbers.size();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
     } catch (Exception ex) {
       log.error("Failed to refresh series '{}' TMDB id '{}'", series.getTitle(), tmdbId, ex);
+      return false;
     }
   }
 
-  private void refreshMovieLibrary(Library library, ImageRefreshMode imageRefreshMode) {
+  // Seasons are fetched concurrently; the TMDB request scheduler still paces them within the
+  // shared rate budget, and the fetching threads inherit this thread's priority and cache mode.
+  // A fetch that throws fails the whole series before anything is written.
+  private List<SeasonDetails> fetchSeasons(
+      Library library, String tmdbId, List<Integer> seasonNumbers)
+      throws InterruptedException, ExecutionException {
+    var fetches = new ArrayList<Future<Optional<SeasonDetails>>>();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (var seasonNumber : seasonNumbers) {
+        fetches.add(
+            executor.submit(
+                () ->
+                    seriesMetadataProviderResolver.getSeasonDetails(
+                        library, tmdbId, seasonNumber)));
+      }
+    }
+
+    var seasons = new ArrayList<SeasonDetails>();
+    for (int i = 0; i < fetches.size(); i++) {
+      var seasonDetailsOpt = fetches.get(i).get();
+      if (seasonDetailsOpt.isEmpty()) {
+        log.warn(
+            "Failed to fetch season {} for series TMDB id '{}'", seasonNumbers.get(i), tmdbId);
+        continue;
+      }
+      seasons.add(seasonDetailsOpt.get());
+    }
+    return seasons;
+  }
+
+  private void refreshMovieLibrary(
+      Library library,
+      ImageRefreshMode imageRefreshMode,
+      MetadataRefreshMode metadataRefreshMode) {
+    var syncStartedOn = Instant.now();
     var movies = movieRepository.findWithExternalIdsByLibrary_Id(library.getId());
+    var changedIds =
+        findChangedIds(
+            library, metadataRefreshMode, movieMetadataProviderResolver::getChangedExternalIds);
+    var failures = new AtomicInteger();
+
+    TmdbCacheMode.REVALIDATE.run(
+        () -> refreshEachMovie(movies, changedIds, library, imageRefreshMode, failures));
 
+    recordSync(library, syncStartedOn, failures.get());
+  }
+
+  private void refreshEachMovie(
+      List<Movie> movies,
+      Optional<Set<String>> changedIds,
+      Library library,
+      ImageRefreshMode imageRefreshMode,
+      AtomicInteger failures) {
     try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
       for (var movie : movies) {
         var tmdbId = findTmdbId(movie);
@@ -111,12 +208,20 @@ public class LibraryRefreshService {
           continue;
         }
         var id = tmdbId.get();
-        executor.submit(() -> refreshMovie(movie, id, library, imageRefreshMode));
+        if (isUnchanged(changedIds, id)) {
+          continue;
+        }
+        executor.submit(
+            () -> {
+              if (!refreshMovie(movie, id, library, imageRefreshMode)) {
+                failures.incrementAndGet();
+              }
+            });
       }
     }
   }
 
-  private void refreshMovie(
+  private boolean refreshMovie(
       Movie movie, String tmdbId, Library library, ImageRefreshMode imageRefreshMode) {
     try {
       var searchResult =
@@ -129,15 +234,59 @@ public class LibraryRefreshService {
       var metadataOpt = movieMetadataProviderResolver.getMetadata(searchResult, library);
       if (metadataOpt.isEmpty()) {
         log.error("Failed to fetch metadata for movie '{}' TMDB id '{}'", movie.getTitle(), tmdbId);
-        return;
+        return false;
       }
 
       movieService.refreshMovieMetadata(movie, metadataOpt.get(), imageRefreshMode);
+      return true;
     } catch (Exception ex) {
       log.error("Failed to refresh movie '{}' TMDB id '{}'", movie.getTitle(), tmdbId, ex);
+      return false;
     }
   }
 
+  private Optional<Set<String>> findChangedIds(
+      Library library,
+      MetadataRefreshMode metadataRefreshMode,
+      BiFunction<Library, Instant, Optional<Set<String>>> changesSince) {
+    if (metadataRefreshMode != MetadataRefreshMode.CHANGED_ONLY) {
+      return Optional.empty();
+    }
+
+    var since = library.getMetadataSyncedOn();
+    if (since == null) {
+      log.info(
+          "No completed metadata sync for {} library, refreshing every item.", library.getName());
+      return Optional.empty();
+    }
+
+    var changedIds = changesSince.apply(library, since);
+    if (changedIds.isEmpty()) {
+      log.info(
+          "Changes since {} unavailable for {} library, refreshing every item.",
+          since,
+          library.getName());
+    }
+    return changedIds;
+  }
+
+  private static boolean isUnchanged(Optional<Set<String>> changedIds, String tmdbId) {
+    return changedIds.isPresent() && !changedIds.get().contains(tmdbId);
+  }
+
+  private void recordSync(Library library, Instant syncStartedOn, int failures) {
+    if (failures > 0) {
+      log.warn(
+          "{} item(s) failed to refresh in {} library, keeping metadata sync at {}.",
+          failures,
+          library.getName(),
+          library.getMetadataSyncedOn());
+      return;
+    }
+
+    library.setMetadataSyncedOn(syncStartedOn);
+  }
+
   private Optional<String> findTmdbId(BaseCollectable<?> entity) {
     return entity.getExternalIds().stream()
         .filter(eid -> eid.getExternalSourceType() == ExternalSourceType.TMDB)
@@ -0,0 +1,151 @@
+package com.streamarr.server.services.library;
+
+import com.streamarr.server.domain.Library;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters and traces for library scans. Each scan is one {@code library.scan} span carrying its
+ * totals per file outcome and per {@link ScanStage}, so its size does not grow with the library. A
+ * file that fails or takes longer than {@link #SLOW_FILE} gets a {@code library.scan.file} trace of
+ * its own, linked to the scan span, with its time per stage. Meter tags come from closed sets
+ * (stage, file outcome, cache result), so the series stay bounded however large the library.
+ */
+@Component
+public class LibraryScanMetrics {
+
+  static final String SCANS_METRIC = "streamarr.library.scan.duration";
+  static final String FILES_WALKED_METRIC = "streamarr.library.scan.files.walked";
+  static final String FILES_METRIC = "streamarr.library.scan.files";
+  static final String STAGE_METRIC = "streamarr.library.scan.stage";
+  static final String TMDB_REQUESTS_METRIC = "streamarr.library.scan.tmdb.requests";
+
+  static final String SCAN_SPAN = "library.scan";
+  static final String FILE_SPAN = "library.scan.file";
+  static final AttributeKey<String> LIBRARY_ID = AttributeKey.stringKey("library.id");
+  static final AttributeKey<String> FILE_NAME = AttributeKey.stringKey("file.name");
+  static final AttributeKey<String> FILE_OUTCOME = AttributeKey.stringKey("library.scan.outcome");
+  static final Duration SLOW_FILE = Duration.ofSeconds(5);
+
+  private static final String INSTRUMENTATION_SCOPE = "com.streamarr.server.library";
+
+  private final MeterRegistry meterRegistry;
+  private final Tracer tracer;
+  private final Counter filesWalked;
+  private final Map<ScanFileOutcome, Counter> files = new EnumMap<>(ScanFileOutcome.class);
+  private final Map<ScanStage, Timer> stages = new EnumMap<>(ScanStage.class);
+  private final Counter tmdbCacheHits;
+  private final Counter tmdbCacheMisses;
+
+  @Autowired
+  public LibraryScanMetrics(MeterRegistry meterRegistry, OpenTelemetry openTelemetry) {
+    this.meterRegistry = meterRegistry;
+    this.tracer = openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+    this.filesWalked = Counter.builder(FILES_WALKED_METRIC).register(meterRegistry);
+    for (var outcome : ScanFileOutcome.values()) {
+      var counter = Counter.builder(FILES_METRIC).tag("outcome", tagOf(outcome));
+      files.put(outcome, counter.register(meterRegistry));
+    }
+    for (var stage : ScanStage.values()) {
+      var timer = Timer.builder(STAGE_METRIC).tag("stage", tagOf(stage));
+      stages.put(stage, timer.register(meterRegistry));
+    }
+    this.tmdbCacheHits =
+        Counter.builder(TMDB_REQUESTS_METRIC).tag("cache", "hit").register(meterRegistry);
+    this.tmdbCacheMisses =
+        Counter.builder(TMDB_REQUESTS_METRIC).tag("cache", "miss").register(meterRegistry);
+  }
+
+  /** Meters and spans nothing reads, for wiring that has no metrics or tracing backend. */
+  public static LibraryScanMetrics noop() {
+    return new LibraryScanMetrics(new CompositeMeterRegistry(), OpenTelemetry.noop());
+  }
+
+  public LibraryScanProgress start(Library library) {
+    var span =
+        tracer
+            .spanBuilder(SCAN_SPAN)
+            .setNoParent()
+            .setAttribute(LIBRARY_ID, library.getId().toString())
+            .startSpan();
+    return new LibraryScanProgress(library.getId(), this, span);
+  }
+
+  void finish(Library library, LibraryScanProgress scan, Throwable failure) {
+    var span = scan.span();
+    span.setAllAttributes(scan.summaryAttributes());
+    if (failure != null) {
+      span.recordException(failure);
+      span.setStatus(StatusCode.ERROR);
+    }
+    span.end();
+
+    Timer.builder(SCANS_METRIC)
+        .tag("type", tagOf(library.getType()))
+        .tag("result", failure == null ? "success" : "failure")
+        .register(meterRegistry)
+        .record(scan.elapsed());
+  }
+
+  boolean isSlow(Duration fileElapsed) {
+    return fileElapsed.compareTo(SLOW_FILE) >= 0;
+  }
+
+  /** Records one already-processed file as a root span linked to its scan. */
+  void traceFile(
+      LibraryScanProgress scan,
+      Instant startedOn,
+      Duration elapsed,
+      Attributes attributes,
+      Throwable failure) {
+    var span =
+        tracer
+            .spanBuilder(FILE_SPAN)
+            .setNoParent()
+            .addLink(scan.span().getSpanContext())
+            .setStartTimestamp(startedOn)
+            .setAllAttributes(attributes)
+            .setAttribute(LIBRARY_ID, scan.libraryId().toString())
+            .startSpan();
+    if (failure != null) {
+      span.recordException(failure);
+      span.setStatus(StatusCode.ERROR);
+    }
+    span.end(startedOn.plus(elapsed));
+  }
+
+  void recordWalked() {
+    filesWalked.increment();
+  }
+
+  void recordFile(ScanFileOutcome outcome) {
+    files.get(outcome).increment();
+  }
+
+  void recordStage(ScanStage stage, long nanos) {
+    stages.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  void recordTmdbRequest(boolean cacheHit) {
+    (cacheHit ? tmdbCacheHits : tmdbCacheMisses).increment();
+  }
+
+  static String tagOf(Enum<?> value) {
+    return value.name().toLowerCase(Locale.ROOT).replace('_', '-');
+  }
+}
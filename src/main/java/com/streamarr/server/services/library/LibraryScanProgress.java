@@ -0,0 +1,253 @@
+package com.streamarr.server.services.library;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * One running library scan: the files it walked and how each was settled, the time spent in each
+ * {@link ScanStage}, and the TMDB requests it made.
+ *
+ * <p>The scan is carried by the thread working for it, so file processors and the TMDB client
+ * attribute their work to it without it being passed down. It is not inherited: pool threads
+ * created while a scan runs would otherwise keep it after the scan ends. Each file task binds the
+ * scan itself, and work handed to another thread carries it with {@link #carryCurrent}. Image
+ * enrichment runs after each commit and may finish after the scan does; its time still reaches the
+ * stage meter, but not this scan's summary.
+ */
+public final class LibraryScanProgress {
+
+  private static final ThreadLocal<LibraryScanProgress> CURRENT = new ThreadLocal<>();
+  // Stage time of the file the calling thread is processing, indexed by stage ordinal.
+  private static final ThreadLocal<long[]> FILE_STAGE_NANOS = new ThreadLocal<>();
+
+  private final UUID libraryId;
+  private final LibraryScanMetrics metrics;
+  private final Span span;
+  private final long startNanos = System.nanoTime();
+  private final LongAdder walked = new LongAdder();
+  private final LongAdder settled = new LongAdder();
+  private final Map<ScanFileOutcome, LongAdder> outcomes = new EnumMap<>(ScanFileOutcome.class);
+  private final Map<ScanStage, LongAdder> stageNanos = new EnumMap<>(ScanStage.class);
+  private final LongAdder tmdbRequests = new LongAdder();
+  private final LongAdder tmdbCacheHits = new LongAdder();
+
+  LibraryScanProgress(UUID libraryId, LibraryScanMetrics metrics, Span span) {
+    this.libraryId = libraryId;
+    this.metrics = metrics;
+    this.span = span;
+    for (var outcome : ScanFileOutcome.values()) {
+      outcomes.put(outcome, new LongAdder());
+    }
+    for (var stage : ScanStage.values()) {
+      stageNanos.put(stage, new LongAdder());
+    }
+  }
+
+  /** The scan the calling thread works for, if any. */
+  public static Optional<LibraryScanProgress> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /** Runs {@code work} as {@code stage} of the calling thread's scan, if it works for one. */
+  public static <T> T timeStage(ScanStage stage, Supplier<T> work) {
+    var scan = CURRENT.get();
+    return scan == null ? work.get() : scan.traceStage(stage, work);
+  }
+
+  public static void timeStage(ScanStage stage, Runnable work) {
+    timeStage(
+        stage,
+        () -> {
+          work.run();
+          return null;
+        });
+  }
+
+  /**
+   * Wraps {@code task} so that it runs attributed to the calling thread's scan on whichever thread
+   * picks it up; returns {@code task} unchanged when the calling thread is not scanning.
+   */
+  public static Runnable carryCurrent(Runnable task) {
+    var scan = CURRENT.get();
+    return scan == null ? task : () -> scan.run(task);
+  }
+
+  /** Runs {@code task} with its work on the calling thread attributed to this scan. */
+  public void run(Runnable task) {
+    call(
+        () -> {
+          task.run();
+          return null;
+        });
+  }
+
+  private <T> T call(Supplier<T> task) {
+    var previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return task.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  public UUID libraryId() {
+    return libraryId;
+  }
+
+  /** Files the walk has found so far. */
+  public long filesDiscovered() {
+    return walked.sum();
+  }
+
+  /** Files settled so far, whatever their outcome. */
+  public long filesProcessed() {
+    return settled.sum();
+  }
+
+  public void recordTmdbRequest(boolean cacheHit) {
+    tmdbRequests.increment();
+    if (cacheHit) {
+      tmdbCacheHits.increment();
+    }
+    metrics.recordTmdbRequest(cacheHit);
+  }
+
+  void recordWalked() {
+    walked.increment();
+    metrics.recordWalked();
+  }
+
+  void recordSettled(ScanFileOutcome outcome) {
+    outcomes.get(outcome).increment();
+    settled.increment();
+    metrics.recordFile(outcome);
+  }
+
+  /**
+   * Processes one walked file on the calling thread, attributed to this scan, and settles it with
+   * the outcome. A file that fails or runs slow gets a trace of its own, linked to the scan.
+   */
+  ScanFileOutcome traceFile(String fileName, Supplier<ScanFileOutcome> processing) {
+    var fileStageNanos = new long[ScanStage.values().length];
+    var startedOn = Instant.now();
+    var start = System.nanoTime();
+    var outcome = ScanFileOutcome.FAILED;
+    RuntimeException failure = null;
+    FILE_STAGE_NANOS.set(fileStageNanos);
+    try {
+      outcome = call(processing);
+      return outcome;
+    } catch (RuntimeException e) {
+      failure = e;
+      throw e;
+    } finally {
+      FILE_STAGE_NANOS.remove();
+      var elapsed = Duration.ofNanos(System.nanoTime() - start);
+      if (outcome == ScanFileOutcome.FAILED || metrics.isSlow(elapsed)) {
+        metrics.traceFile(
+            this,
+            startedOn,
+            elapsed,
+            fileAttributes(fileName, outcome, fileStageNanos),
+            failure);
+      }
+      recordSettled(outcome);
+    }
+  }
+
+  private <T> T traceStage(ScanStage stage, Supplier<T> work) {
+    var start = System.nanoTime();
+    try {
+      return work.get();
+    } finally {
+      var elapsed = System.nanoTime() - start;
+      stageNanos.get(stage).add(elapsed);
+      var fileStageNanos = FILE_STAGE_NANOS.get();
+      if (fileStageNanos != null) {
+        fileStageNanos[stage.ordinal()] += elapsed;
+      }
+      metrics.recordStage(stage, elapsed);
+    }
+  }
+
+  private static Attributes fileAttributes(
+      String fileName, ScanFileOutcome outcome, long[] fileStageNanos) {
+    AttributesBuilder attributes =
+        Attributes.builder()
+            .put(LibraryScanMetrics.FILE_NAME, fileName)
+            .put(LibraryScanMetrics.FILE_OUTCOME, LibraryScanMetrics.tagOf(outcome));
+    for (var stage : ScanStage.values()) {
+      var nanos = fileStageNanos[stage.ordinal()];
+      attributes.put(stageAttribute(stage), Duration.ofNanos(nanos).toMillis());
+    }
+    return attributes.build();
+  }
+
+  private static String stageAttribute(ScanStage stage) {
+    return "library.scan.stage." + LibraryScanMetrics.tagOf(stage) + ".ms";
+  }
+
+  Span span() {
+    return span;
+  }
+
+  Duration elapsed() {
+    return Duration.ofNanos(System.nanoTime() - startNanos);
+  }
+
+  /** The scan's totals as span attributes: file counts, TMDB usage, and milliseconds per stage. */
+  Attributes summaryAttributes() {
+    AttributesBuilder attributes =
+        Attributes.builder()
+            .put("library.scan.files.walked", walked.sum())
+            .put("library.scan.tmdb.requests", tmdbRequests.sum())
+            .put("library.scan.tmdb.cache_hits", tmdbCacheHits.sum());
+    outcomes.forEach(
+        (outcome, count) ->
+            attributes.put(
+                "library.scan.files." + LibraryScanMetrics.tagOf(outcome), count.sum()));
+    stageNanos.forEach(
+        (stage, nanos) ->
+            attributes.put(stageAttribute(stage), Duration.ofNanos(nanos.sum()).toMillis()));
+    return attributes.build();
+  }
+
+  /** One log line naming where the scan's time went. */
+  String summary() {
+    var stages = new StringBuilder();
+    stageNanos.forEach(
+        (stage, nanos) ->
+            stages
+                .append(stages.isEmpty() ? "" : ", ")
+                .append(LibraryScanMetrics.tagOf(stage))
+                .append('=')
+                .append(Duration.ofNanos(nanos.sum()).toMillis())
+                .append("ms"));
+    return String.format(
+        "walked=%d, new=%d, changed=%d, unchanged=%d, skipped=%d, failed=%d; "
+            + "tmdb requests=%d (cache hits=%d); stage time: %s",
+        walked.sum(),
+        outcomes.get(ScanFileOutcome.NEW).sum(),
+        outcomes.get(ScanFileOutcome.CHANGED).sum(),
+        outcomes.get(ScanFileOutcome.UNCHANGED).sum(),
+        outcomes.get(ScanFileOutcome.SKIPPED).sum(),
+        outcomes.get(ScanFileOutcome.FAILED).sum(),
+        tmdbRequests.sum(),
+        tmdbCacheHits.sum(),
+        stages);
+  }
+}
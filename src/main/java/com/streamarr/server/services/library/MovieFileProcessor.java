@@ -48,7 +48,8 @@ public class MovieFileProcessor {
   }
 
   public void process(Library library, MediaFile mediaFile) {
-    var mediaInformationResult = parseMediaFileForMovieInfo(mediaFile);
+    var mediaInformationResult =
+        LibraryScanProgress.timeStage(ScanStage.PARSE, () -> parseMediaFileForMovieInfo(mediaFile));
 
     if (mediaInformationResult.isEmpty()) {
       mediaFile.setStatus(MediaFileStatus.METADATA_PARSING_FAILED);
@@ -68,7 +69,10 @@ public class MovieFileProcessor {
         mediaInformationResult.get().title(),
         mediaInformationResult.get().year());
 
-    var searchOutcome = movieMetadataProviderResolver.search(library, mediaInformationResult.get());
+    var searchOutcome =
+        LibraryScanProgress.timeStage(
+            ScanStage.TMDB_SEARCH,
+            () -> movieMetadataProviderResolver.search(library, mediaInformationResult.get()));
 
     switch (searchOutcome) {
       case NotFound _ -> {
@@ -158,20 +162,29 @@ public class MovieFileProcessor {
   private void updateOrSaveEnrichedMovie(
       Library library, MediaFile mediaFile, RemoteSearchResult remoteSearchResult) {
     var optionalMovie =
-        movieService.addMediaFileToMovieByTmdbId(remoteSearchResult.externalId(), mediaFile);
+        LibraryScanProgress.timeStage(
+            ScanStage.DATABASE,
+            () ->
+                movieService.addMediaFileToMovieByTmdbId(
+                    remoteSearchResult.externalId(), mediaFile));
 
     if (optionalMovie.isPresent()) {
       markMediaFileAsMatched(mediaFile);
       return;
     }
 
-    var metadataResult = movieMetadataProviderResolver.getMetadata(remoteSearchResult, library);
+    var metadataResult =
+        LibraryScanProgress.timeStage(
+            ScanStage.TMDB_DETAILS,
+            () -> movieMetadataProviderResolver.getMetadata(remoteSearchResult, library));
 
     if (metadataResult.isEmpty()) {
       return;
     }
 
-    movieService.createMovieWithAssociations(metadataResult.get(), mediaFile);
+    LibraryScanProgress.timeStage(
+        ScanStage.DATABASE,
+        () -> movieService.createMovieWithAssociations(metadataResult.get(), mediaFile));
     markMediaFileAsMatched(mediaFile);
   }
 
@@ -0,0 +1,238 @@
+package com.streamarr.server.services.library;
+
+import com.streamarr.server.domain.media.MediaFile;
+import com.streamarr.server.repositories.media.MediaFileRepository;
+import com.streamarr.server.services.filepath.FilepathCodec;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rescans the part of a library a watcher lost events for when its buffer overflowed. The walk
+ * reports only files the library has no media file for, and those go through stability tracking
+ * like any created file, so a bulk import is picked up without a full library scan.
+ *
+ * <p>Overflows come in bursts while a bulk move is still landing. Requests for the same subtree, or
+ * for anything under a subtree already queued, collapse into one walk that starts once the burst
+ * has been quiet for {@link #SETTLE_TICKS} ticks; a request arriving while that walk runs queues
+ * exactly one more.
+ */
+@Slf4j
+final class OverflowRescanner {
+
+  static final int SETTLE_TICKS = 2;
+  static final int MAX_SETTLE_TICKS = 10;
+  static final int MAX_FILES = 50_000;
+
+  private enum State {
+    QUEUED,
+    RUNNING,
+    RUNNING_AGAIN
+  }
+
+  private static final class Rescan {
+    private final UUID libraryId;
+    private State state = State.QUEUED;
+    private long requestedTick;
+    private long dueTick;
+
+    private Rescan(UUID libraryId) {
+      this.libraryId = libraryId;
+    }
+  }
+
+  private final MediaFileRepository mediaFileRepository;
+  private final Consumer<Path> onUnknownFile;
+  private final int maxFiles;
+
+  private final Map<Path, Rescan> rescans = new HashMap<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private long ticks;
+
+  OverflowRescanner(
+      MediaFileRepository mediaFileRepository, Consumer<Path> onUnknownFile, int maxFiles) {
+    this.mediaFileRepository = mediaFileRepository;
+    this.onUnknownFile = onUnknownFile;
+    this.maxFiles = maxFiles;
+  }
+
+  void request(Path root, UUID libraryId) {
+    lock.lock();
+    try {
+      var ancestor =
+          rescans.keySet().stream().filter(root::startsWith).findFirst().orElse(root);
+
+      // A queued walk of something underneath is covered by the wider one.
+      rescans
+          .entrySet()
+          .removeIf(
+              entry ->
+                  !entry.getKey().equals(ancestor)
+                      && entry.getKey().startsWith(ancestor)
+                      && entry.getValue().state == State.QUEUED);
+
+      var rescan = rescans.get(ancestor);
+      if (rescan == null) {
+        rescan = new Rescan(libraryId);
+        rescan.requestedTick = ticks;
+        rescans.put(ancestor, rescan);
+      }
+
+      switch (rescan.state) {
+        case QUEUED -> settle(rescan);
+        case RUNNING -> rescan.state = State.RUNNING_AGAIN;
+        case RUNNING_AGAIN -> log.debug("Rescan of {} already queued to run again", ancestor);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Starts the rescans whose burst has settled on {@code executor}. */
+  void tick(Executor executor) {
+    var due = new ArrayList<Map.Entry<Path, Rescan>>();
+
+    lock.lock();
+    try {
+      ticks++;
+      for (var entry : rescans.entrySet()) {
+        var rescan = entry.getValue();
+        if (rescan.state == State.QUEUED && rescan.dueTick <= ticks) {
+          rescan.state = State.RUNNING;
+          due.add(entry);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    for (var entry : due) {
+      var root = entry.getKey();
+      var libraryId = entry.getValue().libraryId;
+      try {
+        executor.execute(() -> rescanAndFinish(root, libraryId));
+      } catch (RejectedExecutionException _) {
+        finish(root);
+      }
+    }
+  }
+
+  void clear() {
+    lock.lock();
+    try {
+      rescans.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void settle(Rescan rescan) {
+    rescan.dueTick = Math.min(ticks + SETTLE_TICKS, rescan.requestedTick + MAX_SETTLE_TICKS);
+  }
+
+  private void rescanAndFinish(Path root, UUID libraryId) {
+    try {
+      rescan(root, libraryId);
+    } catch (Exception e) {
+      log.error("Overflow rescan of {} failed", root, e);
+    } finally {
+      finish(root);
+    }
+  }
+
+  private void finish(Path root) {
+    lock.lock();
+    try {
+      var rescan = rescans.get(root);
+      if (rescan == null) {
+        return;
+      }
+
+      if (rescan.state == State.RUNNING_AGAIN) {
+        rescan.state = State.QUEUED;
+        rescan.requestedTick = ticks;
+        settle(rescan);
+      } else {
+        rescans.remove(root);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void rescan(Path root, UUID libraryId) throws IOException {
+    if (!Files.isDirectory(root)) {
+      log.debug("Overflowed directory no longer exists: {}", root);
+      return;
+    }
+
+    var known =
+        mediaFileRepository.findByLibraryId(libraryId).stream()
+            .map(MediaFile::getFilepathUri)
+            .collect(Collectors.toSet());
+    var walk = new UnknownFileWalk(known);
+
+    Files.walkFileTree(root, walk);
+
+    if (walk.visited > maxFiles) {
+      log.warn(
+          "Overflow rescan of {} stopped after {} files; scan the library to pick up the rest.",
+          root,
+          maxFiles);
+    }
+    log.info(
+        "Overflow rescan of {} checked {} files and found {} not yet in the library.",
+        root,
+        Math.min(walk.visited, maxFiles),
+        walk.unknown);
+  }
+
+  private final class UnknownFileWalk extends SimpleFileVisitor<Path> {
+
+    private final Set<String> known;
+    private int visited;
+    private int unknown;
+
+    private UnknownFileWalk(Set<String> known) {
+      this.known = known;
+    }
+
+    @Override
+    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+      if (!attributes.isRegularFile()) {
+        return FileVisitResult.CONTINUE;
+      }
+
+      if (++visited > maxFiles) {
+        return FileVisitResult.TERMINATE;
+      }
+
+      if (!known.contains(FilepathCodec.encode(file))) {
+        unknown++;
+        onUnknownFile.accept(file);
+      }
+
+      return FileVisitResult.CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(Path file, IOException e) {
+      log.warn("Overflow rescan could not read {}: {}", file, e.getMessage());
+      return FileVisitResult.CONTINUE;
+    }
+  }
+}
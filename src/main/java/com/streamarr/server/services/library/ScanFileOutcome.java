@@ -0,0 +1,19 @@
+package com.streamarr.server.services.library;
+
+/** How a scan settled one walked file. */
+public enum ScanFileOutcome {
+  /** Ignored by the library's rules, or not a supported video extension. */
+  SKIPPED,
+  /** Seen for the first time and sent through enrichment. */
+  NEW,
+  /** Already known but not yet matched, so sent through enrichment again. */
+  CHANGED,
+  /** Already known and matched; nothing to do. */
+  UNCHANGED,
+  FAILED;
+
+  /** Whether the file went through metadata enrichment. */
+  public boolean enriched() {
+    return this == NEW || this == CHANGED;
+  }
+}
@@ -0,0 +1,42 @@
+package com.streamarr.server.services.library;
+
+import io.methvin.watcher.hashing.FileHash;
+import io.methvin.watcher.hashing.FileHasher;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hashes files by last-modified time, except that a file the library scan already indexed is
+ * answered from the index the first time it is asked for. Registering a watcher hashes every file
+ * under the library, and on a network share each of those is a round trip the scan already paid.
+ *
+ * <p>An indexed file gets a placeholder no real hash equals, so its first change after
+ * registration is always reported.
+ */
+final class ScanIndexFileHasher implements FileHasher {
+
+  static final FileHash INDEXED = FileHash.fromLong(-1L);
+
+  private final Set<Path> indexedFiles = ConcurrentHashMap.newKeySet();
+
+  ScanIndexFileHasher(Collection<Path> indexedFiles) {
+    this.indexedFiles.addAll(indexedFiles);
+  }
+
+  @Override
+  public FileHash hash(Path path) throws IOException {
+    if (indexedFiles.remove(path)) {
+      return INDEXED;
+    }
+
+    return LAST_MODIFIED_TIME.hash(path);
+  }
+
+  /** Drops index entries registration never reached, such as files deleted since the scan. */
+  void discardIndex() {
+    indexedFiles.clear();
+  }
+}
@@ -0,0 +1,12 @@
+package com.streamarr.server.services.library;
+
+/** Where a library scan spends its time: the walk once per scan, every other stage per file. */
+public enum ScanStage {
+  WALK,
+  PROBE,
+  PARSE,
+  DATABASE,
+  TMDB_SEARCH,
+  TMDB_DETAILS,
+  IMAGES
+}
@@ -68,7 +68,9 @@ public class SeriesFileProcessor {
 
   public void process(Library library, MediaFile mediaFile) {
     var filepath = FilepathCodec.pathOf(mediaFile.getFilepathUri());
-    var parseResult = episodePathMetadataParser.parse(filepath);
+    var parseResult =
+        LibraryScanProgress.timeStage(
+            ScanStage.PARSE, () -> episodePathMetadataParser.parse(filepath));
 
     if (parseResult.isEmpty()) {
       markAs(mediaFile, MediaFileStatus.METADATA_PARSING_FAILED);
@@ -95,8 +97,11 @@ public class SeriesFileProcessor {
     var seasonParseResult = seasonFolderName.flatMap(seasonPathMetadataParser::parse);
 
     var parserResult =
-        resolveSeriesInfo(
-            seriesFolderNameOf(mediaFile.getFilepathUri(), seasonParseResult), parsed);
+        LibraryScanProgress.timeStage(
+            ScanStage.PARSE,
+            () ->
+                resolveSeriesInfo(
+                    seriesFolderNameOf(mediaFile.getFilepathUri(), seasonParseResult), parsed));
 
     if (parserResult.title() == null || parserResult.title().isBlank()) {
       markAs(mediaFile, MediaFileStatus.METADATA_PARSING_FAILED);
@@ -107,7 +112,10 @@ public class SeriesFileProcessor {
       return;
     }
 
-    var searchOutcome = seriesMetadataProviderResolver.search(library, parserResult);
+    var searchOutcome =
+        LibraryScanProgress.timeStage(
+            ScanStage.TMDB_SEARCH,
+            () -> seriesMetadataProviderResolver.search(library, parserResult));
 
     switch (searchOutcome) {
       case NotFound _ -> {
@@ -334,20 +342,30 @@ public class SeriesFileProcessor {
   }
 
   private Optional<Series> createSeries(Library library, RemoteSearchResult searchResult) {
-    var metadataResult = seriesMetadataProviderResolver.getMetadata(searchResult, library);
+    var metadataResult =
+        LibraryScanProgress.timeStage(
+            ScanStage.TMDB_DETAILS,
+            () -> seriesMetadataProviderResolver.getMetadata(searchResult, library));
 
     if (metadataResult.isEmpty()) {
       log.error("Failed to fetch series metadata for TMDB id '{}'", searchResult.externalId());
       return Optional.empty();
     }
 
-    return Optional.of(seriesService.createSeriesWithAssociations(metadataResult.get()));
+    return Optional.of(
+        LibraryScanProgress.timeStage(
+            ScanStage.DATABASE,
+            () -> seriesService.createSeriesWithAssociations(metadataResult.get())));
   }
 
   private Optional<Season> createSeasonWithEpisodes(
       Library library, String seriesExternalId, int seasonNumber, Series series) {
     var seasonDetailsOpt =
-        seriesMetadataProviderResolver.getSeasonDetails(library, seriesExternalId, seasonNumber);
+        LibraryScanProgress.timeStage(
+            ScanStage.TMDB_DETAILS,
+            () ->
+                seriesMetadataProviderResolver.getSeasonDetails(
+                    library, seriesExternalId, seasonNumber));
 
     if (seasonDetailsOpt.isEmpty()) {
       log.error(
@@ -358,7 +376,9 @@ public class SeriesFileProcessor {
     }
 
     return Optional.of(
-        seriesService.createSeasonWithEpisodes(series, seasonDetailsOpt.get(), library));
+        LibraryScanProgress.timeStage(
+            ScanStage.DATABASE,
+            () -> seriesService.createSeasonWithEpisodes(series, seasonDetailsOpt.get(), library)));
   }
 
   private boolean isDateOnlyEpisode(EpisodePathResult result) {
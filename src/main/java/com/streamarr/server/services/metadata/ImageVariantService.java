@@ -1,6 +1,8 @@
 package com.streamarr.server.services.metadata;
 
+import com.streamarr.server.config.ImageProperties;
 import com.streamarr.server.domain.media.AmbientColors;
+import com.streamarr.server.domain.media.ImageFormat;
 import com.streamarr.server.domain.media.ImageSize;
 import com.streamarr.server.domain.media.ImageType;
 import com.streamarr.server.exceptions.ImageProcessingException;
@@ -12,14 +14,22 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 public class ImageVariantService {
 
@@ -29,6 +39,13 @@ public class ImageVariantService {
   private static final List<ImageSize> RESIZABLE_SIZES =
       List.of(ImageSize.SMALL, ImageSize.MEDIUM, ImageSize.LARGE);
 
+  // Subsampled decoding point-samples pixels, so keep at least this much headroom over the largest
+  // target for the resize filter to smooth away.
+  private static final int DECODE_HEADROOM = 2;
+
+  private static final String WEBP_COMPRESSION_TYPE = "Lossy";
+  private static final float WEBP_QUALITY = 0.8f;
+
   private static final Map<ImageType, Map<ImageSize, Integer>> WIDTH_TABLE =
       Map.of(
           ImageType.POSTER,
@@ -43,6 +60,7 @@ public class ImageVariantService {
 
   public record GeneratedVariant(
       ImageSize variant,
+      ImageFormat format,
       byte[] data,
       int width,
       int height,
@@ -56,6 +74,7 @@ public class ImageVariantService {
           instanceof
           GeneratedVariant(
               var otherVariant,
+              var otherFormat,
               var otherData,
               var otherWidth,
               var otherHeight,
@@ -64,6 +83,7 @@ public class ImageVariantService {
       return width == otherWidth
           && height == otherHeight
           && variant == otherVariant
+          && format == otherFormat
           && Arrays.equals(data, otherData)
           && Objects.equals(blurHash, otherBlurHash)
           && Objects.equals(ambientColors, otherAmbientColors);
@@ -71,7 +91,7 @@ public class ImageVariantService {
 
     @Override
     public int hashCode() {
-      int result = Objects.hash(variant, width, height, blurHash, ambientColors);
+      int result = Objects.hash(variant, format, width, height, blurHash, ambientColors);
       result = 31 * result + Arrays.hashCode(data);
       return result;
     }
@@ -80,6 +100,8 @@ public class ImageVariantService {
     public String toString() {
       return "GeneratedVariant[variant="
           + variant
+          + ", format="
+          + format
           + ", dataLength="
           + (data == null ? 0 : data.length)
           + ", width="
@@ -94,61 +116,114 @@ public class ImageVariantService {
     }
   }
 
+  private final Set<ImageFormat> formats;
+
+  /** JPEG-only variants: the baseline every client decodes. */
+  public ImageVariantService() {
+    this.formats = EnumSet.of(ImageFormat.JPEG);
+  }
+
+  @Autowired
+  public ImageVariantService(ImageProperties properties) {
+    var requested = EnumSet.copyOf(properties.variantFormats());
+    if (requested.contains(ImageFormat.WEBP) && !webpEncoderAvailable()) {
+      log.warn(
+          "No WebP encoder loads on this platform; artwork variants are stored as JPEG only.");
+      requested.remove(ImageFormat.WEBP);
+    }
+    this.formats = requested;
+  }
+
   public List<GeneratedVariant> generateVariants(byte[] originalImageData, ImageType imageType) {
     if (originalImageData == null) {
       throw new ImageProcessingException("Image input data must not be null.");
     }
 
-    var sourceImage = decodeImage(originalImageData);
-
     var widths = WIDTH_TABLE.get(imageType);
     if (widths == null) {
       throw new ImageProcessingException("No width configuration for image type: " + imageType);
     }
-    var variants = new ArrayList<GeneratedVariant>();
-
     for (var size : RESIZABLE_SIZES) {
-      var targetWidth = widths.get(size);
-      if (targetWidth == null) {
+      if (widths.get(size) == null) {
         throw new ImageProcessingException(
             "No width configuration for image size: " + size + " on image type: " + imageType);
       }
-      var resized = resize(sourceImage, targetWidth);
+    }
+
+    var source = decodeImage(originalImageData, widths.get(ImageSize.LARGE));
+
+    // Each size is scaled from the next larger one rather than from the decoded source.
+    var resizedBySize = new EnumMap<ImageSize, BufferedImage>(ImageSize.class);
+    var previous = source.image();
+    for (var size : RESIZABLE_SIZES.reversed()) {
+      previous = resize(previous, widths.get(size));
+      resizedBySize.put(size, previous);
+    }
+
+    var variants = new ArrayList<GeneratedVariant>();
+    for (var size : RESIZABLE_SIZES) {
+      var resized = resizedBySize.get(size);
       var blurHash = size == ImageSize.SMALL ? computeBlurHash(resized) : null;
       var ambientColors =
           size == ImageSize.SMALL
               ? AmbientColorExtractor.extract(resized)
               : Optional.<AmbientColors>empty();
-      var data = toJpegBytes(resized);
-      variants.add(
-          new GeneratedVariant(
-              size, data, resized.getWidth(), resized.getHeight(), blurHash, ambientColors));
+      for (var format : formats) {
+        variants.add(
+            new GeneratedVariant(
+                size,
+                format,
+                encode(resized, format),
+                resized.getWidth(),
+                resized.getHeight(),
+                blurHash,
+                ambientColors));
+      }
     }
 
+    // The source bytes are kept as downloaded; they are served as the JPEG-family original.
     variants.add(
         new GeneratedVariant(
             ImageSize.ORIGINAL,
+            ImageFormat.JPEG,
             originalImageData,
-            sourceImage.getWidth(),
-            sourceImage.getHeight(),
+            source.width(),
+            source.height(),
             null,
             Optional.empty()));
 
     return variants;
   }
 
-  private BufferedImage decodeImage(byte[] imageData) {
-    BufferedImage image;
-    try {
-      image = ImageIO.read(new ByteArrayInputStream(imageData));
+  private record DecodedImage(BufferedImage image, int width, int height) {}
+
+  /**
+   * Decodes at the coarsest subsampling that still leaves headroom over {@code largestTargetWidth},
+   * so a 2000px poster never materializes at full resolution. The reported width and height are
+   * the source's own, read from the header.
+   */
+  private DecodedImage decodeImage(byte[] imageData, int largestTargetWidth) {
+    try (var input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageData))) {
+      var readers = input == null ? null : ImageIO.getImageReaders(input);
+      if (readers == null || !readers.hasNext()) {
+        throw new ImageProcessingException("Failed to decode image data.");
+      }
+
+      var reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        var width = reader.getWidth(0);
+        var height = reader.getHeight(0);
+        var step = Math.max(1, width / (largestTargetWidth * DECODE_HEADROOM));
+        var param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(step, step, 0, 0);
+        return new DecodedImage(reader.read(0, param), width, height);
+      } finally {
+        reader.dispose();
+      }
     } catch (IOException e) {
       throw new ImageProcessingException(e);
     }
-
-    if (image == null) {
-      throw new ImageProcessingException("Failed to decode image data.");
-    }
-    return image;
   }
 
   private BufferedImage resize(BufferedImage source, int targetWidth) {
@@ -163,7 +238,14 @@ public class ImageVariantService {
     return BlurHash.encode(image, BLUR_HASH_COMPONENT_X, BLUR_HASH_COMPONENT_Y);
   }
 
-  private byte[] toJpegBytes(BufferedImage image) {
+  private static byte[] encode(BufferedImage image, ImageFormat format) {
+    return switch (format) {
+      case JPEG -> toJpegBytes(image);
+      case WEBP -> toWebpBytes(image);
+    };
+  }
+
+  private static byte[] toJpegBytes(BufferedImage image) {
     try (var outputStream = new ByteArrayOutputStream()) {
       ImageIO.write(image, "jpg", outputStream);
       return outputStream.toByteArray();
@@ -171,4 +253,40 @@ public class ImageVariantService {
       throw new ImageProcessingException(e);
     }
   }
+
+  private static byte[] toWebpBytes(BufferedImage image) {
+    var writers = ImageIO.getImageWritersByFormatName("webp");
+    if (!writers.hasNext()) {
+      throw new ImageProcessingException("No WebP image writer is registered.");
+    }
+
+    var writer = writers.next();
+    try (var outputStream = new ByteArrayOutputStream();
+        var imageOutput = ImageIO.createImageOutputStream(outputStream)) {
+      var param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionType(WEBP_COMPRESSION_TYPE);
+      param.setCompressionQuality(WEBP_QUALITY);
+      writer.setOutput(imageOutput);
+      writer.write(null, new IIOImage(image, null, null), param);
+      imageOutput.flush();
+      return outputStream.toByteArray();
+    } catch (IOException e) {
+      throw new ImageProcessingException(e);
+    } finally {
+      writer.dispose();
+    }
+  }
+
+  // The bundled libwebp only ships for some platforms; a missing native library surfaces as a
+  // LinkageError on first use, so probe once rather than failing every enrichment.
+  private static boolean webpEncoderAvailable() {
+    try {
+      toWebpBytes(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB));
+      return true;
+    } catch (RuntimeException | LinkageError e) {
+      log.debug("WebP encoder probe failed.", e);
+      return false;
+    }
+  }
 }
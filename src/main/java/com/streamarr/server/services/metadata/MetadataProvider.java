@@ -3,7 +3,9 @@ package com.streamarr.server.services.metadata;
 import com.streamarr.server.domain.ExternalAgentStrategy;
 import com.streamarr.server.domain.Library;
 import com.streamarr.server.services.parsers.video.VideoFileParserResult;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 
 public interface MetadataProvider<T> {
 
@@ -12,4 +14,12 @@ public interface MetadataProvider<T> {
   Optional<MetadataResult<T>> getMetadata(RemoteSearchResult remoteSearchResult, Library library);
 
   ExternalAgentStrategy getAgentStrategy();
+
+  /**
+   * External ids of entities this provider's source changed since {@code since}. Empty means the
+   * provider cannot tell, and every entity must be treated as changed.
+   */
+  default Optional<Set<String>> getChangedExternalIds(Instant since) {
+    return Optional.empty();
+  }
 }
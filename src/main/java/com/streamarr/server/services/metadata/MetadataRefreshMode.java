@@ -0,0 +1,6 @@
+package com.streamarr.server.services.metadata;
+
+public enum MetadataRefreshMode {
+  FULL,
+  CHANGED_ONLY
+}
@@ -4,6 +4,8 @@ import com.github.mizosoft.methanol.CacheControl;
 import com.github.mizosoft.methanol.MutableRequest;
 import com.streamarr.server.domain.ExternalSourceType;
 import com.streamarr.server.services.metadata.tmdb.TmdbApiException;
+import com.streamarr.server.services.metadata.tmdb.TmdbChange;
+import com.streamarr.server.services.metadata.tmdb.TmdbChanges;
 import com.streamarr.server.services.metadata.tmdb.TmdbCredits;
 import com.streamarr.server.services.metadata.tmdb.TmdbFailure;
 import com.streamarr.server.services.metadata.tmdb.TmdbFindResults;
@@ -14,11 +16,22 @@ import com.streamarr.server.services.metadata.tmdb.TmdbTvSeason;
 import com.streamarr.server.services.metadata.tmdb.TmdbTvSeries;
 import com.streamarr.server.services.parsers.video.VideoFileParserResult;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -36,7 +49,10 @@ import tools.jackson.databind.ObjectMapper;
 public class TheMovieDatabaseHttpService implements TmdbImageDownloader {
 
   private static final CacheControl NO_STORE = CacheControl.newBuilder().noStore().build();
+  private static final CacheControl NO_CACHE = CacheControl.newBuilder().noCache().build();
   private static final int ERROR_BODY_SNIPPET_LENGTH = 200;
+  // TMDB rejects change queries spanning more days than this.
+  private static final int CHANGES_WINDOW_DAYS = 14;
 
   public static final Map<ExternalSourceType, String> EXTERNAL_SOURCES =
       Map.of(ExternalSourceType.IMDB, "imdb_id", ExternalSourceType.TVDB, "tvdb_id");
@@ -142,7 +158,10 @@ public class TheMovieDatabaseHttpService implements TmdbImageDownloader {
 
   public byte[] downloadImage(String pathFragment) throws IOException, InterruptedException {
     var uri = URI.create(tmdbImageBaseUrl + pathFragment);
-    var request = MutableRequest.GET(uri).cacheControl(NO_STORE);
+    var request =
+        MutableRequest.GET(uri)
+            .cacheControl(NO_STORE)
+            .tag(TmdbRequestPriority.class, TmdbRequestPriority.IMAGE);
     var response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
 
     if (response.statusCode() != 200) {
@@ -168,6 +187,58 @@ public class TheMovieDatabaseHttpService implements TmdbImageDownloader {
     return send(request, TmdbTvSeason.class);
   }
 
+  /**
+   * TMDB ids of every movie whose TMDB data changed since {@code since}, or empty when {@code
+   * since} lies further back than TMDB's change feed reaches.
+   */
+  public Optional<Set<String>> getChangedMovieIds(Instant since)
+      throws IOException, InterruptedException {
+    return changedIds("/movie/changes", since);
+  }
+
+  /** As {@link #getChangedMovieIds}, for TV series; season and episode edits count as changes. */
+  public Optional<Set<String>> getChangedTvSeriesIds(Instant since)
+      throws IOException, InterruptedException {
+    return changedIds("/tv/changes", since);
+  }
+
+  private Optional<Set<String>> changedIds(String path, Instant since)
+      throws IOException, InterruptedException {
+    var endDate = LocalDate.now(ZoneOffset.UTC);
+    var startDate = LocalDate.ofInstant(since, ZoneOffset.UTC);
+    if (startDate.isAfter(endDate)) {
+      startDate = endDate;
+    }
+    if (ChronoUnit.DAYS.between(startDate, endDate) > CHANGES_WINDOW_DAYS) {
+      return Optional.empty();
+    }
+
+    var ids = new HashSet<String>();
+    var page = 1;
+    var totalPages = 1;
+    while (page <= totalPages) {
+      var uri =
+          baseUrl()
+              .path(path)
+              .queryParam("start_date", startDate)
+              .queryParam("end_date", endDate)
+              .queryParam("page", page)
+              .build();
+      // The feed is the freshness oracle itself, so it must never be answered from the cache.
+      var request = authenticatedRequest(uri).cacheControl(NO_CACHE).GET().build();
+      var changes = send(request, TmdbChanges.class);
+
+      Optional.ofNullable(changes.getResults()).orElse(List.of()).stream()
+          .map(TmdbChange::getId)
+          .filter(Objects::nonNull)
+          .forEach(id -> ids.add(String.valueOf(id)));
+      totalPages = changes.getTotalPages();
+      page++;
+    }
+
+    return Optional.of(ids);
+  }
+
   private TmdbSearchResults searchForMovieRequest(MultiValueMap<String, String> query)
       throws IOException, InterruptedException {
     var uri = baseUrl().path("/search/movie").queryParams(query).build();
@@ -179,52 +250,66 @@ public class TheMovieDatabaseHttpService implements TmdbImageDownloader {
 
   private <T> T send(HttpRequest request, Class<T> responseType)
       throws IOException, InterruptedException {
-    var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    var response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+    return readResponse(response, responseType);
+  }
 
-    if (response.statusCode() == 200) {
-      return decodeResponseBody(response, responseType);
-    }
+  // Successful bodies are decoded as they stream in; only error bodies, which are small, are
+  // buffered for the failure message.
+  private <T> T readResponse(HttpResponse<InputStream> response, Class<T> responseType)
+      throws IOException {
+    try (var body = response.body()) {
+      if (response.statusCode() == 200) {
+        return decodeResponseBody(response.statusCode(), body, responseType);
+      }
 
-    throw apiException(response);
+      throw apiException(
+          response.statusCode(), new String(body.readAllBytes(), StandardCharsets.UTF_8));
+    }
   }
 
-  private <T> T decodeResponseBody(HttpResponse<String> response, Class<T> responseType)
+  private <T> T decodeResponseBody(int statusCode, InputStream body, Class<T> responseType)
       throws IOException {
     try {
-      var responseBody = objectMapper.readValue(response.body(), responseType);
+      var responseBody = objectMapper.readValue(body, responseType);
       if (responseBody == null) {
-        throw new IOException(
-            "Failed to decode TMDB response body with status " + response.statusCode());
+        throw new IOException("Failed to decode TMDB response body with status " + statusCode);
       }
       return responseBody;
     } catch (JacksonException ex) {
-      throw new IOException(
-          "Failed to decode TMDB response body with status " + response.statusCode(), ex);
+      throw new IOException("Failed to decode TMDB response body with status " + statusCode, ex);
     }
   }
 
-  private TmdbApiException apiException(HttpResponse<String> response) {
+  private TmdbApiException apiException(int statusCode, String body) {
     try {
-      var failure = objectMapper.readValue(response.body(), TmdbFailure.class);
+      var failure = objectMapper.readValue(body, TmdbFailure.class);
       if (failure == null) {
-        return unparseableApiException(response);
+        return unparseableApiException(statusCode, body);
       }
-      return new TmdbApiException(response.statusCode(), failure.getStatusMessage());
+      return new TmdbApiException(statusCode, failure.getStatusMessage());
     } catch (JacksonException _) {
-      return unparseableApiException(response);
+      return unparseableApiException(statusCode, body);
     }
   }
 
-  private TmdbApiException unparseableApiException(HttpResponse<String> response) {
+  private TmdbApiException unparseableApiException(int statusCode, String body) {
     var bodySnippet =
-        StringUtils.abbreviate(
-            StringUtils.normalizeSpace(response.body()), ERROR_BODY_SNIPPET_LENGTH);
-    return new TmdbApiException(
-        response.statusCode(), "Unparseable error response body: " + bodySnippet);
+        StringUtils.abbreviate(StringUtils.normalizeSpace(body), ERROR_BODY_SNIPPET_LENGTH);
+    return new TmdbApiException(statusCode, "Unparseable error response body: " + bodySnippet);
   }
 
-  private HttpRequest.Builder authenticatedRequest(URI uri) {
-    return HttpRequest.newBuilder().uri(uri).header("Authorization", "Bearer " + tmdbApiToken);
+  private MutableRequest authenticatedRequest(URI uri) {
+    var request =
+        MutableRequest.create(uri)
+            .header("Authorization", "Bearer " + tmdbApiToken)
+            .tag(TmdbRequestPriority.class, TmdbRequestPriority.current());
+
+    if (TmdbCacheMode.current() == TmdbCacheMode.REVALIDATE) {
+      request.cacheControl(NO_CACHE);
+    }
+
+    return request;
   }
 
   private UriBuilder baseUrl() {
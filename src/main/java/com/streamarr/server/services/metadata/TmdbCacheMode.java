@@ -0,0 +1,38 @@
+package com.streamarr.server.services.metadata;
+
+/**
+ * Whether TMDB answers may come from the response cache within their configured TTL, or must be
+ * revalidated with TMDB first. A library refresh revalidates, since it records the library as in
+ * sync with TMDB and must not reapply a stale copy under that claim.
+ *
+ * <p>Like {@link TmdbRequestPriority}, the mode is carried by the calling thread and inherited by
+ * threads it starts.
+ */
+public enum TmdbCacheMode {
+  REUSE,
+  REVALIDATE;
+
+  private static final InheritableThreadLocal<TmdbCacheMode> CURRENT =
+      new InheritableThreadLocal<>();
+
+  /** The calling thread's mode; work that never declared one reuses cached answers. */
+  public static TmdbCacheMode current() {
+    var mode = CURRENT.get();
+    return mode == null ? REUSE : mode;
+  }
+
+  /** Runs {@code task} with its TMDB requests, and those of threads it starts, in this mode. */
+  public void run(Runnable task) {
+    var previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      task.run();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+}
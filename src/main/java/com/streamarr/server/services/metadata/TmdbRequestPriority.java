@@ -0,0 +1,40 @@
+package com.streamarr.server.services.metadata;
+
+/**
+ * Which TMDB requests go first when the rate budget is contended, highest first. A file dropped
+ * into a watched folder should not wait behind a full library refresh, and artwork can always wait
+ * for metadata.
+ *
+ * <p>The priority is carried by the calling thread and inherited by threads it starts, so a task
+ * that fans out per item keeps its priority across the fan-out.
+ */
+public enum TmdbRequestPriority {
+  INTERACTIVE,
+  SCAN,
+  REFRESH,
+  IMAGE;
+
+  private static final InheritableThreadLocal<TmdbRequestPriority> CURRENT =
+      new InheritableThreadLocal<>();
+
+  /** The calling thread's priority; work that never declared one is treated as a scan. */
+  public static TmdbRequestPriority current() {
+    var priority = CURRENT.get();
+    return priority == null ? SCAN : priority;
+  }
+
+  /** Runs {@code task} with its TMDB requests, and those of threads it starts, at this priority. */
+  public void run(Runnable task) {
+    var previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      task.run();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+}
@@ -8,8 +8,10 @@ import com.streamarr.server.services.metadata.MetadataSearchOutcome;
 import com.streamarr.server.services.metadata.MetadataSearchOutcome.TemporarilyUnavailable;
 import com.streamarr.server.services.metadata.RemoteSearchResult;
 import com.streamarr.server.services.parsers.video.VideoFileParserResult;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -58,6 +60,19 @@ public class MovieMetadataProviderResolver {
     return provider.getMetadata(remoteSearchResult, library);
   }
 
+  public Optional<Set<String>> getChangedExternalIds(Library library, Instant since) {
+    var optionalProvider = getProviderForLibrary(library);
+
+    if (optionalProvider.isEmpty()) {
+      log.error(
+          "No metadata provider found for {} library while fetching movie changes",
+          library.getName());
+      return Optional.empty();
+    }
+
+    return optionalProvider.get().getChangedExternalIds(since);
+  }
+
   private Optional<MetadataProvider<Movie>> getProviderForLibrary(Library library) {
     return movieProviders.stream()
         .filter(provider -> library.getExternalAgentStrategy().equals(provider.getAgentStrategy()))
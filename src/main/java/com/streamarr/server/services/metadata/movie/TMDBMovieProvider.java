@@ -20,6 +20,7 @@ import com.streamarr.server.services.metadata.tmdb.TmdbMovie;
 import com.streamarr.server.services.parsers.video.VideoFileParserResult;
 import com.streamarr.server.utils.TitleSortUtil;
 import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
@@ -156,6 +157,20 @@ public class TMDBMovieProvider implements MetadataProvider<Movie> {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Set<String>> getChangedExternalIds(Instant since) {
+    try {
+      return theMovieDatabaseHttpService.getChangedMovieIds(since);
+    } catch (IOException ex) {
+      log.warn("Failed to read TMDB movie changes since {}", since, ex);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      log.warn("TMDB movie changes fetch interrupted", ex);
+    }
+
+    return Optional.empty();
+  }
+
   private Set<ExternalIdentifier> mapExternalIds(TmdbMovie tmdbMovie) {
 
     var externalIdSet = new HashSet<ExternalIdentifier>();
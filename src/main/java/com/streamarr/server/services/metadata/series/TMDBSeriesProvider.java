@@ -27,6 +27,7 @@ import com.streamarr.server.services.metadata.tmdb.TmdbTvSeries;
 import com.streamarr.server.services.parsers.video.VideoFileParserResult;
 import com.streamarr.server.utils.TitleSortUtil;
 import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.Collections;
@@ -187,6 +188,20 @@ public class TMDBSeriesProvider implements SeriesMetadataProvider {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Set<String>> getChangedExternalIds(Instant since) {
+    try {
+      return theMovieDatabaseHttpService.getChangedTvSeriesIds(since);
+    } catch (IOException ex) {
+      log.warn("Failed to read TMDB series changes since {}", since, ex);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      log.warn("TMDB series changes fetch interrupted", ex);
+    }
+
+    return Optional.empty();
+  }
+
   public Optional<SeasonDetails> getSeasonDetails(
       UUID libraryId, String seriesExternalId, int seasonNumber) {
     var cacheKey = seriesExternalId + ":" + seasonNumber;
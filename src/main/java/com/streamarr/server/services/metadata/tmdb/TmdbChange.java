@@ -0,0 +1,14 @@
+package com.streamarr.server.services.metadata.tmdb;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbChange {
+
+  private Integer id;
+  private Boolean adult;
+}
@@ -10,13 +10,11 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 @Order(0)
 public class EpisodePathMetadataParser implements MetadataParser<EpisodePathResult> {
 
@@ -24,11 +22,30 @@ public class EpisodePathMetadataParser implements MetadataParser<EpisodePathResu
   // TV broadcast was in 1928, so anything below that in the ambiguous range is rejected.
   public static final int EARLIEST_TV_BROADCAST_YEAR = 1928;
 
-  private final EpisodeRegexFixtures episodeRegexFixtures;
+  private static final Pattern SERIES_NAME_PADDING = Pattern.compile("(^[_.-]++)|([_.-]++$)");
+
+  private final List<EpisodeRegexContainer> standardRegexContainerList;
+  private final List<EpisodeRegexContainer> multipleEpisodeRegexContainerList;
+  // Tried when the standard match left the series name blank: named standard patterns first.
+  private final List<EpisodeRegexContainer> seriesNameRegexContainerList;
+
+  public EpisodePathMetadataParser(EpisodeRegexFixtures episodeRegexFixtures) {
+    this.standardRegexContainerList = episodeRegexFixtures.getStandardRegexContainerList();
+    this.multipleEpisodeRegexContainerList =
+        episodeRegexFixtures.getMultipleEpisodeRegexContainerList();
+
+    var seriesNameRegexContainers =
+        new ArrayList<EpisodeRegexContainer>(
+            standardRegexContainerList.stream()
+                .filter(EpisodeRegexContainer.NamedGroupRegex.class::isInstance)
+                .toList());
+    seriesNameRegexContainers.addAll(multipleEpisodeRegexContainerList);
+    this.seriesNameRegexContainerList = List.copyOf(seriesNameRegexContainers);
+  }
 
   public Optional<EpisodePathResult> parse(String filename) {
     var optionalResult =
-        episodeRegexFixtures.getStandardRegexContainerList().stream()
+        standardRegexContainerList.stream()
             .map(regexContainer -> attemptMatch(filename, regexContainer))
             .filter(
                 episodePathResult ->
@@ -51,6 +68,10 @@ public class EpisodePathMetadataParser implements MetadataParser<EpisodePathResu
 
   private Optional<EpisodePathResult> attemptMatch(
       String filename, EpisodeRegexContainer regexContainer) {
+    if (!regexContainer.prefilter().test(filename)) {
+      return Optional.empty();
+    }
+
     return switch (regexContainer) {
       case EpisodeRegexContainer.DateRegex d -> attemptDateMatch(d.regex(), filename);
       case EpisodeRegexContainer.NamedGroupRegex d -> attemptNamedMatch(d.regex(), filename);
@@ -217,23 +238,16 @@ public class EpisodePathMetadataParser implements MetadataParser<EpisodePathResu
   }
 
   private String cleanSeriesName(String input) {
-    return input.trim().replaceAll("(^[_.-]++)|([_.-]++$)", "").trim();
+    return SERIES_NAME_PADDING.matcher(input.trim()).replaceAll("").trim();
   }
 
   private EpisodePathResult fillAdditionalInfo(String filename, EpisodePathResult result) {
+    var expressions =
+        StringUtils.isBlank(result.getSeriesName())
+            ? seriesNameRegexContainerList
+            : multipleEpisodeRegexContainerList;
 
-    var multipleEpisodeRegexContainerSet =
-        new ArrayList<>(episodeRegexFixtures.getMultipleEpisodeRegexContainerList());
-
-    if (StringUtils.isBlank(result.getSeriesName())) {
-      multipleEpisodeRegexContainerSet.addAll(
-          0,
-          episodeRegexFixtures.getStandardRegexContainerList().stream()
-              .filter(EpisodeRegexContainer.NamedGroupRegex.class::isInstance)
-              .toList());
-    }
-
-    return fillAdditionalInfo(filename, result, multipleEpisodeRegexContainerSet);
+    return fillAdditionalInfo(filename, result, expressions);
   }
 
   private EpisodePathResult fillAdditionalInfo(
@@ -1,5 +1,6 @@
 package com.streamarr.server.services.parsers.show.regex;
 
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import lombok.Builder;
 
@@ -10,11 +11,20 @@ public sealed interface EpisodeRegexContainer {
 
   Pattern regex();
 
-  record DateRegex(String expression, String exampleMatch, Pattern regex)
+  /**
+   * Passes every filename {@link #regex()} can match, so a filename that fails it skips the regex.
+   * Defaults to {@link FilenamePrefilters#ANY_FILENAME}.
+   */
+  Predicate<String> prefilter();
+
+  record DateRegex(
+      String expression, String exampleMatch, Pattern regex, Predicate<String> prefilter)
       implements EpisodeRegexContainer {
     @Builder
     // compact constructor for @Builder
-    public DateRegex {}
+    public DateRegex {
+      prefilter = prefilter == null ? FilenamePrefilters.ANY_FILENAME : prefilter;
+    }
 
     public static DateRegexBuilder builder() {
       return new DateRegexBuilder() {
@@ -22,17 +32,21 @@ public sealed interface EpisodeRegexContainer {
         public DateRegex build() {
           var obj = super.build();
 
-          return new DateRegex(obj.expression, obj.exampleMatch, Pattern.compile(obj.expression));
+          return new DateRegex(
+              obj.expression, obj.exampleMatch, Pattern.compile(obj.expression), obj.prefilter);
         }
       };
     }
   }
 
-  record NamedGroupRegex(String expression, String exampleMatch, Pattern regex)
+  record NamedGroupRegex(
+      String expression, String exampleMatch, Pattern regex, Predicate<String> prefilter)
       implements EpisodeRegexContainer {
     @Builder
     // compact constructor for @Builder
-    public NamedGroupRegex {}
+    public NamedGroupRegex {
+      prefilter = prefilter == null ? FilenamePrefilters.ANY_FILENAME : prefilter;
+    }
 
     public static NamedGroupRegexBuilder builder() {
       return new NamedGroupRegexBuilder() {
@@ -41,17 +55,20 @@ public sealed interface EpisodeRegexContainer {
           var obj = super.build();
 
           return new NamedGroupRegex(
-              obj.expression, obj.exampleMatch, Pattern.compile(obj.expression));
+              obj.expression, obj.exampleMatch, Pattern.compile(obj.expression), obj.prefilter);
         }
       };
     }
   }
 
-  record IndexedGroupRegex(String expression, String exampleMatch, Pattern regex)
+  record IndexedGroupRegex(
+      String expression, String exampleMatch, Pattern regex, Predicate<String> prefilter)
       implements EpisodeRegexContainer {
     @Builder
     // compact constructor for @Builder
-    public IndexedGroupRegex {}
+    public IndexedGroupRegex {
+      prefilter = prefilter == null ? FilenamePrefilters.ANY_FILENAME : prefilter;
+    }
 
     public static IndexedGroupRegexBuilder builder() {
       return new IndexedGroupRegexBuilder() {
@@ -60,7 +77,7 @@ public sealed interface EpisodeRegexContainer {
           var obj = super.build();
 
           return new IndexedGroupRegex(
-              obj.expression, obj.exampleMatch, Pattern.compile(obj.expression));
+              obj.expression, obj.exampleMatch, Pattern.compile(obj.expression), obj.prefilter);
         }
       };
     }
@@ -1,15 +1,37 @@
 package com.streamarr.server.services.parsers.show.regex;
 
+import static com.streamarr.server.services.parsers.show.regex.FilenamePrefilters.DIGIT;
+import static com.streamarr.server.services.parsers.show.regex.FilenamePrefilters.PATH_SEPARATOR;
+import static com.streamarr.server.services.parsers.show.regex.FilenamePrefilters.WHITESPACE;
+import static com.streamarr.server.services.parsers.show.regex.FilenamePrefilters.anyOf;
+import static com.streamarr.server.services.parsers.show.regex.FilenamePrefilters.digits;
+import static com.streamarr.server.services.parsers.show.regex.FilenamePrefilters.ignoringCase;
+import static com.streamarr.server.services.parsers.show.regex.FilenamePrefilters.literal;
+import static com.streamarr.server.services.parsers.show.regex.FilenamePrefilters.literalIgnoringCase;
+import static com.streamarr.server.services.parsers.show.regex.FilenamePrefilters.sequence;
+
 import java.util.List;
+import java.util.function.Predicate;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 // Patterns requiring path separators (\\|/) are intentional — the parser always receives full file
 // paths from SeriesFileProcessor.
+//
+// Each prefilter is a condition every match of its expression meets (see FilenamePrefilters); it
+// must stay in step with the expression, which EpisodeRegexFixturesTest checks against a corpus.
 @Component
 @Getter
 public class EpisodeRegexFixtures {
 
+  private static final Predicate<String> SEASON_AND_EPISODE_MARKERS =
+      sequence(ignoringCase('s'), DIGIT).and(sequence(ignoringCase('e'), DIGIT));
+  private static final Predicate<String> SEASON_X_EPISODE =
+      sequence(DIGIT, ignoringCase('x'), DIGIT);
+  private static final Predicate<String> SEPARATOR_THEN_DIGIT = sequence(PATH_SEPARATOR, DIGIT);
+  private static final Predicate<String> PART_MARKER =
+      literalIgnoringCase("pt").or(literalIgnoringCase("part"));
+
   private final List<EpisodeRegexContainer> standardRegexContainerList =
       List.of(
           EpisodeRegexContainer.NamedGroupRegex.builder()
@@ -17,28 +39,33 @@ public class EpisodeRegexFixtures {
               .expression(
                   ".*(\\\\|\\/)(?<seriesname>((?![Ss]([0-9]+)[ ._-]*[Ee]([0-9]+))[^\\\\\\/])*)?[Ss](?<seasonnumber>[0-9]+)[ ._-]*[Ee](?<epnumber>[0-9]+)([^\\\\/]*)$")
               .exampleMatch("/foo.s01.e01")
+              .prefilter(SEASON_AND_EPISODE_MARKERS)
               .build(),
           EpisodeRegexContainer.IndexedGroupRegex.builder()
               // Extracts just an episode number. Ex -> "foo.ep01", "foo.EP_01"
               .expression(".*[\\._ -]()[Ee][Pp]_?([0-9]+)([^\\\\/]*)$")
               .exampleMatch("foo.ep01")
+              .prefilter(literalIgnoringCase("ep"))
               .build(),
           EpisodeRegexContainer.IndexedGroupRegex.builder()
               // Extracts just an episode number. Ex -> "/foo/foo.e01"
               .expression(".*[^\\\\/]*?()(?<=[\\s._])[Ee]([0-9]+)([^\\\\/]*)$")
               .exampleMatch("/foo/foo.e01")
+              .prefilter(sequence(ignoringCase('e'), DIGIT))
               .build(),
           EpisodeRegexContainer.DateRegex.builder()
               // Extracts date from filename. Ex -> "KWX Newsdesk 2020-04-17"
               .expression(
                   ".*(?<year>[0-9]{4})[\\\\._ -](?<month>[0-9]{2})[\\\\._ -](?<day>[0-9]{2})[^\\\\/]*")
               .exampleMatch("KWX Newsdesk 2020-04-17")
+              .prefilter(digits(4))
               .build(),
           EpisodeRegexContainer.DateRegex.builder()
               // Extracts date from filename. Ex -> "KWX Newsdesk 17-04-2020"
               .expression(
                   ".*(?<day>[0-9]{2})[._ -](?<month>[0-9]{2})[._ -](?<year>[0-9]{4})[^\\\\/]*")
               .exampleMatch("KWX Newsdesk 17-04-2020")
+              .prefilter(digits(4))
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts seriesName, seasonNumber, episodeNumber via verbose keywords.
@@ -46,6 +73,7 @@ public class EpisodeRegexFixtures {
               .expression(
                   ".*[\\\\\\/]((?<seriesname>[^\\\\\\/]+?)\\s)?[Ss](?:eason)?\\s*(?<seasonnumber>[0-9]+)\\s+[Ee](?:pisode)?\\s*(?<epnumber>[0-9]+).*$")
               .exampleMatch("/media/My Show Season 1 Episode 3.mkv")
+              .prefilter(sequence(DIGIT, WHITESPACE))
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts seriesName, episodeNumber, and optionally endingEpisodeNumber. Ex ->
@@ -53,6 +81,7 @@ public class EpisodeRegexFixtures {
               .expression(
                   ".*[\\\\\\/](?![Ee]pisode)(?<seriesname>[\\w\\s]+?)\\s(?<epnumber>[0-9]{1,3})(-(?<endingepnumber>[0-9]{2,3}))*[^\\\\\\/x]*$")
               .exampleMatch("/Season 1/name episode 03-06")
+              .prefilter(sequence(WHITESPACE, DIGIT))
               .build(),
           EpisodeRegexContainer.IndexedGroupRegex.builder()
               // Extracts episodeNumber, seasonNumber. Matches any separator (path, dot, space,
@@ -60,6 +89,7 @@ public class EpisodeRegexFixtures {
               .expression(
                   "^.*?[\\\\\\/\\._ \\[\\(-]([0-9]+)x([0-9]+(?:(?:[a-i]|\\.[1-9])(?![0-9]))?)([^\\\\\\/]*)$")
               .exampleMatch("foo 02x03")
+              .prefilter(sequence(DIGIT, anyOf("x"), DIGIT))
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Warning; Causes false positives for triple-digit episode names
@@ -67,6 +97,7 @@ public class EpisodeRegexFixtures {
               .expression(
                   ".*[\\\\\\/]?.*?(\\[.*?\\])+.*?(?<seriesname>[-\\w\\s.]+?)[\\s_.]*-[\\s_.]*(?<epnumber>[0-9]+).*$")
               .exampleMatch("[tag].Foo.-.01")
+              .prefilter(literal("[").and(literal("]")))
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // /server/anything_102.mp4
@@ -75,36 +106,42 @@ public class EpisodeRegexFixtures {
               .expression(
                   "^.*?(?!.*\\/)(?<seriesname>(?![0-9]+[0-9][0-9])([^\\\\\\\\\\\\/_])*)[\\\\\\\\\\\\/._ -](?<seasonnumber>[0-9]+)(?<epnumber>[0-9][0-9](?:(?:[a-i]|\\\\.[1-9])(?![0-9]))?)([._ -][^\\\\\\/]*)?$")
               .exampleMatch("/server/anything_102")
+              .prefilter(digits(3))
               .build(),
           EpisodeRegexContainer.IndexedGroupRegex.builder()
               // Extracts episode from part number. Ex -> "/season 1/title_part_1.avi"
               .expression(
                   ".*[\\\\/._ -][Pp](?:[Aa][Rr])?[Tt][_. -]()([ivx]+|[0-9]+)([._ -][^\\\\/]*)$")
               .exampleMatch("/season 1/title_part_1.avi")
+              .prefilter(PART_MARKER)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts episodeNumber and optionally endingEpisodeNumber. Ex -> "/foo/Episode 16"
               .expression(
                   ".*[Ee]pisode (?<epnumber>[0-9]+)(-(?<endingepnumber>[0-9]+))?[^\\\\\\/]*$")
               .exampleMatch("/foo/Episode 16")
+              .prefilter(literal("pisode "))
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts seasonNumber and episodeNumber. Ex -> "/season 1/2x1 foo"
               .expression(
                   ".*(\\\\|\\/)[sS]?(?<seasonnumber>[0-9]+)[xX](?<epnumber>[0-9]+)[^\\\\\\/]*$")
               .exampleMatch("/season 1/2x1 foo")
+              .prefilter(SEASON_X_EPISODE)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts seasonNumber and episodeNumber. Ex -> "/season 1/s2xe1 foo"
               .expression(
                   ".*(\\\\|\\/)[sS](?<seasonnumber>[0-9]+)[x,X]?[eE](?<epnumber>[0-9]+)[^\\\\\\/]*$")
               .exampleMatch("/season 1/s2xe1 foo")
+              .prefilter(SEASON_AND_EPISODE_MARKERS)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts seasonNumber and episodeNumber. Ex -> "/season 01/02 episode title"
               .expression(
                   ".*[Ss]eason[\\._ ](?<seasonnumber>[0-9]+)[\\\\\\/](?<epnumber>[0-9]{1,3})([^\\\\\\/]*)$")
               .exampleMatch("/season 01/02 episode title")
+              .prefilter(literal("eason"))
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts seriesName, seasonNumber, and episodeNumber. Ex ->
@@ -112,6 +149,7 @@ public class EpisodeRegexFixtures {
               .expression(
                   ".*(\\\\|\\/)(?<seriesname>((?![sS]?[0-9]{1,4}[xX][0-9]{1,3})[^\\\\\\/])*)?([sS]?(?<seasonnumber>[0-9]{1,4})[xX](?<epnumber>[0-9]+))[^\\\\\\/]*$")
               .exampleMatch("/server/the_greenfields-s02x01_18536.mp4")
+              .prefilter(SEASON_X_EPISODE)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts seriesName, seasonNumber, and episodeNumber. Ex ->
@@ -119,17 +157,20 @@ public class EpisodeRegexFixtures {
               .expression(
                   ".*(\\\\|\\/)(?<seriesname>[^\\\\\\/]*)[sS](?<seasonnumber>[0-9]{1,4})[xX\\.]?[eE](?<epnumber>[0-9]+)[^\\\\\\/]*$")
               .exampleMatch("/server/the_greenfields-s02e01_18536.mp4")
+              .prefilter(SEASON_AND_EPISODE_MARKERS)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts episodeNumber and optionally endingEpisodeNumber. Ex -> "/01-03.avi",
               // "/01.avi"
               .expression(".*[\\\\\\/](?<epnumber>[0-9]+)(-(?<endingepnumber>[0-9]+))*\\.\\w+$")
               .exampleMatch("/01.avi")
+              .prefilter(SEPARATOR_THEN_DIGIT)
               .build(),
           EpisodeRegexContainer.IndexedGroupRegex.builder()
               // Extracts seasonNumber and episodeNumber. Ex -> "1-12 episode title, 1-12.avi"
               .expression(".*([0-9]+)-([0-9]+).*$")
               .exampleMatch("1-12 episode title")
+              .prefilter(sequence(DIGIT, anyOf("-"), DIGIT))
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts episodeNumber and optionally endingEpisodeNumber. Ex -> "/01 - blah",
@@ -137,6 +178,7 @@ public class EpisodeRegexFixtures {
               .expression(
                   ".*(\\\\|\\/)(?<epnumber>[0-9]{1,3})(-(?<endingepnumber>[0-9]{2,3}))*\\s?-\\s?[^\\\\\\/]*$")
               .exampleMatch("/01 - blah")
+              .prefilter(SEPARATOR_THEN_DIGIT)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts episodeNumber and optionally endingEpisodeNumber. Ex -> "/01.blah",
@@ -144,6 +186,7 @@ public class EpisodeRegexFixtures {
               .expression(
                   ".*(\\\\|\\/)(?<epnumber>[0-9]{1,3})(-(?<endingepnumber>[0-9]{2,3}))*\\.[^\\\\\\/]+$")
               .exampleMatch("/01.blah")
+              .prefilter(SEPARATOR_THEN_DIGIT)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts episodeNumber and optionally endingEpisodeNumber. Ex -> "/blah - 01",
@@ -151,18 +194,21 @@ public class EpisodeRegexFixtures {
               .expression(
                   ".*[\\\\\\/][^\\\\\\/]* - (?<epnumber>[0-9]{1,3})(-(?<endingepnumber>[0-9]{2,3}))*[^\\\\\\/]*$")
               .exampleMatch("/blah - 01")
+              .prefilter(literal(" - "))
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts seriesName and seasonNumber. Ex -> "the show/season 1", "the show/s01"
               .expression(
                   "(.*(\\\\|\\/))*(?<seriesname>.+)\\/[Ss](eason)?[\\. _\\-]*(?<seasonnumber>[0-9]+)")
               .exampleMatch("the show/season 1")
+              .prefilter(sequence(anyOf("/"), ignoringCase('s')))
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               // Extracts seriesName and seasonNumber. Ex -> "the show S01", "the show season 1"
               .expression(
                   "(.*(\\\\|\\/))*(?<seriesname>.+)[\\. _\\-]+[sS](eason)?[\\. _\\-]*(?<seasonnumber>[0-9]+)")
               .exampleMatch("the show S01")
+              .prefilter(sequence(anyOf(". _-"), ignoringCase('s')))
               .build());
 
   private final List<EpisodeRegexContainer> multipleEpisodeRegexContainerList =
@@ -170,41 +216,51 @@ public class EpisodeRegexFixtures {
           EpisodeRegexContainer.NamedGroupRegex.builder()
               .expression(
                   ".*(\\\\|\\/)[sS]?(?<seasonnumber>[0-9]{1,4})[xX](?<epnumber>[0-9]{1,3})((-| - )[0-9]{1,4}[eExX](?<endingepnumber>[0-9]{1,3}))+[^\\\\\\/]*$")
+              .prefilter(SEASON_X_EPISODE)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               .expression(
                   ".*(\\\\|\\/)[sS]?(?<seasonnumber>[0-9]{1,4})[xX](?<epnumber>[0-9]{1,3})((-| - )[0-9]{1,4}[xX][eE](?<endingepnumber>[0-9]{1,3}))+[^\\\\\\/]*$")
+              .prefilter(SEASON_X_EPISODE)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               .expression(
                   ".*(\\\\|\\/)[sS]?(?<seasonnumber>[0-9]{1,4})[xX](?<epnumber>[0-9]{1,3})((-| - )?[xXeE](?<endingepnumber>[0-9]{1,3}))+[^\\\\\\/]*$")
+              .prefilter(SEASON_X_EPISODE)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               .expression(
                   ".*(\\\\|\\/)[sS]?(?<seasonnumber>[0-9]{1,4})[xX](?<epnumber>[0-9]{1,3})(-[xE]?[eE]?(?<endingepnumber>[0-9]{1,3}))+[^\\\\\\/]*$")
+              .prefilter(SEASON_X_EPISODE)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               .expression(
                   ".*(\\\\|\\/)(?<seriesname>((?![sS]?[0-9]{1,4}[xX][0-9]{1,3})[^\\\\\\/])*)?([sS]?(?<seasonnumber>[0-9]{1,4})[xX](?<epnumber>[0-9]{1,3}))((-| - )[0-9]{1,4}[xXeE](?<endingepnumber>[0-9]{1,3}))+[^\\\\\\/]*$")
+              .prefilter(SEASON_X_EPISODE)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               .expression(
                   ".*(\\\\|\\/)(?<seriesname>((?![sS]?[0-9]{1,4}[xX][0-9]{1,3})[^\\\\\\/])*)?([sS]?(?<seasonnumber>[0-9]{1,4})[xX](?<epnumber>[0-9]{1,3}))((-| - )[0-9]{1,4}[xX][eE](?<endingepnumber>[0-9]{1,3}))+[^\\\\\\/]*$")
+              .prefilter(SEASON_X_EPISODE)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               .expression(
                   ".*(\\\\|\\/)(?<seriesname>((?![sS]?[0-9]{1,4}[xX][0-9]{1,3})[^\\\\\\/])*)?([sS]?(?<seasonnumber>[0-9]{1,4})[xX](?<epnumber>[0-9]{1,3}))((-| - )?[xXeE](?<endingepnumber>[0-9]{1,3}))+[^\\\\\\/]*$")
+              .prefilter(SEASON_X_EPISODE)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               .expression(
                   ".*(\\\\|\\/)(?<seriesname>((?![sS]?[0-9]{1,4}[xX][0-9]{1,3})[^\\\\\\/])*)?([sS]?(?<seasonnumber>[0-9]{1,4})[xX](?<epnumber>[0-9]{1,3}))(-[xX]?[eE]?(?<endingepnumber>[0-9]{1,3}))+[^\\\\\\/]*$")
+              .prefilter(SEASON_X_EPISODE)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               .expression(
                   ".*(\\\\|\\/)(?<seriesname>[^\\\\\\/]*)[sS](?<seasonnumber>[0-9]{1,4})[xX\\.]?[eE](?<epnumber>[0-9]{1,3})((-| - )?[xXeE](?<endingepnumber>[0-9]{1,3}))+[^\\\\\\/]*$")
+              .prefilter(SEASON_AND_EPISODE_MARKERS)
               .build(),
           EpisodeRegexContainer.NamedGroupRegex.builder()
               .expression(
                   ".*(\\\\|\\/)(?<seriesname>[^\\\\\\/]*)[sS](?<seasonnumber>[0-9]{1,4})[xX\\.]?[eE](?<epnumber>[0-9]{1,3})(-[xX]?[eE]?(?<endingepnumber>[0-9]{1,3}))+[^\\\\\\/]*$")
+              .prefilter(SEASON_AND_EPISODE_MARKERS)
               .build());
 }
@@ -0,0 +1,74 @@
+package com.streamarr.server.services.parsers.show.regex;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Character scans cheap enough to run ahead of every episode regex. Each prefilter states a
+ * condition every filename its regex matches must meet, such as "a digit followed by an x", so a
+ * failed scan proves the regex cannot match and the backtracking attempt is skipped.
+ */
+@UtilityClass
+public class FilenamePrefilters {
+
+  public static final Predicate<String> ANY_FILENAME = filename -> true;
+
+  public static final IntPredicate DIGIT = c -> c >= '0' && c <= '9';
+
+  public static final IntPredicate PATH_SEPARATOR = c -> c == '/' || c == '\\';
+
+  // Java's default \s: no Unicode spaces unless UNICODE_CHARACTER_CLASS is set.
+  public static final IntPredicate WHITESPACE = c -> " \t\n\u000B\f\r".indexOf(c) >= 0;
+
+  public static IntPredicate anyOf(String chars) {
+    return c -> chars.indexOf(c) >= 0;
+  }
+
+  public static IntPredicate ignoringCase(char letter) {
+    var lower = Character.toLowerCase(letter);
+    var upper = Character.toUpperCase(letter);
+    return c -> c == lower || c == upper;
+  }
+
+  public static Predicate<String> literal(String text) {
+    return filename -> filename.contains(text);
+  }
+
+  /** Some run of consecutive characters matches {@code steps} one character per step. */
+  public static Predicate<String> sequence(IntPredicate... steps) {
+    return filename -> {
+      for (int start = 0; start + steps.length <= filename.length(); start++) {
+        if (matchesAt(filename, start, steps)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  public static Predicate<String> literalIgnoringCase(String text) {
+    var steps = new IntPredicate[text.length()];
+    for (int i = 0; i < steps.length; i++) {
+      steps[i] = ignoringCase(text.charAt(i));
+    }
+    return sequence(steps);
+  }
+
+  /** A run of at least {@code length} digits. */
+  public static Predicate<String> digits(int length) {
+    var steps = new IntPredicate[length];
+    Arrays.fill(steps, DIGIT);
+    return sequence(steps);
+  }
+
+  private static boolean matchesAt(String filename, int start, IntPredicate[] steps) {
+    for (int i = 0; i < steps.length; i++) {
+      if (!steps[i].test(filename.charAt(start + i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
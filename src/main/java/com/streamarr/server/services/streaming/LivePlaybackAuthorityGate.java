@@ -1,18 +1,88 @@
 package com.streamarr.server.services.streaming;
 
+import com.streamarr.server.config.StreamingProperties;
 import com.streamarr.server.domain.streaming.PlaybackAuthority;
 import com.streamarr.server.repositories.auth.AuthSessionRepository;
+import com.streamarr.server.services.events.auth.PlaybackAuthorityRevokedEvent;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * The live authority query, memoized for allowed answers only. Every segment and playlist request
+ * passes this gate, so a viewer would otherwise cost one query per segment.
+ *
+ * <p>Denials and repository failures are never cached: authority unreadable still means playback
+ * denied. Revocations written through the auth repositories invalidate matching entries when they
+ * commit; a change that bypasses them (account disablement, another instance's write) takes effect
+ * once the entry expires, bounding the window to {@code streaming.playback-authority-cache-ttl}.
+ */
 @Service
 @RequiredArgsConstructor
 public class LivePlaybackAuthorityGate implements PlaybackAuthorityGate {
 
+  // Entries are per live viewer; the cap only matters if expired entries pile up between misses.
+  private static final int MAX_ENTRIES = 10_000;
+
   private final AuthSessionRepository authSessionRepository;
+  private final StreamingProperties properties;
+  private final Clock clock;
+
+  private final ConcurrentHashMap<PlaybackAuthority, Instant> allowedUntil =
+      new ConcurrentHashMap<>();
+  private final AtomicLong revocations = new AtomicLong();
 
   @Override
   public boolean allows(PlaybackAuthority authority) {
-    return authSessionRepository.hasLivePlaybackAuthority(authority);
+    var cachedUntil = allowedUntil.get(authority);
+    if (cachedUntil != null && clock.instant().isBefore(cachedUntil)) {
+      return true;
+    }
+
+    var observedRevocations = revocations.get();
+    if (!authSessionRepository.hasLivePlaybackAuthority(authority)) {
+      allowedUntil.remove(authority);
+      return false;
+    }
+
+    remember(authority, observedRevocations);
+    return true;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPlaybackAuthorityRevoked(PlaybackAuthorityRevokedEvent event) {
+    // Bump before removing: a read that raced the revocation either lands before the removal or
+    // sees the new count and withdraws its own entry.
+    revocations.incrementAndGet();
+    allowedUntil
+        .keySet()
+        .removeIf(
+            authority ->
+                authority.authSessionId().equals(event.authSessionId())
+                    || authority.accountId().equals(event.accountId()));
+  }
+
+  private void remember(PlaybackAuthority authority, long observedRevocations) {
+    var ttl = properties.playbackAuthorityCacheTtl();
+    if (ttl.isZero()) {
+      return;
+    }
+
+    var now = clock.instant();
+    if (allowedUntil.size() >= MAX_ENTRIES) {
+      allowedUntil.values().removeIf(expiry -> !now.isBefore(expiry));
+      if (allowedUntil.size() >= MAX_ENTRIES) {
+        return;
+      }
+    }
+
+    allowedUntil.put(authority, now.plus(ttl));
+    if (revocations.get() != observedRevocations) {
+      allowedUntil.remove(authority);
+    }
   }
 }
@@ -43,6 +43,7 @@ public class ProducerLifecycleService {
   public enum ReplacementReason {
     DEAD,
     STALLED,
+    SLOW,
     RESUME_FAILED
   }
 
@@ -173,10 +174,11 @@ public class ProducerLifecycleService {
     }
 
     if (transcodeExecutor.isRunning(command.sessionId(), command.variantLabel())) {
-      // Only a stall observation licenses stopping a live producer; a caller claiming death
-      // against a producer that is running holds a stale view (e.g. another waiter's healthy
+      // Only a stall or slowness observation licenses stopping a live producer; a caller claiming
+      // death against a producer that is running holds a stale view (e.g. another waiter's healthy
       // replacement) and must re-observe instead.
-      if (command.reason() != ReplacementReason.STALLED) {
+      if (command.reason() != ReplacementReason.STALLED
+          && command.reason() != ReplacementReason.SLOW) {
         return new ReplaceResult.Superseded();
       }
       transcodeExecutor.stopVariant(command.sessionId(), command.variantLabel());
@@ -3,11 +3,13 @@ package com.streamarr.server.services.streaming;
 import com.streamarr.server.config.StreamingProperties;
 import com.streamarr.server.domain.streaming.StreamSession;
 import com.streamarr.server.domain.streaming.TranscodeHandle;
+import com.streamarr.server.domain.streaming.TranscodeProgress;
 import com.streamarr.server.domain.streaming.TranscodeStatus;
 import com.streamarr.server.exceptions.TranscodeException;
 import com.streamarr.server.services.streaming.ProducerLifecycleService.ReplaceProducerCommand;
 import com.streamarr.server.services.streaming.ProducerLifecycleService.ReplaceResult;
 import com.streamarr.server.services.streaming.ProducerLifecycleService.ReplacementReason;
+import com.streamarr.server.services.streaming.StreamingMetrics.WaitOutcome;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -35,6 +37,13 @@ import lombok.extern.slf4j.Slf4j;
  * monitor. Producer mutation is serialized by {@link ProducerLifecycleService}'s per-session mutex,
  * whose atomic predicate guarantees at most one producer start per death regardless of concurrent
  * waiters.
+ *
+ * <p>Where the execution target reports the producer's encode progress, a producer whose output
+ * time has stopped moving is classified stalled after the shorter {@code
+ * producerProgressStallThreshold}, without waiting out the publication budget. One whose output
+ * time advances slower than {@code producerMinEncodeSpeed} across a whole {@code
+ * producerSlowEncodeWindow} is classified slow. It is still producing, so it is only moved to a
+ * live target not yet tried, and kept when there is none rather than exhausting the variant.
  */
 @Slf4j
 @Builder
@@ -49,23 +58,78 @@ public class SegmentDeliveryCoordinator {
 
   @Builder.Default private final Duration pollInterval = Duration.ofMillis(100);
 
+  @Builder.Default private final StreamingMetrics metrics = StreamingMetrics.noop();
+
   @Builder.Default
   private final ConcurrentHashMap<VariantKey, VariantDeliveryState> states =
       new ConcurrentHashMap<>();
 
+  // Sessions whose time to first segment is already recorded; dropped with the session.
+  @Builder.Default private final Set<UUID> servedSessions = ConcurrentHashMap.newKeySet();
+
   public SegmentDelivery deliver(UUID sessionId, String variantLabel, String segmentName) {
-    while (true) {
-      var outcome = deliverOnce(sessionId, variantLabel, segmentName);
-      if (outcome != null) {
-        return outcome;
-      }
+    var variantKey = new VariantKey(sessionId, variantLabel);
+    var replacementsBefore = replacementCount(variantKey);
+    var sample = metrics.startSegmentWait();
+
+    var waited = false;
+    SegmentDelivery outcome;
+    while ((outcome = deliverOnce(sessionId, variantLabel, segmentName)) == null) {
       // Every non-terminal pass — waiting on a live producer, a superseded recovery attempt, or a
       // FAILED variant awaiting revival — re-observes at poll cadence, never in a hot loop. The
       // loop owns the one wait and the one interrupt check.
+      waited = true;
       if (!sleepOnePoll()) {
-        return new SegmentDelivery.Cancelled();
+        outcome = new SegmentDelivery.Cancelled();
+        break;
       }
     }
+
+    var recovered = replacementCount(variantKey) > replacementsBefore;
+    metrics.recordSegmentWait(sample, waitOutcome(outcome, waited, recovered));
+    if (outcome instanceof SegmentDelivery.Ready(byte[] data)) {
+      metrics.recordSegmentServed(data.length);
+      recordFirstSegment(sessionId);
+    }
+    return outcome;
+  }
+
+  /**
+   * A delivery counts as recovered when any producer replacement for the variant — this waiter's or
+   * another's — landed while it waited.
+   */
+  private static WaitOutcome waitOutcome(
+      SegmentDelivery outcome, boolean waited, boolean recovered) {
+    return switch (outcome) {
+      case SegmentDelivery.Ready _ when recovered -> WaitOutcome.RECOVERED;
+      case SegmentDelivery.Ready _ when waited -> WaitOutcome.WAITED;
+      case SegmentDelivery.Ready _ -> WaitOutcome.IMMEDIATE;
+      case SegmentDelivery.SessionEnded() -> WaitOutcome.ENDED;
+      case SegmentDelivery.Unrecoverable() -> WaitOutcome.UNRECOVERABLE;
+      case SegmentDelivery.Cancelled() -> WaitOutcome.CANCELLED;
+    };
+  }
+
+  private long replacementCount(VariantKey variantKey) {
+    var state = states.get(variantKey);
+    return state == null ? 0 : state.replacements();
+  }
+
+  private void recordFirstSegment(UUID sessionId) {
+    if (servedSessions.contains(sessionId)) {
+      return;
+    }
+
+    var session = runtimeRegistry.findById(sessionId).orElse(null);
+    // Checked again after the lookup so a destroy in between cannot re-grow the set.
+    if (session == null || session.getCreatedAt() == null || !servedSessions.add(sessionId)) {
+      return;
+    }
+
+    var sinceCreated = Duration.between(session.getCreatedAt(), clock.instant());
+    if (!sinceCreated.isNegative()) {
+      metrics.recordFirstSegment(sinceCreated);
+    }
   }
 
   /**
@@ -122,11 +186,14 @@ public class SegmentDeliveryCoordinator {
 
     var producerAlive = transcodeExecutor.isRunning(sessionId, variantLabel);
     if (producerAlive && !hasStalled(state)) {
+      if (state.hasSlowEncode()) {
+        moveSlowProducer(state, pending);
+      }
       return null;
     }
 
     var reason = replacementReason(producerAlive, positioned, session);
-    logProducerEnd(pending, state.trackedAttempt(), reason);
+    logProducerEnd(pending, state, reason);
     return attemptReplacements(state, pending, reason);
   }
 
@@ -154,6 +221,7 @@ public class SegmentDeliveryCoordinator {
   /** Drops every per-variant delivery state for a destroyed session. */
   public void forgetSession(UUID sessionId) {
     states.keySet().removeIf(key -> key.sessionId().equals(sessionId));
+    servedSessions.remove(sessionId);
   }
 
   private SegmentDelivery tryRead(UUID sessionId, String segmentName) {
@@ -209,12 +277,23 @@ public class SegmentDeliveryCoordinator {
 
   private void syncProgress(
       VariantDeliveryState state, TranscodeHandle handle, PendingSegment pending) {
+    var now = clock.instant();
     state.syncProgress(
         handle,
         index ->
             segmentStore.segmentExists(
                 pending.sessionId(), SegmentNames.siblingName(pending.segmentName(), index)),
-        clock.instant());
+        now);
+    if (state.lacksRunTarget()) {
+      transcodeExecutor
+          .targetRunning(handle.attemptId())
+          .ifPresent(target -> state.recordRunTarget(handle.attemptId(), target));
+    }
+    state.syncEncodeProgress(
+        transcodeExecutor.progress(pending.sessionId(), pending.variantLabel()),
+        properties.producerSlowEncodeWindow(),
+        properties.producerMinEncodeSpeed(),
+        now);
   }
 
   /**
@@ -223,10 +302,12 @@ public class SegmentDeliveryCoordinator {
    * start is read as a hang and replaced by a byte-identical run that is no faster.
    */
   private boolean hasStalled(VariantDeliveryState state) {
+    var now = clock.instant();
     return state.hasStalled(
-        properties.producerStallThreshold(),
-        properties.producerStallThreshold().plus(properties.targetSegmentDuration()),
-        clock.instant());
+            properties.producerStallThreshold(),
+            properties.producerStallThreshold().plus(properties.targetSegmentDuration()),
+            now)
+        || state.hasFrozenEncode(properties.producerProgressStallThreshold(), now);
   }
 
   private boolean sleepOnePoll() {
@@ -239,6 +320,58 @@ public class SegmentDeliveryCoordinator {
     }
   }
 
+  /**
+   * Moves a slow but live producer to the first live target it has not yet run slow on or been
+   * tried on. A byte-identical run on the same machine is no faster, so with no such target, or
+   * when the executor cannot say which target runs it, the slow run is kept and the variant is
+   * never exhausted for slowness.
+   */
+  private void moveSlowProducer(VariantDeliveryState state, PendingSegment pending) {
+    var ticket = state.nextSlowTicket(transcodeExecutor.executionTargets());
+    var target = ticket.target();
+    if (target == null) {
+      return;
+    }
+
+    logProducerEnd(pending, state, ReplacementReason.SLOW);
+    var result =
+        producerLifecycle.replaceProducer(
+            ReplaceProducerCommand.builder()
+                .sessionId(pending.sessionId())
+                .variantLabel(pending.variantLabel())
+                .segmentName(pending.segmentName())
+                .segmentIndex(pending.requestedIndex())
+                .expectedAttemptId(ticket.expectedAttemptId())
+                .reason(ReplacementReason.SLOW)
+                .target(target)
+                .build());
+
+    switch (result) {
+      case ReplaceResult.Replaced(UUID newAttemptId) -> {
+        metrics.recordReplacement(ReplacementReason.SLOW);
+        state.recordReplacement(
+            target,
+            ticket.expectedAttemptId(),
+            newAttemptId,
+            pending.requestedIndex(),
+            clock.instant());
+      }
+      case ReplaceResult.Refused(String refusal) -> {
+        state.recordRefusal(target, ticket.expectedAttemptId());
+        log.warn(
+            "Execution target {} refused a slow producer's replacement for session {} variant {}:"
+                + " {}",
+            target.value(),
+            pending.sessionId(),
+            pending.variantLabel(),
+            refusal);
+      }
+      // Another actor moved the variant on; the next pass observes the new run.
+      case ReplaceResult.Superseded() -> {}
+      case ReplaceResult.SessionGone() -> {}
+    }
+  }
+
   /** Tries live execution targets not attempted since the last publication progress. */
   private SegmentDelivery attemptReplacements(
       VariantDeliveryState state, PendingSegment pending, ReplacementReason reason) {
@@ -272,6 +405,7 @@ public class SegmentDeliveryCoordinator {
 
       switch (result) {
         case ReplaceResult.Replaced(UUID newAttemptId) -> {
+          metrics.recordReplacement(reason);
           if (!state.recordReplacement(
               target, expectedAttemptId, newAttemptId, pending.requestedIndex(), clock.instant())) {
             return null;
@@ -364,13 +498,20 @@ public class SegmentDeliveryCoordinator {
         ReplacementReason.DEAD);
   }
 
-  private void logProducerEnd(PendingSegment pending, UUID attemptId, ReplacementReason reason) {
+  private void logProducerEnd(
+      PendingSegment pending, VariantDeliveryState state, ReplacementReason reason) {
     var message =
         switch (reason) {
           case STALLED ->
-              "Producer stalled for session {} variant {} (attempt {}): no publication within "
-                  + properties.producerStallThreshold()
+              "Producer stalled for session {} variant {} (attempt {}): "
+                  + stallDetail(state)
                   + "; recovering across execution targets";
+          case SLOW ->
+              "Producer slow for session {} variant {} (attempt {}): encoding below "
+                  + properties.producerMinEncodeSpeed()
+                  + "x for "
+                  + properties.producerSlowEncodeWindow()
+                  + "; moving to another execution target";
           case RESUME_FAILED ->
               "Resume could not start a producer for session {} variant {} (attempt {});"
                   + " recovering across execution targets";
@@ -379,7 +520,14 @@ public class SegmentDeliveryCoordinator {
               "Producer died for session {} variant {} (attempt {}); recovering across execution"
                   + " targets";
         };
-    log.warn(message, pending.sessionId(), pending.variantLabel(), attemptId);
+    log.warn(message, pending.sessionId(), pending.variantLabel(), state.trackedAttempt());
+  }
+
+  private String stallDetail(VariantDeliveryState state) {
+    if (state.hasFrozenEncode(properties.producerProgressStallThreshold(), clock.instant())) {
+      return "encode output time unchanged for " + properties.producerProgressStallThreshold();
+    }
+    return "no publication within " + properties.producerStallThreshold();
   }
 
   /** One advertised segment being pursued: where it belongs and the index it maps to. */
@@ -407,6 +555,17 @@ public class SegmentDeliveryCoordinator {
     private int frontier;
     private Instant lastProgressAt = Instant.EPOCH;
     private final Set<ExecutionTargetId> attemptedSinceProgress = new LinkedHashSet<>();
+    private long lastOutTimeMicros = -1;
+    private boolean encoding;
+    private Instant lastEncodeAt = Instant.EPOCH;
+    private Instant rateWindowStartAt;
+    private long rateWindowStartMicros = -1;
+    private boolean slowEncode;
+    private ExecutionTargetId runTarget;
+    // Targets a run of this variant was found slow on; kept across runs and publication progress,
+    // so a slow variant is not moved back and forth between the same machines.
+    private final Set<ExecutionTargetId> slowTargets = new LinkedHashSet<>();
+    private long replacements;
 
     /**
      * Tracks the producer run the requests are waiting on. An attempt this state did not itself
@@ -423,9 +582,11 @@ public class SegmentDeliveryCoordinator {
       if (!handle.attemptId().equals(trackedAttemptId)) {
         attemptedSinceProgress.clear();
         trackedAttemptId = handle.attemptId();
+        runTarget = null;
         runStart = handle.startSequenceNumber();
         frontier = handle.startSequenceNumber();
         lastProgressAt = now;
+        resetEncodeProgress();
       }
 
       var advanced = false;
@@ -439,6 +600,81 @@ public class SegmentDeliveryCoordinator {
       }
     }
 
+    /**
+     * Follows the output time the producer reports. A run is judged on it only once that time has
+     * been seen to move: FFmpeg still probing its input, a finished run, and a target that reports
+     * nothing all leave the publication budgets as the only stall signal.
+     *
+     * <p>The encode rate is the output time gained over each whole {@code slowWindow} of wall
+     * clock, measured here rather than read from FFmpeg's {@code speed}, which averages over the
+     * entire run and so reacts late to a producer that slows down part-way.
+     */
+    private synchronized void syncEncodeProgress(
+        Optional<TranscodeProgress> report, Duration slowWindow, double minSpeed, Instant now) {
+      if (report.isEmpty()) {
+        return;
+      }
+
+      if (report.get().ended()) {
+        encoding = false;
+        return;
+      }
+
+      if (!report.get().hasOutTime()) {
+        return;
+      }
+
+      var outTimeMicros = report.get().outTimeMicros();
+      if (lastOutTimeMicros >= 0 && outTimeMicros != lastOutTimeMicros) {
+        encoding = true;
+        lastEncodeAt = now;
+      }
+      lastOutTimeMicros = outTimeMicros;
+      if (encoding) {
+        syncEncodeRate(outTimeMicros, slowWindow, minSpeed, now);
+      }
+    }
+
+    private void syncEncodeRate(
+        long outTimeMicros, Duration slowWindow, double minSpeed, Instant now) {
+      if (rateWindowStartMicros < 0) {
+        rateWindowStartAt = now;
+        rateWindowStartMicros = outTimeMicros;
+        return;
+      }
+
+      var elapsed = Duration.between(rateWindowStartAt, now);
+      if (elapsed.compareTo(slowWindow) < 0) {
+        return;
+      }
+
+      var encodedSeconds = (outTimeMicros - rateWindowStartMicros) / 1_000_000.0;
+      var wallSeconds = elapsed.toNanos() / 1_000_000_000.0;
+      slowEncode = encodedSeconds / wallSeconds < minSpeed;
+      if (slowEncode && runTarget != null) {
+        slowTargets.add(runTarget);
+      }
+      rateWindowStartAt = now;
+      rateWindowStartMicros = outTimeMicros;
+    }
+
+    private synchronized boolean hasFrozenEncode(Duration progressStallThreshold, Instant now) {
+      return encoding
+          && Duration.between(lastEncodeAt, now).compareTo(progressStallThreshold) >= 0;
+    }
+
+    /** Whether the last whole rate window of this run encoded slower than the floor. */
+    private synchronized boolean hasSlowEncode() {
+      return encoding && slowEncode;
+    }
+
+    private void resetEncodeProgress() {
+      lastOutTimeMicros = -1;
+      encoding = false;
+      rateWindowStartMicros = -1;
+      slowEncode = false;
+    }
+
     /** Whether this run has published at least one segment of its own. */
     private synchronized boolean hasPublished() {
       return frontier > runStart;
@@ -450,6 +686,11 @@ public class SegmentDeliveryCoordinator {
       return Duration.between(lastProgressAt, now).compareTo(budget) >= 0;
     }
 
+    /** Replacements this coordinator has recorded for the variant, across every run. */
+    private synchronized long replacements() {
+      return replacements;
+    }
+
     private synchronized UUID trackedAttempt() {
       return trackedAttemptId;
     }
@@ -458,6 +699,38 @@ public class SegmentDeliveryCoordinator {
       return List.copyOf(attemptedSinceProgress);
     }
 
+    private synchronized boolean lacksRunTarget() {
+      return runTarget == null;
+    }
+
+    /** Fenced: the executor's answer may be about a run this state has already moved past. */
+    private synchronized void recordRunTarget(UUID attemptId, ExecutionTargetId target) {
+      if (attemptId.equals(trackedAttemptId) && runTarget == null) {
+        runTarget = target;
+      }
+    }
+
+    /**
+     * The first live target a slow run could move to: not attempted since the last progress, not
+     * already found slow, and not the one running it. Null when the run has nowhere to go, which
+     * always holds with a single live target, and when the target running it is unknown, since
+     * the move could then land on that same machine.
+     */
+    private synchronized ReplacementTicket nextSlowTicket(Set<ExecutionTargetId> liveTargets) {
+      if (liveTargets.size() < 2 || runTarget == null) {
+        return new ReplacementTicket(trackedAttemptId, null);
+      }
+
+      var target =
+          liveTargets.stream()
+              .filter(candidate -> !candidate.equals(runTarget))
+              .filter(candidate -> !slowTargets.contains(candidate))
+              .filter(candidate -> !attemptedSinceProgress.contains(candidate))
+              .findFirst()
+              .orElse(null);
+      return new ReplacementTicket(trackedAttemptId, target);
+    }
+
     /** The first live target not yet attempted since the last progress; null means exhausted. */
     private synchronized ReplacementTicket nextTicket(Set<ExecutionTargetId> liveTargets) {
       var target =
@@ -478,10 +751,13 @@ public class SegmentDeliveryCoordinator {
         return false;
       }
       attemptedSinceProgress.add(target);
+      replacements++;
       trackedAttemptId = newAttemptId;
+      runTarget = target;
       runStart = requestedIndex;
       frontier = requestedIndex;
       lastProgressAt = now;
+      resetEncodeProgress();
       return true;
     }
 
@@ -512,8 +788,10 @@ public class SegmentDeliveryCoordinator {
 
       attemptedSinceProgress.clear();
       trackedAttemptId = refreshed.attemptId();
+      runTarget = null;
       frontier = refreshed.startSequenceNumber();
       lastProgressAt = now;
+      resetEncodeProgress();
       return Optional.of(Set.copyOf(freshTargets));
     }
   }
@@ -0,0 +1,127 @@
+package com.streamarr.server.services.streaming;
+
+import com.streamarr.server.domain.streaming.TranscodeMode;
+import com.streamarr.server.services.streaming.ProducerLifecycleService.ReplacementReason;
+import com.streamarr.server.services.streaming.local.LocalSegmentStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The streaming quality-of-experience meters. Every tag comes from a closed set (delivery outcome,
+ * replacement reason, transcode mode), so the series stay bounded however many sessions run.
+ *
+ * <p>The wait and first-segment timers publish histograms, so percentiles can be aggregated across
+ * instances by the metrics backend instead of being computed per instance.
+ */
+public class StreamingMetrics {
+
+  static final String FIRST_SEGMENT_METRIC = "streamarr.streaming.first.segment";
+  static final String SEGMENT_WAIT_METRIC = "streamarr.streaming.segment.wait";
+  static final String SEGMENT_BYTES_METRIC = "streamarr.streaming.segment.bytes";
+  static final String REPLACEMENTS_METRIC = "streamarr.streaming.producer.replacements";
+  static final String SESSIONS_METRIC = "streamarr.streaming.sessions";
+  static final String SEGMENT_STORE_BYTES_METRIC = "streamarr.streaming.segment.store.bytes";
+
+  // A segment ready on disk is served in well under a millisecond; recovery across every target can
+  // take several stall thresholds.
+  private static final Duration MIN_EXPECTED_WAIT = Duration.ofMillis(1);
+  private static final Duration MAX_EXPECTED_WAIT = Duration.ofMinutes(2);
+
+  /** How one segment request ended, from the player's point of view. */
+  enum WaitOutcome {
+    IMMEDIATE,
+    WAITED,
+    RECOVERED,
+    ENDED,
+    UNRECOVERABLE,
+    CANCELLED
+  }
+
+  private final MeterRegistry meterRegistry;
+  private final Timer firstSegment;
+  private final Map<WaitOutcome, Timer> segmentWaits = new EnumMap<>(WaitOutcome.class);
+  private final Map<ReplacementReason, Counter> replacements =
+      new EnumMap<>(ReplacementReason.class);
+  private final Counter segmentBytes;
+
+  public StreamingMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.firstSegment = waitTimer(FIRST_SEGMENT_METRIC).register(meterRegistry);
+    for (var outcome : WaitOutcome.values()) {
+      segmentWaits.put(
+          outcome,
+          waitTimer(SEGMENT_WAIT_METRIC).tag("outcome", tagOf(outcome)).register(meterRegistry));
+    }
+    for (var reason : ReplacementReason.values()) {
+      var counter = Counter.builder(REPLACEMENTS_METRIC).tag("reason", tagOf(reason));
+      replacements.put(reason, counter.register(meterRegistry));
+    }
+    this.segmentBytes =
+        Counter.builder(SEGMENT_BYTES_METRIC).baseUnit("bytes").register(meterRegistry);
+  }
+
+  /** Meters that record into a registry nothing reads, for wiring that has no metrics backend. */
+  public static StreamingMetrics noop() {
+    return new StreamingMetrics(new CompositeMeterRegistry());
+  }
+
+  /** Live sessions per transcode mode, counted from the registry when the gauge is read. */
+  public void bindSessions(RuntimeStreamSessionRegistry runtimeRegistry) {
+    for (var mode : TranscodeMode.values()) {
+      Gauge.builder(SESSIONS_METRIC, runtimeRegistry, registry -> countSessions(registry, mode))
+          .tag("mode", tagOf(mode))
+          .register(meterRegistry);
+    }
+  }
+
+  public void bindSegmentStore(LocalSegmentStore segmentStore) {
+    Gauge.builder(SEGMENT_STORE_BYTES_METRIC, segmentStore, LocalSegmentStore::storedBytes)
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  Timer.Sample startSegmentWait() {
+    return Timer.start(meterRegistry);
+  }
+
+  void recordSegmentWait(Timer.Sample sample, WaitOutcome outcome) {
+    sample.stop(segmentWaits.get(outcome));
+  }
+
+  void recordSegmentServed(int bytes) {
+    segmentBytes.increment(bytes);
+  }
+
+  void recordFirstSegment(Duration sinceSessionCreated) {
+    firstSegment.record(sinceSessionCreated);
+  }
+
+  void recordReplacement(ReplacementReason reason) {
+    replacements.get(reason).increment();
+  }
+
+  private static Timer.Builder waitTimer(String name) {
+    return Timer.builder(name)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(MIN_EXPECTED_WAIT)
+        .maximumExpectedValue(MAX_EXPECTED_WAIT);
+  }
+
+  private static double countSessions(RuntimeStreamSessionRegistry registry, TranscodeMode mode) {
+    return registry.findAll().stream()
+        .filter(session -> session.getTranscodeDecision() != null)
+        .filter(session -> session.getTranscodeDecision().transcodeMode() == mode)
+        .count();
+  }
+
+  private static String tagOf(Enum<?> value) {
+    return value.name().toLowerCase(Locale.ROOT).replace('_', '-');
+  }
+}
@@ -1,7 +1,9 @@
 package com.streamarr.server.services.streaming;
 
 import com.streamarr.server.domain.streaming.TranscodeHandle;
+import com.streamarr.server.domain.streaming.TranscodeProgress;
 import com.streamarr.server.domain.streaming.TranscodeRequest;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -24,10 +26,22 @@ public interface TranscodeExecutor {
 
   boolean isRunning(UUID sessionId, String variantLabel);
 
+  /**
+   * The producer's own encode progress, for a target that can observe it. Empty when the target
+   * reports none or the producer has not reported yet; delivery then relies on publication alone.
+   */
+  Optional<TranscodeProgress> progress(UUID sessionId, String variantLabel);
+
   boolean isHealthy();
 
   int availableSlots();
 
   /** Identities eligible to run a producer right now; iteration order drives failover order. */
   Set<ExecutionTargetId> executionTargets();
+
+  /**
+   * The target running the given producer attempt, whichever way it was started. Empty once the
+   * attempt has ended or when the executor cannot tell.
+   */
+  Optional<ExecutionTargetId> targetRunning(UUID attemptId);
 }
@@ -59,6 +59,9 @@ public class FfmpegCommandBuilder {
   private void addInputArgs(List<String> cmd, TranscodeRequest request) {
     cmd.add(ffmpegPath);
     cmd.add("-y");
+    // Machine-readable progress on stdout for the process manager; the human stats line it
+    // replaces would only fill the stderr tail kept for crash logs.
+    cmd.addAll(List.of("-progress", "pipe:1", "-nostats"));
 
     if (request.seekPosition() > 0) {
       cmd.addAll(List.of("-ss", String.valueOf(request.seekPosition())));
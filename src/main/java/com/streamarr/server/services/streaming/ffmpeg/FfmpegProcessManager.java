@@ -1,7 +1,9 @@
 package com.streamarr.server.services.streaming.ffmpeg;
 
+import com.streamarr.server.domain.streaming.TranscodeProgress;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface FfmpegProcessManager {
@@ -15,4 +17,7 @@ public interface FfmpegProcessManager {
   boolean isRunning(UUID sessionId);
 
   boolean isRunning(UUID sessionId, String variantLabel);
+
+  /** The latest progress report of a variant's running process, empty before its first one. */
+  Optional<TranscodeProgress> progress(UUID sessionId, String variantLabel);
 }
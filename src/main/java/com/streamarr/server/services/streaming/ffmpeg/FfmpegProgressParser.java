@@ -0,0 +1,157 @@
+package com.streamarr.server.services.streaming.ffmpeg;
+
+import com.streamarr.server.domain.streaming.TranscodeProgress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses FFmpeg's {@code -progress} report: blocks of {@code key=value} lines, each closed by a
+ * {@code progress=continue} or {@code progress=end} line. Lines are parsed in place from the pipe's
+ * byte buffer, so a report costs one snapshot per block rather than a string per line. Keys this
+ * parser does not use, such as the per-stream quantizers, are skipped.
+ */
+final class FfmpegProgressParser {
+
+  private static final byte[] FRAME = ascii("frame");
+  private static final byte[] FPS = ascii("fps");
+  private static final byte[] BITRATE = ascii("bitrate");
+  private static final byte[] OUT_TIME_US = ascii("out_time_us");
+  private static final byte[] DUP_FRAMES = ascii("dup_frames");
+  private static final byte[] DROP_FRAMES = ascii("drop_frames");
+  private static final byte[] SPEED = ascii("speed");
+  private static final byte[] PROGRESS = ascii("progress");
+  private static final byte[] END = ascii("end");
+
+  // Enough for any value FFmpeg reports; more digits would overflow the long accumulator.
+  private static final int MAX_DIGITS = 18;
+
+  private long frame = -1;
+  private double fps = Double.NaN;
+  private double bitrateKbps = Double.NaN;
+  private long outTimeMicros = -1;
+  private long duplicatedFrames = -1;
+  private long droppedFrames = -1;
+  private double speed = Double.NaN;
+
+  /**
+   * Parses one line, {@code end} exclusive and without its line terminator. Returns the block's
+   * snapshot when the line closes one, otherwise null.
+   */
+  TranscodeProgress parseLine(byte[] line, int start, int end) {
+    var separator = indexOf(line, start, end, (byte) '=');
+    if (separator < 0) {
+      return null;
+    }
+
+    var valueStart = separator + 1;
+    if (keyEquals(line, start, separator, FRAME)) {
+      frame = parseCount(line, valueStart, end);
+    } else if (keyEquals(line, start, separator, FPS)) {
+      fps = parseDecimal(line, valueStart, end);
+    } else if (keyEquals(line, start, separator, BITRATE)) {
+      bitrateKbps = parseDecimal(line, valueStart, end);
+    } else if (keyEquals(line, start, separator, OUT_TIME_US)) {
+      outTimeMicros = parseCount(line, valueStart, end);
+    } else if (keyEquals(line, start, separator, DUP_FRAMES)) {
+      duplicatedFrames = parseCount(line, valueStart, end);
+    } else if (keyEquals(line, start, separator, DROP_FRAMES)) {
+      droppedFrames = parseCount(line, valueStart, end);
+    } else if (keyEquals(line, start, separator, SPEED)) {
+      speed = parseDecimal(line, valueStart, end);
+    } else if (keyEquals(line, start, separator, PROGRESS)) {
+      return new TranscodeProgress(
+          frame,
+          fps,
+          bitrateKbps,
+          outTimeMicros,
+          duplicatedFrames,
+          droppedFrames,
+          speed,
+          keyEquals(line, valueStart, end, END));
+    }
+
+    return null;
+  }
+
+  private static int indexOf(byte[] line, int start, int end, byte target) {
+    for (int i = start; i < end; i++) {
+      if (line[i] == target) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean keyEquals(byte[] line, int start, int end, byte[] key) {
+    if (end - start != key.length) {
+      return false;
+    }
+
+    for (int i = 0; i < key.length; i++) {
+      if (line[start + i] != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** A non-negative integer; {@code N/A} and negative values, which mean unknown, read as -1. */
+  private static long parseCount(byte[] line, int start, int end) {
+    var position = skipSpaces(line, start, end);
+    var value = 0L;
+    var digits = 0;
+
+    while (position < end && digits < MAX_DIGITS && isDigit(line[position])) {
+      value = value * 10 + (line[position] - '0');
+      position++;
+      digits++;
+    }
+
+    return digits == 0 ? -1 : value;
+  }
+
+  /**
+   * A decimal that may carry a unit suffix, as in {@code 1843.2kbits/s} or {@code 1.02x}. Reads
+   * {@code N/A} as {@link Double#NaN}.
+   */
+  private static double parseDecimal(byte[] line, int start, int end) {
+    var position = skipSpaces(line, start, end);
+    var mantissa = 0L;
+    var scale = 1L;
+    var digits = 0;
+    var fraction = false;
+
+    while (position < end && digits < MAX_DIGITS) {
+      var b = line[position];
+      if (isDigit(b)) {
+        mantissa = mantissa * 10 + (b - '0');
+        digits++;
+        if (fraction) {
+          scale *= 10;
+        }
+      } else if (b == '.' && !fraction) {
+        fraction = true;
+      } else {
+        break;
+      }
+      position++;
+    }
+
+    return digits == 0 ? Double.NaN : (double) mantissa / scale;
+  }
+
+  private static int skipSpaces(byte[] line, int start, int end) {
+    var position = start;
+    while (position < end && line[position] == ' ') {
+      position++;
+    }
+    return position;
+  }
+
+  private static boolean isDigit(byte b) {
+    return b >= '0' && b <= '9';
+  }
+
+  private static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+}
@@ -3,10 +3,12 @@ package com.streamarr.server.services.streaming.ffmpeg;
 import com.streamarr.server.domain.streaming.TranscodeHandle;
 import com.streamarr.server.domain.streaming.TranscodeJob;
 import com.streamarr.server.domain.streaming.TranscodeMode;
+import com.streamarr.server.domain.streaming.TranscodeProgress;
 import com.streamarr.server.domain.streaming.TranscodeRequest;
 import com.streamarr.server.domain.streaming.TranscodeStatus;
 import com.streamarr.server.exceptions.TranscodeException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -62,6 +64,10 @@ public class FfmpegTranscodeEngine {
     return processManager.isRunning(sessionId, variantLabel);
   }
 
+  public Optional<TranscodeProgress> progress(UUID sessionId, String variantLabel) {
+    return processManager.progress(sessionId, variantLabel);
+  }
+
   public boolean isHealthy() {
     return capabilityService.isFfmpegAvailable();
   }
@@ -1,14 +1,23 @@
 package com.streamarr.server.services.streaming.ffmpeg;
 
+import com.streamarr.server.domain.streaming.TranscodeProgress;
 import com.streamarr.server.exceptions.TranscodeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -18,11 +27,37 @@ public class LocalFfmpegProcessManager implements FfmpegProcessManager {
   private static final long GRACEFUL_SHUTDOWN_SECONDS = 5;
   private static final int STDERR_TAIL_LIMIT = 2000;
 
+  static final String FPS_METRIC = "streamarr.transcode.progress.fps";
+  static final String SPEED_METRIC = "streamarr.transcode.progress.speed";
+  static final String OUT_TIME_METRIC = "streamarr.transcode.progress.out.time";
+  static final String BITRATE_METRIC = "streamarr.transcode.progress.bitrate";
+  static final String DUPLICATED_FRAMES_METRIC = "streamarr.transcode.progress.duplicated.frames";
+  static final String DROPPED_FRAMES_METRIC = "streamarr.transcode.progress.dropped.frames";
+  static final String PROCESSES_METRIC = "streamarr.transcode.processes";
+
   private record ProcessKey(UUID sessionId, String variantLabel) {}
 
-  private record ManagedProcess(Process process, StderrDrainer drainer) {}
+  private record ManagedProcess(
+      Process process, StderrDrainer drainer, ProgressDrainer progress, List<Meter> meters) {}
 
   private final ConcurrentHashMap<ProcessKey, ManagedProcess> processes = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+
+  /** Without a registry the gauges go to the global one, a no-op until one is added. */
+  public LocalFfmpegProcessManager() {
+    this(Metrics.globalRegistry);
+  }
+
+  @Autowired
+  public LocalFfmpegProcessManager(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    Gauge.builder(PROCESSES_METRIC, this, LocalFfmpegProcessManager::countAliveProcesses)
+        .register(meterRegistry);
+  }
+
+  private double countAliveProcesses() {
+    return processes.values().stream().filter(managed -> managed.process().isAlive()).count();
+  }
 
   @Override
   public Process startProcess(
@@ -33,7 +68,17 @@ public class LocalFfmpegProcessManager implements FfmpegProcessManager {
 
       var process = processBuilder.start();
       var drainer = new StderrDrainer(process.getErrorStream());
-      processes.put(new ProcessKey(sessionId, variantLabel), new ManagedProcess(process, drainer));
+      var progress = new ProgressDrainer(process.getInputStream());
+      // Gauges share an id across runs of one variant, so they are swapped under the entry's lock.
+      processes.compute(
+          new ProcessKey(sessionId, variantLabel),
+          (key, replaced) -> {
+            if (replaced != null) {
+              removeProgressGauges(replaced);
+            }
+            return new ManagedProcess(
+                process, drainer, progress, registerProgressGauges(key, progress));
+          });
 
       log.info(
           "Started FFmpeg process (PID {}) for session {} variant {}",
@@ -78,13 +123,19 @@ public class LocalFfmpegProcessManager implements FfmpegProcessManager {
 
     if (!managed.process().isAlive()) {
       logUnobservedExit(managed, sessionId);
-      managed.drainer().close();
+      closeDrainers(managed);
       return;
     }
 
     sendQuitSignal(managed.process(), sessionId);
     awaitGracefulShutdown(managed.process(), sessionId);
+    closeDrainers(managed);
+  }
+
+  private void closeDrainers(ManagedProcess managed) {
     managed.drainer().close();
+    managed.progress().close();
+    removeProgressGauges(managed);
   }
 
   /** A corpse disposed of on a planned stop still gets its crash detail into the log. */
@@ -148,15 +199,82 @@ public class LocalFfmpegProcessManager implements FfmpegProcessManager {
     if (!managed.process().isAlive()) {
       logObservedExit(key, managed);
       managed.drainer().close();
+      managed.progress().close();
       // Conditional: recovery may have replaced the entry while this thread was logging the old
       // process's exit — an unconditional remove would unregister the live replacement.
-      processes.remove(key, managed);
+      processes.computeIfPresent(
+          key,
+          (k, current) -> {
+            if (current != managed) {
+              return current;
+            }
+            removeProgressGauges(current);
+            return null;
+          });
       return false;
     }
 
     return true;
   }
 
+  @Override
+  public Optional<TranscodeProgress> progress(UUID sessionId, String variantLabel) {
+    var managed = processes.get(new ProcessKey(sessionId, variantLabel));
+    if (managed == null) {
+      return Optional.empty();
+    }
+
+    return managed.progress().getLatest();
+  }
+
+  /**
+   * Tagged by session as well as variant, since concurrent sessions share variant labels. Each
+   * session's gauges are removed with its process, so the series stay bounded by the transcodes
+   * actually running.
+   */
+  private List<Meter> registerProgressGauges(ProcessKey key, ProgressDrainer progress) {
+    var tags = Tags.of("session", key.sessionId().toString(), "variant", key.variantLabel());
+    return List.of(
+        progressGauge(FPS_METRIC, tags, progress, TranscodeProgress::fps, null),
+        progressGauge(SPEED_METRIC, tags, progress, TranscodeProgress::speed, null),
+        progressGauge(
+            OUT_TIME_METRIC, tags, progress, p -> outTimeSeconds(p.outTimeMicros()), "seconds"),
+        progressGauge(BITRATE_METRIC, tags, progress, TranscodeProgress::bitrateKbps, "kbps"),
+        progressGauge(
+            DUPLICATED_FRAMES_METRIC,
+            tags,
+            progress,
+            p -> counterValue(p.duplicatedFrames()),
+            "frames"),
+        progressGauge(
+            DROPPED_FRAMES_METRIC, tags, progress, p -> counterValue(p.droppedFrames()), "frames"));
+  }
+
+  private Meter progressGauge(
+      String name,
+      Tags tags,
+      ProgressDrainer progress,
+      ToDoubleFunction<TranscodeProgress> value,
+      String baseUnit) {
+    return Gauge.builder(
+            name, progress, drainer -> value.applyAsDouble(drainer.getLatestOrUnknown()))
+        .tags(tags)
+        .baseUnit(baseUnit)
+        .register(meterRegistry);
+  }
+
+  private void removeProgressGauges(ManagedProcess managed) {
+    managed.meters().forEach(meterRegistry::remove);
+  }
+
+  private static double outTimeSeconds(long outTimeMicros) {
+    return outTimeMicros < 0 ? Double.NaN : outTimeMicros / 1_000_000.0;
+  }
+
+  private static double counterValue(long count) {
+    return count < 0 ? Double.NaN : count;
+  }
+
   /** The death site logs its own crash detail; nothing downstream needs to reconstruct it. */
   private void logObservedExit(ProcessKey key, ManagedProcess managed) {
     try {
@@ -2,11 +2,13 @@ package com.streamarr.server.services.streaming.ffmpeg;
 
 import com.streamarr.server.domain.streaming.StreamSession;
 import com.streamarr.server.domain.streaming.TranscodeHandle;
+import com.streamarr.server.domain.streaming.TranscodeProgress;
 import com.streamarr.server.domain.streaming.TranscodeRequest;
 import com.streamarr.server.services.streaming.ExecutionTargetId;
 import com.streamarr.server.services.streaming.TranscodeExecutor;
 import com.streamarr.server.services.streaming.local.LocalSegmentStore;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +48,11 @@ public class LocalTranscodeExecutor implements TranscodeExecutor {
     return engine.isRunning(sessionId, variantLabel);
   }
 
+  @Override
+  public Optional<TranscodeProgress> progress(UUID sessionId, String variantLabel) {
+    return engine.progress(sessionId, variantLabel);
+  }
+
   @Override
   public boolean isHealthy() {
     return engine.isHealthy();
@@ -61,6 +68,11 @@ public class LocalTranscodeExecutor implements TranscodeExecutor {
     return Set.of(ExecutionTargetId.LOCAL);
   }
 
+  @Override
+  public Optional<ExecutionTargetId> targetRunning(UUID attemptId) {
+    return Optional.of(ExecutionTargetId.LOCAL);
+  }
+
   private Path resolveOutputDir(TranscodeRequest request) {
     if (StreamSession.defaultVariant().equals(request.variantLabel())) {
       return segmentStore.getOutputDirectory(request.sessionId());
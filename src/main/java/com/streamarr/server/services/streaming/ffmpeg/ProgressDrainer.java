@@ -0,0 +1,82 @@
+package com.streamarr.server.services.streaming.ffmpeg;
+
+import com.streamarr.server.domain.streaming.TranscodeProgress;
+import java.io.InputStream;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains FFmpeg's {@code -progress pipe:1} report from stdout and keeps the latest block. Like
+ * stderr, stdout must be drained for the life of the process: FFmpeg blocks writing its report
+ * once the pipe buffer fills.
+ */
+@Slf4j
+final class ProgressDrainer implements AutoCloseable {
+
+  // FFmpeg's progress lines are short; a longer line is not progress and is skipped whole.
+  static final int BUFFER_SIZE = 4096;
+
+  private final FfmpegProgressParser parser = new FfmpegProgressParser();
+  private final Thread drainThread;
+  private volatile TranscodeProgress latest;
+
+  ProgressDrainer(InputStream progressStream) {
+    this.drainThread =
+        Thread.ofVirtual().name("progress-drainer").start(() -> drain(progressStream));
+  }
+
+  private void drain(InputStream progressStream) {
+    var buffer = new byte[BUFFER_SIZE];
+    var filled = 0;
+    var skippingLongLine = false;
+
+    try (progressStream) {
+      int read;
+      while ((read = progressStream.read(buffer, filled, buffer.length - filled)) != -1) {
+        var lineStart = 0;
+        for (int i = filled; i < filled + read; i++) {
+          if (buffer[i] != '\n') {
+            continue;
+          }
+          if (!skippingLongLine) {
+            parseLine(buffer, lineStart, i);
+          }
+          skippingLongLine = false;
+          lineStart = i + 1;
+        }
+
+        filled += read - lineStart;
+        System.arraycopy(buffer, lineStart, buffer, 0, filled);
+        if (filled == buffer.length) {
+          skippingLongLine = true;
+          filled = 0;
+        }
+      }
+    } catch (Exception e) {
+      log.debug("Progress drain thread terminated: {}", e.getMessage());
+    }
+  }
+
+  private void parseLine(byte[] buffer, int start, int end) {
+    var lineEnd = end > start && buffer[end - 1] == '\r' ? end - 1 : end;
+    var progress = parser.parseLine(buffer, start, lineEnd);
+    if (progress != null) {
+      latest = progress;
+    }
+  }
+
+  /** The last complete block FFmpeg reported, or empty before its first report. */
+  Optional<TranscodeProgress> getLatest() {
+    return Optional.ofNullable(latest);
+  }
+
+  TranscodeProgress getLatestOrUnknown() {
+    var progress = latest;
+    return progress != null ? progress : TranscodeProgress.UNKNOWN;
+  }
+
+  @Override
+  public void close() {
+    drainThread.interrupt();
+  }
+}
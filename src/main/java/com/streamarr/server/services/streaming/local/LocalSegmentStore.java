@@ -6,9 +6,12 @@ import com.streamarr.server.services.streaming.SegmentStore;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -112,6 +115,43 @@ public class LocalSegmentStore implements SegmentStore {
     }
   }
 
+  /**
+   * Bytes on disk under the segment base directory, in-flight uploads included. Walks the tree on
+   * every call, so it is meant for a metrics scrape rather than a request path; files a producer
+   * rotates away mid-walk are simply not counted.
+   */
+  public long storedBytes() {
+    if (!Files.isDirectory(baseDir)) {
+      return 0;
+    }
+
+    var total = new SizeTotal();
+    try {
+      Files.walkFileTree(baseDir, total);
+    } catch (IOException e) {
+      log.debug("Could not measure segment store {}: {}", baseDir, e.getMessage());
+    }
+    return total.bytes;
+  }
+
+  private static final class SizeTotal extends SimpleFileVisitor<Path> {
+
+    private long bytes;
+
+    @Override
+    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+      if (attributes.isRegularFile()) {
+        bytes += attributes.size();
+      }
+      return FileVisitResult.CONTINUE;
+    }
+
+    @Override
+    public FileVisitResult visitFileFailed(Path file, IOException e) {
+      return FileVisitResult.CONTINUE;
+    }
+  }
+
   public void shutdown() {
     sessionDirs.forEach(
         (id, dir) -> {
@@ -106,6 +106,13 @@ final class LiveWorkerConnectionRegistry {
         .collect(Collectors.toCollection(LinkedHashSet::new));
   }
 
+  Optional<ExecutionTargetId> targetRunning(UUID jobAttemptId) {
+    return connections.values().stream()
+        .filter(connection -> connection.holdsJobAttempt(jobAttemptId))
+        .map(connection -> new ExecutionTargetId(connection.workerSessionId().toString()))
+        .findFirst();
+  }
+
   boolean stopVariant(UUID streamSessionId, String variantLabel) {
     for (var connection : connections.values()) {
       if (connection.stopVariant(streamSessionId, variantLabel)) {
@@ -262,6 +269,10 @@ final class LiveWorkerConnectionRegistry {
       }
     }
 
+    private synchronized boolean holdsJobAttempt(UUID jobAttemptId) {
+      return activeVariants.containsKey(jobAttemptId);
+    }
+
     private synchronized Optional<VariantJob> releaseJobAttempt(UUID jobAttemptId) {
       return Optional.ofNullable(activeVariants.remove(jobAttemptId));
     }
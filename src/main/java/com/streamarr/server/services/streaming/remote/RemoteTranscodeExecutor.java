@@ -1,12 +1,14 @@
 package com.streamarr.server.services.streaming.remote;
 
 import com.streamarr.server.domain.streaming.TranscodeHandle;
+import com.streamarr.server.domain.streaming.TranscodeProgress;
 import com.streamarr.server.domain.streaming.TranscodeRequest;
 import com.streamarr.server.domain.streaming.TranscodeStatus;
 import com.streamarr.server.exceptions.TranscodeException;
 import com.streamarr.server.services.streaming.ExecutionTargetId;
 import com.streamarr.server.services.streaming.TranscodeExecutor;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -60,6 +62,12 @@ public final class RemoteTranscodeExecutor implements TranscodeExecutor {
     return workerServer.isRunning(sessionId, variantLabel);
   }
 
+  /** Workers do not relay FFmpeg's progress report, so remote producers are judged by output. */
+  @Override
+  public Optional<TranscodeProgress> progress(UUID sessionId, String variantLabel) {
+    return Optional.empty();
+  }
+
   @Override
   public boolean isHealthy() {
     return workerServer.hasConnectedWorker(sourceNamespaceId);
@@ -74,4 +82,9 @@ public final class RemoteTranscodeExecutor implements TranscodeExecutor {
   public Set<ExecutionTargetId> executionTargets() {
     return workerServer.eligibleWorkers(sourceNamespaceId);
   }
+
+  @Override
+  public Optional<ExecutionTargetId> targetRunning(UUID attemptId) {
+    return workerServer.targetRunning(attemptId);
+  }
 }
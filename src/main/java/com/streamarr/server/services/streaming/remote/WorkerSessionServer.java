@@ -8,6 +8,7 @@ import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
 import io.grpc.netty.shaded.io.netty.handler.ssl.ClientAuth;
 import java.io.IOException;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Executors;
@@ -90,6 +91,11 @@ public final class WorkerSessionServer implements AutoCloseable {
     return workerConnections.eligibleWorkers(sourceNamespaceId);
   }
 
+  public synchronized Optional<ExecutionTargetId> targetRunning(UUID jobAttemptId) {
+    requireStarted();
+    return workerConnections.targetRunning(jobAttemptId);
+  }
+
   public synchronized boolean stopVariant(UUID streamSessionId, String variantLabel) {
     requireStarted();
     return workerConnections.stopVariant(streamSessionId, variantLabel);
@@ -9,7 +9,9 @@ import java.net.InetAddress;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.Getter;
@@ -58,16 +60,8 @@ public class FileProcessingTaskCoordinator {
       return existing.get();
     }
 
-    var task =
-        FileProcessingTask.builder()
-            .filepathUri(filepath)
-            .libraryId(libraryId)
-            .status(FileProcessingTaskStatus.PENDING)
-            .createdOn(clock.instant())
-            .build();
-
     try {
-      return repository.save(task);
+      return repository.save(pendingTask(filepath, libraryId));
     } catch (DataIntegrityViolationException e) {
       log.debug("Concurrent task creation detected for filepath: {}", filepath);
       return repository
@@ -79,6 +73,52 @@ public class FileProcessingTaskCoordinator {
     }
   }
 
+  /**
+   * Creates the tasks for a batch of discovered files with one lookup and one batched insert,
+   * returning the active task for every path whether it was created here or already existed.
+   */
+  public Map<Path, FileProcessingTask> createTasks(Map<Path, UUID> libraryIdsByPath) {
+    var pathsByFilepath = new LinkedHashMap<String, Path>();
+    libraryIdsByPath
+        .keySet()
+        .forEach(path -> pathsByFilepath.put(FilepathCodec.encode(path), path));
+
+    var tasks = new LinkedHashMap<Path, FileProcessingTask>();
+    if (pathsByFilepath.isEmpty()) {
+      return tasks;
+    }
+
+    repository
+        .findByFilepathUriInAndStatusIn(pathsByFilepath.keySet(), ACTIVE_STATUSES)
+        .forEach(task -> tasks.put(pathsByFilepath.get(task.getFilepathUri()), task));
+
+    var missing =
+        pathsByFilepath.entrySet().stream()
+            .filter(entry -> !tasks.containsKey(entry.getValue()))
+            .toList();
+
+    try {
+      repository
+          .saveAll(
+              missing.stream()
+                  .map(
+                      entry ->
+                          pendingTask(entry.getKey(), libraryIdsByPath.get(entry.getValue())))
+                  .toList())
+          .forEach(task -> tasks.put(pathsByFilepath.get(task.getFilepathUri()), task));
+    } catch (DataIntegrityViolationException _) {
+      // Another instance got to some of these first; the batch rolled back as a whole.
+      log.debug("Concurrent task creation detected for {} filepaths", missing.size());
+      missing.forEach(
+          entry ->
+              tasks.put(
+                  entry.getValue(),
+                  createTask(entry.getValue(), libraryIdsByPath.get(entry.getValue()))));
+    }
+
+    return tasks;
+  }
+
   public Optional<FileProcessingTask> claimNextTask() {
     var leaseExpiresAt = clock.instant().plus(leaseDuration);
     return repository.claimNextTask(instanceId, leaseExpiresAt);
@@ -126,6 +166,15 @@ public class FileProcessingTaskCoordinator {
     log.info("Cancelled pending task for: {}", filepath);
   }
 
+  private FileProcessingTask pendingTask(String filepath, UUID libraryId) {
+    return FileProcessingTask.builder()
+        .filepathUri(filepath)
+        .libraryId(libraryId)
+        .status(FileProcessingTaskStatus.PENDING)
+        .createdOn(clock.instant())
+        .build();
+  }
+
   private static String generateInstanceId() {
     var hostname = resolveHostname();
     var pid = ManagementFactory.getRuntimeMXBean().getPid();
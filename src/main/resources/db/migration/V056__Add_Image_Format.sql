@@ -0,0 +1,9 @@
+CREATE TYPE image_format AS ENUM ('JPEG', 'WEBP');
+
+ALTER TABLE image
+    ADD COLUMN format image_format NOT NULL DEFAULT 'JPEG';
+
+DROP INDEX image_entity_id_image_type_variant_idx;
+
+CREATE UNIQUE INDEX image_entity_id_image_type_variant_format_idx
+    ON image (entity_id, image_type, variant, format);
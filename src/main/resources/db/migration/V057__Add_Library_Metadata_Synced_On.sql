@@ -0,0 +1,2 @@
+ALTER TABLE library
+    ADD COLUMN metadata_synced_on TIMESTAMP WITH TIME ZONE;
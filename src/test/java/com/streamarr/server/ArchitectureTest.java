@@ -11,6 +11,7 @@ import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.sli
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.streamarr.server.config.security.AdmissionBoundedPasswordEncoder;
 import com.streamarr.server.config.security.PasswordEncoderConfig;
 import com.streamarr.server.controllers.architecturefixture.DirectControllerAccountPasswordMatchFixture;
 import com.streamarr.server.graphql.architecturefixture.PasswordEncodingResolverFixture;
@@ -357,6 +358,7 @@ class ArchitectureTest {
             AccountPasswordVerifier.class,
             LoginService.class,
             PasswordEncoderConfig.class,
+            AdmissionBoundedPasswordEncoder.class,
             PasswordTimingEqualizer.class)
         .should()
         .callMethodWhere(
@@ -16,6 +16,7 @@ import com.streamarr.server.fakes.FakeSessionProgressRepository;
 import com.streamarr.server.fakes.FakeUserAccountRepository;
 import com.streamarr.server.fakes.FakeWatchHistoryRepository;
 import com.streamarr.server.services.auth.SetupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -44,7 +45,8 @@ class DevIdentitySeederTest {
           new FakeWatchHistoryRepository(),
           new PasswordEncoderConfig()
               .passwordEncoder(
-                  Argon2Properties.builder().memoryKib(4096).iterations(1).parallelism(1).build()));
+                  Argon2Properties.builder().memoryKib(4096).iterations(1).parallelism(1).build(),
+                  new SimpleMeterRegistry()));
 
   @Test
   @DisplayName("Should seed admin identity when bootstrap unclaimed")
@@ -0,0 +1,45 @@
+package com.streamarr.server.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("GraphQL Query Cost Properties Tests")
+class GraphQLQueryCostPropertiesTest {
+
+  @Test
+  @DisplayName("Should apply defaults when nothing is configured")
+  void shouldApplyDefaultsWhenNothingIsConfigured() {
+    var properties = GraphQLQueryCostProperties.builder().build();
+
+    assertThat(properties.maxCost()).isEqualTo(100_000);
+    assertThat(properties.maxDepth()).isEqualTo(15);
+    assertThat(properties.defaultListSize()).isEqualTo(10);
+    assertThat(properties.fieldWeights()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should reject a max cost that is not positive")
+  void shouldRejectMaxCostThatIsNotPositive() {
+    var builder = GraphQLQueryCostProperties.builder().maxCost(0);
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("graphql.query-cost.max-cost");
+  }
+
+  @Test
+  @DisplayName("Should reject a negative field weight")
+  void shouldRejectNegativeFieldWeight() {
+    var builder = GraphQLQueryCostProperties.builder().fieldWeights(Map.of("Movie.cast", -1));
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("graphql.query-cost.field-weights.Movie.cast");
+  }
+}
@@ -3,7 +3,9 @@ package com.streamarr.server.config;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.streamarr.server.domain.media.ImageFormat;
 import java.time.Duration;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -52,8 +54,59 @@ class ImagePropertiesTest {
   void shouldRejectReplacementLockTimeoutWhenShorterThanOneMillisecond(long timeoutNanos) {
     var timeout = Duration.ofNanos(timeoutNanos);
 
-    assertThatThrownBy(() -> new ImageProperties("/custom/images", timeout))
+    assertThatThrownBy(() -> new ImageProperties("/custom/images", timeout, null, null, null))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Image replacement lock timeout must be at least 1ms");
   }
+
+  @Test
+  @DisplayName("Should default the metadata cache size when not provided")
+  void shouldDefaultMetadataCacheSizeWhenNotProvided() {
+    var properties = new ImageProperties("/custom/images", null, null, null, null);
+
+    assertThat(properties.metadataCacheSize()).isEqualTo(20_000);
+  }
+
+  @Test
+  @DisplayName("Should reject metadata cache size when negative")
+  void shouldRejectMetadataCacheSizeWhenNegative() {
+    assertThatThrownBy(() -> new ImageProperties("/custom/images", null, -1, null, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("image.metadata-cache-size must not be negative, got -1");
+  }
+
+  @Test
+  @DisplayName("Should default to every variant format when not provided")
+  void shouldDefaultToEveryVariantFormatWhenNotProvided() {
+    var properties = new ImageProperties("/custom/images");
+
+    assertThat(properties.variantFormats())
+        .containsExactlyInAnyOrder(ImageFormat.JPEG, ImageFormat.WEBP);
+  }
+
+  @Test
+  @DisplayName("Should reject variant formats when JPEG is missing")
+  void shouldRejectVariantFormatsWhenJpegIsMissing() {
+    var formats = Set.of(ImageFormat.WEBP);
+
+    assertThatThrownBy(() -> new ImageProperties("/custom/images", null, null, formats, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("image.variant-formats must include JPEG, got [WEBP]");
+  }
+
+  @Test
+  @DisplayName("Should default processing concurrency to at least one when not provided")
+  void shouldDefaultProcessingConcurrencyToAtLeastOneWhenNotProvided() {
+    var properties = new ImageProperties("/custom/images");
+
+    assertThat(properties.processingConcurrency()).isPositive();
+  }
+
+  @Test
+  @DisplayName("Should reject processing concurrency when not positive")
+  void shouldRejectProcessingConcurrencyWhenNotPositive() {
+    assertThatThrownBy(() -> new ImageProperties("/custom/images", null, null, null, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("image.processing-concurrency must be positive, got 0");
+  }
 }
@@ -78,6 +78,58 @@ class StreamingPropertiesTest {
         .hasMessageContaining("producer-stall-threshold");
   }
 
+  @ParameterizedTest
+  @ValueSource(longs = {0, -1})
+  @DisplayName("Should reject producer progress stall threshold when not positive")
+  void shouldRejectProducerProgressStallThresholdWhenNotPositive(long seconds) {
+    var builder =
+        StreamingProperties.builder().producerProgressStallThreshold(Duration.ofSeconds(seconds));
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("producer-progress-stall-threshold");
+  }
+
+  @Test
+  @DisplayName("Should reject producer minimum encode speed when negative")
+  void shouldRejectProducerMinEncodeSpeedWhenNegative() {
+    var builder = StreamingProperties.builder().producerMinEncodeSpeed(-0.5);
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("producer-min-encode-speed");
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, -1})
+  @DisplayName("Should reject producer slow encode window when not positive")
+  void shouldRejectProducerSlowEncodeWindowWhenNotPositive(long seconds) {
+    var builder =
+        StreamingProperties.builder().producerSlowEncodeWindow(Duration.ofSeconds(seconds));
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("producer-slow-encode-window");
+  }
+
+  @Test
+  @DisplayName("Should reject playback authority cache TTL when negative")
+  void shouldRejectPlaybackAuthorityCacheTtlWhenNegative() {
+    var builder = StreamingProperties.builder().playbackAuthorityCacheTtl(Duration.ofSeconds(-1));
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("playback-authority-cache-ttl");
+  }
+
+  @Test
+  @DisplayName("Should default playback authority cache TTL to 30 seconds when null")
+  void shouldDefaultPlaybackAuthorityCacheTtlToThirtySecondsWhenNull() {
+    var properties = StreamingProperties.builder().build();
+
+    assertThat(properties.playbackAuthorityCacheTtl()).isEqualTo(Duration.ofSeconds(30));
+  }
+
   @Test
   @DisplayName("Should default segment duration to 6 seconds when null")
   void shouldDefaultSegmentDurationToSixSecondsWhenNull() {
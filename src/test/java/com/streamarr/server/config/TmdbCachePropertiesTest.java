@@ -0,0 +1,46 @@
+package com.streamarr.server.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("TMDB Cache Properties Tests")
+class TmdbCachePropertiesTest {
+
+  @Test
+  @DisplayName("Should apply defaults when nothing is configured")
+  void shouldApplyDefaultsWhenNothingIsConfigured() {
+    var properties = TmdbCacheProperties.builder().directory(" ").build();
+
+    assertThat(properties.directory()).endsWith("streamarr-tmdb-cache");
+    assertThat(properties.maxSizeMb()).isEqualTo(200);
+    assertThat(properties.searchTtl()).isEqualTo(Duration.ofDays(1));
+    assertThat(properties.detailsTtl()).isEqualTo(Duration.ofDays(7));
+    assertThat(properties.seasonTtl()).isEqualTo(Duration.ofDays(1));
+  }
+
+  @Test
+  @DisplayName("Should reject a cache size that is not positive")
+  void shouldRejectCacheSizeThatIsNotPositive() {
+    var builder = TmdbCacheProperties.builder().maxSizeMb(0L);
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("tmdb.cache.max-size-mb");
+  }
+
+  @Test
+  @DisplayName("Should reject a negative TTL")
+  void shouldRejectNegativeTtl() {
+    var builder = TmdbCacheProperties.builder().seasonTtl(Duration.ofHours(-1));
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("tmdb.cache.season-ttl");
+  }
+}
@@ -2,6 +2,8 @@ package com.streamarr.server.config;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -11,15 +13,28 @@ import com.github.mizosoft.methanol.Methanol;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.streamarr.server.config.health.TmdbHealthProperties;
 import com.streamarr.server.config.http.RateLimitingInterceptor;
+import com.streamarr.server.config.http.TmdbConnectionMetricsInterceptor;
+import com.streamarr.server.config.http.TmdbRequestScheduler;
+import com.streamarr.server.fixtures.LibraryFixtureCreator;
+import com.streamarr.server.services.library.LibraryScanMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.parallel.ResourceLock;
 
 @Tag("UnitTest")
@@ -125,20 +140,135 @@ class TmdbHttpClientConfigurationTest {
   }
 
   @Test
-  @DisplayName("Should retain rate limiter when enrichment client is configured")
-  void shouldRetainRateLimiterWhenEnrichmentClientIsConfigured() throws Exception {
+  @DisplayName("Should rate limit only network requests when enrichment client is configured")
+  void shouldRateLimitOnlyNetworkRequestsWhenEnrichmentClientIsConfigured() throws Exception {
     try (var cache = HttpCache.newBuilder().cacheOnMemory(1024).build()) {
-      var client = new TmdbHttpClientConfiguration().tmdbHttpClient(35, 30, cache);
+      var client =
+          enrichmentClient(
+              new TmdbHttpClientConfiguration(), cache, TmdbCacheProperties.builder().build());
 
       assertThat(client)
           .isInstanceOfSatisfying(
               Methanol.class,
-              methanol ->
-                  assertThat(methanol.interceptors())
-                      .anyMatch(RateLimitingInterceptor.class::isInstance));
+              methanol -> {
+                assertThat(methanol.backendInterceptors())
+                    .anyMatch(RateLimitingInterceptor.class::isInstance);
+                assertThat(methanol.interceptors())
+                    .noneMatch(RateLimitingInterceptor.class::isInstance);
+              });
+    }
+  }
+
+  @Test
+  @DisplayName("Should prefer HTTP/2 when enrichment client is configured")
+  void shouldPreferHttp2WhenEnrichmentClientIsConfigured() throws Exception {
+    try (var cache = HttpCache.newBuilder().cacheOnMemory(1024).build()) {
+      var client =
+          enrichmentClient(
+              new TmdbHttpClientConfiguration(), cache, TmdbCacheProperties.builder().build());
+
+      assertThat(client.version()).isEqualTo(HttpClient.Version.HTTP_2);
+    }
+  }
+
+  @Test
+  @DisplayName("Should count network responses by protocol when enrichment client fetches")
+  void shouldCountNetworkResponsesByProtocolWhenEnrichmentClientFetches() throws Exception {
+    wireMock.stubFor(get("/movie/603").willReturn(aResponse().withStatus(200).withBody("{}")));
+    var connectionMetrics = new TmdbConnectionMetricsInterceptor();
+    var meters = new SimpleMeterRegistry();
+    connectionMetrics.bindTo(meters);
+
+    try (var cache = HttpCache.newBuilder().cacheOnMemory(1024).build()) {
+      var response =
+          new TmdbHttpClientConfiguration()
+              .tmdbHttpClient(
+                  scheduler(), connectionMetrics, 30, cache, TmdbCacheProperties.builder().build())
+              .send(tmdbRequest("/movie/603"), HttpResponse.BodyHandlers.ofString());
+
+      var protocol = response.version().name().toLowerCase(Locale.ROOT);
+      assertThat(
+              meters
+                  .get("streamarr.tmdb.http.responses")
+                  .tag("protocol", protocol)
+                  .functionCounter()
+                  .count())
+          .isEqualTo(1);
+      assertThat(meters.get("streamarr.tmdb.http.in_flight").gauge().value()).isZero();
     }
   }
 
+  @Test
+  @DisplayName("Should count requests and cache hits against the scan when a scan fetches")
+  void shouldCountRequestsAndCacheHitsAgainstScanWhenScanFetches() throws Exception {
+    wireMock.stubFor(
+        get("/movie/603")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("Cache-Control", "public, max-age=3600")
+                    .withBody("{\"id\":603}")));
+    var meters = new SimpleMeterRegistry();
+    var library = LibraryFixtureCreator.buildFakeLibrary();
+    library.setId(UUID.randomUUID());
+    var scan = new LibraryScanMetrics(meters, OpenTelemetry.noop()).start(library);
+
+    try (var cache = HttpCache.newBuilder().cacheOnMemory(64 * 1024).build()) {
+      var client =
+          enrichmentClient(
+              new TmdbHttpClientConfiguration(), cache, TmdbCacheProperties.builder().build());
+
+      scan.run(
+          () -> {
+            fetch(client, "/movie/603");
+            fetch(client, "/movie/603");
+          });
+    }
+
+    assertThat(scanTmdbRequests(meters, "miss")).isEqualTo(1);
+    assertThat(scanTmdbRequests(meters, "hit")).isEqualTo(1);
+    wireMock.verify(1, getRequestedFor(urlEqualTo("/movie/603")));
+  }
+
+  @Test
+  @DisplayName("Should answer from disk without a request when the cache outlives a restart")
+  void shouldAnswerFromDiskWithoutRequestWhenCacheOutlivesRestart(@TempDir Path directory)
+      throws Exception {
+    wireMock.stubFor(
+        get("/movie/603")
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("Cache-Control", "public, max-age=3600")
+                    .withBody("{\"id\":603}")));
+    var configuration = new TmdbHttpClientConfiguration();
+    var properties = TmdbCacheProperties.builder().directory(directory.toString()).build();
+
+    try (var cache = configuration.tmdbHttpCache(properties)) {
+      enrichmentClient(configuration, cache, properties)
+          .send(tmdbRequest("/movie/603"), HttpResponse.BodyHandlers.ofString());
+    }
+
+    var meters = new SimpleMeterRegistry();
+    try (var restarted = configuration.tmdbHttpCache(properties)) {
+      configuration.tmdbHttpCacheMetrics(restarted).bindTo(meters);
+      var response =
+          enrichmentClient(configuration, restarted, properties)
+              .send(tmdbRequest("/movie/603"), HttpResponse.BodyHandlers.ofString());
+
+      assertThat(response.body()).isEqualTo("{\"id\":603}");
+      assertThat(
+              meters
+                  .get(TmdbHttpClientConfiguration.CACHE_REQUESTS_METRIC)
+                  .tag("result", "hit")
+                  .functionCounter()
+                  .count())
+          .isEqualTo(1);
+    }
+
+    wireMock.verify(1, getRequestedFor(urlEqualTo("/movie/603")));
+  }
+
   @Test
   @DisplayName("Should fetch each response when health server supplies cache headers")
   void shouldFetchEachResponseWhenHealthServerSuppliesCacheHeaders() throws Exception {
@@ -172,4 +302,43 @@ class TmdbHttpClientConfigurationTest {
     assertThat(firstResponse.statusCode()).isEqualTo(200);
     assertThat(secondResponse.statusCode()).isEqualTo(503);
   }
+
+  private HttpRequest tmdbRequest(String path) {
+    return HttpRequest.newBuilder()
+        .uri(URI.create(wireMock.baseUrl() + path))
+        .timeout(LOCAL_SERVER_TIMEOUT)
+        .GET()
+        .build();
+  }
+
+  private void fetch(HttpClient client, String path) {
+    try {
+      client.send(tmdbRequest(path), HttpResponse.BodyHandlers.ofString());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static double scanTmdbRequests(SimpleMeterRegistry meters, String cache) {
+    return meters
+        .get("streamarr.library.scan.tmdb.requests")
+        .tag("cache", cache)
+        .counter()
+        .count();
+  }
+
+  private static TmdbRequestScheduler scheduler() {
+    return new TmdbRequestScheduler(35, new SimpleMeterRegistry());
+  }
+
+  private static HttpClient enrichmentClient(
+      TmdbHttpClientConfiguration configuration,
+      HttpCache cache,
+      TmdbCacheProperties properties) {
+    return configuration.tmdbHttpClient(
+        scheduler(), new TmdbConnectionMetricsInterceptor(), 30, cache, properties);
+  }
 }
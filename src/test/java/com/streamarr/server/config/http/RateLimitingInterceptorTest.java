@@ -1,12 +1,22 @@
 package com.streamarr.server.config.http;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 
 import com.github.mizosoft.methanol.Methanol;
+import com.github.mizosoft.methanol.MutableRequest;
+import com.streamarr.server.services.metadata.TmdbRequestPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.URI;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,24 +25,20 @@ import org.mockito.Mockito;
 @DisplayName("RateLimitingInterceptor Unit Tests")
 class RateLimitingInterceptorTest {
 
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+
   @Test
   @DisplayName("Should throttle requests to the configured rate")
   @SuppressWarnings("unchecked")
   void shouldThrottleRequestsToConfiguredRate() throws Exception {
     var rate = 10.0;
-    var interceptor = new RateLimitingInterceptor(rate);
+    var interceptor = new RateLimitingInterceptor(new TmdbRequestScheduler(rate, meters));
     var request = HttpRequest.newBuilder().uri(URI.create("http://example.com")).build();
 
     var chain = Mockito.mock(Methanol.Interceptor.Chain.class);
     var response = Mockito.mock(HttpResponse.class);
     Mockito.when(chain.forward(Mockito.any())).thenReturn(response);
 
-    // Exhaust burst capacity so that subsequent calls are fully governed by the
-    // token-bucket rate
-    for (int i = 0; i < (int) rate + 2; i++) {
-      interceptor.intercept(request, chain);
-    }
-
     var completed = new AtomicInteger();
     Thread.startVirtualThread(
         () -> {
@@ -47,8 +53,74 @@ class RateLimitingInterceptorTest {
         });
 
     await()
-        .atLeast(Duration.ofMillis(900))
+        .atLeast(Duration.ofMillis(800))
         .atMost(Duration.ofSeconds(5))
         .until(() -> completed.get() == 10);
   }
+
+  @Test
+  @DisplayName("Should slow every caller when TMDB answers 429")
+  @SuppressWarnings("unchecked")
+  void shouldSlowEveryCallerWhenTmdbAnswers429() throws Exception {
+    var scheduler = new TmdbRequestScheduler(40, meters);
+    var interceptor = new RateLimitingInterceptor(scheduler);
+    var request = HttpRequest.newBuilder().uri(URI.create("http://example.com")).build();
+
+    var chain = Mockito.mock(Methanol.Interceptor.Chain.class);
+    var response = Mockito.mock(HttpResponse.class);
+    Mockito.when(response.statusCode()).thenReturn(429);
+    Mockito.when(response.headers()).thenReturn(headers(Map.of()));
+    Mockito.when(chain.forward(Mockito.any())).thenReturn(response);
+
+    interceptor.intercept(request, chain);
+
+    assertThat(scheduler.rate()).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("Should schedule a request at the priority it is tagged with")
+  @SuppressWarnings("unchecked")
+  void shouldScheduleRequestAtPriorityItIsTaggedWith() throws Exception {
+    var interceptor = new RateLimitingInterceptor(new TmdbRequestScheduler(40, meters));
+    var request =
+        MutableRequest.GET("http://example.com")
+            .tag(TmdbRequestPriority.class, TmdbRequestPriority.IMAGE)
+            .build();
+
+    var chain = Mockito.mock(Methanol.Interceptor.Chain.class);
+    Mockito.when(chain.forward(Mockito.any())).thenReturn(Mockito.mock(HttpResponse.class));
+
+    interceptor.intercept(request, chain);
+
+    assertThat(
+            meters
+                .get(TmdbRequestScheduler.WAIT_METRIC)
+                .tag("priority", "image")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should read Retry-After as seconds or as an HTTP date")
+  void shouldReadRetryAfterAsSecondsOrAsHttpDate() {
+    var now = Instant.parse("2026-10-19T12:00:00Z");
+    var interceptor =
+        new RateLimitingInterceptor(
+            new TmdbRequestScheduler(40, meters), Clock.fixed(now, ZoneOffset.UTC));
+
+    assertThat(interceptor.retryAfter(headers(Map.of("Retry-After", List.of("7")))))
+        .isEqualTo(Duration.ofSeconds(7));
+    assertThat(
+            interceptor.retryAfter(
+                headers(Map.of("Retry-After", List.of("Mon, 19 Oct 2026 12:00:30 GMT")))))
+        .isEqualTo(Duration.ofSeconds(30));
+    assertThat(interceptor.retryAfter(headers(Map.of("Retry-After", List.of("soon")))))
+        .isZero();
+    assertThat(interceptor.retryAfter(headers(Map.of()))).isZero();
+  }
+
+  private static HttpHeaders headers(Map<String, List<String>> values) {
+    return HttpHeaders.of(values, (name, value) -> true);
+  }
 }
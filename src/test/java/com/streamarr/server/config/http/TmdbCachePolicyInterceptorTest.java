@@ -0,0 +1,66 @@
+package com.streamarr.server.config.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mizosoft.methanol.CacheControl;
+import com.github.mizosoft.methanol.MutableRequest;
+import com.streamarr.server.config.TmdbCacheProperties;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@Tag("UnitTest")
+@DisplayName("TMDB Cache Policy Interceptor Tests")
+class TmdbCachePolicyInterceptorTest {
+
+  private final TmdbCachePolicyInterceptor interceptor =
+      new TmdbCachePolicyInterceptor(
+          TmdbCacheProperties.builder()
+              .searchTtl(Duration.ofHours(1))
+              .detailsTtl(Duration.ofHours(2))
+              .seasonTtl(Duration.ofHours(3))
+              .build());
+
+  @ParameterizedTest
+  @CsvSource({
+    "/3/search/movie?query=matrix, 3600",
+    "/3/find/tt0133093?external_source=imdb_id, 3600",
+    "/3/movie/603, 7200",
+    "/3/movie/603/credits, 7200",
+    "/3/tv/1399, 7200",
+    "/3/tv/1399/season/1, 10800"
+  })
+  @DisplayName("Should allow reuse for the endpoint's TTL when the request has no cache policy")
+  void shouldAllowReuseForEndpointTtlWhenRequestHasNoCachePolicy(String path, long seconds) {
+    var request = MutableRequest.GET(URI.create("https://api.themoviedb.org" + path));
+
+    var governed = interceptor.withPolicy(request);
+
+    assertThat(governed.headers().firstValue("Cache-Control")).contains("max-stale=" + seconds);
+  }
+
+  @Test
+  @DisplayName("Should keep the caller's policy when the request already sets one")
+  void shouldKeepCallersPolicyWhenRequestAlreadySetsOne() {
+    var request =
+        MutableRequest.GET(URI.create("https://image.tmdb.org/t/p/original/poster.jpg"))
+            .cacheControl(CacheControl.newBuilder().noStore().build());
+
+    assertThat(interceptor.withPolicy(request)).isSameAs(request);
+  }
+
+  @Test
+  @DisplayName("Should leave the request alone when the endpoint's TTL is zero")
+  void shouldLeaveRequestAloneWhenEndpointTtlIsZero() {
+    var noExtension =
+        new TmdbCachePolicyInterceptor(
+            TmdbCacheProperties.builder().detailsTtl(Duration.ZERO).build());
+    var request = MutableRequest.GET(URI.create("https://api.themoviedb.org/3/movie/603"));
+
+    assertThat(noExtension.withPolicy(request)).isSameAs(request);
+  }
+}
@@ -0,0 +1,170 @@
+package com.streamarr.server.config.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Offset.offset;
+import static org.awaitility.Awaitility.await;
+
+import com.streamarr.server.services.metadata.TmdbRequestPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("TMDB Request Scheduler Tests")
+class TmdbRequestSchedulerTest {
+
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("Should hand the next slot to an interactive request when a refresh queued first")
+  void shouldHandNextSlotToInteractiveRequestWhenRefreshQueuedFirst() throws Exception {
+    var scheduler = new TmdbRequestScheduler(1, meters);
+    scheduler.acquire(TmdbRequestPriority.SCAN);
+    var admitted = new ConcurrentLinkedQueue<TmdbRequestPriority>();
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      executor.submit(() -> admit(scheduler, TmdbRequestPriority.REFRESH, admitted));
+      await().until(() -> scheduler.queued(TmdbRequestPriority.REFRESH) == 1);
+      executor.submit(() -> admit(scheduler, TmdbRequestPriority.INTERACTIVE, admitted));
+      await().until(() -> scheduler.queued(TmdbRequestPriority.INTERACTIVE) == 1);
+
+      var refreshQueued =
+          meters.get(TmdbRequestScheduler.QUEUED_METRIC).tag("priority", "refresh").gauge();
+      assertThat(refreshQueued.value()).isEqualTo(1);
+    }
+
+    assertThat(admitted)
+        .containsExactly(TmdbRequestPriority.INTERACTIVE, TmdbRequestPriority.REFRESH);
+    assertThat(
+            meters
+                .get(TmdbRequestScheduler.WAIT_METRIC)
+                .tag("priority", "interactive")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should admit requests of one priority in arrival order")
+  void shouldAdmitRequestsOfOnePriorityInArrivalOrder() throws Exception {
+    var scheduler = new TmdbRequestScheduler(1, meters);
+    scheduler.acquire(TmdbRequestPriority.SCAN);
+    var admitted = new ConcurrentLinkedQueue<Integer>();
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 2; i++) {
+        var order = i;
+        executor.submit(
+            () -> {
+              scheduler.acquire(TmdbRequestPriority.SCAN);
+              admitted.add(order);
+              return null;
+            });
+        await().until(() -> scheduler.queued(TmdbRequestPriority.SCAN) == order + 1);
+      }
+    }
+
+    assertThat(admitted).containsExactly(0, 1);
+  }
+
+  @Test
+  @DisplayName("Should halve the rate for every caller when TMDB throttles")
+  void shouldHalveRateForEveryCallerWhenTmdbThrottles() {
+    var scheduler = new TmdbRequestScheduler(40, meters);
+
+    scheduler.throttle(Duration.ZERO);
+
+    assertThat(scheduler.rate()).isEqualTo(20);
+    assertThat(meters.get(TmdbRequestScheduler.THROTTLED_METRIC).counter().count()).isEqualTo(1);
+    assertThat(meters.get(TmdbRequestScheduler.RATE_METRIC).gauge().value()).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("Should hold every slot for the pause when TMDB sends Retry-After")
+  void shouldHoldEverySlotForPauseWhenTmdbSendsRetryAfter() throws Exception {
+    var scheduler = new TmdbRequestScheduler(1000, meters);
+    scheduler.throttle(Duration.ofMillis(300));
+
+    var startedAt = System.nanoTime();
+    scheduler.acquire(TmdbRequestPriority.INTERACTIVE);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - startedAt))
+        .isGreaterThanOrEqualTo(Duration.ofMillis(250));
+  }
+
+  @Test
+  @DisplayName("Should recover toward the configured rate when requests succeed again")
+  void shouldRecoverTowardConfiguredRateWhenRequestsSucceedAgain() {
+    var scheduler = new TmdbRequestScheduler(40, meters);
+    scheduler.throttle(Duration.ZERO);
+
+    scheduler.succeeded();
+    assertThat(scheduler.rate()).isCloseTo(20.8, offset(1e-9));
+
+    for (int i = 0; i < 100; i++) {
+      scheduler.succeeded();
+    }
+    assertThat(scheduler.rate()).isEqualTo(40);
+  }
+
+  @Test
+  @DisplayName("Should not drop below one request per second when throttled repeatedly")
+  void shouldNotDropBelowOneRequestPerSecondWhenThrottledRepeatedly() {
+    var scheduler = new TmdbRequestScheduler(40, meters);
+
+    for (int i = 0; i < 10; i++) {
+      scheduler.throttle(Duration.ZERO);
+    }
+
+    assertThat(scheduler.rate()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should leave the queue when a waiting request is interrupted")
+  void shouldLeaveQueueWhenWaitingRequestIsInterrupted() throws Exception {
+    var scheduler = new TmdbRequestScheduler(1, meters);
+    scheduler.acquire(TmdbRequestPriority.SCAN);
+
+    var failure = new AtomicReference<Throwable>();
+
+    var waiter =
+        Thread.startVirtualThread(
+            () -> {
+              try {
+                scheduler.acquire(TmdbRequestPriority.IMAGE);
+              } catch (InterruptedException e) {
+                failure.set(e);
+              }
+            });
+    await().until(() -> scheduler.queued(TmdbRequestPriority.IMAGE) == 1);
+    waiter.interrupt();
+    waiter.join();
+
+    assertThat(failure.get()).isInstanceOf(InterruptedException.class);
+    assertThat(scheduler.queued(TmdbRequestPriority.IMAGE)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should reject a rate that is not positive")
+  void shouldRejectRateThatIsNotPositive() {
+    assertThatThrownBy(() -> new TmdbRequestScheduler(0, meters))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("tmdb.api.requests-per-second must be positive, got 0.0");
+  }
+
+  private static Void admit(
+      TmdbRequestScheduler scheduler,
+      TmdbRequestPriority priority,
+      ConcurrentLinkedQueue<TmdbRequestPriority> admitted)
+      throws InterruptedException {
+    scheduler.acquire(priority);
+    admitted.add(priority);
+    return null;
+  }
+}
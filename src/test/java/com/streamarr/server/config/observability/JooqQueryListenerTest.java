@@ -0,0 +1,112 @@
+package com.streamarr.server.config.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("jOOQ Query Listener Tests")
+class JooqQueryListenerTest {
+
+  private static final Field<String> TITLE = field("title", String.class);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final QueryObservations observations =
+      new QueryObservations(meterRegistry, QueryObservabilityProperties.builder().build());
+  private final DSLContext dsl =
+      DSL.using(
+          new DefaultConfiguration()
+              .set(SQLDialect.POSTGRES)
+              .set(new MockConnection(JooqQueryListenerTest::twoTitles))
+              .set(new DefaultExecuteListenerProvider(new JooqQueryListener(observations))));
+
+  @Test
+  @DisplayName("Should time a statement and its rows under the calling method when jOOQ runs it")
+  void shouldTimeStatementAndRowsUnderCallingMethodWhenJooqRunsIt() {
+    dsl.select(TITLE).from(table("movie")).fetch();
+
+    var queryName = queryName("shouldTimeStatementAndRowsUnderCallingMethodWhenJooqRunsIt");
+    assertThat(
+            meterRegistry
+                .get(QueryObservations.QUERY_METRIC)
+                .tag("query", queryName)
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(rowsRecorded(queryName)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should count a statement against the request when jOOQ runs it while serving one")
+  void shouldCountStatementAgainstRequestWhenJooqRunsItWhileServingOne() {
+    var request = new RequestQueries();
+
+    try (var _ = request.bind()) {
+      dsl.select(TITLE).from(table("movie")).fetch();
+      dsl.select(TITLE).from(table("movie")).fetch();
+    }
+
+    assertThat(request.repeatedAtLeast(2))
+        .containsEntry(
+            queryName("shouldCountStatementAgainstRequestWhenJooqRunsItWhileServingOne"), 2L);
+  }
+
+  @Test
+  @DisplayName("Should time a query JPA runs when the query was built by the listening context")
+  void shouldTimeQueryJpaRunsWhenQueryWasBuiltByListeningContext() {
+    var query = dsl.select(TITLE).from(table("movie"));
+
+    var results = JooqQueryListener.time(query, () -> List.of("Inception", "Heat", "Ronin"));
+
+    assertThat(results).hasSize(3);
+    assertThat(
+            rowsRecorded(queryName("shouldTimeQueryJpaRunsWhenQueryWasBuiltByListeningContext")))
+        .isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should run a query untimed when it was built without a listening context")
+  void shouldRunQueryUntimedWhenBuiltWithoutListeningContext() {
+    var query = DSL.select(TITLE).from(table("movie"));
+
+    var results = JooqQueryListener.time(query, () -> List.of("Inception"));
+
+    assertThat(results).containsExactly("Inception");
+    assertThat(meterRegistry.find(QueryObservations.QUERY_METRIC).timer()).isNull();
+  }
+
+  private double rowsRecorded(String queryName) {
+    return meterRegistry
+        .get(QueryObservations.ROWS_METRIC)
+        .tag("query", queryName)
+        .summary()
+        .totalAmount();
+  }
+
+  private static String queryName(String testMethod) {
+    return JooqQueryListenerTest.class.getSimpleName() + "." + testMethod;
+  }
+
+  private static MockResult[] twoTitles(MockExecuteContext ctx) {
+    var create = DSL.using(SQLDialect.POSTGRES);
+    var result = create.newResult(TITLE);
+    result.add(create.newRecord(TITLE).values("Inception"));
+    result.add(create.newRecord(TITLE).values("Heat"));
+    return new MockResult[] {new MockResult(result.size(), result)};
+  }
+}
@@ -2,19 +2,16 @@ package com.streamarr.server.config.observability;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.streamarr.server.fakes.CapturingSpanExporter;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.instrumentation.spring.webmvc.v6_0.SpringWebMvcTelemetry;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
-import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
-import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
-import io.opentelemetry.sdk.trace.export.SpanExporter;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.DisplayName;
@@ -83,29 +80,4 @@ class PlaybackTokenTraceRedactionTest {
 
     return chain;
   }
-
-  private static final class CapturingSpanExporter implements SpanExporter {
-
-    private final List<SpanData> spans = new ArrayList<>();
-
-    @Override
-    public CompletableResultCode export(Collection<SpanData> spans) {
-      this.spans.addAll(spans);
-      return CompletableResultCode.ofSuccess();
-    }
-
-    @Override
-    public CompletableResultCode flush() {
-      return CompletableResultCode.ofSuccess();
-    }
-
-    @Override
-    public CompletableResultCode shutdown() {
-      return CompletableResultCode.ofSuccess();
-    }
-
-    List<SpanData> spans() {
-      return List.copyOf(spans);
-    }
-  }
 }
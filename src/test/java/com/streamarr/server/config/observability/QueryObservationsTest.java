@@ -0,0 +1,93 @@
+package com.streamarr.server.config.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+@Tag("UnitTest")
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("Query Observations Tests")
+class QueryObservationsTest {
+
+  private static final String QUERY = "MovieRepositoryCustomImpl.seekWithFilter";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final QueryObservations observations =
+      new QueryObservations(
+          meterRegistry,
+          QueryObservabilityProperties.builder()
+              .slowThreshold(Duration.ofMillis(100))
+              .repeatedThreshold(3)
+              .build());
+
+  @Test
+  @DisplayName("Should name a query after the application method that runs it")
+  void shouldNameQueryAfterApplicationMethodThatRunsIt() {
+    assertThat(observations.callSite())
+        .isEqualTo("QueryObservationsTest.shouldNameQueryAfterApplicationMethodThatRunsIt");
+  }
+
+  @Test
+  @DisplayName("Should record latency and rows under the query name when a query finishes")
+  void shouldRecordLatencyAndRowsUnderQueryNameWhenQueryFinishes() {
+    observations.recordQuery(QUERY, "select ?", TimeUnit.MILLISECONDS.toNanos(5), 25);
+
+    var timer = meterRegistry.get(QueryObservations.QUERY_METRIC).tag("query", QUERY).timer();
+    assertThat(timer.count()).isEqualTo(1);
+    assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+    var rows = meterRegistry.get(QueryObservations.ROWS_METRIC).tag("query", QUERY).summary();
+    assertThat(rows.totalAmount()).isEqualTo(25);
+  }
+
+  @Test
+  @DisplayName("Should report a slow query once per interval when it runs slow repeatedly")
+  void shouldReportSlowQueryOncePerIntervalWhenItRunsSlowRepeatedly(CapturedOutput output) {
+    var sql = "select * from movie where title_sort >= ?";
+
+    observations.recordQuery(QUERY, sql, TimeUnit.MILLISECONDS.toNanos(20), 1);
+    observations.recordQuery(QUERY, sql, TimeUnit.MILLISECONDS.toNanos(150), 10);
+    observations.recordQuery(QUERY, sql, TimeUnit.MILLISECONDS.toNanos(300), 10);
+
+    assertThat(StringUtils.countMatches(output.getAll(), "Slow query " + QUERY)).isEqualTo(1);
+    assertThat(output.getAll()).contains("took 150 ms and returned 10 rows: " + sql);
+  }
+
+  @Test
+  @DisplayName("Should count a repeated query when a request runs it at least the threshold")
+  void shouldCountRepeatedQueryWhenRequestRunsItAtLeastThreshold(CapturedOutput output) {
+    var request = new RequestQueries();
+    try (var _ = request.bind()) {
+      for (int i = 0; i < 3; i++) {
+        observations.countExecution("PersonRepository.findById");
+      }
+      observations.countExecution("MovieRepository.findById");
+    }
+
+    observations.recordRequest(request, "POST /graphql");
+
+    assertThat(
+            meterRegistry
+                .get(QueryObservations.REPEATED_METRIC)
+                .tag("query", "PersonRepository.findById")
+                .counter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .find(QueryObservations.REPEATED_METRIC)
+                .tag("query", "MovieRepository.findById")
+                .counter())
+        .isNull();
+    assertThat(output.getAll())
+        .contains("Query PersonRepository.findById ran 3 times while serving POST /graphql");
+  }
+}
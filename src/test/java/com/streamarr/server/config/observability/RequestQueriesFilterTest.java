@@ -0,0 +1,106 @@
+package com.streamarr.server.config.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@Tag("UnitTest")
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("Request Queries Filter Tests")
+class RequestQueriesFilterTest {
+
+  private static final String QUERY = "PersonRepository.findById";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final QueryObservations observations =
+      new QueryObservations(
+          meterRegistry, QueryObservabilityProperties.builder().repeatedThreshold(3).build());
+  private final RequestQueriesFilter filter = new RequestQueriesFilter(observations);
+
+  @Test
+  @DisplayName("Should report a repeated query with the path when a request runs it too often")
+  void shouldReportRepeatedQueryWithPathWhenRequestRunsItTooOften(CapturedOutput output)
+      throws Exception {
+    var request = new MockHttpServletRequest("POST", "/graphql");
+    request.setQueryString("t=secret-playback-token");
+
+    filter.doFilter(request, new MockHttpServletResponse(), runningQuery(3));
+
+    assertThat(repeatedCount()).isEqualTo(1);
+    assertThat(output.getAll())
+        .contains("ran 3 times while serving POST /graphql;")
+        .doesNotContain("secret-playback-token");
+  }
+
+  @Test
+  @DisplayName("Should not report a query when a request runs it fewer times than the threshold")
+  void shouldNotReportQueryWhenRequestRunsItFewerTimesThanThreshold() throws Exception {
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/api/movies"),
+        new MockHttpServletResponse(),
+        runningQuery(2));
+
+    assertThat(meterRegistry.find(QueryObservations.REPEATED_METRIC).counter()).isNull();
+  }
+
+  @Test
+  @DisplayName("Should stop counting on the thread when the request completes")
+  void shouldStopCountingOnThreadWhenRequestCompletes() throws Exception {
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/api/movies"),
+        new MockHttpServletResponse(),
+        runningQuery(1));
+
+    assertThat(RequestQueries.current()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should not count queries on a thread the request starts when serving a request")
+  void shouldNotCountQueriesOnThreadRequestStartsWhenServingRequest() throws Exception {
+    FilterChain startingThread =
+        (_, _) -> joinUninterruptibly(Thread.startVirtualThread(() -> run(3)));
+
+    filter.doFilter(
+        new MockHttpServletRequest("POST", "/graphql"),
+        new MockHttpServletResponse(),
+        startingThread);
+
+    assertThat(meterRegistry.find(QueryObservations.REPEATED_METRIC).counter()).isNull();
+  }
+
+  private FilterChain runningQuery(int times) {
+    return (_, _) -> run(times);
+  }
+
+  private static void joinUninterruptibly(Thread thread) {
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void run(int times) {
+    for (int i = 0; i < times; i++) {
+      observations.countExecution(QUERY);
+    }
+  }
+
+  private double repeatedCount() {
+    return meterRegistry
+        .get(QueryObservations.REPEATED_METRIC)
+        .tag("query", QUERY)
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,174 @@
+package com.streamarr.server.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.streamarr.server.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Tag("UnitTest")
+@DisplayName("Admission Bounded Password Encoder Tests")
+class AdmissionBoundedPasswordEncoderTest {
+
+  private static final Duration ADMISSION_TIMEOUT = Duration.ofMillis(50);
+
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+  private final BlockingPasswordEncoder delegate = new BlockingPasswordEncoder();
+
+  @Test
+  @DisplayName("Should delegate hashing when a permit is free")
+  void shouldDelegateHashingWhenPermitIsFree() {
+    var encoder = encoder(1);
+    delegate.release();
+
+    assertThat(encoder.encode("password")).isEqualTo("hash:password");
+    assertThat(encoder.matches("password", "hash:password")).isTrue();
+    assertThat(meters.get(AdmissionBoundedPasswordEncoder.DURATION_METRIC).timers())
+        .allSatisfy(timer -> assertThat(timer.count()).isEqualTo(1));
+    assertThat(meters.get(AdmissionBoundedPasswordEncoder.QUEUE_WAIT_METRIC).timer().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should refuse as busy when the memory budget stays committed past the timeout")
+  void shouldRefuseAsBusyWhenMemoryBudgetStaysCommittedPastTimeout() throws Exception {
+    var encoder = encoder(1);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var inFlight = executor.submit(() -> encoder.encode("first"));
+      delegate.awaitStarted(1);
+
+      assertThatThrownBy(() -> encoder.matches("second", "hash:second"))
+          .isInstanceOf(PasswordHashingBusyException.class)
+          .satisfies(
+              e ->
+                  assertThat(((PasswordHashingBusyException) e).retryAfter())
+                      .isEqualTo(ADMISSION_TIMEOUT));
+
+      delegate.release();
+      assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("hash:first");
+    }
+
+    assertThat(delegate.started()).isEqualTo(1);
+    assertThat(meters.get(AdmissionBoundedPasswordEncoder.REJECTED_METRIC).counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should run hashes concurrently up to the budget when several arrive at once")
+  void shouldRunHashesConcurrentlyUpToBudgetWhenSeveralArriveAtOnce() throws Exception {
+    var encoder = encoder(2);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var first = executor.submit(() -> encoder.encode("first"));
+      var second = executor.submit(() -> encoder.encode("second"));
+      delegate.awaitStarted(2);
+
+      assertThatThrownBy(() -> encoder.encode("third"))
+          .isInstanceOf(PasswordHashingBusyException.class);
+
+      delegate.release();
+      assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("hash:first");
+      assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("hash:second");
+    }
+  }
+
+  @Test
+  @DisplayName("Should refuse as busy and keep the interrupt when interrupted while queued")
+  void shouldRefuseAsBusyAndKeepInterruptWhenInterruptedWhileQueued() {
+    var encoder = encoder(1);
+    delegate.release();
+
+    Thread.currentThread().interrupt();
+    try {
+      assertThatThrownBy(() -> encoder.encode("password"))
+          .isInstanceOf(PasswordHashingBusyException.class);
+      assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  @DisplayName("Should check upgrade need without admission when every permit is held")
+  void shouldCheckUpgradeNeedWithoutAdmissionWhenEveryPermitIsHeld() throws Exception {
+    var encoder = encoder(1);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var inFlight = executor.submit(() -> encoder.encode("first"));
+      delegate.awaitStarted(1);
+
+      assertThat(encoder.upgradeEncoding("hash:old")).isTrue();
+
+      delegate.release();
+      inFlight.get(5, TimeUnit.SECONDS);
+    }
+  }
+
+  private AdmissionBoundedPasswordEncoder encoder(int concurrentHashes) {
+    var properties =
+        Argon2Properties.builder()
+            .memoryKib(1024)
+            .iterations(1)
+            .parallelism(1)
+            .memoryBudgetKib(1024 * concurrentHashes)
+            .admissionTimeout(ADMISSION_TIMEOUT)
+            .build();
+    return new AdmissionBoundedPasswordEncoder(delegate, properties, meters);
+  }
+
+  /** Holds every hash until released, so a test controls how long permits stay committed. */
+  private static final class BlockingPasswordEncoder implements PasswordEncoder {
+
+    private final CountDownLatch released = new CountDownLatch(1);
+    private final AtomicInteger started = new AtomicInteger();
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      hold();
+      return "hash:" + rawPassword;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      hold();
+      return encodedPassword.equals("hash:" + rawPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+      return true;
+    }
+
+    void release() {
+      released.countDown();
+    }
+
+    int started() {
+      return started.get();
+    }
+
+    void awaitStarted(int count) {
+      await().atMost(Duration.ofSeconds(5)).until(() -> started.get() == count);
+    }
+
+    private void hold() {
+      started.incrementAndGet();
+      try {
+        released.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
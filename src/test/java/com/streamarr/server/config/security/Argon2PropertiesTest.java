@@ -0,0 +1,69 @@
+package com.streamarr.server.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("Argon2 Properties Tests")
+class Argon2PropertiesTest {
+
+  @Test
+  @DisplayName("Should admit four hashes when no memory budget is configured")
+  void shouldAdmitFourHashesWhenNoMemoryBudgetIsConfigured() {
+    var properties =
+        Argon2Properties.builder().memoryKib(19456).iterations(2).parallelism(1).build();
+
+    assertThat(properties.memoryBudgetKib()).isEqualTo(77824);
+    assertThat(properties.maxConcurrentHashes()).isEqualTo(4);
+    assertThat(properties.admissionTimeout()).isEqualTo(Duration.ofSeconds(5));
+  }
+
+  @Test
+  @DisplayName("Should derive concurrency from the memory budget when one is configured")
+  void shouldDeriveConcurrencyFromMemoryBudgetWhenOneIsConfigured() {
+    var properties =
+        Argon2Properties.builder()
+            .memoryKib(19456)
+            .iterations(2)
+            .parallelism(1)
+            .memoryBudgetKib(65536)
+            .build();
+
+    assertThat(properties.maxConcurrentHashes()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should reject a memory budget smaller than one hash")
+  void shouldRejectMemoryBudgetSmallerThanOneHash() {
+    var builder =
+        Argon2Properties.builder()
+            .memoryKib(19456)
+            .iterations(2)
+            .parallelism(1)
+            .memoryBudgetKib(8192);
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("auth.argon2.memory-budget-kib");
+  }
+
+  @Test
+  @DisplayName("Should reject a non-positive admission timeout")
+  void shouldRejectNonPositiveAdmissionTimeout() {
+    var builder =
+        Argon2Properties.builder()
+            .memoryKib(19456)
+            .iterations(2)
+            .parallelism(1)
+            .admissionTimeout(Duration.ZERO);
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("auth.argon2.admission-timeout");
+  }
+}
@@ -45,4 +45,28 @@ class AuthThrottlePropertiesTest {
         .extracting(violation -> violation.getPropertyPath().toString())
         .containsExactly("window");
   }
+
+  @Test
+  @DisplayName("Should cap tracked keys by default when no cap is configured")
+  void shouldCapTrackedKeysByDefaultWhenNoCapIsConfigured() {
+    var properties =
+        AuthThrottleProperties.builder().maxAttempts(5).window(Duration.ofMinutes(15)).build();
+
+    assertThat(properties.maxTrackedKeys()).isEqualTo(100_000);
+  }
+
+  @Test
+  @DisplayName("Should reject configuration when the key cap is not positive")
+  void shouldRejectConfigurationWhenKeyCapIsNotPositive() {
+    var properties =
+        AuthThrottleProperties.builder()
+            .maxAttempts(5)
+            .window(Duration.ofMinutes(15))
+            .maxTrackedKeys(0)
+            .build();
+
+    assertThat(VALIDATOR.validate(properties))
+        .extracting(violation -> violation.getPropertyPath().toString())
+        .containsExactly("maxTrackedKeys");
+  }
 }
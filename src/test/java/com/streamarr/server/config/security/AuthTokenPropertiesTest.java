@@ -81,6 +81,22 @@ class AuthTokenPropertiesTest {
         .containsExactly("rotationGrace");
   }
 
+  @Test
+  @DisplayName("Should default the verified token cache size when not configured")
+  void shouldDefaultVerifiedTokenCacheSizeWhenNotConfigured() {
+    assertThat(validProperties().build().verifiedTokenCacheSize()).isEqualTo(10_000);
+  }
+
+  @Test
+  @DisplayName("Should reject configuration when verified token cache size is negative")
+  void shouldRejectConfigurationWhenVerifiedTokenCacheSizeIsNegative() {
+    var properties = validProperties().verifiedTokenCacheSize(-1).build();
+
+    assertThat(VALIDATOR.validate(properties))
+        .extracting(violation -> violation.getPropertyPath().toString())
+        .containsExactly("verifiedTokenCacheSize");
+  }
+
   @Test
   @DisplayName("Should not expose signing key in string representation")
   void shouldNotExposeSigningKeyInStringRepresentation() {
@@ -2,6 +2,7 @@ package com.streamarr.server.config.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -18,7 +19,7 @@ class PasswordEncodingTest {
   @Test
   @DisplayName("Should encode with argon2id id when hashing password")
   void shouldEncodeWithArgon2idIdWhenHashingPassword() {
-    var encoder = config.passwordEncoder(WEAK_PARAMS);
+    var encoder = config.passwordEncoder(WEAK_PARAMS, new SimpleMeterRegistry());
 
     var encoded = encoder.encode("correct horse battery staple");
 
@@ -29,10 +30,11 @@ class PasswordEncodingTest {
   @Test
   @DisplayName("Should report upgrade needed when params weaker")
   void shouldReportUpgradeNeededWhenParamsWeaker() {
-    var weakEncoder = config.passwordEncoder(WEAK_PARAMS);
+    var weakEncoder = config.passwordEncoder(WEAK_PARAMS, new SimpleMeterRegistry());
     var strongerEncoder =
         config.passwordEncoder(
-            Argon2Properties.builder().memoryKib(8192).iterations(2).parallelism(1).build());
+            Argon2Properties.builder().memoryKib(8192).iterations(2).parallelism(1).build(),
+            new SimpleMeterRegistry());
 
     var weakEncoded = weakEncoder.encode("hunter2!");
 
@@ -87,6 +87,20 @@ class TokenCryptoConfigTest {
     assertThatThrownBy(() -> jwtDecoder.decode(tamperedToken)).isInstanceOf(BadJwtException.class);
   }
 
+  @Test
+  @DisplayName("Should reuse the verified token when the same token is decoded again")
+  void shouldReuseVerifiedTokenWhenSameTokenIsDecodedAgain() {
+    var keys = config.tokenSigningKeys(properties(KEY_A, List.of()));
+    var token = mint(config.jwtEncoder(keys));
+    var jwtDecoder = decoder(keys);
+
+    var first = jwtDecoder.decode(token);
+
+    assertThat(jwtDecoder.decode(token)).isSameAs(first);
+    assertThatThrownBy(() -> jwtDecoder.decode(tamperSignature(token)))
+        .isInstanceOf(BadJwtException.class);
+  }
+
   @Test
   @DisplayName("Should generate ephemeral key pair when signing key blank")
   void shouldGenerateEphemeralKeyPairWhenSigningKeyBlank() {
@@ -0,0 +1,149 @@
+package com.streamarr.server.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.streamarr.server.fakes.MutableClock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+@Tag("UnitTest")
+@DisplayName("Verified JWT Cache Tests")
+class VerifiedJwtCacheTest {
+
+  private static final Duration TOKEN_TTL = Duration.ofMinutes(10);
+
+  private final MutableClock clock = new MutableClock();
+  private final CountingJwtDecoder delegate = new CountingJwtDecoder();
+
+  @Test
+  @DisplayName("Should verify once when the same token is decoded repeatedly")
+  void shouldVerifyOnceWhenSameTokenIsDecodedRepeatedly() {
+    var cache = cache(100);
+
+    var first = cache.decode("token-a");
+    var second = cache.decode("token-a");
+
+    assertThat(second).isSameAs(first);
+    assertThat(delegate.decodes()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should verify each token separately when tokens differ")
+  void shouldVerifyEachTokenSeparatelyWhenTokensDiffer() {
+    var cache = cache(100);
+
+    cache.decode("token-a");
+    cache.decode("token-b");
+
+    assertThat(delegate.decodes()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should verify again when the remembered token reaches its expiry")
+  void shouldVerifyAgainWhenRememberedTokenReachesItsExpiry() {
+    var cache = cache(100);
+    cache.decode("token-a");
+    clock.advance(TOKEN_TTL);
+    delegate.reject("token-a");
+
+    assertThatThrownBy(() -> cache.decode("token-a")).isInstanceOf(BadJwtException.class);
+    assertThat(delegate.decodes()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should never remember a rejection when the delegate fails")
+  void shouldNeverRememberRejectionWhenDelegateFails() {
+    var cache = cache(100);
+    delegate.reject("token-a");
+    assertThatThrownBy(() -> cache.decode("token-a")).isInstanceOf(BadJwtException.class);
+    delegate.accept("token-a");
+
+    assertThat(cache.decode("token-a").getSubject()).isEqualTo("token-a");
+    assertThat(delegate.decodes()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should verify every request when the cache size is zero")
+  void shouldVerifyEveryRequestWhenCacheSizeIsZero() {
+    var cache = cache(0);
+
+    cache.decode("token-a");
+    cache.decode("token-a");
+
+    assertThat(delegate.decodes()).isEqualTo(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should evict expired entries when the cache is full")
+  void shouldEvictExpiredEntriesWhenCacheIsFull() {
+    var cache = cache(2);
+    cache.decode("token-a");
+    cache.decode("token-b");
+    clock.advance(TOKEN_TTL);
+
+    cache.decode("token-c");
+    cache.decode("token-c");
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(delegate.decodes()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should still decode without remembering when the cache is full of live tokens")
+  void shouldStillDecodeWithoutRememberingWhenCacheIsFullOfLiveTokens() {
+    var cache = cache(2);
+    cache.decode("token-a");
+    cache.decode("token-b");
+
+    assertThat(cache.decode("token-c").getSubject()).isEqualTo("token-c");
+    cache.decode("token-c");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(delegate.decodes()).isEqualTo(4);
+  }
+
+  private VerifiedJwtCache cache(int maxEntries) {
+    return new VerifiedJwtCache(delegate, maxEntries, clock);
+  }
+
+  private final class CountingJwtDecoder implements JwtDecoder {
+
+    private final AtomicInteger decodes = new AtomicInteger();
+    private final Set<String> rejected = new HashSet<>();
+
+    @Override
+    public Jwt decode(String token) {
+      decodes.incrementAndGet();
+      if (rejected.contains(token)) {
+        throw new BadJwtException("rejected");
+      }
+      return Jwt.withTokenValue(token)
+          .header("alg", "ES256")
+          .subject(token)
+          .expiresAt(clock.instant().plus(TOKEN_TTL))
+          .build();
+    }
+
+    void reject(String token) {
+      rejected.add(token);
+    }
+
+    void accept(String token) {
+      rejected.remove(token);
+    }
+
+    int decodes() {
+      return decodes.get();
+    }
+  }
+}
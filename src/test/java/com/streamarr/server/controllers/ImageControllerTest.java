@@ -2,7 +2,9 @@ package com.streamarr.server.controllers;
 
 import static com.streamarr.server.fakes.TestImages.createTestImage;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.RANGE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -11,6 +13,7 @@ import com.google.common.jimfs.Jimfs;
 import com.streamarr.server.config.ImageProperties;
 import com.streamarr.server.domain.media.Image;
 import com.streamarr.server.domain.media.ImageEntityType;
+import com.streamarr.server.domain.media.ImageFormat;
 import com.streamarr.server.domain.media.ImageSize;
 import com.streamarr.server.domain.media.ImageType;
 import com.streamarr.server.fakes.FakeImageRepository;
@@ -64,6 +67,168 @@ class ImageControllerTest {
     assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(imageData);
   }
 
+  @Test
+  @DisplayName("Should declare the file size as content length when image exists")
+  void shouldDeclareFileSizeAsContentLengthWhenImageExists() throws Exception {
+    var image = createImageWithFile(new byte[] {1, 2, 3, 4, 5});
+
+    var result =
+        mockMvc
+            .perform(get("/api/images/{imageId}", image.getId()))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    assertThat(result.getResponse().getHeader("Content-Length")).isEqualTo("5");
+    assertThat(result.getResponse().getHeader("Accept-Ranges")).isEqualTo("bytes");
+  }
+
+  @Test
+  @DisplayName("Should return partial content when a byte range is requested")
+  void shouldReturnPartialContentWhenByteRangeIsRequested() throws Exception {
+    var image = createImageWithFile(new byte[] {1, 2, 3, 4, 5});
+
+    var result =
+        mockMvc
+            .perform(get("/api/images/{imageId}", image.getId()).header(RANGE, "bytes=1-3"))
+            .andExpect(status().isPartialContent())
+            .andReturn();
+
+    assertThat(result.getResponse().getHeader("Content-Range")).isEqualTo("bytes 1-3/5");
+    assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(new byte[] {2, 3, 4});
+  }
+
+  @Test
+  @DisplayName("Should declare the content type from the stored format when it is not JPEG")
+  void shouldDeclareContentTypeFromStoredFormatWhenNotJpeg() throws Exception {
+    var image = createImageWithFile(new byte[] {1, 2, 3}, ImageFormat.WEBP);
+
+    var result =
+        mockMvc
+            .perform(get("/api/images/{imageId}", image.getId()))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    assertThat(result.getResponse().getContentType()).isEqualTo("image/webp");
+  }
+
+  @Test
+  @DisplayName("Should serve the WebP sibling when the client accepts WebP")
+  void shouldServeWebpSiblingWhenClientAcceptsWebp() throws Exception {
+    var jpeg = createImageWithFile(new byte[] {1, 2, 3});
+    var webp = createSiblingWithFile(jpeg, new byte[] {4, 5}, ImageFormat.WEBP);
+
+    var result =
+        mockMvc
+            .perform(
+                get("/api/images/{imageId}", jpeg.getId())
+                    .header(ACCEPT, "image/avif,image/webp,image/*;q=0.8"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    assertThat(result.getResponse().getContentType()).isEqualTo("image/webp");
+    assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(new byte[] {4, 5});
+    assertThat(result.getResponse().getHeader("ETag")).isEqualTo(quoted(webp.getId()));
+    assertThat(result.getResponse().getHeader("Vary")).isEqualTo(ACCEPT);
+  }
+
+  @Test
+  @DisplayName("Should serve JPEG when the client accepts only wildcards")
+  void shouldServeJpegWhenClientAcceptsOnlyWildcards() throws Exception {
+    var jpeg = createImageWithFile(new byte[] {1, 2, 3});
+    createSiblingWithFile(jpeg, new byte[] {4, 5}, ImageFormat.WEBP);
+
+    var result =
+        mockMvc
+            .perform(get("/api/images/{imageId}", jpeg.getId()).header(ACCEPT, "image/*,*/*"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    assertThat(result.getResponse().getContentType()).isEqualTo("image/jpeg");
+    assertThat(result.getResponse().getHeader("ETag")).isEqualTo(quoted(jpeg.getId()));
+  }
+
+  @Test
+  @DisplayName("Should serve JPEG when the client refuses WebP")
+  void shouldServeJpegWhenClientRefusesWebp() throws Exception {
+    var jpeg = createImageWithFile(new byte[] {1, 2, 3});
+    createSiblingWithFile(jpeg, new byte[] {4, 5}, ImageFormat.WEBP);
+
+    var result =
+        mockMvc
+            .perform(
+                get("/api/images/{imageId}", jpeg.getId())
+                    .header(ACCEPT, "image/webp;q=0,image/jpeg"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    assertThat(result.getResponse().getContentType()).isEqualTo("image/jpeg");
+  }
+
+  @Test
+  @DisplayName("Should fall back to JPEG when the client accepts WebP but none is stored")
+  void shouldFallBackToJpegWhenClientAcceptsWebpButNoneIsStored() throws Exception {
+    var jpeg = createImageWithFile(new byte[] {1, 2, 3});
+
+    var result =
+        mockMvc
+            .perform(get("/api/images/{imageId}", jpeg.getId()).header(ACCEPT, "image/webp"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    assertThat(result.getResponse().getContentType()).isEqualTo("image/jpeg");
+    assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(new byte[] {1, 2, 3});
+  }
+
+  @Test
+  @DisplayName("Should serve JPEG when the Accept header is malformed")
+  void shouldServeJpegWhenAcceptHeaderIsMalformed() throws Exception {
+    var jpeg = createImageWithFile(new byte[] {1, 2, 3});
+    createSiblingWithFile(jpeg, new byte[] {4, 5}, ImageFormat.WEBP);
+
+    var result =
+        mockMvc
+            .perform(get("/api/images/{imageId}", jpeg.getId()).header(ACCEPT, "image/webp;q="))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    assertThat(result.getResponse().getContentType()).isEqualTo("image/jpeg");
+  }
+
+  @Test
+  @DisplayName("Should revalidate the WebP sibling when its ETag is presented")
+  void shouldRevalidateWebpSiblingWhenItsETagIsPresented() throws Exception {
+    var jpeg = createImageWithoutFile();
+    var webp = createSiblingWithoutFile(jpeg, ImageFormat.WEBP);
+
+    var result =
+        mockMvc
+            .perform(
+                get("/api/images/{imageId}", jpeg.getId())
+                    .header(ACCEPT, "image/webp")
+                    .header(IF_NONE_MATCH, quoted(webp.getId())))
+            .andExpect(status().isNotModified())
+            .andReturn();
+
+    assertThat(result.getResponse().getHeader("Vary")).isEqualTo(ACCEPT);
+  }
+
+  @Test
+  @DisplayName("Should serve a previously served image without reading its row again")
+  void shouldServePreviouslyServedImageWithoutReadingItsRowAgain() throws Exception {
+    var imageData = new byte[] {1, 2, 3};
+    var image = createImageWithFile(imageData);
+    mockMvc.perform(get("/api/images/{imageId}", image.getId())).andExpect(status().isOk());
+    imageRepository.deleteById(image.getId());
+
+    var result =
+        mockMvc
+            .perform(get("/api/images/{imageId}", image.getId()))
+            .andExpect(status().isOk())
+            .andReturn();
+
+    assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(imageData);
+  }
+
   @Test
   @DisplayName("Should return 404 when image not found")
   void shouldReturn404WhenImageNotFound() throws Exception {
@@ -222,7 +387,19 @@ class ImageControllerTest {
   }
 
   private Image createImageWithFile(byte[] data) throws IOException {
-    var image = createImageWithoutFile();
+    return createImageWithFile(data, ImageFormat.JPEG);
+  }
+
+  private Image createImageWithFile(byte[] data, ImageFormat format) throws IOException {
+    return writeFile(createImageWithoutFile(UUID.randomUUID(), format), data);
+  }
+
+  private Image createSiblingWithFile(Image image, byte[] data, ImageFormat format)
+      throws IOException {
+    return writeFile(createSiblingWithoutFile(image, format), data);
+  }
+
+  private Image writeFile(Image image, byte[] data) throws IOException {
     var absolutePath = fileSystem.getPath("/data/images").resolve(image.getPath());
 
     Files.createDirectories(absolutePath.getParent());
@@ -232,17 +409,24 @@ class ImageControllerTest {
   }
 
   private Image createImageWithoutFile() {
-    var entityId = UUID.randomUUID();
+    return createImageWithoutFile(UUID.randomUUID(), ImageFormat.JPEG);
+  }
+
+  private Image createSiblingWithoutFile(Image image, ImageFormat format) {
+    return createImageWithoutFile(image.getEntityId(), format);
+  }
 
+  private Image createImageWithoutFile(UUID entityId, ImageFormat format) {
     return imageRepository.save(
         Image.builder()
             .entityId(entityId)
             .entityType(ImageEntityType.MOVIE)
             .imageType(ImageType.POSTER)
             .variant(ImageSize.SMALL)
+            .format(format)
             .width(185)
             .height(278)
-            .path("movie/" + entityId + "/poster/small.jpg")
+            .path("movie/" + entityId + "/poster/small." + format.extension())
             .build());
   }
 
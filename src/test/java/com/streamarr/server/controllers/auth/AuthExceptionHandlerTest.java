@@ -6,13 +6,16 @@ import com.streamarr.server.exceptions.AuthenticationRequiredException;
 import com.streamarr.server.exceptions.HouseholdAccessDeniedException;
 import com.streamarr.server.exceptions.HouseholdRequiredException;
 import com.streamarr.server.exceptions.InvalidCredentialsException;
+import com.streamarr.server.exceptions.PasswordHashingBusyException;
 import com.streamarr.server.exceptions.ProfileAccessDeniedException;
 import com.streamarr.server.exceptions.SetupAlreadyCompletedException;
 import com.streamarr.server.exceptions.TooManyCredentialAttemptsException;
 import com.streamarr.server.exceptions.TooManyLoginAttemptsException;
+import java.time.Duration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 @Tag("UnitTest")
@@ -67,6 +70,22 @@ class AuthExceptionHandlerTest {
                 "TOO_MANY_ATTEMPTS", "Too many failed credential attempts. Try again later."));
   }
 
+  @Test
+  @DisplayName("Should respond 503 with retry-after when password hashing is busy")
+  void shouldRespond503WithRetryAfterWhenPasswordHashingIsBusy() {
+    var response =
+        handler.handlePasswordHashingBusy(
+            new PasswordHashingBusyException(Duration.ofMillis(4500)));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+    assertThat(response.getBody())
+        .isEqualTo(
+            new AuthErrorResponse(
+                "PASSWORD_HASHING_BUSY",
+                "The server is busy verifying passwords; try again shortly."));
+  }
+
   @Test
   @DisplayName("Should respond 401 with one body when any refresh token rejected")
   void shouldRespond401WithOneBodyWhenAnyRefreshTokenRejected() {
@@ -2,22 +2,30 @@ package com.streamarr.server.fakes;
 
 import com.streamarr.server.domain.metadata.Company;
 import com.streamarr.server.repositories.CompanyRepository;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.NotImplementedException;
 
 public class FakeCompanyRepository extends FakeJpaRepository<Company> implements CompanyRepository {
 
   @Override
-  public boolean insertIfAbsent(String sourceId, String name) {
-    boolean exists = database.values().stream().anyMatch(c -> sourceId.equals(c.getSourceId()));
-    if (exists) {
-      return false;
-    }
-    save(Company.builder().sourceId(sourceId).name(name).build());
-    return true;
+  public Set<String> insertAllIfAbsent(Map<String, String> namesBySourceId) {
+    var inserted = new HashSet<String>();
+    namesBySourceId.forEach(
+        (sourceId, name) -> {
+          boolean exists =
+              database.values().stream().anyMatch(c -> sourceId.equals(c.getSourceId()));
+          if (!exists) {
+            save(Company.builder().sourceId(sourceId).name(name).build());
+            inserted.add(sourceId);
+          }
+        });
+    return inserted;
   }
 
   @Override
@@ -29,7 +37,9 @@ public class FakeCompanyRepository extends FakeJpaRepository<Company> implements
 
   @Override
   public Set<Company> findCompaniesBySourceIdIn(List<String> sourceIds) {
-    throw new NotImplementedException();
+    return database.values().stream()
+        .filter(company -> sourceIds.contains(company.getSourceId()))
+        .collect(Collectors.toSet());
   }
 
   @Override
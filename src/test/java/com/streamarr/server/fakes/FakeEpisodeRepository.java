@@ -44,4 +44,21 @@ public class FakeEpisodeRepository extends FakeJpaRepository<Episode> implements
                     && episode.getEpisodeNumber() == episodeNumber)
         .findFirst();
   }
+
+  @Override
+  public List<Episode> upsertAllByEpisodeNumber(List<Episode> episodes) {
+    for (var episode : episodes) {
+      findBySeasonIdAndEpisodeNumber(episode.getSeason().getId(), episode.getEpisodeNumber())
+          .ifPresentOrElse(
+              stored -> {
+                stored.setTitle(episode.getTitle());
+                stored.setOverview(episode.getOverview());
+                stored.setAirDate(episode.getAirDate());
+                stored.setRuntime(episode.getRuntime());
+                episode.setId(stored.getId());
+              },
+              () -> save(episode));
+    }
+    return episodes;
+  }
 }
@@ -0,0 +1,68 @@
+package com.streamarr.server.fakes;
+
+import com.streamarr.server.services.streaming.ffmpeg.TranscodeCapabilityService.ProcessFactory;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Answers capability detection as a software-only FFmpeg build whose HLS muxer has every option
+ * the server requires, so {@code TranscodeCapabilityService} reports FFmpeg available on a machine
+ * without it.
+ */
+public class FakeFfmpegCapabilityProcessFactory implements ProcessFactory {
+
+  private static final String HLS_MUXER_HELP =
+      """
+      Muxer hls [Apple HTTP Live Streaming]:
+      hls muxer AVOptions:
+        -hls_segment_options <string>     E.......... set segments files format options of hls
+      """;
+
+  @Override
+  public Process create(String[] command) {
+    var stdout = List.of(command).contains("muxer=hls") ? HLS_MUXER_HELP : "";
+    return new CompletedProcess(stdout);
+  }
+
+  private static final class CompletedProcess extends Process {
+
+    private final InputStream stdout;
+
+    private CompletedProcess(String stdout) {
+      this.stdout = new ByteArrayInputStream(stdout.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return OutputStream.nullOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return stdout;
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+      return InputStream.nullInputStream();
+    }
+
+    @Override
+    public int waitFor() {
+      return 0;
+    }
+
+    @Override
+    public int exitValue() {
+      return 0;
+    }
+
+    @Override
+    public void destroy() {
+      // already exited
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.streamarr.server.fakes;
 
+import com.streamarr.server.domain.streaming.TranscodeProgress;
 import com.streamarr.server.services.streaming.ffmpeg.FfmpegProcessManager;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -7,6 +8,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,6 +51,11 @@ public class FakeFfmpegProcessManager implements FfmpegProcessManager {
     return running.contains(new ProcessKey(sessionId, variantLabel));
   }
 
+  @Override
+  public Optional<TranscodeProgress> progress(UUID sessionId, String variantLabel) {
+    return Optional.empty();
+  }
+
   public Set<UUID> getStarted() {
     return Set.copyOf(started);
   }
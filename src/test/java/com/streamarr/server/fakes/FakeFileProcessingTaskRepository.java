@@ -5,11 +5,13 @@ import com.streamarr.server.domain.task.FileProcessingTaskStatus;
 import com.streamarr.server.repositories.task.FileProcessingTaskRepository;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import org.apache.commons.lang3.NotImplementedException;
 import org.springframework.data.domain.Example;
@@ -23,7 +25,12 @@ public class FakeFileProcessingTaskRepository implements FileProcessingTaskRepos
   private static final List<FileProcessingTaskStatus> ACTIVE_STATUSES =
       List.of(FileProcessingTaskStatus.PENDING, FileProcessingTaskStatus.PROCESSING);
 
-  private final Map<UUID, FileProcessingTask> database = new HashMap<>();
+  private final Map<UUID, FileProcessingTask> database = new ConcurrentHashMap<>();
+  private final AtomicReference<RuntimeException> nextSaveAllFailure = new AtomicReference<>();
+
+  public void failNextSaveAll(RuntimeException failure) {
+    nextSaveAllFailure.set(failure);
+  }
 
   @Override
   public Optional<FileProcessingTask> findByFilepathUriAndStatusIn(
@@ -34,6 +41,15 @@ public class FakeFileProcessingTaskRepository implements FileProcessingTaskRepos
         .findFirst();
   }
 
+  @Override
+  public List<FileProcessingTask> findByFilepathUriInAndStatusIn(
+      Collection<String> filepathUris, List<FileProcessingTaskStatus> statuses) {
+    return database.values().stream()
+        .filter(task -> filepathUris.contains(task.getFilepathUri()))
+        .filter(task -> statuses.contains(task.getStatus()))
+        .toList();
+  }
+
   @Override
   public List<FileProcessingTask> findByOwnerInstanceId(String ownerInstanceId) {
     return database.values().stream()
@@ -136,6 +152,11 @@ public class FakeFileProcessingTaskRepository implements FileProcessingTaskRepos
 
   @Override
   public <S extends FileProcessingTask> List<S> saveAll(Iterable<S> entities) {
+    var failure = nextSaveAllFailure.getAndSet(null);
+    if (failure != null) {
+      throw failure;
+    }
+
     var result = new ArrayList<S>();
     entities.forEach(
         entity -> {
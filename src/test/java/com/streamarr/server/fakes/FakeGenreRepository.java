@@ -2,21 +2,37 @@ package com.streamarr.server.fakes;
 
 import com.streamarr.server.domain.metadata.Genre;
 import com.streamarr.server.repositories.GenreRepository;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.NotImplementedException;
 
 public class FakeGenreRepository extends FakeJpaRepository<Genre> implements GenreRepository {
 
   @Override
-  public boolean insertIfAbsent(String sourceId, String name) {
-    boolean exists = database.values().stream().anyMatch(g -> sourceId.equals(g.getSourceId()));
-    if (exists) {
-      return false;
-    }
-    save(Genre.builder().sourceId(sourceId).name(name).build());
-    return true;
+  public Set<String> insertAllIfAbsent(Map<String, String> namesBySourceId) {
+    var inserted = new HashSet<String>();
+    namesBySourceId.forEach(
+        (sourceId, name) -> {
+          boolean exists =
+              database.values().stream().anyMatch(g -> sourceId.equals(g.getSourceId()));
+          if (!exists) {
+            save(Genre.builder().sourceId(sourceId).name(name).build());
+            inserted.add(sourceId);
+          }
+        });
+    return inserted;
+  }
+
+  @Override
+  public Set<Genre> findGenresBySourceIdIn(List<String> sourceIds) {
+    return database.values().stream()
+        .filter(genre -> sourceIds.contains(genre.getSourceId()))
+        .collect(Collectors.toSet());
   }
 
   @Override
@@ -66,7 +66,8 @@ public class FakeImageRepository extends FakeJpaRepository<Image> implements Ima
             existing ->
                 existing.getEntityId().equals(image.getEntityId())
                     && existing.getImageType() == image.getImageType()
-                    && existing.getVariant() == image.getVariant());
+                    && existing.getVariant() == image.getVariant()
+                    && existing.getFormat() == image.getFormat());
   }
 
   @Override
@@ -0,0 +1,294 @@
+package com.streamarr.server.fakes;
+
+import com.streamarr.server.domain.streaming.TranscodeProgress;
+import com.streamarr.server.services.streaming.ffmpeg.FfmpegProcessManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stands in for FFmpeg on the HLS path without decoding anything. Each started producer reads the
+ * segment pattern, {@code -start_number}, {@code -ss} and {@code -hls_time} from the command it was
+ * given and writes placeholder segments under those names, one every {@code -hls_time / speed}
+ * seconds, until the media ends or it is stopped. Segments land through a temp file and a rename,
+ * as {@code -hls_flags temp_file} makes FFmpeg do, so a reader never sees a partial one.
+ */
+public class FakePacedFfmpegProcessManager implements FfmpegProcessManager {
+
+  private static final double FRAMERATE = 24.0;
+  private static final Duration STOP_TIMEOUT = Duration.ofSeconds(5);
+
+  private record ProcessKey(UUID sessionId, String variantLabel) {}
+
+  private final double speed;
+  private final Duration mediaDuration;
+  private final byte[] segmentData;
+  private final ConcurrentHashMap<ProcessKey, PacedProducer> producers = new ConcurrentHashMap<>();
+  private final AtomicLong nextPid = new AtomicLong(1);
+  private final LongAdder producersStarted = new LongAdder();
+  private final LongAdder segmentsWritten = new LongAdder();
+
+  /**
+   * @param speed media seconds produced per wall-clock second; {@code 1.0} is a real-time encode
+   * @param mediaDuration where every producer ends, as FFmpeg does at the end of its input
+   * @param segmentBytes size of each placeholder segment
+   */
+  public FakePacedFfmpegProcessManager(double speed, Duration mediaDuration, int segmentBytes) {
+    if (speed <= 0) {
+      throw new IllegalArgumentException("speed must be positive, got " + speed);
+    }
+    if (segmentBytes <= 0) {
+      throw new IllegalArgumentException("segmentBytes must be positive, got " + segmentBytes);
+    }
+
+    this.speed = speed;
+    this.mediaDuration = mediaDuration;
+    this.segmentData = new byte[segmentBytes];
+    // MPEG-TS sync byte, so a segment at least looks like transport stream to anything sniffing it.
+    Arrays.fill(segmentData, (byte) 0x47);
+  }
+
+  @Override
+  public Process startProcess(
+      UUID sessionId, String variantLabel, List<String> command, Path workingDir) {
+    var producer = new PacedProducer(nextPid.getAndIncrement(), HlsOutput.from(command));
+    var replaced = producers.put(new ProcessKey(sessionId, variantLabel), producer);
+    if (replaced != null) {
+      replaced.stop();
+    }
+
+    producersStarted.increment();
+    producer.start();
+    return producer;
+  }
+
+  @Override
+  public void stopProcess(UUID sessionId) {
+    var keys =
+        producers.keySet().stream().filter(key -> key.sessionId().equals(sessionId)).toList();
+    for (var key : keys) {
+      stop(producers.remove(key));
+    }
+  }
+
+  @Override
+  public void stopProcess(UUID sessionId, String variantLabel) {
+    stop(producers.remove(new ProcessKey(sessionId, variantLabel)));
+  }
+
+  @Override
+  public boolean isRunning(UUID sessionId) {
+    return producers.entrySet().stream()
+        .anyMatch(e -> e.getKey().sessionId().equals(sessionId) && e.getValue().isAlive());
+  }
+
+  @Override
+  public boolean isRunning(UUID sessionId, String variantLabel) {
+    var producer = producers.get(new ProcessKey(sessionId, variantLabel));
+    return producer != null && producer.isAlive();
+  }
+
+  @Override
+  public Optional<TranscodeProgress> progress(UUID sessionId, String variantLabel) {
+    return Optional.ofNullable(producers.get(new ProcessKey(sessionId, variantLabel)))
+        .map(PacedProducer::progress);
+  }
+
+  public long producersStarted() {
+    return producersStarted.sum();
+  }
+
+  public long segmentsWritten() {
+    return segmentsWritten.sum();
+  }
+
+  private static void stop(PacedProducer producer) {
+    if (producer != null) {
+      producer.stop();
+    }
+  }
+
+  /** The parts of an {@code FfmpegCommandBuilder} command that decide what lands on disk. */
+  private record HlsOutput(
+      int segmentSeconds, int startNumber, int seekSeconds, String segmentPattern, Path init) {
+
+    static HlsOutput from(List<String> command) {
+      var segmentPattern =
+          argument(command, "-hls_segment_filename")
+              .orElseThrow(
+                  () -> new IllegalArgumentException("No -hls_segment_filename in " + command));
+      var fmp4 = "fmp4".equals(argument(command, "-hls_segment_type").orElse("mpegts"));
+      var init =
+          fmp4
+              ? Path.of(segmentPattern)
+                  .resolveSibling(argument(command, "-hls_fmp4_init_filename").orElse("init.mp4"))
+              : null;
+
+      return new HlsOutput(
+          Integer.parseInt(argument(command, "-hls_time").orElse("6")),
+          Integer.parseInt(argument(command, "-start_number").orElse("0")),
+          Integer.parseInt(argument(command, "-ss").orElse("0")),
+          segmentPattern,
+          init);
+    }
+
+    Path segment(int index) {
+      return Path.of(segmentPattern.replace("%d", Integer.toString(index)));
+    }
+
+    private static Optional<String> argument(List<String> command, String flag) {
+      var index = command.indexOf(flag);
+      if (index < 0 || index + 1 >= command.size()) {
+        return Optional.empty();
+      }
+
+      return Optional.of(command.get(index + 1));
+    }
+  }
+
+  private final class PacedProducer extends Process {
+
+    private final long pid;
+    private final HlsOutput output;
+    private final CountDownLatch exited = new CountDownLatch(1);
+    private volatile Thread thread;
+    private volatile int exitCode;
+    private volatile TranscodeProgress progress = TranscodeProgress.UNKNOWN;
+
+    private PacedProducer(long pid, HlsOutput output) {
+      this.pid = pid;
+      this.output = output;
+    }
+
+    private void start() {
+      thread = Thread.ofVirtual().name("fake-ffmpeg-" + pid).start(this::produce);
+    }
+
+    private void produce() {
+      var interval = Duration.ofNanos((long) (output.segmentSeconds() * 1_000_000_000L / speed));
+      var segmentCount =
+          (int) Math.ceil(mediaDuration.toMillis() / (output.segmentSeconds() * 1000.0));
+      try {
+        if (output.init() != null) {
+          writeAtomically(output.init());
+        }
+
+        for (int index = output.startNumber(); index < segmentCount; index++) {
+          Thread.sleep(interval);
+          writeAtomically(output.segment(index));
+          segmentsWritten.increment();
+          progress = progressAfter(index - output.startNumber() + 1, false);
+        }
+        progress = progressAfter(segmentCount - output.startNumber(), true);
+      } catch (InterruptedException | ClosedByInterruptException _) {
+        Thread.currentThread().interrupt();
+      } catch (IOException _) {
+        // The session directory went away under a running producer; FFmpeg would exit non-zero.
+        exitCode = 1;
+      } finally {
+        exited.countDown();
+      }
+    }
+
+    private void writeAtomically(Path target) throws IOException {
+      var temp = target.resolveSibling(target.getFileName() + ".tmp");
+      Files.write(temp, segmentData);
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private TranscodeProgress progressAfter(int segments, boolean ended) {
+      var producedSeconds = (long) segments * output.segmentSeconds();
+      var bitrateKbps = segmentData.length * 8.0 / output.segmentSeconds() / 1000.0;
+      return new TranscodeProgress(
+          (long) (producedSeconds * FRAMERATE),
+          FRAMERATE * speed,
+          bitrateKbps,
+          (output.seekSeconds() + producedSeconds) * 1_000_000L,
+          0,
+          0,
+          speed,
+          ended);
+    }
+
+    private TranscodeProgress progress() {
+      return progress;
+    }
+
+    /** Waits out the exit so no segment lands after the caller goes on to delete the session. */
+    private void stop() {
+      destroy();
+      try {
+        exited.await(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (InterruptedException _) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return OutputStream.nullOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return InputStream.nullInputStream();
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+      return InputStream.nullInputStream();
+    }
+
+    @Override
+    public int waitFor() throws InterruptedException {
+      exited.await();
+      return exitCode;
+    }
+
+    @Override
+    public boolean waitFor(long timeout, TimeUnit unit) throws InterruptedException {
+      return exited.await(timeout, unit);
+    }
+
+    @Override
+    public int exitValue() {
+      if (isAlive()) {
+        throw new IllegalThreadStateException("Fake FFmpeg " + pid + " has not exited");
+      }
+
+      return exitCode;
+    }
+
+    @Override
+    public boolean isAlive() {
+      return exited.getCount() > 0;
+    }
+
+    @Override
+    public void destroy() {
+      var running = thread;
+      if (running != null) {
+        running.interrupt();
+      }
+    }
+
+    @Override
+    public long pid() {
+      return pid;
+    }
+  }
+}
@@ -2,22 +2,30 @@ package com.streamarr.server.fakes;
 
 import com.streamarr.server.domain.metadata.Person;
 import com.streamarr.server.repositories.PersonRepository;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.NotImplementedException;
 
 public class FakePersonRepository extends FakeJpaRepository<Person> implements PersonRepository {
 
   @Override
-  public boolean insertIfAbsent(String sourceId, String name) {
-    boolean exists = database.values().stream().anyMatch(p -> sourceId.equals(p.getSourceId()));
-    if (exists) {
-      return false;
-    }
-    save(Person.builder().sourceId(sourceId).name(name).build());
-    return true;
+  public Set<String> insertAllIfAbsent(Map<String, String> namesBySourceId) {
+    var inserted = new HashSet<String>();
+    namesBySourceId.forEach(
+        (sourceId, name) -> {
+          boolean exists =
+              database.values().stream().anyMatch(p -> sourceId.equals(p.getSourceId()));
+          if (!exists) {
+            save(Person.builder().sourceId(sourceId).name(name).build());
+            inserted.add(sourceId);
+          }
+        });
+    return inserted;
   }
 
   @Override
@@ -29,7 +37,9 @@ public class FakePersonRepository extends FakeJpaRepository<Person> implements P
 
   @Override
   public Set<Person> findPersonsBySourceIdIn(List<String> sourceIds) {
-    throw new NotImplementedException();
+    return database.values().stream()
+        .filter(person -> sourceIds.contains(person.getSourceId()))
+        .collect(Collectors.toSet());
   }
 
   @Override
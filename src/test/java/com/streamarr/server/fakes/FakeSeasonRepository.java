@@ -43,4 +43,20 @@ public class FakeSeasonRepository extends FakeJpaRepository<Season> implements S
         .sorted(comparingInt(Season::getSeasonNumber))
         .toList();
   }
+
+  @Override
+  public List<Season> upsertAllBySeasonNumber(List<Season> seasons) {
+    for (var season : seasons) {
+      findBySeriesIdAndSeasonNumber(season.getSeries().getId(), season.getSeasonNumber())
+          .ifPresentOrElse(
+              stored -> {
+                stored.setTitle(season.getTitle());
+                stored.setOverview(season.getOverview());
+                stored.setAirDate(season.getAirDate());
+                season.setId(stored.getId());
+              },
+              () -> save(season));
+    }
+    return seasons;
+  }
 }
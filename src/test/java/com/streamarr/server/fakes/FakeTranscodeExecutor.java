@@ -1,6 +1,7 @@
 package com.streamarr.server.fakes;
 
 import com.streamarr.server.domain.streaming.TranscodeHandle;
+import com.streamarr.server.domain.streaming.TranscodeProgress;
 import com.streamarr.server.domain.streaming.TranscodeRequest;
 import com.streamarr.server.domain.streaming.TranscodeStatus;
 import com.streamarr.server.exceptions.TranscodeException;
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,6 +36,10 @@ public class FakeTranscodeExecutor implements TranscodeExecutor {
       Collections.synchronizedList(new ArrayList<>());
   private final List<String> stoppedVariants = Collections.synchronizedList(new ArrayList<>());
   private final Set<ExecutionTargetId> refusingTargets = ConcurrentHashMap.newKeySet();
+  private final ConcurrentHashMap<UUID, ExecutionTargetId> attemptTargets =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<ProcessKey, TranscodeProgress> progress =
+      new ConcurrentHashMap<>();
   private Set<ExecutionTargetId> executionTargets =
       new LinkedHashSet<>(Set.of(ExecutionTargetId.LOCAL));
   private final AtomicLong livenessChecks = new AtomicLong();
@@ -41,13 +47,15 @@ public class FakeTranscodeExecutor implements TranscodeExecutor {
   private int availableSlots = TranscodeExecutor.UNBOUNDED_SLOTS;
   private boolean healthy = true;
   private volatile boolean failUntargetedStarts;
+  private volatile boolean hideRunningTargets;
 
   @Override
   public TranscodeHandle start(TranscodeRequest request) {
     if (failUntargetedStarts) {
       throw new TranscodeException("No connected transcode worker can run this variant");
     }
-    return doStart(request);
+    // First fit, as the remote executor dispatches an untargeted start.
+    return doStart(request, executionTargets.iterator().next());
   }
 
   @Override
@@ -56,14 +64,16 @@ public class FakeTranscodeExecutor implements TranscodeExecutor {
       throw new TranscodeException("Target " + target.value() + " refused the transcode");
     }
     startedTargets.add(target);
-    return doStart(request);
+    return doStart(request, target);
   }
 
-  private TranscodeHandle doStart(TranscodeRequest request) {
+  private TranscodeHandle doStart(TranscodeRequest request, ExecutionTargetId target) {
     startedRequests.add(request);
+    attemptTargets.put(request.attemptId(), target);
     var key = new ProcessKey(request.sessionId(), request.variantLabel());
     running.add(key);
     started.add(key);
+    progress.remove(key);
     var handle =
         new TranscodeHandle(
             1L, request.attemptId(), TranscodeStatus.ACTIVE, request.startSequenceNumber());
@@ -91,6 +101,7 @@ public class FakeTranscodeExecutor implements TranscodeExecutor {
   @Override
   public void stopVariant(UUID sessionId, String variantLabel) {
     running.remove(new ProcessKey(sessionId, variantLabel));
+    progress.remove(new ProcessKey(sessionId, variantLabel));
     stoppedVariants.add(sessionId + "/" + variantLabel);
   }
 
@@ -110,6 +121,15 @@ public class FakeTranscodeExecutor implements TranscodeExecutor {
     return result;
   }
 
+  @Override
+  public Optional<TranscodeProgress> progress(UUID sessionId, String variantLabel) {
+    return Optional.ofNullable(progress.get(new ProcessKey(sessionId, variantLabel)));
+  }
+
+  public void reportProgress(UUID sessionId, String variantLabel, TranscodeProgress report) {
+    progress.put(new ProcessKey(sessionId, variantLabel), report);
+  }
+
   /**
    * Per-variant liveness checks observed so far. The delivery coordinator calls this once per poll
    * iteration (after {@code syncProgress}), so awaiting an increment is a deterministic signal that
@@ -186,6 +206,19 @@ public class FakeTranscodeExecutor implements TranscodeExecutor {
     executionTargets = new LinkedHashSet<>(targets);
   }
 
+  @Override
+  public Optional<ExecutionTargetId> targetRunning(UUID attemptId) {
+    if (hideRunningTargets) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(attemptTargets.get(attemptId));
+  }
+
+  /** Answers every {@link #targetRunning} as an executor that cannot tell where a run is. */
+  public void hideRunningTargets() {
+    hideRunningTargets = true;
+  }
+
   public void refuseTarget(ExecutionTargetId target) {
     refusingTargets.add(target);
   }
@@ -232,5 +265,7 @@ public class FakeTranscodeExecutor implements TranscodeExecutor {
     stopped.clear();
     startedRequests.clear();
     startedTargets.clear();
+    attemptTargets.clear();
+    progress.clear();
   }
 }
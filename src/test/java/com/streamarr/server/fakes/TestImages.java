@@ -1,6 +1,7 @@
 package com.streamarr.server.fakes;
 
 import java.awt.Color;
+import java.awt.GradientPaint;
 import java.awt.color.ColorSpace;
 import java.awt.color.ICC_Profile;
 import java.awt.image.BufferedImage;
@@ -8,6 +9,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
 import javax.imageio.ImageIO;
 
 public final class TestImages {
@@ -29,6 +31,39 @@ public final class TestImages {
     }
   }
 
+  /**
+   * Poster-like artwork: a vertical gradient under overlapping translucent shapes, drawn from
+   * {@code seed}. Unlike a solid fill, it gives encoders and color quantization real work.
+   */
+  public static BufferedImage createArtworkImage(int width, int height, long seed) {
+    var random = new SplittableRandom(seed);
+    var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    var graphics = image.createGraphics();
+    var top = new Color(random.nextInt(0x1000000));
+    var bottom = new Color(random.nextInt(0x1000000));
+    graphics.setPaint(new GradientPaint(0, 0, top, 0, height, bottom));
+    graphics.fillRect(0, 0, width, height);
+    for (int i = 0; i < 40; i++) {
+      graphics.setColor(new Color(random.nextInt(0x1000000) | 0x80000000, true));
+      graphics.fillOval(
+          random.nextInt(width),
+          random.nextInt(height),
+          random.nextInt(1, width / 2),
+          random.nextInt(1, height / 2));
+    }
+    graphics.dispose();
+    return image;
+  }
+
+  public static byte[] encodeJpeg(BufferedImage image) {
+    try (var outputStream = new ByteArrayOutputStream()) {
+      ImageIO.write(image, "jpg", outputStream);
+      return outputStream.toByteArray();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public static byte[] createSolidPngImage(int width, int height, int rgb) {
     var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
     var graphics = image.createGraphics();
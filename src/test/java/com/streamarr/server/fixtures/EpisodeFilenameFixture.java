@@ -0,0 +1,171 @@
+package com.streamarr.server.fixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * Seeded corpus of episode file paths in the shapes release groups, media managers and home
+ * recordings actually produce, for comparing episode parsers and benchmarking them.
+ */
+public final class EpisodeFilenameFixture {
+
+  private static final List<String> SERIES =
+      List.of(
+          "Breaking Bad",
+          "The Office (US)",
+          "Doctor Who (2005)",
+          "Star Trek- The Next Generation",
+          "Mr. Robot",
+          "9-1-1",
+          "24",
+          "The 100",
+          "Marvel's Agents of S.H.I.E.L.D.",
+          "Naruto Shippuden",
+          "One Piece",
+          "The Daily Show",
+          "Last Week Tonight with John Oliver",
+          "House M.D.",
+          "It's Always Sunny in Philadelphia",
+          "Sherlock",
+          "Spartacus- Blood and Sand");
+
+  private static final List<String> ROOTS =
+      List.of("/media/tv", "/mnt/storage/TV Shows", "/data/anime", "D:\\TV");
+
+  private static final List<String> TITLES =
+      List.of(
+          "Pilot",
+          "Cat's in the Bag...",
+          "The One Where It Begins",
+          "Ozymandias",
+          "Part 2",
+          "Episode 3",
+          "The Rains of Castamere",
+          "Hello, Friend",
+          "2 Fast 2 Furious",
+          "Smoke & Mirrors");
+
+  private static final List<String> QUALITIES = List.of("480p", "720p", "1080p", "2160p");
+  private static final List<String> SOURCES = List.of("WEB-DL", "BluRay", "HDTV", "WEBRip");
+  private static final List<String> CODECS = List.of("x264", "x265", "H.264", "HEVC", "10bit");
+  private static final List<String> GROUPS =
+      List.of("NTb", "DIMENSION", "SubsPlease", "Erai-raws", "LOL", "KILLERS");
+  private static final List<String> EXTENSIONS = List.of("mkv", "mp4", "avi", "ts", "m4v");
+
+  private static final List<Function<Episode, String>> SHAPES =
+      List.of(
+          e -> e.series() + "/Season " + e.season() + "/" + e.series() + " - " + e.sxe() + " - "
+              + e.title() + "." + e.extension(),
+          e -> e.series() + "/Season " + e.pad(e.season()) + "/" + e.dotted() + "." + e.sxe()
+              + "." + e.quality() + "." + e.source() + "." + e.codec() + "-" + e.group() + ".mkv",
+          e -> e.series() + "/" + e.dotted() + "." + e.sxe() + "E" + e.pad(e.episode() + 1) + "."
+              + e.quality() + ".mkv",
+          e -> e.series() + "/Season " + e.season() + "/" + e.series() + " - " + e.season() + "x"
+              + e.pad(e.episode()) + " - " + e.title() + ".avi",
+          e -> e.series() + "/Season " + e.season() + "/" + e.series() + " - " + e.season() + "x"
+              + e.pad(e.episode()) + "-" + e.season() + "x" + e.pad(e.episode() + 1) + ".avi",
+          e -> e.series() + "/" + e.series() + " " + e.date("-") + "." + e.extension(),
+          e -> e.series() + "/" + e.dotted() + "." + e.date(".") + ".Guest.Name." + e.quality()
+              + ".HDTV.x264-" + e.group() + ".mkv",
+          e -> e.series() + "/" + e.series() + "_" + e.date("_") + ".wtv",
+          e -> e.series() + "/[" + e.group() + "] " + e.series() + " - "
+              + String.format(Locale.ROOT, "%03d", e.episode()) + " [" + e.quality() + "].mkv",
+          e -> e.series() + "/Season " + e.season() + "/" + e.pad(e.episode()) + " - "
+              + e.title() + "." + e.extension(),
+          e -> e.series() + "/Season " + e.season() + "/Episode " + e.episode() + ".mkv",
+          e -> e.series() + "/" + e.series() + " Season " + e.season() + " Episode "
+              + e.episode() + ".mkv",
+          e -> e.series() + "/" + e.underscored() + "_" + e.season() + e.pad(e.episode())
+              + ".mp4",
+          e -> e.series() + "/Season " + e.season() + "/" + e.underscored() + "_part_"
+              + e.episode() + ".avi",
+          e -> e.series() + "/" + e.series() + " ep" + e.pad(e.episode()) + ".mkv",
+          e -> e.series() + "/Season " + e.pad(e.season()) + "/s" + e.pad(e.season()) + "e"
+              + e.pad(e.episode()) + ".mkv",
+          e -> e.series() + "/" + e.series() + " s" + e.season() + "xe" + e.episode() + " "
+              + e.title() + ".mkv",
+          e -> e.series() + "/Season " + e.season() + "/" + e.pad(e.episode()) + "."
+              + e.extension(),
+          e -> e.series() + "/Specials/" + e.series() + " - Behind the Scenes.mkv",
+          e -> e.series() + "/extras/" + e.title() + " (" + e.quality() + ")." + e.extension(),
+          e -> e.series() + "/" + e.series() + " " + e.pad(e.day()) + "." + e.pad(e.month()) + "."
+              + e.year() + ".mp4",
+          e -> e.series() + "/Season " + e.season() + "/" + e.underscored() + ".e"
+              + e.pad(e.episode()) + "." + e.extension(),
+          e -> e.series() + "/Season " + e.season() + "/" + e.season() + "x" + e.pad(e.episode())
+              + "-" + e.season() + "x" + e.pad(e.episode() + 1) + ".avi",
+          e -> e.series() + "/Season " + e.season(),
+          e -> e.series() + "/" + e.series() + " S" + e.pad(e.season()));
+
+  private EpisodeFilenameFixture() {}
+
+  /** {@code size} paths drawn deterministically from {@code seed}. */
+  public static List<String> releaseStyleCorpus(int size, long seed) {
+    var random = new SplittableRandom(seed);
+    var corpus = new ArrayList<String>(size);
+
+    for (int i = 0; i < size; i++) {
+      var root = pick(random, ROOTS);
+      var episode =
+          new Episode(
+              pick(random, SERIES),
+              pick(random, TITLES),
+              random.nextInt(1, 31),
+              random.nextInt(1, 120),
+              random.nextInt(1990, 2026),
+              random.nextInt(1, 13),
+              random.nextInt(1, 29),
+              pick(random, QUALITIES),
+              pick(random, SOURCES),
+              pick(random, CODECS),
+              pick(random, GROUPS),
+              pick(random, EXTENSIONS));
+      var path = root + "/" + pick(random, SHAPES).apply(episode);
+      corpus.add(root.contains("\\") ? path.replace('/', '\\') : path);
+    }
+
+    return corpus;
+  }
+
+  private static <T> T pick(SplittableRandom random, List<T> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private record Episode(
+      String series,
+      String title,
+      int season,
+      int episode,
+      int year,
+      int month,
+      int day,
+      String quality,
+      String source,
+      String codec,
+      String group,
+      String extension) {
+
+    String pad(int number) {
+      return String.format(Locale.ROOT, "%02d", number);
+    }
+
+    String sxe() {
+      return "S" + pad(season) + "E" + pad(episode);
+    }
+
+    String dotted() {
+      return series.replaceAll("[^A-Za-z0-9]+", ".").replaceAll("^\\.|\\.$", "");
+    }
+
+    String underscored() {
+      return series.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_");
+    }
+
+    String date(String separator) {
+      return year + separator + pad(month) + separator + pad(day);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.streamarr.server.fixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * Seeded corpus of movie filenames in the shapes release groups, media managers and disc rips
+ * actually produce, for benchmarking the movie filename parser.
+ */
+public final class MovieFilenameFixture {
+
+  private static final List<String> TITLES =
+      List.of(
+          "Inception",
+          "The Lord of the Rings- The Fellowship of the Ring",
+          "2001 A Space Odyssey",
+          "Blade Runner 2049",
+          "Amélie",
+          "Mission- Impossible - Dead Reckoning Part One",
+          "Se7en",
+          "WALL-E",
+          "Spider-Man- Into the Spider-Verse",
+          "Crouching Tiger, Hidden Dragon",
+          "Harry Potter and the Philosopher's Stone",
+          "Heat",
+          "M",
+          "Ocean's Eleven");
+
+  private static final List<String> QUALITIES = List.of("480p", "720p", "1080p", "2160p");
+  private static final List<String> SOURCES =
+      List.of("BluRay", "WEB-DL", "WEBRip", "DVDRip", "HDTV", "REMUX");
+  private static final List<String> CODECS = List.of("x264", "x265", "H.264", "HEVC", "XviD");
+  private static final List<String> AUDIO = List.of("AAC", "DTS", "AC3", "TrueHD.7.1", "DDP5.1");
+  private static final List<String> GROUPS =
+      List.of("SPARKS", "YIFY", "FGT", "RARBG", "EVO", "CtrlHD");
+  private static final List<String> EXTENSIONS = List.of("mkv", "mp4", "avi", "m4v");
+
+  private static final List<Function<Movie, String>> SHAPES =
+      List.of(
+          m -> m.title() + " (" + m.year() + ")." + m.extension(),
+          m -> m.dotted() + "." + m.year() + "." + m.quality() + "." + m.source() + "."
+              + m.codec() + "-" + m.group() + ".mkv",
+          m -> m.dotted() + "." + m.year() + "." + m.quality() + "." + m.source() + "."
+              + m.audio() + "." + m.codec() + "-" + m.group() + "." + m.extension(),
+          m -> m.title() + " [" + m.year() + "] [" + m.quality() + "]." + m.extension(),
+          m -> "[" + m.group() + "] " + m.title() + " (" + m.year() + ") [" + m.quality() + "].mkv",
+          m -> "(" + m.year() + ") " + m.title() + "." + m.extension(),
+          m -> m.underscored() + "_" + m.year() + "_" + m.quality() + "." + m.extension(),
+          m -> m.title() + " " + m.year() + " " + m.quality() + " " + m.source() + "."
+              + m.extension(),
+          m -> m.title() + " - " + m.quality() + "." + m.extension(),
+          m -> m.title() + "." + m.extension(),
+          m -> m.dotted() + ".UNRATED.DC." + m.year() + "." + m.source() + "." + m.codec() + ".mkv",
+          m -> m.title() + " (" + m.year() + ") CD" + m.disc() + "." + m.extension());
+
+  private MovieFilenameFixture() {}
+
+  /** {@code size} filenames drawn deterministically from {@code seed}. */
+  public static List<String> releaseStyleCorpus(int size, long seed) {
+    var random = new SplittableRandom(seed);
+    var corpus = new ArrayList<String>(size);
+
+    for (int i = 0; i < size; i++) {
+      var movie =
+          new Movie(
+              pick(random, TITLES),
+              random.nextInt(1927, 2026),
+              random.nextInt(1, 3),
+              pick(random, QUALITIES),
+              pick(random, SOURCES),
+              pick(random, CODECS),
+              pick(random, AUDIO),
+              pick(random, GROUPS),
+              pick(random, EXTENSIONS));
+      corpus.add(pick(random, SHAPES).apply(movie));
+    }
+
+    return corpus;
+  }
+
+  private static <T> T pick(SplittableRandom random, List<T> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private record Movie(
+      String title,
+      int year,
+      int disc,
+      String quality,
+      String source,
+      String codec,
+      String audio,
+      String group,
+      String extension) {
+
+    String dotted() {
+      return title.replace("- ", ".").replace(' ', '.');
+    }
+
+    String underscored() {
+      return title.replace("- ", "_").replace(' ', '_');
+    }
+  }
+}
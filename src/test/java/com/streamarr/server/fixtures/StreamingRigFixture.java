@@ -6,6 +6,7 @@ import com.streamarr.server.services.streaming.ProducerLifecycleService;
 import com.streamarr.server.services.streaming.RuntimeStreamSessionRegistry;
 import com.streamarr.server.services.streaming.SegmentDeliveryCoordinator;
 import com.streamarr.server.services.streaming.SegmentStore;
+import com.streamarr.server.services.streaming.StreamingMetrics;
 import com.streamarr.server.services.streaming.TranscodeExecutor;
 import java.time.Clock;
 import java.time.Duration;
@@ -22,7 +23,8 @@ public final class StreamingRigFixture {
       StreamingProperties properties,
       RuntimeStreamSessionRegistry runtimeRegistry,
       Clock clock,
-      Duration pollInterval) {
+      Duration pollInterval,
+      StreamingMetrics metrics) {
     var lifecycle =
         ProducerLifecycleService.builder()
             .transcodeExecutor(transcodeExecutor)
@@ -42,6 +44,9 @@ public final class StreamingRigFixture {
     if (pollInterval != null) {
       coordinatorBuilder.pollInterval(pollInterval);
     }
+    if (metrics != null) {
+      coordinatorBuilder.metrics(metrics);
+    }
     return new StreamingRig(lifecycle, coordinatorBuilder.build());
   }
 
@@ -9,6 +9,7 @@ import com.streamarr.server.domain.media.ImageEntityType;
 import com.streamarr.server.domain.media.ImageSize;
 import com.streamarr.server.domain.media.ImageType;
 import com.streamarr.server.fakes.FakeImageRepository;
+import com.streamarr.server.graphql.instrumentation.GraphQLMetrics;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -27,7 +28,7 @@ class ImageDataLoaderTest {
   @BeforeEach
   void setUp() {
     imageRepository = new FakeImageRepository();
-    dataLoader = new ImageDataLoader(imageRepository);
+    dataLoader = new ImageDataLoader(imageRepository, GraphQLMetrics.noop());
   }
 
   @Test
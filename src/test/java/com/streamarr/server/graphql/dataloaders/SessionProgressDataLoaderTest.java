@@ -9,6 +9,7 @@ import com.streamarr.server.fakes.FakeMediaFileRepository;
 import com.streamarr.server.fakes.FakeSeasonRepository;
 import com.streamarr.server.fakes.FakeSessionProgressRepository;
 import com.streamarr.server.fakes.FakeWatchHistoryRepository;
+import com.streamarr.server.graphql.instrumentation.GraphQLMetrics;
 import com.streamarr.server.services.watchprogress.WatchStatusService;
 import java.util.Set;
 import java.util.UUID;
@@ -38,7 +39,7 @@ class SessionProgressDataLoaderTest {
             new FakeEpisodeRepository(),
             new FakeSeasonRepository(),
             new CapturingEventPublisher());
-    dataLoader = new SessionProgressDataLoader(service);
+    dataLoader = new SessionProgressDataLoader(service, GraphQLMetrics.noop());
   }
 
   @Test
@@ -16,6 +16,7 @@ import com.streamarr.server.fakes.FakeMediaFileRepository;
 import com.streamarr.server.fakes.FakeSeasonRepository;
 import com.streamarr.server.fakes.FakeSessionProgressRepository;
 import com.streamarr.server.fakes.FakeWatchHistoryRepository;
+import com.streamarr.server.graphql.instrumentation.GraphQLMetrics;
 import com.streamarr.server.services.watchprogress.WatchStatusService;
 import java.util.Set;
 import java.util.UUID;
@@ -50,7 +51,7 @@ class WatchStatusDataLoaderTest {
             episodeRepository,
             seasonRepository,
             new CapturingEventPublisher());
-    dataLoader = new WatchStatusDataLoader(service);
+    dataLoader = new WatchStatusDataLoader(service, GraphQLMetrics.noop());
   }
 
   @Test
@@ -0,0 +1,177 @@
+package com.streamarr.server.graphql.instrumentation;
+
+import static com.streamarr.server.fixtures.MediaEntityFixture.buildMovie;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.netflix.graphql.dgs.DgsQueryExecutor;
+import com.netflix.graphql.dgs.test.EnableDgsTest;
+import com.streamarr.server.config.GraphQLInstrumentationConfiguration;
+import com.streamarr.server.config.GraphQLQueryCostProperties;
+import com.streamarr.server.domain.media.Image;
+import com.streamarr.server.domain.media.ImageEntityType;
+import com.streamarr.server.domain.media.ImageSize;
+import com.streamarr.server.domain.media.ImageType;
+import com.streamarr.server.domain.media.Movie;
+import com.streamarr.server.fakes.FakeAuthorizationDecider;
+import com.streamarr.server.graphql.dataloaders.ImageDataLoader;
+import com.streamarr.server.graphql.resolvers.ImageFieldResolver;
+import com.streamarr.server.graphql.resolvers.MovieResolver;
+import com.streamarr.server.repositories.auth.AccountProfileRepository;
+import com.streamarr.server.repositories.auth.ProfileRepository;
+import com.streamarr.server.repositories.media.ImageRepository;
+import com.streamarr.server.services.MovieService;
+import com.streamarr.server.services.authorization.SecurityContextAuthorizationService;
+import com.streamarr.server.support.security.WithProfileContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@Tag("UnitTest")
+@EnableDgsTest
+@WithProfileContext
+@SpringBootTest(
+    classes = {
+      MovieResolver.class,
+      ImageFieldResolver.class,
+      ImageDataLoader.class,
+      FieldTimingInstrumentation.class,
+      GraphQLInstrumentationConfiguration.class,
+      GraphQLInstrumentationTest.TestConfig.class,
+      SecurityContextAuthorizationService.class,
+      FakeAuthorizationDecider.class,
+    })
+@DisplayName("GraphQL Instrumentation Tests")
+class GraphQLInstrumentationTest {
+
+  private static final int MAX_COST = 50;
+
+  @Autowired private DgsQueryExecutor dgsQueryExecutor;
+  @Autowired private SimpleMeterRegistry meterRegistry;
+
+  @MockitoBean private ProfileRepository profileRepository;
+  @MockitoBean private AccountProfileRepository accountProfileRepository;
+  @MockitoBean private ImageRepository imageRepository;
+  @MockitoBean private MovieService movieService;
+
+  @TestConfiguration
+  static class TestConfig {
+
+    @Bean
+    SimpleMeterRegistry simpleMeterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    GraphQLMetrics graphQLMetrics(SimpleMeterRegistry meterRegistry) {
+      return new GraphQLMetrics(meterRegistry, OpenTelemetry.noop());
+    }
+
+    @Bean
+    GraphQLQueryCostProperties graphQLQueryCostProperties() {
+      return GraphQLQueryCostProperties.builder().maxCost(MAX_COST).build();
+    }
+  }
+
+  @Test
+  @DisplayName("Should time resolvers and record batch size when a query fetches through a loader")
+  void shouldTimeResolversAndRecordBatchSizeWhenQueryFetchesThroughLoader() {
+    var movie = setupMovie();
+    when(imageRepository.findByEntityTypeAndEntityIdIn(eq(ImageEntityType.MOVIE), any()))
+        .thenReturn(List.of(buildImage(movie.getId())));
+
+    dgsQueryExecutor.executeAndExtractJsonPath(
+        String.format("{ movie(id: \"%s\") { title images { imageType } } }", movie.getId()),
+        "data.movie.images[0].imageType");
+
+    assertThat(fieldCount("Query", "movie")).isEqualTo(1);
+    assertThat(fieldCount("Movie", "images")).isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .find(GraphQLMetrics.FIELD_METRIC)
+                .tag("parent", "Movie")
+                .tag("field", "title")
+                .timer())
+        .as("property reads are not timed")
+        .isNull();
+    var batchSize =
+        meterRegistry
+            .get(GraphQLMetrics.BATCH_SIZE_METRIC)
+            .tag("loader", "images")
+            .summary();
+    assertThat(batchSize.count()).isEqualTo(1);
+    assertThat(batchSize.totalAmount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should reject without resolving when a query costs more than the limit")
+  void shouldRejectWithoutResolvingWhenQueryCostsMoreThanLimit() {
+    var movieId = UUID.randomUUID();
+    var query =
+        String.format(
+            """
+            {
+              movie(id: "%s") {
+                posters: images { imageType }
+                backdrops: images { imageType }
+                logos: images { imageType }
+                thumbnails: images { imageType }
+                banners: images { imageType }
+                profiles: images { imageType }
+              }
+            }
+            """,
+            movieId);
+
+    var result = dgsQueryExecutor.execute(query);
+
+    assertThat(result.getErrors())
+        .singleElement()
+        .satisfies(error -> assertThat(error.getMessage()).contains("complexity"));
+    verify(movieService, never()).findById(any());
+  }
+
+  private long fieldCount(String parentType, String field) {
+    return meterRegistry
+        .get(GraphQLMetrics.FIELD_METRIC)
+        .tag("parent", parentType)
+        .tag("field", field)
+        .timer()
+        .count();
+  }
+
+  private Movie setupMovie() {
+    var movie = buildMovie("Inception");
+    when(movieService.findById(movie.getId())).thenReturn(Optional.of(movie));
+    return movie;
+  }
+
+  private static Image buildImage(UUID movieId) {
+    var image =
+        Image.builder()
+            .entityId(movieId)
+            .entityType(ImageEntityType.MOVIE)
+            .imageType(ImageType.POSTER)
+            .variant(ImageSize.SMALL)
+            .width(185)
+            .height(278)
+            .path("test/path.jpg")
+            .build();
+    image.setId(UUID.randomUUID());
+    return image;
+  }
+}
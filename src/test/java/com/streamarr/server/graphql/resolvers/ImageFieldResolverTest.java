@@ -19,6 +19,7 @@ import com.streamarr.server.domain.media.ImageType;
 import com.streamarr.server.domain.media.Movie;
 import com.streamarr.server.fakes.FakeAuthorizationDecider;
 import com.streamarr.server.graphql.dataloaders.ImageDataLoader;
+import com.streamarr.server.graphql.instrumentation.GraphQLMetrics;
 import com.streamarr.server.repositories.auth.AccountProfileRepository;
 import com.streamarr.server.repositories.auth.ProfileRepository;
 import com.streamarr.server.repositories.media.ImageRepository;
@@ -36,6 +37,8 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 @Tag("UnitTest")
@@ -51,6 +54,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
       SeasonFieldResolver.class,
       SecurityContextAuthorizationService.class,
       FakeAuthorizationDecider.class,
+      ImageFieldResolverTest.TestConfig.class,
     })
 @DisplayName("Image Field Resolver Tests")
 class ImageFieldResolverTest {
@@ -65,6 +69,15 @@ class ImageFieldResolverTest {
   @MockitoBean private MovieService movieService;
   @MockitoBean private SeriesService seriesService;
 
+  @TestConfiguration
+  static class TestConfig {
+
+    @Bean
+    GraphQLMetrics graphQLMetrics() {
+      return GraphQLMetrics.noop();
+    }
+  }
+
   @Nested
   @DisplayName("Movie Images")
   class MovieImages {
@@ -40,7 +40,10 @@ import com.streamarr.server.services.concurrency.MutexFactoryProvider;
 import com.streamarr.server.services.library.AddLibraryRejection;
 import com.streamarr.server.services.library.LibraryAdministrationService;
 import com.streamarr.server.services.library.LibraryManagementService;
+import com.streamarr.server.services.library.LibraryScanMetrics;
+import com.streamarr.server.services.library.LibraryScanProgress;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
+import com.streamarr.server.services.metadata.MetadataRefreshMode;
 import com.streamarr.server.services.mutation.Outcome;
 import com.streamarr.server.services.pagination.MediaPage;
 import com.streamarr.server.services.pagination.MediaPaginationOptions;
@@ -268,7 +271,8 @@ class LibraryResolverTest {
 
       assertThat(result).isTrue();
       assertThat(FAKE_LIBRARY_MANAGEMENT_SERVICE.refreshRequest())
-          .isEqualTo(new RefreshRequest(libraryId, ImageRefreshMode.PRESERVE));
+          .isEqualTo(
+              new RefreshRequest(libraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL));
     }
 
     @Test
@@ -286,7 +290,29 @@ class LibraryResolverTest {
 
       assertThat(result).isTrue();
       assertThat(FAKE_LIBRARY_MANAGEMENT_SERVICE.refreshRequest())
-          .isEqualTo(new RefreshRequest(libraryId, ImageRefreshMode.REFRESH_IF_CHANGED));
+          .isEqualTo(
+              new RefreshRequest(
+                  libraryId, ImageRefreshMode.REFRESH_IF_CHANGED, MetadataRefreshMode.FULL));
+    }
+
+    @Test
+    @DisplayName(
+        "Should pass changed-only metadata refresh mode when refreshLibrary mutation specifies it")
+    void shouldPassChangedOnlyMetadataRefreshModeWhenRefreshLibraryMutationSpecifiesIt() {
+      var libraryId = UUID.randomUUID();
+
+      Boolean result =
+          dgsQueryExecutor.executeAndExtractJsonPath(
+              String.format(
+                  "mutation { refreshLibrary(id: \"%s\", metadataRefreshMode: CHANGED_ONLY) }",
+                  libraryId),
+              "data.refreshLibrary");
+
+      assertThat(result).isTrue();
+      assertThat(FAKE_LIBRARY_MANAGEMENT_SERVICE.refreshRequest())
+          .isEqualTo(
+              new RefreshRequest(
+                  libraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.CHANGED_ONLY));
     }
 
     @Test
@@ -895,6 +921,46 @@ class LibraryResolverTest {
 
       assertThat(alphabetIndex).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should return scan progress when library is being scanned")
+    void shouldReturnScanProgressWhenLibraryIsBeingScanned() {
+      var libraryId = UUID.randomUUID();
+      var library = buildMovieLibrary(libraryId);
+
+      when(libraryRepository.findById(libraryId)).thenReturn(Optional.of(library));
+      FAKE_LIBRARY_MANAGEMENT_SERVICE.returnScanProgress(
+          Optional.of(LibraryScanMetrics.noop().start(library)));
+
+      var query =
+          String.format(
+              "{ library(id: \"%s\") { scanProgress { filesDiscovered filesProcessed } } }",
+              libraryId);
+
+      Map<String, Integer> progress =
+          dgsQueryExecutor.executeAndExtractJsonPath(query, "data.library.scanProgress");
+
+      assertThat(progress).containsEntry("filesDiscovered", 0).containsEntry("filesProcessed", 0);
+    }
+
+    @Test
+    @DisplayName("Should return null scan progress when library is not being scanned")
+    void shouldReturnNullScanProgressWhenLibraryIsNotBeingScanned() {
+      var libraryId = UUID.randomUUID();
+      var library = buildMovieLibrary(libraryId);
+
+      when(libraryRepository.findById(libraryId)).thenReturn(Optional.of(library));
+      FAKE_LIBRARY_MANAGEMENT_SERVICE.returnScanProgress(Optional.empty());
+
+      var query =
+          String.format(
+              "{ library(id: \"%s\") { scanProgress { filesDiscovered } } }", libraryId);
+
+      Object progress =
+          dgsQueryExecutor.executeAndExtractJsonPath(query, "data.library.scanProgress");
+
+      assertThat(progress).isNull();
+    }
   }
 
   private static final class FakeLibraryManagementService extends LibraryManagementService {
@@ -904,6 +970,7 @@ class LibraryResolverTest {
     private Outcome<Library, AddLibraryRejection> addLibraryOutcome;
     private Library addedLibrary;
     private List<LibraryMetadata> alphabetIndex = List.of();
+    private Optional<LibraryScanProgress> scanProgress = Optional.empty();
     private RefreshRequest refreshRequest;
 
     private FakeLibraryManagementService() {
@@ -922,6 +989,7 @@ class LibraryResolverTest {
           null,
           null,
           null,
+          null,
           null);
     }
 
@@ -948,8 +1016,11 @@ class LibraryResolverTest {
     }
 
     @Override
-    public void triggerAsyncRefresh(UUID libraryId, ImageRefreshMode imageRefreshMode) {
-      refreshRequest = new RefreshRequest(libraryId, imageRefreshMode);
+    public void triggerAsyncRefresh(
+        UUID libraryId,
+        ImageRefreshMode imageRefreshMode,
+        MetadataRefreshMode metadataRefreshMode) {
+      refreshRequest = new RefreshRequest(libraryId, imageRefreshMode, metadataRefreshMode);
     }
 
     @Override
@@ -957,6 +1028,11 @@ class LibraryResolverTest {
       return alphabetIndex;
     }
 
+    @Override
+    public Optional<LibraryScanProgress> getScanProgress(UUID libraryId) {
+      return scanProgress;
+    }
+
     private void returnLibraryWhenAdded(Library library) {
       addLibraryOutcome = Outcome.accepted(library);
     }
@@ -981,6 +1057,10 @@ class LibraryResolverTest {
       alphabetIndex = metadata;
     }
 
+    private void returnScanProgress(Optional<LibraryScanProgress> progress) {
+      scanProgress = progress;
+    }
+
     private RefreshRequest refreshRequest() {
       return refreshRequest;
     }
@@ -995,7 +1075,10 @@ class LibraryResolverTest {
     }
   }
 
-  private record RefreshRequest(UUID libraryId, ImageRefreshMode imageRefreshMode) {}
+  private record RefreshRequest(
+      UUID libraryId,
+      ImageRefreshMode imageRefreshMode,
+      MetadataRefreshMode metadataRefreshMode) {}
 
   private Library buildMovieLibrary(UUID libraryId) {
     var library =
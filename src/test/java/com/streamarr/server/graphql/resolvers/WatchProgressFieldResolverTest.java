@@ -26,6 +26,7 @@ import com.streamarr.server.fakes.FakeWatchHistoryRepository;
 import com.streamarr.server.graphql.dataloaders.AggregateWatchProgressDataLoader;
 import com.streamarr.server.graphql.dataloaders.SessionProgressDataLoader;
 import com.streamarr.server.graphql.dataloaders.WatchStatusDataLoader;
+import com.streamarr.server.graphql.instrumentation.GraphQLMetrics;
 import com.streamarr.server.repositories.auth.AccountProfileRepository;
 import com.streamarr.server.repositories.auth.ProfileRepository;
 import com.streamarr.server.services.MovieService;
@@ -89,6 +90,11 @@ class WatchProgressFieldResolverTest {
   @TestConfiguration
   static class TestConfig {
 
+    @Bean
+    GraphQLMetrics graphQLMetrics() {
+      return GraphQLMetrics.noop();
+    }
+
     @Bean
     FakeSessionProgressRepository fakeSessionProgressRepository() {
       return new FakeSessionProgressRepository();
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.streamarr.server.AbstractIntegrationTest;
 import com.streamarr.server.support.security.WithProfileContext;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -24,9 +25,9 @@ class PersonRepositoryCustomImplIT extends AbstractIntegrationTest {
   @DisplayName("Should populate audit fields from AuditorAware when inserting via jOOQ")
   void shouldPopulateAuditFieldsFromAuditorAwareWhenInsertingViaJooq() {
     var sourceId = "audit-test-" + UUID.randomUUID();
-    var inserted = personRepository.insertIfAbsent(sourceId, "Audit Test Person");
+    var inserted = personRepository.insertAllIfAbsent(Map.of(sourceId, "Audit Test Person"));
 
-    assertThat(inserted).isTrue();
+    assertThat(inserted).containsExactly(sourceId);
 
     var person = personRepository.findPersonBySourceId(sourceId).orElseThrow();
     var expectedAuditor = auditorAware.getCurrentAuditor().orElseThrow();
@@ -38,16 +39,20 @@ class PersonRepositoryCustomImplIT extends AbstractIntegrationTest {
   }
 
   @Test
-  @DisplayName("Should return false without inserting when source ID already exists")
-  void shouldReturnFalseWithoutInsertingWhenSourceIdAlreadyExists() {
+  @DisplayName("Should skip stored source IDs and insert the rest when batch overlaps")
+  void shouldSkipStoredSourceIdsAndInsertRestWhenBatchOverlaps() {
     var sourceId = "conflict-test-" + UUID.randomUUID();
-    var firstInsert = personRepository.insertIfAbsent(sourceId, "Original Name");
+    var newSourceId = "conflict-test-" + UUID.randomUUID();
+    var firstInsert = personRepository.insertAllIfAbsent(Map.of(sourceId, "Original Name"));
 
-    assertThat(firstInsert).isTrue();
+    assertThat(firstInsert).containsExactly(sourceId);
 
-    var secondInsert = personRepository.insertIfAbsent(sourceId, "Different Name");
+    var secondInsert =
+        personRepository.insertAllIfAbsent(
+            Map.of(sourceId, "Different Name", newSourceId, "New Person"));
 
-    assertThat(secondInsert).isFalse();
+    assertThat(secondInsert).containsExactly(newSourceId);
+    assertThat(personRepository.findPersonBySourceId(newSourceId)).isPresent();
     var person = personRepository.findPersonBySourceId(sourceId).orElseThrow();
     assertThat(person.getName()).isEqualTo("Original Name");
   }
@@ -17,7 +17,6 @@ import com.streamarr.server.services.metadata.events.ImageSource.TmdbImageSource
 import com.streamarr.server.services.metadata.events.MetadataEnrichedEvent;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -198,7 +197,7 @@ class CompanyServiceTest {
   @DisplayName("Should throw when company not found after upsert")
   void shouldThrowWhenCompanyNotFoundAfterUpsert() {
     var stubRepository = mock(CompanyRepository.class);
-    when(stubRepository.findBySourceId("wb-123")).thenReturn(Optional.empty());
+    when(stubRepository.findCompaniesBySourceIdIn(List.of("wb-123"))).thenReturn(Set.of());
     var service = new CompanyService(stubRepository, new CapturingEventPublisher());
 
     var company = Company.builder().name("Warner Bros.").sourceId("wb-123").build();
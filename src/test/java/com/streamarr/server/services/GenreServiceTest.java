@@ -8,7 +8,7 @@ import static org.mockito.Mockito.when;
 import com.streamarr.server.domain.metadata.Genre;
 import com.streamarr.server.fakes.FakeGenreRepository;
 import com.streamarr.server.repositories.GenreRepository;
-import java.util.Optional;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -116,7 +116,7 @@ class GenreServiceTest {
   @DisplayName("Should throw when genre not found after upsert")
   void shouldThrowWhenGenreNotFoundAfterUpsert() {
     var stubRepository = mock(GenreRepository.class);
-    when(stubRepository.findBySourceId("genre-28")).thenReturn(Optional.empty());
+    when(stubRepository.findGenresBySourceIdIn(List.of("genre-28"))).thenReturn(Set.of());
     var service = new GenreService(stubRepository);
 
     var genre = Genre.builder().name("Action").sourceId("genre-28").build();
@@ -22,6 +22,7 @@ import com.streamarr.server.services.metadata.ImageVariantService;
 import com.streamarr.server.services.metadata.TmdbImageDownloader;
 import com.streamarr.server.services.metadata.events.ImageSource.TmdbImageSource;
 import com.streamarr.server.services.metadata.events.MetadataEnrichedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
@@ -650,13 +651,14 @@ class ImageEnrichmentListenerTest {
             return (MutexFactory<K>) mutexFactory;
           }
         };
+    var imageProperties = new ImageProperties("/data/images");
     var imageService =
-        new ImageService(
-            imageRepository,
-            new ImageVariantService(),
-            new ImageProperties("/data/images"),
-            fileSystem);
-    return new ImageEnrichmentListener(imageDownloader, imageService, mutexFactoryProvider);
+        new ImageService(imageRepository, new ImageVariantService(), imageProperties, fileSystem);
+    return new ImageEnrichmentListener(
+        imageDownloader,
+        imageService,
+        new ImageProcessingPipeline(imageProperties, new SimpleMeterRegistry()),
+        mutexFactoryProvider);
   }
 
   private ExistingArtwork persistExistingArtwork(UUID entityId) throws IOException {
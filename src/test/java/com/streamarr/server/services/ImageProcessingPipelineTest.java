@@ -0,0 +1,109 @@
+package com.streamarr.server.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.streamarr.server.config.ImageProperties;
+import com.streamarr.server.exceptions.ImageProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("Image Processing Pipeline Tests")
+class ImageProcessingPipelineTest {
+
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+  private ImageProcessingPipeline pipeline;
+
+  @AfterEach
+  void tearDown() {
+    pipeline.destroy();
+  }
+
+  @Test
+  @DisplayName("Should return the task result and record its timings when a slot is free")
+  void shouldReturnTaskResultAndRecordTimingsWhenSlotIsFree() throws Exception {
+    pipeline = pipeline(1);
+
+    assertThat(pipeline.process(() -> "variants")).isEqualTo("variants");
+    assertThat(meters.get(ImageProcessingPipeline.QUEUE_WAIT_METRIC).timer().count())
+        .isEqualTo(1);
+    assertThat(meters.get(ImageProcessingPipeline.CPU_TIME_METRIC).timer().count())
+        .isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should queue further images when every slot is busy")
+  void shouldQueueFurtherImagesWhenEverySlotIsBusy() throws Exception {
+    pipeline = pipeline(1);
+    var release = new CountDownLatch(1);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 3; i++) {
+        executor.submit(
+            () ->
+                pipeline.process(
+                    () -> {
+                      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                      release.await(5, TimeUnit.SECONDS);
+                      running.decrementAndGet();
+                      return null;
+                    }));
+      }
+
+      await().atMost(5, TimeUnit.SECONDS).until(() -> pipeline.queued() == 2);
+      assertThat(meters.get(ImageProcessingPipeline.QUEUED_METRIC).gauge().value()).isEqualTo(2);
+      release.countDown();
+    }
+
+    assertThat(maxRunning.get()).isEqualTo(1);
+    assertThat(pipeline.queued()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should rethrow runtime exceptions unchanged when the task fails")
+  void shouldRethrowRuntimeExceptionsUnchangedWhenTaskFails() {
+    pipeline = pipeline(1);
+
+    assertThatThrownBy(
+            () ->
+                pipeline.process(
+                    () -> {
+                      throw new ImageProcessingException("Failed to decode image data.");
+                    }))
+        .isInstanceOf(ImageProcessingException.class)
+        .hasMessage("Failed to decode image data.")
+        .hasNoCause();
+  }
+
+  @Test
+  @DisplayName("Should wrap checked exceptions when the task fails")
+  void shouldWrapCheckedExceptionsWhenTaskFails() {
+    pipeline = pipeline(1);
+
+    assertThatThrownBy(
+            () ->
+                pipeline.process(
+                    () -> {
+                      throw new IOException("disk error");
+                    }))
+        .isInstanceOf(ImageProcessingException.class)
+        .hasCauseInstanceOf(IOException.class);
+  }
+
+  private ImageProcessingPipeline pipeline(int concurrency) {
+    return new ImageProcessingPipeline(
+        new ImageProperties("/data/images", null, null, null, concurrency), meters);
+  }
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
@@ -182,6 +183,86 @@ class ImageServiceTest {
     assertThat(result).isEqualTo(content);
   }
 
+  @Test
+  @DisplayName("Should serve a stored image without the database when it was looked up before")
+  void shouldServeStoredImageWithoutDatabaseWhenLookedUpBefore() {
+    var image = imageRepository.save(Image.builder().path("movie/test/poster/small.jpg").build());
+    imageService.findStoredImage(image.getId());
+    imageRepository.deleteById(image.getId());
+
+    var result = imageService.findStoredImage(image.getId());
+
+    assertThat(result)
+        .hasValueSatisfying(
+            stored -> {
+              assertThat(stored.file())
+                  .isEqualTo(fileSystem.getPath("/data/images/movie/test/poster/small.jpg"));
+              assertThat(stored.contentType()).isEqualTo(MediaType.IMAGE_JPEG);
+              assertThat(stored.contentLength()).isEqualTo(-1);
+            });
+  }
+
+  @Test
+  @DisplayName("Should not remember a missing image when looked up")
+  void shouldNotRememberMissingImageWhenLookedUp() {
+    var imageId = UUID.randomUUID();
+    imageService.findStoredImage(imageId);
+    imageRepository.save(Image.builder().id(imageId).path("movie/test/poster/small.jpg").build());
+
+    assertThat(imageService.findStoredImage(imageId)).isPresent();
+  }
+
+  @Test
+  @DisplayName("Should remember the file size when a stored image is first sized")
+  void shouldRememberFileSizeWhenStoredImageIsFirstSized() throws IOException {
+    var relativePath = "movie/test/poster/small.jpg";
+    var absolutePath = fileSystem.getPath("/data/images").resolve(relativePath);
+    Files.createDirectories(absolutePath.getParent());
+    Files.write(absolutePath, new byte[] {1, 2, 3});
+    var image = imageRepository.save(Image.builder().path(relativePath).build());
+
+    imageService.sizeStoredImage(imageService.findStoredImage(image.getId()).orElseThrow());
+    Files.delete(absolutePath);
+
+    var stored = imageService.findStoredImage(image.getId()).orElseThrow();
+    assertThat(imageService.sizeStoredImage(stored).contentLength()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should forget stored images when deleting images for entity")
+  void shouldForgetStoredImagesWhenDeletingImagesForEntity() {
+    var entityId = UUID.randomUUID();
+    var result =
+        imageService.processImage(
+            createTestImage(600, 900), ImageType.POSTER, entityId, ImageEntityType.MOVIE);
+    imageService.saveImages(result.images());
+    var imageId = result.images().getFirst().getId();
+    imageService.findStoredImage(imageId);
+
+    imageService.deleteImagesForEntity(entityId, ImageEntityType.MOVIE);
+
+    assertThat(imageService.findStoredImage(imageId)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should forget superseded stored images when artwork is replaced")
+  void shouldForgetSupersededStoredImagesWhenArtworkIsReplaced() throws IOException {
+    var entityId = UUID.randomUUID();
+    var existingArtwork = persistExistingArtwork(entityId);
+    imageService.findStoredImage(existingArtwork.imageId());
+    var replacement =
+        imageService.processImage(
+            createSolidPngImage(600, 900, 0x00A0A0),
+            ImageType.POSTER,
+            entityId,
+            ImageEntityType.MOVIE,
+            "/new-poster.jpg");
+
+    imageService.replaceImages(replacement);
+
+    assertThat(imageService.findStoredImage(existingArtwork.imageId())).isEmpty();
+  }
+
   @Test
   @DisplayName("Should delete image rows and files when deleting for entity")
   void shouldDeleteImageRowsAndFilesWhenDeletingForEntity() {
@@ -18,7 +18,7 @@ import com.streamarr.server.services.metadata.events.MetadataEnrichedEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -260,7 +260,7 @@ class PersonServiceTest {
   @DisplayName("Should throw when person not found after upsert")
   void shouldThrowWhenPersonNotFoundAfterUpsert() {
     var stubRepository = mock(PersonRepository.class);
-    when(stubRepository.findPersonBySourceId("actor-1")).thenReturn(Optional.empty());
+    when(stubRepository.findPersonsBySourceIdIn(List.of("actor-1"))).thenReturn(Set.of());
     var service = new PersonService(stubRepository, new CapturingEventPublisher());
 
     var person = Person.builder().name("Tom Hanks").sourceId("actor-1").build();
@@ -277,9 +277,9 @@ class PersonServiceTest {
     private final List<String> processedSourceIds = new ArrayList<>();
 
     @Override
-    public boolean insertIfAbsent(String sourceId, String name) {
-      processedSourceIds.add(sourceId);
-      return super.insertIfAbsent(sourceId, name);
+    public Set<String> insertAllIfAbsent(Map<String, String> namesBySourceId) {
+      processedSourceIds.addAll(namesBySourceId.keySet());
+      return super.insertAllIfAbsent(namesBySourceId);
     }
 
     private List<String> processedSourceIds() {
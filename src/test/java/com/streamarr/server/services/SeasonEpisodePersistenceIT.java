@@ -18,6 +18,7 @@ import com.streamarr.server.repositories.media.EpisodeRepository;
 import com.streamarr.server.repositories.media.SeasonRepository;
 import com.streamarr.server.repositories.media.SeriesRepository;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeAll;
@@ -193,6 +194,73 @@ class SeasonEpisodePersistenceIT extends AbstractIntegrationTest {
         .isInstanceOf(DataIntegrityViolationException.class);
   }
 
+  @Test
+  @DisplayName("Should update stored rows in place and insert new ones when upserting by number")
+  void shouldUpdateStoredRowsInPlaceAndInsertNewOnesWhenUpsertingByNumber() {
+    var storedSeason =
+        seasonRepository.saveAndFlush(
+            Season.builder()
+                .title("Old Upsert Season")
+                .seasonNumber(96)
+                .series(savedSeries)
+                .library(savedLibrary)
+                .build());
+    var storedEpisode =
+        episodeRepository.saveAndFlush(
+            Episode.builder()
+                .title("Old Upsert Episode")
+                .episodeNumber(1)
+                .season(storedSeason)
+                .library(savedLibrary)
+                .build());
+
+    var seasons =
+        seasonRepository.upsertAllBySeasonNumber(
+            List.of(
+                Season.builder()
+                    .title("Upsert Season")
+                    .seasonNumber(96)
+                    .overview("Updated overview")
+                    .series(savedSeries)
+                    .library(savedLibrary)
+                    .build(),
+                Season.builder()
+                    .title("New Upsert Season")
+                    .seasonNumber(95)
+                    .series(savedSeries)
+                    .library(savedLibrary)
+                    .build()));
+    var episodes =
+        episodeRepository.upsertAllByEpisodeNumber(
+            List.of(
+                Episode.builder()
+                    .title("Upsert Episode")
+                    .episodeNumber(1)
+                    .runtime(47)
+                    .season(seasons.getFirst())
+                    .library(savedLibrary)
+                    .build(),
+                Episode.builder()
+                    .title("New Upsert Episode")
+                    .episodeNumber(1)
+                    .season(seasons.getLast())
+                    .library(savedLibrary)
+                    .build()));
+
+    assertThat(seasons.getFirst().getId()).isEqualTo(storedSeason.getId());
+    assertThat(episodes.getFirst().getId()).isEqualTo(storedEpisode.getId());
+
+    var updatedSeason = seasonRepository.findById(storedSeason.getId()).orElseThrow();
+    assertThat(updatedSeason.getTitle()).isEqualTo("Upsert Season");
+    assertThat(updatedSeason.getOverview()).isEqualTo("Updated overview");
+    var updatedEpisode = episodeRepository.findById(storedEpisode.getId()).orElseThrow();
+    assertThat(updatedEpisode.getTitle()).isEqualTo("Upsert Episode");
+    assertThat(updatedEpisode.getRuntime()).isEqualTo(47);
+    assertThat(episodeRepository.findBySeasonIdOrderByEpisodeNumber(seasons.getLast().getId()))
+        .extracting(Episode::getTitle)
+        .containsExactly("New Upsert Episode");
+  }
+
   @Test
   @DisplayName("Should cascade delete episodes when season deleted")
   void shouldCascadeDeleteEpisodesWhenSeasonDeleted() {
@@ -12,6 +12,7 @@ import com.streamarr.server.exceptions.InvalidCredentialsException;
 import com.streamarr.server.exceptions.TooManyCredentialAttemptsException;
 import com.streamarr.server.fakes.MutableClock;
 import com.streamarr.server.fixtures.AccountFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -222,7 +223,8 @@ class AccountPasswordVerifierTest {
   private static PasswordEncoder productionPasswordEncoder() {
     return new PasswordEncoderConfig()
         .passwordEncoder(
-            Argon2Properties.builder().memoryKib(4096).iterations(1).parallelism(1).build());
+            Argon2Properties.builder().memoryKib(4096).iterations(1).parallelism(1).build(),
+            new SimpleMeterRegistry());
   }
 
   private static final class CountingTimingEqualizer extends PasswordTimingEqualizer {
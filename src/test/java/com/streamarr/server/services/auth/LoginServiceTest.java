@@ -9,12 +9,14 @@ import com.streamarr.server.config.security.AuthTokenProperties;
 import com.streamarr.server.config.security.PasswordEncoderConfig;
 import com.streamarr.server.domain.auth.UserAccount;
 import com.streamarr.server.exceptions.InvalidCredentialsException;
+import com.streamarr.server.exceptions.PasswordHashingBusyException;
 import com.streamarr.server.exceptions.TooManyLoginAttemptsException;
 import com.streamarr.server.fakes.FakeAuthSessionRepository;
 import com.streamarr.server.fakes.FakeRefreshTokenRepository;
 import com.streamarr.server.fakes.FakeUserAccountRepository;
 import com.streamarr.server.fakes.MutableClock;
 import com.streamarr.server.fixtures.AccountFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -168,6 +170,21 @@ class LoginServiceTest {
     assertThat(serviceEncoder.upgradeEncoding(storedHash)).isFalse();
   }
 
+  @Test
+  @DisplayName("Should log in and keep stored hash when hashing busy during encoding upgrade")
+  void shouldLogInAndKeepStoredHashWhenHashingBusyDuringEncodingUpgrade() {
+    var weakHash = weakEncoder.encode(CORRECT_PASSWORD);
+    var account = seedAccount(weakHash);
+    countingEncoder.refuseEncodes();
+
+    var result =
+        loginService.login(commandBuilder(account.getEmail()).password(CORRECT_PASSWORD).build());
+
+    assertThat(result.session().getAccountId()).isEqualTo(account.getId());
+    assertThat(userAccountRepository.findById(account.getId()).orElseThrow().getPasswordHash())
+        .isEqualTo(weakHash);
+  }
+
   @Test
   @DisplayName("Should reject login when email unknown")
   void shouldRejectLoginWhenEmailUnknown() {
@@ -307,17 +324,20 @@ class LoginServiceTest {
                 .memoryKib(memoryKib)
                 .iterations(iterations)
                 .parallelism(1)
-                .build());
+                .build(),
+            new SimpleMeterRegistry());
   }
 
   /**
    * Counts password verifications that run to completion. A verification that throws — an
-   * unreadable stored hash — performs no hash work and must not count as a burn.
+   * unreadable stored hash — performs no hash work and must not count as a burn. Encodes can be
+   * refused as a saturated admission-bounded encoder refuses them.
    */
   private static final class CountingPasswordEncoder implements PasswordEncoder {
 
     private final PasswordEncoder delegate;
     private final AtomicInteger completedVerifications = new AtomicInteger();
+    private volatile boolean refuseEncodes;
 
     private CountingPasswordEncoder(PasswordEncoder delegate) {
       this.delegate = delegate;
@@ -325,6 +345,9 @@ class LoginServiceTest {
 
     @Override
     public String encode(CharSequence rawPassword) {
+      if (refuseEncodes) {
+        throw new PasswordHashingBusyException(Duration.ofSeconds(1));
+      }
       return delegate.encode(rawPassword);
     }
 
@@ -343,6 +366,10 @@ class LoginServiceTest {
     private int completedVerifications() {
       return completedVerifications.get();
     }
+
+    private void refuseEncodes() {
+      refuseEncodes = true;
+    }
   }
 
   private static final class CountingTimingEqualizer extends PasswordTimingEqualizer {
@@ -8,6 +8,7 @@ import com.streamarr.server.config.security.PasswordEncoderConfig;
 import com.streamarr.server.domain.auth.UserAccount;
 import com.streamarr.server.fixtures.AccountFixture;
 import com.streamarr.server.repositories.auth.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.sql.Connection;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -76,7 +77,8 @@ class LoginServiceTransactionIT extends AbstractIntegrationTest {
       var delegate =
           new PasswordEncoderConfig()
               .passwordEncoder(
-                  Argon2Properties.builder().memoryKib(4096).iterations(1).parallelism(1).build());
+                  Argon2Properties.builder().memoryKib(4096).iterations(1).parallelism(1).build(),
+                  new SimpleMeterRegistry());
       return new TransactionProbePasswordEncoder(delegate, dataSource);
     }
   }
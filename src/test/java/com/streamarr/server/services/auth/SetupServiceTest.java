@@ -19,6 +19,7 @@ import com.streamarr.server.fakes.FakeSessionProgressRepository;
 import com.streamarr.server.fakes.FakeUserAccountRepository;
 import com.streamarr.server.fakes.FakeWatchHistoryRepository;
 import com.streamarr.server.fixtures.SessionProgressFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.UUID;
@@ -54,7 +55,8 @@ class SetupServiceTest {
       new CountingPasswordEncoder(
           new PasswordEncoderConfig()
               .passwordEncoder(
-                  Argon2Properties.builder().memoryKib(4096).iterations(1).parallelism(1).build()));
+                  Argon2Properties.builder().memoryKib(4096).iterations(1).parallelism(1).build(),
+                  new SimpleMeterRegistry()));
 
   private final SetupService setupService =
       new SetupService(
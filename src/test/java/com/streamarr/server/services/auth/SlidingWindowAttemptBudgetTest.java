@@ -0,0 +1,97 @@
+package com.streamarr.server.services.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.streamarr.server.fakes.MutableClock;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("Sliding Window Attempt Budget Tests")
+class SlidingWindowAttemptBudgetTest {
+
+  private static final int MAX_ATTEMPTS = 3;
+  private static final Duration WINDOW = Duration.ofMinutes(15);
+
+  private final MutableClock clock = new MutableClock();
+
+  @Test
+  @DisplayName("Should free slots one by one when attempts age out of the window in turn")
+  void shouldFreeSlotsOneByOneWhenAttemptsAgeOutOfWindowInTurn() {
+    var budget = budget(10);
+    var step = WINDOW.dividedBy(MAX_ATTEMPTS).plusSeconds(1);
+    for (int i = 0; i < MAX_ATTEMPTS; i++) {
+      budget.reserve("key");
+      clock.advance(step);
+    }
+
+    // Each step expires exactly the oldest attempt, walking the ring's head around the array
+    // more than once.
+    for (int i = 0; i < MAX_ATTEMPTS * 2; i++) {
+      assertThat(budget.reserve("key")).isTrue();
+      assertThat(budget.reserve("key")).isFalse();
+      clock.advance(step);
+    }
+  }
+
+  @Test
+  @DisplayName("Should return one slot when a reservation is released")
+  void shouldReturnOneSlotWhenReservationIsReleased() {
+    var budget = budget(10);
+    for (int i = 0; i < MAX_ATTEMPTS; i++) {
+      budget.reserve("key");
+    }
+
+    budget.release("key");
+
+    assertThat(budget.reserve("key")).isTrue();
+    assertThat(budget.reserve("key")).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should stop tracking a key when its last reservation is released")
+  void shouldStopTrackingKeyWhenItsLastReservationIsReleased() {
+    var budget = budget(10);
+    budget.reserve("key");
+
+    budget.release("key");
+    budget.release("never-reserved");
+
+    assertThat(budget.trackedKeys()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should forget the least recently touched key when the key cap is reached")
+  void shouldForgetLeastRecentlyTouchedKeyWhenKeyCapIsReached() {
+    var budget = budget(2);
+    for (int i = 0; i < MAX_ATTEMPTS; i++) {
+      budget.reserve("stale");
+      budget.reserve("active");
+    }
+    budget.reserve("active");
+
+    budget.reserve("fresh");
+
+    assertThat(budget.trackedKeys()).isEqualTo(2);
+    assertThat(budget.reserve("active")).isFalse();
+    assertThat(budget.reserve("stale")).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should hold memory at the key cap when a million distinct keys arrive")
+  void shouldHoldMemoryAtKeyCapWhenMillionDistinctKeysArrive() {
+    var budget = budget(1_000);
+
+    for (int i = 0; i < 1_000_000; i++) {
+      budget.reserve("sprayed-" + i);
+    }
+
+    assertThat(budget.trackedKeys()).isEqualTo(1_000);
+  }
+
+  private SlidingWindowAttemptBudget<String> budget(int maximumKeys) {
+    return new SlidingWindowAttemptBudget<>(MAX_ATTEMPTS, WINDOW, maximumKeys, clock);
+  }
+}
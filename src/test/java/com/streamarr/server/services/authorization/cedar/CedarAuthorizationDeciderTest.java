@@ -1,6 +1,7 @@
 package com.streamarr.server.services.authorization.cedar;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import ch.qos.logback.classic.Level;
@@ -28,6 +29,7 @@ import com.cedarpolicy.value.PrimString;
 import com.streamarr.server.domain.auth.AccountRole;
 import com.streamarr.server.fakes.FakeAccountProfileRepository;
 import com.streamarr.server.fakes.FakeProfileRepository;
+import com.streamarr.server.fakes.FakeTransactionManager;
 import com.streamarr.server.fakes.FakeUserAccountRepository;
 import com.streamarr.server.fixtures.AccountFixture;
 import com.streamarr.server.fixtures.AuthenticatedIdentityFixture;
@@ -44,8 +46,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -56,6 +60,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Tag("UnitTest")
 @DisplayName("Cedar Authorization Decider Tests")
@@ -268,10 +274,176 @@ class CedarAuthorizationDeciderTest {
             });
   }
 
+  @Test
+  @DisplayName("Should skip entity validation when trusted slices come from a conforming contributor")
+  void shouldSkipEntityValidationWhenTrustedSlicesComeFromConformingContributor() {
+    var engine = new RewritingEngine(ENGINE, Function.identity());
+    var trusting =
+        decider(engine, new LivePrincipalAuthorityContributor(accounts), false);
+    var identity = identityFor(liveAccount(AccountRole.ADMIN, true), AccountRole.ADMIN);
+
+    assertThat(trusting.decide(identity, new Intent.AddLibrary()))
+        .isEqualTo(new Decision.Allowed<>(AuthorizationUnit.INSTANCE));
+    assertThat(engine.entityValidations()).isZero();
+  }
+
+  /** Pins the claim that lets trusted slices skip validation: every live slice conforms. */
+  @ParameterizedTest
+  @MethodSource("liveAuthorityStates")
+  @DisplayName("Should assemble a schema-valid slice when the live contributor claims conformance")
+  void shouldAssembleSchemaValidSliceWhenLiveContributorClaimsConformance(
+      AccountRole role, boolean enabled) {
+    var live = new LivePrincipalAuthorityContributor(accounts);
+    var slice =
+        new SliceAssembler(List.of(live))
+            .assemble(
+                identityFor(liveAccount(role, enabled), role),
+                AuthorizationCheck.onServer(Action.ADD_LIBRARY));
+
+    assertThat(live.schemaConforming()).isTrue();
+    assertThatCode(
+            () ->
+                ENGINE.validateEntities(
+                    new EntityValidationRequest(BUNDLE.schema(), slice.entities())))
+        .doesNotThrowAnyException();
+  }
+
+  static Stream<Arguments> liveAuthorityStates() {
+    return Stream.of(
+        Arguments.of(AccountRole.ADMIN, true),
+        Arguments.of(AccountRole.ADMIN, false),
+        Arguments.of(AccountRole.USER, true),
+        Arguments.of(AccountRole.USER, false));
+  }
+
+  @Test
+  @DisplayName(
+      "Should still validate the slice when trusted slices are skipped but a contributor makes no conformance claim")
+  void shouldStillValidateSliceWhenTrustedSlicesAreSkippedButContributorMakesNoConformanceClaim() {
+    var malformed =
+        decider(
+            ENGINE,
+            contributor(
+                slice ->
+                    slice.principalAttribute(
+                        LivePrincipalAuthorityContributor.ENABLED, new PrimString("yes"))),
+            false);
+    var identity = identityFor(liveAccount(AccountRole.ADMIN, true), AccountRole.ADMIN);
+
+    assertThat(malformed.decide(identity, new Intent.AddLibrary()))
+        .isEqualTo(new Decision.Failed<>(Decision.FailureCause.INVALID_SLICE));
+  }
+
+  @Test
+  @DisplayName("Should decide once when the same check repeats inside one transaction")
+  void shouldDecideOnceWhenSameCheckRepeatsInsideOneTransaction() {
+    var reads = new AtomicInteger();
+    var counting = decider(ENGINE, countingContributor(reads));
+    var identity = identityFor(liveAccount(AccountRole.ADMIN, true), AccountRole.ADMIN);
+
+    var decisions =
+        inTransaction(
+            () ->
+                List.of(
+                    counting.decide(identity, new Intent.AddLibrary()),
+                    counting.decide(identity, new Intent.AddLibrary())));
+
+    assertThat(decisions)
+        .containsOnly(new Decision.Allowed<>(AuthorizationUnit.INSTANCE))
+        .hasSize(2);
+    assertThat(reads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should decide afresh when the same check repeats in separate transactions")
+  void shouldDecideAfreshWhenSameCheckRepeatsInSeparateTransactions() {
+    var reads = new AtomicInteger();
+    var counting = decider(ENGINE, countingContributor(reads));
+    var identity = identityFor(liveAccount(AccountRole.ADMIN, true), AccountRole.ADMIN);
+
+    inTransaction(() -> counting.decide(identity, new Intent.AddLibrary()));
+    inTransaction(() -> counting.decide(identity, new Intent.AddLibrary()));
+    counting.decide(identity, new Intent.AddLibrary());
+
+    assertThat(reads).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("Should decide afresh when a transaction has no synchronization to scope the memo")
+  void shouldDecideAfreshWhenTransactionHasNoSynchronizationToScopeMemo() {
+    var reads = new AtomicInteger();
+    var counting = decider(ENGINE, countingContributor(reads));
+    var identity = identityFor(liveAccount(AccountRole.ADMIN, true), AccountRole.ADMIN);
+
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      counting.decide(identity, new Intent.AddLibrary());
+      counting.decide(identity, new Intent.AddLibrary());
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    assertThat(reads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should retry a failed decision when the same check repeats inside one transaction")
+  void shouldRetryFailedDecisionWhenSameCheckRepeatsInsideOneTransaction() {
+    var attempts = new AtomicInteger();
+    var flaky =
+        decider(
+            ENGINE,
+            contributor(
+                slice -> {
+                  if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("database unavailable");
+                  }
+                  slice.principalAttribute(
+                      LivePrincipalAuthorityContributor.ENABLED, new PrimBool(true));
+                  slice.principalAttribute(
+                      LivePrincipalAuthorityContributor.SERVER_ADMIN, new PrimBool(true));
+                }));
+    var identity = identityFor(liveAccount(AccountRole.ADMIN, true), AccountRole.ADMIN);
+
+    var retried =
+        inTransaction(
+            () -> {
+              flaky.decide(identity, new Intent.AddLibrary());
+              return flaky.decide(identity, new Intent.AddLibrary());
+            });
+
+    assertThat(retried).isEqualTo(new Decision.Allowed<>(AuthorizationUnit.INSTANCE));
+  }
+
   private CedarAuthorizationDecider decider(
       AuthorizationEngine engine, FactContributor contributor) {
+    return decider(engine, contributor, true);
+  }
+
+  private CedarAuthorizationDecider decider(
+      AuthorizationEngine engine, FactContributor contributor, boolean validateTrustedSlices) {
     return new CedarAuthorizationDecider(
-        engine, BUNDLE, new SliceAssembler(List.of(contributor)), meters);
+        engine, BUNDLE, new SliceAssembler(List.of(contributor)), meters, validateTrustedSlices);
+  }
+
+  private FactContributor countingContributor(AtomicInteger reads) {
+    var live = new LivePrincipalAuthorityContributor(accounts);
+    return new FactContributor() {
+      @Override
+      public FactRequirement provides() {
+        return live.provides();
+      }
+
+      @Override
+      public void contribute(AuthenticatedIdentity identity, EntitySlice slice) {
+        reads.incrementAndGet();
+        live.contribute(identity, slice);
+      }
+    };
+  }
+
+  private static <T> T inTransaction(Supplier<T> work) {
+    return new TransactionTemplate(new FakeTransactionManager()).execute(_ -> work.get());
   }
 
   private static FactContributor contributor(Consumer<EntitySlice> contribution) {
@@ -321,6 +493,7 @@ class CedarAuthorizationDeciderTest {
     private final AuthorizationEngine delegate;
     private final Function<AuthorizationRequest, AuthorizationRequest> rewrite;
     private final PolicySet policyOverride;
+    private final AtomicInteger entityValidations = new AtomicInteger();
 
     private RewritingEngine(
         AuthorizationEngine delegate,
@@ -377,9 +550,14 @@ class CedarAuthorizationDeciderTest {
 
     @Override
     public void validateEntities(EntityValidationRequest request) throws AuthException {
+      entityValidations.incrementAndGet();
       delegate.validateEntities(request);
     }
 
+    int entityValidations() {
+      return entityValidations.get();
+    }
+
     private PolicySet policies(PolicySet requested) {
       return policyOverride == null ? requested : policyOverride;
     }
@@ -54,6 +54,49 @@ class SliceAssemblerTest {
             resource -> assertThat(resource.getEUID()).isEqualTo(CedarIds.server()));
   }
 
+  @Test
+  @DisplayName("Should require validation when a contributor makes no conformance claim")
+  void shouldRequireValidationWhenContributorMakesNoConformanceClaim() {
+    var assembler = new SliceAssembler(List.of(contributor("marker")));
+
+    var slice =
+        assembler.assemble(
+            AuthenticatedIdentityFixture.defaultIdentityBuilder().build(),
+            AuthorizationCheck.onServer(Action.ADD_LIBRARY));
+
+    assertThat(slice.requiresValidation()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should not require validation when every contributor is schema conforming")
+  void shouldNotRequireValidationWhenEveryContributorIsSchemaConforming() {
+    var conforming =
+        new FactContributor() {
+          @Override
+          public FactRequirement provides() {
+            return FactRequirement.LIVE_PRINCIPAL_AUTHORITY;
+          }
+
+          @Override
+          public void contribute(AuthenticatedIdentity identity, EntitySlice slice) {
+            slice.principalAttribute("marker", new PrimBool(true));
+          }
+
+          @Override
+          public boolean schemaConforming() {
+            return true;
+          }
+        };
+    var assembler = new SliceAssembler(List.of(conforming));
+
+    var slice =
+        assembler.assemble(
+            AuthenticatedIdentityFixture.defaultIdentityBuilder().build(),
+            AuthorizationCheck.onServer(Action.ADD_LIBRARY));
+
+    assertThat(slice.requiresValidation()).isFalse();
+  }
+
   private static FactContributor contributor(String attribute) {
     return new FactContributor() {
       @Override
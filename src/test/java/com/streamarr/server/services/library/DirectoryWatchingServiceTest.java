@@ -7,16 +7,20 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.streamarr.server.config.LibraryScanProperties;
+import com.streamarr.server.config.LibraryWatcherProperties;
 import com.streamarr.server.domain.Library;
 import com.streamarr.server.fakes.FakeLibraryRepository;
+import com.streamarr.server.fakes.FakeMediaFileRepository;
 import com.streamarr.server.fixtures.LibraryFixtureCreator;
 import com.streamarr.server.repositories.LibraryRepository;
 import com.streamarr.server.services.events.library.LibraryRemovedEvent;
 import com.streamarr.server.services.filepath.FilepathCodec;
 import com.streamarr.server.services.validation.IgnoredFileValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.List;
 import java.util.Set;
@@ -37,6 +41,7 @@ class DirectoryWatchingServiceTest {
   @TempDir Path tempDir;
 
   private final LibraryRepository fakeLibraryRepository = new FakeLibraryRepository();
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
   private DirectoryWatchingService service;
 
   @BeforeEach
@@ -44,10 +49,12 @@ class DirectoryWatchingServiceTest {
     service =
         new DirectoryWatchingService(
             fakeLibraryRepository,
-            path -> true,
+            new FakeMediaFileRepository(),
+            stabilityTracker(),
             null,
             new IgnoredFileValidator(new LibraryScanProperties(null, null, null)),
-            null);
+            null,
+            meters);
   }
 
   @AfterEach
@@ -68,14 +75,29 @@ class DirectoryWatchingServiceTest {
   }
 
   @Test
-  @DisplayName("Should restart watcher when additional directory is added")
-  void shouldRestartWatcherWhenAdditionalDirectoryAdded() throws IOException {
-    var subDir = tempDir.resolve("sub");
-    Files.createDirectory(subDir);
+  @DisplayName("Should register only the new library when an additional directory is added")
+  void shouldRegisterOnlyNewLibraryWhenAdditionalDirectoryAdded() throws IOException {
+    var movies = Files.createDirectory(tempDir.resolve("movies"));
+    var shows = Files.createDirectory(tempDir.resolve("shows"));
+
+    service.addDirectory(movies);
+    service.addDirectory(shows);
+    service.addDirectory(movies);
+
+    assertThat(service.watchedDirectories()).containsExactlyInAnyOrder(movies, shows);
+    assertThat(meters.get(DirectoryWatchingService.REGISTRATION_METRIC).timer().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should count every registered directory when a library is watched")
+  void shouldCountEveryRegisteredDirectoryWhenLibraryIsWatched() throws IOException {
+    Files.createDirectories(tempDir.resolve("Show").resolve("Season 1"));
 
     service.addDirectory(tempDir);
 
-    assertThatCode(() -> service.addDirectory(subDir)).doesNotThrowAnyException();
+    assertThat(meters.get(DirectoryWatchingService.DIRECTORIES_METRIC).gauge().value())
+        .isEqualTo(3);
   }
 
   @Test
@@ -105,17 +127,19 @@ class DirectoryWatchingServiceTest {
   }
 
   @Test
-  @DisplayName("Should restart watcher with remaining directories after removal")
-  void shouldRestartWatcherWithRemainingDirectories() throws IOException {
-    var subDir = tempDir.resolve("remaining");
-    Files.createDirectory(subDir);
+  @DisplayName("Should keep watching remaining directories when one is removed")
+  void shouldKeepWatchingRemainingDirectoriesWhenOneIsRemoved() throws IOException {
+    var movies = Files.createDirectory(tempDir.resolve("movies"));
+    var shows = Files.createDirectory(tempDir.resolve("shows"));
 
-    service.addDirectory(tempDir);
-    service.addDirectory(subDir);
+    service.addDirectory(movies);
+    service.addDirectory(shows);
 
-    service.removeDirectory(tempDir);
+    service.removeDirectory(movies);
 
-    assertThatCode(() -> service.stopWatching()).doesNotThrowAnyException();
+    assertThat(service.watchedDirectories()).containsExactly(shows);
+    assertThat(meters.get(DirectoryWatchingService.REGISTRATION_METRIC).timer().count())
+        .isEqualTo(2);
   }
 
   @Test
@@ -230,14 +254,21 @@ class DirectoryWatchingServiceTest {
   private DirectoryWatchingService buildFailingSetupService() {
     return new DirectoryWatchingService(
         fakeLibraryRepository,
-        path -> true,
+        new FakeMediaFileRepository(),
+        stabilityTracker(),
         null,
         new IgnoredFileValidator(new LibraryScanProperties(null, null, null)),
-        null) {
+        null,
+        new SimpleMeterRegistry()) {
       @Override
       public void setup(List<Library> libraries) throws IOException {
         throw new IOException("simulated failure");
       }
+
+      @Override
+      public void addDirectory(Path path) throws IOException {
+        throw new IOException("simulated failure");
+      }
     };
   }
 
@@ -245,12 +276,23 @@ class DirectoryWatchingServiceTest {
       CountDownLatch setupStarted, CountDownLatch releaseSetup) {
     return new DirectoryWatchingService(
         fakeLibraryRepository,
-        path -> true,
+        new FakeMediaFileRepository(),
+        stabilityTracker(),
         null,
         new IgnoredFileValidator(new LibraryScanProperties(null, null, null)),
-        null) {
+        null,
+        new SimpleMeterRegistry()) {
       @Override
       public void setup(List<Library> libraries) throws IOException {
+        block();
+      }
+
+      @Override
+      public void addDirectory(Path path) throws IOException {
+        block();
+      }
+
+      private void block() throws IOException {
         setupStarted.countDown();
         try {
           releaseSetup.await();
@@ -262,6 +304,10 @@ class DirectoryWatchingServiceTest {
     };
   }
 
+  private static FileStabilityTracker stabilityTracker() {
+    return new FileStabilityTracker(Clock.systemUTC(), new LibraryWatcherProperties(0, 0, 0));
+  }
+
   private LogCapture startLogCapture(CountDownLatch logRecorded) {
     var logger = (Logger) LoggerFactory.getLogger(DirectoryWatchingService.class);
     var appender =
@@ -2,23 +2,31 @@ package com.streamarr.server.services.library;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import com.streamarr.server.config.LibraryScanProperties;
+import com.streamarr.server.config.LibraryWatcherProperties;
 import com.streamarr.server.domain.ExternalAgentStrategy;
 import com.streamarr.server.domain.Library;
 import com.streamarr.server.domain.LibraryBackend;
 import com.streamarr.server.domain.LibraryStatus;
+import com.streamarr.server.domain.media.MediaFile;
+import com.streamarr.server.domain.media.MediaFileStatus;
 import com.streamarr.server.domain.media.MediaType;
 import com.streamarr.server.domain.media.Movie;
+import com.streamarr.server.domain.task.FileProcessingTask;
+import com.streamarr.server.domain.task.FileProcessingTaskStatus;
 import com.streamarr.server.fakes.FakeFileProcessingTaskRepository;
 import com.streamarr.server.fakes.FakeLibraryMetadataRepository;
 import com.streamarr.server.fakes.FakeLibraryMutationTransaction;
 import com.streamarr.server.fakes.FakeLibraryRepository;
 import com.streamarr.server.fakes.FakeMediaFileRepository;
 import com.streamarr.server.fakes.FakeTransactionManager;
+import com.streamarr.server.fakes.MutableClock;
 import com.streamarr.server.repositories.LibraryRepository;
 import com.streamarr.server.services.MovieService;
 import com.streamarr.server.services.SeriesService;
@@ -39,22 +47,17 @@ import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
-import java.time.ZoneId;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 @Tag("UnitTest")
 @DisplayName("File Event Processor Tests")
@@ -63,8 +66,12 @@ class FileEventProcessorTest {
   private FileSystem fileSystem;
   private LibraryRepository libraryRepository;
   private FakeMediaFileRepository mediaFileRepository;
-  private AtomicReference<FileStabilityChecker> stabilityCheckerRef;
+  private SeriesFileProcessor seriesFileProcessor;
+  private FakeFileProcessingTaskRepository taskRepository;
+  private MutableClock clock;
+  private FileStabilityTracker stabilityTracker;
   private FileEventProcessor eventProcessor;
+  private UUID movieLibraryId;
   private UUID specialLibraryId;
 
   @BeforeEach
@@ -75,7 +82,6 @@ class FileEventProcessorTest {
     var ignoredFileValidator =
         new IgnoredFileValidator(new LibraryScanProperties(null, null, null));
     var videoExtensionValidator = new VideoExtensionValidator();
-    stabilityCheckerRef = new AtomicReference<>(path -> true);
 
     // Plain paths instead of file:// URIs because file:// URIs can't round-trip through Jimfs.
     var library =
@@ -88,7 +94,7 @@ class FileEventProcessorTest {
             .type(MediaType.MOVIE)
             .build();
 
-    libraryRepository.save(library);
+    movieLibraryId = libraryRepository.save(library).getId();
     var specialLibrary =
         Library.builder()
             .name("Special Movies")
@@ -128,7 +134,7 @@ class FileEventProcessorTest {
             mediaFileRepository,
             new MutexFactoryProvider());
 
-    var seriesFileProcessor = mock(SeriesFileProcessor.class);
+    seriesFileProcessor = mock(SeriesFileProcessor.class);
     var seriesService = mock(SeriesService.class);
     var mutationTransactions =
         new MutationTransactions(new FakeTransactionManager(), new ConstraintViolationTranslator());
@@ -149,16 +155,19 @@ class FileEventProcessorTest {
             mock(LibraryRefreshService.class),
             fileSystem,
             new FakeLibraryMutationTransaction(),
-            mutationTransactions);
+            mutationTransactions,
+            LibraryScanMetrics.noop());
 
-    var taskRepository = new FakeFileProcessingTaskRepository();
-    var clock = Clock.fixed(Instant.now(), ZoneId.of("UTC"));
+    taskRepository = new FakeFileProcessingTaskRepository();
+    clock = new MutableClock();
     var taskCoordinator =
         new FileProcessingTaskCoordinator(taskRepository, clock, Duration.ofSeconds(60));
+    stabilityTracker = new FileStabilityTracker(clock, new LibraryWatcherProperties(10, 5, 3600));
 
     eventProcessor =
         new FileEventProcessor(
-            path -> stabilityCheckerRef.get().waitForStability(path),
+            stabilityTracker,
+            mediaFileRepository,
             libraryManagementService,
             ignoredFileValidator,
             taskCoordinator);
@@ -173,64 +182,71 @@ class FileEventProcessorTest {
   }
 
   @Test
-  @DisplayName("Should not process events when shut down")
-  void shouldNotProcessEventsWhenShutDown() throws Exception {
+  @DisplayName("Should not track file when shut down")
+  void shouldNotTrackFileWhenShutDown() throws Exception {
     eventProcessor.shutdown();
 
     var path = createFile("/media/movies/Movie (2024).mkv");
-    var processed = new AtomicBoolean(false);
-    stabilityCheckerRef.set(
-        p -> {
-          processed.set(true);
-          return true;
-        });
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
+    stabilize();
 
-    await()
-        .during(Duration.ofMillis(100))
-        .atMost(Duration.ofSeconds(5))
-        .untilAsserted(() -> assertThat(processed.get()).isFalse());
+    assertThat(stabilityTracker.isTracked(path)).isFalse();
+    assertThat(mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(path))).isEmpty();
   }
 
   @Test
-  @DisplayName("Should not throw when overflow event received")
-  void shouldNotThrowWhenOverflowEventReceived() {
-    var path = fileSystem.getPath("/media/movies/file.mkv");
-    var processed = new AtomicBoolean(false);
-    stabilityCheckerRef.set(
-        p -> {
-          processed.set(true);
-          return true;
-        });
-
-    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.OVERFLOW, path);
-
-    assertThat(processed.get()).isFalse();
+  @DisplayName("Should track only files missing from library when watcher overflows")
+  void shouldTrackOnlyFilesMissingFromLibraryWhenWatcherOverflows() throws Exception {
+    var known = createFile("/media/movies/Bulk/Known (2024).mkv");
+    var missed = createFile("/media/movies/Bulk/Missed (2024).mkv");
+    mediaFileRepository.save(
+        MediaFile.builder()
+            .filename("Known (2024).mkv")
+            .filepathUri(FilepathCodec.encode(known))
+            .libraryId(movieLibraryId)
+            .status(MediaFileStatus.MATCHED)
+            .build());
+
+    eventProcessor.handleFileEvent(
+        DirectoryChangeEvent.EventType.OVERFLOW, fileSystem.getPath("/media/movies/Bulk"));
+
+    assertThat(stabilityTracker.pendingFiles()).isZero();
+
+    for (int tick = 0; tick < OverflowRescanner.SETTLE_TICKS; tick++) {
+      eventProcessor.tick();
+    }
+
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(stabilityTracker.isTracked(missed)).isTrue());
+    assertThat(stabilityTracker.isTracked(known)).isFalse();
   }
 
   @Test
   @DisplayName("Should not process file when extension is unsupported")
   void shouldNotProcessFileWhenExtensionIsUnsupported() throws Exception {
     var path = createFile("/media/movies/readme.txt");
-    var processed = new AtomicBoolean(false);
-    stabilityCheckerRef.set(
-        p -> {
-          processed.set(true);
-          return true;
-        });
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
+    stabilize();
 
-    assertThat(processed.get()).isFalse();
+    await()
+        .during(Duration.ofMillis(100))
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(path)))
+                    .isEmpty());
   }
 
   @Test
-  @DisplayName("Should process file when stable")
-  void shouldProcessFileWhenStable() throws Exception {
+  @DisplayName("Should process file and complete its task when stable")
+  void shouldProcessFileAndCompleteItsTaskWhenStable() throws Exception {
     var path = createFile("/media/movies/Movie (2024).mkv");
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
+    stabilize();
 
     await()
         .atMost(Duration.ofSeconds(5))
@@ -239,85 +255,103 @@ class FileEventProcessorTest {
               var mediaFile =
                   mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(path));
               assertThat(mediaFile).isPresent();
+              assertThat(taskRepository.findAll())
+                  .extracting(FileProcessingTask::getStatus)
+                  .containsExactly(FileProcessingTaskStatus.COMPLETED);
             });
   }
 
   @Test
-  @DisplayName("Should not process file when unstable")
-  void shouldNotProcessFileWhenUnstable() throws Exception {
+  @DisplayName("Should fail task without processing when file disappears before stabilizing")
+  void shouldFailTaskWithoutProcessingWhenFileDisappearsBeforeStabilizing() throws Exception {
     var path = createFile("/media/movies/Movie (2024).mkv");
-    var latch = new CountDownLatch(1);
-
-    stabilityCheckerRef.set(
-        p -> {
-          latch.countDown();
-          return false;
-        });
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
+    eventProcessor.tick();
+    Files.delete(path);
+    clock.advance(Duration.ofSeconds(5));
+    eventProcessor.tick();
 
-    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
-
-    var mediaFile = mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(path));
-    assertThat(mediaFile).isEmpty();
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(taskRepository.findAll())
+                    .extracting(FileProcessingTask::getStatus)
+                    .containsExactly(FileProcessingTaskStatus.FAILED));
+    assertThat(mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(path))).isEmpty();
   }
 
   @Test
-  @DisplayName("Should deduplicate when multiple events for same path")
-  void shouldDeduplicateWhenMultipleEventsForSamePath() throws Exception {
-    var path = createFile("/media/movies/Movie (2024).mkv");
-    var stabilityCallCount = new AtomicInteger(0);
-    var blockLatch = new CountDownLatch(1);
-    var enteredLatch = new CountDownLatch(1);
-
-    stabilityCheckerRef.set(
-        p -> {
-          stabilityCallCount.incrementAndGet();
-          enteredLatch.countDown();
-          try {
-            blockLatch.await(5, TimeUnit.SECONDS);
-          } catch (InterruptedException _) {
-            Thread.currentThread().interrupt();
-          }
-          return true;
-        });
+  @DisplayName("Should create one task per file when several files arrive in the same tick")
+  void shouldCreateOneTaskPerFileWhenSeveralFilesArriveInSameTick() throws Exception {
+    var first = createFile("/media/movies/First (2024).mkv");
+    var second = createFile("/media/movies/Second (2024).mkv");
 
-    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
-    assertThat(enteredLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, first);
+    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, second);
+    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.MODIFY, first);
+    eventProcessor.tick();
 
-    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.MODIFY, path);
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(taskRepository.findAll())
+                    .extracting(FileProcessingTask::getFilepathUri)
+                    .containsExactlyInAnyOrder(
+                        FilepathCodec.encode(first), FilepathCodec.encode(second)));
+    assertThat(stabilityTracker.pendingFiles()).isEqualTo(2);
+  }
 
-    blockLatch.countDown();
+  @Test
+  @DisplayName(
+      "Should process stable file and retry arrivals when task creation fails during tick")
+  void shouldProcessStableFileAndRetryArrivalsWhenTaskCreationFailsDuringTick() throws Exception {
+    var stable = createFile("/media/movies/Stable (2024).mkv");
+    var arriving = createFile("/media/movies/Arriving (2024).mkv");
+
+    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, stable);
+    eventProcessor.tick();
+    clock.advance(Duration.ofSeconds(10));
+    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, arriving);
+    taskRepository.failNextSaveAll(new DataAccessResourceFailureException("database down"));
+    eventProcessor.tick();
 
     await()
-        .during(Duration.ofMillis(100))
         .atMost(Duration.ofSeconds(5))
-        .untilAsserted(() -> assertThat(stabilityCallCount.get()).isEqualTo(1));
+        .untilAsserted(
+            () ->
+                assertThat(mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(stable)))
+                    .isPresent());
+    assertThat(stabilityTracker.isTracked(arriving)).isTrue();
+
+    stabilize();
+
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(
+                      mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(arriving)))
+                  .isPresent();
+              assertThat(taskRepository.findAll())
+                  .extracting(FileProcessingTask::getStatus)
+                  .containsExactly(
+                      FileProcessingTaskStatus.COMPLETED, FileProcessingTaskStatus.COMPLETED);
+            });
   }
 
   @Test
-  @DisplayName("Should skip stability check when no library matches path")
-  void shouldSkipStabilityCheckWhenNoLibraryMatchesPath() throws Exception {
+  @DisplayName("Should skip tracking when no library matches path")
+  void shouldSkipTrackingWhenNoLibraryMatchesPath() throws Exception {
     var otherDir = fileSystem.getPath("/other");
     Files.createDirectories(otherDir);
     var path = createFileAt(otherDir, "Movie (2024).mkv");
-    var stabilityCheckerCalled = new AtomicBoolean(false);
-
-    stabilityCheckerRef.set(
-        p -> {
-          stabilityCheckerCalled.set(true);
-          return true;
-        });
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
 
-    await()
-        .during(Duration.ofMillis(100))
-        .atMost(Duration.ofSeconds(5))
-        .untilAsserted(() -> assertThat(stabilityCheckerCalled.get()).isFalse());
-
-    var mediaFile = mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(path));
-    assertThat(mediaFile).isEmpty();
+    assertThat(stabilityTracker.isTracked(path)).isFalse();
   }
 
   @Test
@@ -326,6 +360,7 @@ class FileEventProcessorTest {
     var path = createFileAt(fileSystem.getPath("/media/movies/special"), "Movie (2024).mkv");
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
+    stabilize();
 
     await()
         .atMost(Duration.ofSeconds(5))
@@ -339,308 +374,157 @@ class FileEventProcessorTest {
   }
 
   @Test
-  @DisplayName("Should skip stability check when path shares string prefix but not path prefix")
-  void shouldSkipStabilityCheckWhenPathSharesStringPrefixButNotPathPrefix() throws Exception {
+  @DisplayName("Should skip tracking when path shares string prefix but not path prefix")
+  void shouldSkipTrackingWhenPathSharesStringPrefixButNotPathPrefix() throws Exception {
     Files.createDirectories(fileSystem.getPath("/media/moviesfoo"));
     var path = createFileAt(fileSystem.getPath("/media/moviesfoo"), "Movie (2024).mkv");
-    var stabilityCheckerCalled = new AtomicBoolean(false);
-
-    stabilityCheckerRef.set(
-        p -> {
-          stabilityCheckerCalled.set(true);
-          return true;
-        });
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
 
-    await()
-        .during(Duration.ofMillis(100))
-        .atMost(Duration.ofSeconds(5))
-        .untilAsserted(() -> assertThat(stabilityCheckerCalled.get()).isFalse());
-
-    var mediaFile = mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(path));
-    assertThat(mediaFile).isEmpty();
+    assertThat(stabilityTracker.isTracked(path)).isFalse();
   }
 
   @Test
-  @DisplayName("Should clean up in-flight map when processing completes")
-  void shouldCleanUpInFlightMapWhenProcessingCompletes() throws Exception {
-    var path = createFile("/media/movies/Movie (2024).mkv");
-    var callCount = new AtomicInteger(0);
+  @DisplayName("Should skip tracking when library added after reset")
+  void shouldSkipTrackingWhenLibraryAddedAfterReset() throws Exception {
+    var laterLibrary =
+        Library.builder()
+            .name("Anime")
+            .backend(LibraryBackend.LOCAL)
+            .status(LibraryStatus.HEALTHY)
+            .filepathUri("file:///media/anime")
+            .externalAgentStrategy(ExternalAgentStrategy.TMDB)
+            .type(MediaType.MOVIE)
+            .build();
+    libraryRepository.save(laterLibrary);
+    Files.createDirectories(fileSystem.getPath("/media/anime"));
 
-    stabilityCheckerRef.set(
-        p -> {
-          callCount.incrementAndGet();
-          return true;
-        });
+    var path = createFile("/media/anime/Movie (2024).mkv");
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
 
-    await()
-        .atMost(Duration.ofSeconds(5))
-        .pollInterval(Duration.ofMillis(50))
-        .until(
-            () -> {
-              if (callCount.get() < 2) {
-                eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.MODIFY, path);
-              }
-              return callCount.get() >= 2;
-            });
-
-    assertThat(callCount.get()).isEqualTo(2);
+    assertThat(stabilityTracker.isTracked(path)).isFalse();
   }
 
   @Test
-  @DisplayName("Should clean up in-flight map when stability fails")
-  void shouldCleanUpInFlightMapWhenStabilityFails() throws Exception {
-    var path = createFile("/media/movies/Movie (2024).mkv");
-    var callCount = new AtomicInteger(0);
-
-    stabilityCheckerRef.set(
-        p -> {
-          var count = callCount.incrementAndGet();
-          return count != 1;
-        });
-
-    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
+  @DisplayName("Should skip tracking when path is a directory")
+  void shouldSkipTrackingWhenPathIsDirectory() throws Exception {
+    var dir = fileSystem.getPath("/media/movies/Season 04");
+    Files.createDirectories(dir);
 
-    await()
-        .atMost(Duration.ofSeconds(5))
-        .pollInterval(Duration.ofMillis(50))
-        .until(
-            () -> {
-              if (callCount.get() < 2) {
-                eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
-              }
-              return callCount.get() >= 2;
-            });
+    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, dir);
 
-    assertThat(callCount.get()).isEqualTo(2);
+    assertThat(stabilityTracker.isTracked(dir)).isFalse();
   }
 
   @Test
-  @DisplayName("Should interrupt stability check when file is deleted")
-  void shouldInterruptStabilityCheckWhenFileIsDeleted() throws Exception {
+  @DisplayName("Should stop tracking and cancel task when file is deleted")
+  void shouldStopTrackingAndCancelTaskWhenFileIsDeleted() throws Exception {
     var path = createFile("/media/movies/Movie (2024).mkv");
-    var enteredLatch = new CountDownLatch(1);
-    var interruptedLatch = new CountDownLatch(1);
-
-    stabilityCheckerRef.set(
-        p -> {
-          enteredLatch.countDown();
-          try {
-            // Block until interrupted; bounded to prevent test hang if cancel fails
-            new CountDownLatch(1).await(10, TimeUnit.SECONDS);
-          } catch (InterruptedException _) {
-            Thread.currentThread().interrupt();
-            interruptedLatch.countDown();
-            return false;
-          }
-          return false;
-        });
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
-    assertThat(enteredLatch.await(5, TimeUnit.SECONDS)).isTrue();
-
+    eventProcessor.tick();
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.DELETE, path);
+    stabilize();
 
-    assertThat(interruptedLatch.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(stabilityTracker.isTracked(path)).isFalse();
+    assertThat(taskRepository.findAll()).isEmpty();
+    assertThat(mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(path))).isEmpty();
   }
 
   @Test
-  @DisplayName("Should remove from in-flight map when delete event received")
-  void shouldRemoveFromInFlightMapWhenDeleteEventReceived() throws Exception {
+  @DisplayName("Should reprocess file when it is recreated after a delete")
+  void shouldReprocessFileWhenItIsRecreatedAfterDelete() throws Exception {
     var path = createFile("/media/movies/Movie (2024).mkv");
-    var firstEnteredLatch = new CountDownLatch(1);
-    var firstBlockLatch = new CountDownLatch(1);
-    var callCount = new AtomicInteger(0);
-
-    stabilityCheckerRef.set(
-        p -> {
-          var count = callCount.incrementAndGet();
-          if (count == 1) {
-            firstEnteredLatch.countDown();
-            try {
-              firstBlockLatch.await(5, TimeUnit.SECONDS);
-            } catch (InterruptedException _) {
-              Thread.currentThread().interrupt();
-              return false;
-            }
-            return false;
-          }
-          return true;
-        });
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
-    assertThat(firstEnteredLatch.await(5, TimeUnit.SECONDS)).isTrue();
-
+    eventProcessor.tick();
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.DELETE, path);
-    firstBlockLatch.countDown();
-
-    await()
-        .atMost(Duration.ofSeconds(5))
-        .pollInterval(Duration.ofMillis(50))
-        .until(
-            () -> {
-              if (callCount.get() < 2) {
-                eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
-              }
-              return callCount.get() >= 2;
-            });
-
-    assertThat(callCount.get()).isEqualTo(2);
-  }
-
-  @Test
-  @DisplayName("Should clean up in-flight map when processing throws exception")
-  void shouldCleanUpInFlightMapWhenProcessingThrowsException() throws Exception {
-    var path = createFile("/media/shows/Show S01E01 (2024).mkv");
-    var callCount = new AtomicInteger(0);
-
-    stabilityCheckerRef.set(
-        p -> {
-          callCount.incrementAndGet();
-          return true;
-        });
-
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
+    stabilize();
 
     await()
         .atMost(Duration.ofSeconds(5))
-        .pollInterval(Duration.ofMillis(50))
-        .until(
-            () -> {
-              if (callCount.get() < 2) {
-                eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
-              }
-              return callCount.get() >= 2;
-            });
-
-    assertThat(callCount.get()).isEqualTo(2);
+        .untilAsserted(
+            () ->
+                assertThat(mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(path)))
+                    .isPresent());
   }
 
   @Test
-  @DisplayName("Should skip stability check when library added after reset")
-  void shouldSkipStabilityCheckWhenLibraryAddedAfterReset() throws Exception {
-    var laterLibrary =
-        Library.builder()
-            .name("Anime")
-            .backend(LibraryBackend.LOCAL)
-            .status(LibraryStatus.HEALTHY)
-            .filepathUri("file:///media/anime")
-            .externalAgentStrategy(ExternalAgentStrategy.TMDB)
-            .type(MediaType.MOVIE)
-            .build();
-    libraryRepository.save(laterLibrary);
-    Files.createDirectories(fileSystem.getPath("/media/anime"));
-
-    var path = createFile("/media/anime/Movie (2024).mkv");
-    var stabilityCheckerCalled = new AtomicBoolean(false);
-
-    stabilityCheckerRef.set(
-        p -> {
-          stabilityCheckerCalled.set(true);
-          return true;
-        });
+  @DisplayName("Should interrupt processing when file is deleted")
+  void shouldInterruptProcessingWhenFileIsDeleted() throws Exception {
+    var path = createFile("/media/shows/Show S01E01 (2024).mkv");
+    var processing = blockSeriesProcessing();
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
+    stabilize();
+    await().atMost(Duration.ofSeconds(5)).until(() -> processing.entered().getCount() == 0);
 
-    await()
-        .during(Duration.ofMillis(100))
-        .atMost(Duration.ofSeconds(5))
-        .untilAsserted(() -> assertThat(stabilityCheckerCalled.get()).isFalse());
+    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.DELETE, path);
 
-    var mediaFile = mediaFileRepository.findFirstByFilepathUri(FilepathCodec.encode(path));
-    assertThat(mediaFile).isEmpty();
+    assertThat(processing.interrupted().await(2, TimeUnit.SECONDS)).isTrue();
   }
 
   @Test
-  @DisplayName("Should interrupt in-flight stability checks when shut down")
-  void shouldInterruptInFlightStabilityChecksWhenShutDown() throws Exception {
-    var path = createFile("/media/movies/Movie (2024).mkv");
-    var enteredLatch = new CountDownLatch(1);
-    var interruptedLatch = new CountDownLatch(1);
-
-    stabilityCheckerRef.set(
-        p -> {
-          enteredLatch.countDown();
-          try {
-            new CountDownLatch(1).await(5, TimeUnit.SECONDS);
-          } catch (InterruptedException _) {
-            Thread.currentThread().interrupt();
-            interruptedLatch.countDown();
-            return false;
-          }
-          return false;
-        });
+  @DisplayName("Should interrupt processing when shut down")
+  void shouldInterruptProcessingWhenShutDown() throws Exception {
+    var path = createFile("/media/shows/Show S01E01 (2024).mkv");
+    var processing = blockSeriesProcessing();
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
-    assertThat(enteredLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    stabilize();
+    await().atMost(Duration.ofSeconds(5)).until(() -> processing.entered().getCount() == 0);
 
     eventProcessor.shutdown();
 
-    assertThat(interruptedLatch.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(processing.interrupted().await(2, TimeUnit.SECONDS)).isTrue();
   }
 
   @Test
-  @DisplayName("Should reprocess file when delete cancels in-flight check")
-  void shouldReprocessFileWhenDeleteCancelsInFlightCheck() throws Exception {
-    var path = createFile("/media/movies/Movie (2024).mkv");
-    var firstCheckEntered = new CountDownLatch(1);
-    var firstCheckBlocked = new CountDownLatch(1);
-    var secondCheckCompleted = new CountDownLatch(1);
-    var callCount = new AtomicInteger(0);
-
-    stabilityCheckerRef.set(
-        p -> {
-          var count = callCount.incrementAndGet();
-          if (count == 1) {
-            firstCheckEntered.countDown();
-            try {
-              firstCheckBlocked.await(5, TimeUnit.SECONDS);
-            } catch (InterruptedException _) {
-              Thread.currentThread().interrupt();
-              return false;
-            }
-            return false;
-          }
-          secondCheckCompleted.countDown();
-          return true;
-        });
+  @DisplayName("Should not track file again while it is being processed")
+  void shouldNotTrackFileAgainWhileItIsBeingProcessed() throws Exception {
+    var path = createFile("/media/shows/Show S01E01 (2024).mkv");
+    var processing = blockSeriesProcessing();
 
     eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
-    assertThat(firstCheckEntered.await(5, TimeUnit.SECONDS)).isTrue();
-
-    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.DELETE, path);
-    firstCheckBlocked.countDown();
+    stabilize();
+    await().atMost(Duration.ofSeconds(5)).until(() -> processing.entered().getCount() == 0);
 
-    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, path);
+    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.MODIFY, path);
 
-    assertThat(secondCheckCompleted.await(5, TimeUnit.SECONDS))
-        .as(
-            "Second stability check should complete, proving system recovered from cancelled first check")
-        .isTrue();
+    assertThat(stabilityTracker.isTracked(path)).isFalse();
   }
 
-  @Test
-  @DisplayName("Should skip stability check when path is a directory")
-  void shouldSkipStabilityCheckWhenPathIsDirectory() throws Exception {
-    var dir = fileSystem.getPath("/media/movies/Season 04");
-    Files.createDirectories(dir);
-    var stabilityCheckerCalled = new AtomicBoolean(false);
-
-    stabilityCheckerRef.set(
-        p -> {
-          stabilityCheckerCalled.set(true);
-          return true;
-        });
+  private record BlockedProcessing(CountDownLatch entered, CountDownLatch interrupted) {}
+
+  private BlockedProcessing blockSeriesProcessing() {
+    var entered = new CountDownLatch(1);
+    var interrupted = new CountDownLatch(1);
+
+    doAnswer(
+            invocation -> {
+              entered.countDown();
+              try {
+                // Bounded to prevent a test hang if cancellation fails.
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+              } catch (InterruptedException _) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+              }
+              return null;
+            })
+        .when(seriesFileProcessor)
+        .process(any(), any());
 
-    eventProcessor.handleFileEvent(DirectoryChangeEvent.EventType.CREATE, dir);
+    return new BlockedProcessing(entered, interrupted);
+  }
 
-    await()
-        .during(Duration.ofMillis(100))
-        .atMost(Duration.ofSeconds(5))
-        .untilAsserted(() -> assertThat(stabilityCheckerCalled.get()).isFalse());
+  // Arrival tick, then one more once the 10s stabilization period has passed.
+  private void stabilize() {
+    eventProcessor.tick();
+    clock.advance(Duration.ofSeconds(10));
+    eventProcessor.tick();
   }
 
   private Path createFile(String pathStr) throws IOException {
@@ -0,0 +1,240 @@
+package com.streamarr.server.services.library;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.streamarr.server.config.LibraryWatcherProperties;
+import com.streamarr.server.fakes.MutableClock;
+import com.streamarr.server.services.library.FileStabilityTracker.Failure;
+import com.streamarr.server.services.library.FileStabilityTracker.PendingFile;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("File Stability Tracker Tests")
+class FileStabilityTrackerTest {
+
+  private static final UUID LIBRARY_ID = UUID.randomUUID();
+
+  private FileSystem fileSystem;
+  private MutableClock clock;
+  private FileStabilityTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    clock = new MutableClock();
+    tracker = buildTracker(10, 5, 3600);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    fileSystem.close();
+  }
+
+  @Test
+  @DisplayName("Should report file as arrived when first advanced after tracking")
+  void shouldReportFileAsArrivedWhenFirstAdvancedAfterTracking() throws IOException {
+    var path = createFile("/arrived.mkv", 1024);
+    tracker.track(path, LIBRARY_ID);
+
+    var tick = tracker.advance();
+
+    assertThat(tick.arrived()).containsExactly(new PendingFile(path, LIBRARY_ID));
+    assertThat(tick.stabilized()).isEmpty();
+    assertThat(tracker.advance().isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should stabilize file when size holds for stabilization period")
+  void shouldStabilizeFileWhenSizeHoldsForStabilizationPeriod() throws IOException {
+    var path = createFile("/stable.mkv", 1024);
+    tracker.track(path, LIBRARY_ID);
+    tracker.advance();
+
+    assertThat(advanceBy(5).stabilized()).isEmpty();
+    assertThat(advanceBy(5).stabilized()).containsExactly(new PendingFile(path, LIBRARY_ID));
+    assertThat(tracker.pendingFiles()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should stabilize file when it stops growing")
+  void shouldStabilizeFileWhenItStopsGrowing() throws IOException {
+    var path = createFile("/growing.mkv", 100);
+    tracker.track(path, LIBRARY_ID);
+    tracker.advance();
+
+    Files.write(path, new byte[150]);
+    assertThat(advanceBy(5).stabilized()).isEmpty();
+    Files.write(path, new byte[200]);
+    assertThat(advanceBy(5).stabilized()).isEmpty();
+    assertThat(advanceBy(5).stabilized()).isEmpty();
+
+    assertThat(advanceBy(5).stabilized()).containsExactly(new PendingFile(path, LIBRARY_ID));
+  }
+
+  @Test
+  @DisplayName("Should stabilize file when it is zero bytes")
+  void shouldStabilizeFileWhenItIsZeroBytes() throws IOException {
+    var path = createFile("/empty.mkv", 0);
+    tracker.track(path, LIBRARY_ID);
+    tracker.advance();
+
+    assertThat(advanceBy(10).stabilized()).containsExactly(new PendingFile(path, LIBRARY_ID));
+  }
+
+  @Test
+  @DisplayName("Should drop file without reporting it when it does not exist")
+  void shouldDropFileWithoutReportingItWhenItDoesNotExist() {
+    var path = fileSystem.getPath("/nonexistent.mkv");
+    tracker.track(path, LIBRARY_ID);
+
+    var tick = tracker.advance();
+
+    assertThat(tick.isEmpty()).isTrue();
+    assertThat(tracker.isTracked(path)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should fail file when it is deleted while tracked")
+  void shouldFailFileWhenItIsDeletedWhileTracked() throws IOException {
+    var path = createFile("/disappearing.mkv", 1024);
+    tracker.track(path, LIBRARY_ID);
+    tracker.advance();
+
+    Files.delete(path);
+
+    assertThat(advanceBy(5).failed())
+        .containsExactly(
+            new Failure(
+                new PendingFile(path, LIBRARY_ID),
+                "File became inaccessible during stability check"));
+    assertThat(tracker.isTracked(path)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should fail file when max wait is exceeded")
+  void shouldFailFileWhenMaxWaitIsExceeded() throws IOException {
+    tracker = buildTracker(30, 5, 60);
+    var path = createFile("/forever-growing.mkv", 100);
+    tracker.track(path, LIBRARY_ID);
+    tracker.advance();
+
+    for (int poll = 1; poll < 12; poll++) {
+      Files.write(path, new byte[100 + poll * 10]);
+      assertThat(advanceBy(5).isEmpty()).isTrue();
+    }
+    Files.write(path, new byte[1000]);
+
+    assertThat(advanceBy(5).failed())
+        .containsExactly(
+            new Failure(
+                new PendingFile(path, LIBRARY_ID), "File did not stabilize within timeout"));
+  }
+
+  @Test
+  @DisplayName("Should not track file twice when it is already tracked")
+  void shouldNotTrackFileTwiceWhenItIsAlreadyTracked() throws IOException {
+    var path = createFile("/duplicate.mkv", 1024);
+
+    assertThat(tracker.track(path, LIBRARY_ID)).isTrue();
+    assertThat(tracker.track(path, LIBRARY_ID)).isFalse();
+
+    assertThat(tracker.advance().arrived()).hasSize(1);
+    assertThat(tracker.pendingFiles()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not report file when it is cancelled before first advance")
+  void shouldNotReportFileWhenItIsCancelledBeforeFirstAdvance() throws IOException {
+    var path = createFile("/cancelled.mkv", 1024);
+    tracker.track(path, LIBRARY_ID);
+
+    assertThat(tracker.cancel(path)).isTrue();
+
+    assertThat(tracker.advance().isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should not report file when it is cancelled while waiting")
+  void shouldNotReportFileWhenItIsCancelledWhileWaiting() throws IOException {
+    var path = createFile("/cancelled.mkv", 1024);
+    tracker.track(path, LIBRARY_ID);
+    tracker.advance();
+
+    tracker.cancel(path);
+
+    assertThat(advanceBy(10).isEmpty()).isTrue();
+    assertThat(tracker.track(path, LIBRARY_ID)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should check each file only when its own poll comes due")
+  void shouldCheckEachFileOnlyWhenItsOwnPollComesDue() throws IOException {
+    var first = createFile("/first.mkv", 1024);
+    var second = createFile("/second.mkv", 1024);
+    tracker.track(first, LIBRARY_ID);
+    tracker.advance();
+    clock.advance(Duration.ofSeconds(3));
+    tracker.track(second, LIBRARY_ID);
+    tracker.advance();
+
+    assertThat(advanceBy(7).stabilized()).containsExactly(new PendingFile(first, LIBRARY_ID));
+    assertThat(advanceBy(2).stabilized()).isEmpty();
+    assertThat(advanceBy(1).stabilized()).isEmpty();
+    assertThat(advanceBy(3).stabilized()).containsExactly(new PendingFile(second, LIBRARY_ID));
+  }
+
+  @Test
+  @DisplayName("Should report due files when clock jumps past a whole wheel rotation")
+  void shouldReportDueFilesWhenClockJumpsPastWholeWheelRotation() throws IOException {
+    var path = createFile("/late.mkv", 1024);
+    tracker = buildTracker(10, 5, 86_400);
+    tracker.track(path, LIBRARY_ID);
+    tracker.advance();
+
+    assertThat(advanceBy(7200).stabilized()).containsExactly(new PendingFile(path, LIBRARY_ID));
+  }
+
+  @Test
+  @DisplayName("Should forget every tracked file when cleared")
+  void shouldForgetEveryTrackedFileWhenCleared() throws IOException {
+    var waiting = createFile("/waiting.mkv", 1024);
+    var arriving = createFile("/arriving.mkv", 1024);
+    tracker.track(waiting, LIBRARY_ID);
+    tracker.advance();
+    tracker.track(arriving, LIBRARY_ID);
+
+    tracker.clear();
+
+    assertThat(tracker.pendingFiles()).isZero();
+    assertThat(advanceBy(10).isEmpty()).isTrue();
+  }
+
+  private FileStabilityTracker.Tick advanceBy(int seconds) {
+    clock.advance(Duration.ofSeconds(seconds));
+    return tracker.advance();
+  }
+
+  private Path createFile(String name, int size) throws IOException {
+    var path = fileSystem.getPath(name);
+    Files.write(path, new byte[size]);
+    return path;
+  }
+
+  private FileStabilityTracker buildTracker(
+      int stabilizationSeconds, int pollSeconds, int maxWaitSeconds) {
+    return new FileStabilityTracker(
+        clock, new LibraryWatcherProperties(stabilizationSeconds, pollSeconds, maxWaitSeconds));
+  }
+}
@@ -10,6 +10,7 @@ import com.streamarr.server.services.auth.AuthenticatedIdentity;
 import com.streamarr.server.services.authorization.Intent;
 import com.streamarr.server.services.concurrency.MutexFactoryProvider;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
+import com.streamarr.server.services.metadata.MetadataRefreshMode;
 import com.streamarr.server.services.mutation.Outcome;
 import java.util.Optional;
 import java.util.UUID;
@@ -85,12 +86,14 @@ class LibraryAdministrationServiceTest {
     var libraryId = UUID.randomUUID();
 
     libraryAdministrationService.refreshLibrary(
-        identity, libraryId, ImageRefreshMode.FORCE_REFRESH);
+        identity, libraryId, ImageRefreshMode.FORCE_REFRESH, MetadataRefreshMode.CHANGED_ONLY);
 
     assertThat(authorizationService.recordedIntents())
         .containsExactly(new Intent.RefreshLibrary(libraryId));
     assertThat(libraryManagementService.refreshRequest())
-        .contains(new RefreshRequest(libraryId, ImageRefreshMode.FORCE_REFRESH));
+        .contains(
+            new RefreshRequest(
+                libraryId, ImageRefreshMode.FORCE_REFRESH, MetadataRefreshMode.CHANGED_ONLY));
   }
 
   private static final class RecordingLibraryManagementService extends LibraryManagementService {
@@ -139,8 +142,11 @@ class LibraryAdministrationServiceTest {
     }
 
     @Override
-    public void triggerAsyncRefresh(UUID libraryId, ImageRefreshMode imageRefreshMode) {
-      refreshRequest = new RefreshRequest(libraryId, imageRefreshMode);
+    public void triggerAsyncRefresh(
+        UUID libraryId,
+        ImageRefreshMode imageRefreshMode,
+        MetadataRefreshMode metadataRefreshMode) {
+      refreshRequest = new RefreshRequest(libraryId, imageRefreshMode, metadataRefreshMode);
     }
 
     private Optional<AuthenticatedIdentity> addedIdentity() {
@@ -164,5 +170,8 @@ class LibraryAdministrationServiceTest {
     }
   }
 
-  private record RefreshRequest(UUID libraryId, ImageRefreshMode imageRefreshMode) {}
+  private record RefreshRequest(
+      UUID libraryId,
+      ImageRefreshMode imageRefreshMode,
+      MetadataRefreshMode metadataRefreshMode) {}
 }
@@ -69,6 +69,7 @@ import com.streamarr.server.services.events.library.ScanEndedEvent;
 import com.streamarr.server.services.filepath.FilepathCodec;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
 import com.streamarr.server.services.metadata.MetadataProvider;
+import com.streamarr.server.services.metadata.MetadataRefreshMode;
 import com.streamarr.server.services.metadata.MetadataResult;
 import com.streamarr.server.services.metadata.MetadataSearchOutcome.Found;
 import com.streamarr.server.services.metadata.MetadataSearchOutcome.NotFound;
@@ -92,6 +93,8 @@ import com.streamarr.server.services.parsers.video.ExternalIdVideoFileMetadataPa
 import com.streamarr.server.services.parsers.video.VideoFileParserResult;
 import com.streamarr.server.services.validation.IgnoredFileValidator;
 import com.streamarr.server.services.validation.VideoExtensionValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.FileSystem;
@@ -176,6 +179,8 @@ class LibraryManagementServiceTest {
 
   private final LibraryRefreshService libraryRefreshService = mock(LibraryRefreshService.class);
 
+  private final SimpleMeterRegistry scanMeters = new SimpleMeterRegistry();
+
   private final LibraryManagementService libraryManagementService =
       new LibraryManagementService(
           new IgnoredFileValidator(new LibraryScanProperties(null, null, null)),
@@ -192,7 +197,8 @@ class LibraryManagementServiceTest {
           libraryRefreshService,
           fileSystem,
           libraryMutationTransaction,
-          mutationTransactions);
+          mutationTransactions,
+          new LibraryScanMetrics(scanMeters, OpenTelemetry.noop()));
 
   private UUID savedLibraryId;
 
@@ -517,6 +523,33 @@ class LibraryManagementServiceTest {
     assertThat(events.getFirst().libraryId()).isEqualTo(savedLibraryId);
   }
 
+  @Test
+  @DisplayName("Should count walked files by outcome and time each stage when scan completes")
+  void shouldCountWalkedFilesByOutcomeAndTimeEachStageWhenScanCompletes() throws IOException {
+    var rootPath = createRootLibraryDirectory();
+    createMovieFile(rootPath, "About Time", "About Time (2013).mkv");
+    Files.createFile(rootPath.resolve("notes.txt"));
+    when(tmdbMovieProvider.getAgentStrategy()).thenReturn(ExternalAgentStrategy.TMDB);
+
+    libraryManagementService.scanLibrary(savedLibraryId);
+
+    assertThat(scanMeters.get(LibraryScanMetrics.FILES_WALKED_METRIC).counter().count())
+        .isEqualTo(2);
+    assertThat(scannedFiles("new")).isEqualTo(1);
+    assertThat(scannedFiles("skipped")).isEqualTo(1);
+    assertThat(scannedFiles("failed")).isZero();
+    assertThat(stageCount("walk")).isEqualTo(1);
+    assertThat(stageCount("probe")).isEqualTo(1);
+    assertThat(
+            scanMeters
+                .get(LibraryScanMetrics.SCANS_METRIC)
+                .tag("result", "success")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(libraryManagementService.getScanProgress(savedLibraryId)).isEmpty();
+  }
+
   @Test
   @DisplayName("Should not publish ScanCompletedEvent when library path is inaccessible")
   void shouldNotPublishScanCompletedEventWhenLibraryPathInaccessible() {
@@ -1493,7 +1526,8 @@ class LibraryManagementServiceTest {
     @Test
     @DisplayName("Should transition library to HEALTHY when refresh succeeds")
     void shouldTransitionToHealthyWhenRefreshSucceeds() {
-      libraryManagementService.refreshLibrary(savedLibraryId);
+      libraryManagementService.refreshLibrary(
+          savedLibraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
       var library = fakeLibraryRepository.findById(savedLibraryId).orElseThrow();
       assertThat(library.getStatus()).isEqualTo(LibraryStatus.HEALTHY);
@@ -1531,7 +1565,8 @@ class LibraryManagementServiceTest {
               fakeMovieMetadataProviderResolver);
       var service = libraryManagementServiceWithRefreshService(refreshService);
 
-      service.refreshLibrary(savedLibraryId, ImageRefreshMode.FORCE_REFRESH);
+      service.refreshLibrary(
+          savedLibraryId, ImageRefreshMode.FORCE_REFRESH, MetadataRefreshMode.FULL);
 
       assertThat(fakeMovieRepository.findById(movie.getId()).orElseThrow().getTitle())
           .isEqualTo("Refreshed");
@@ -1552,9 +1587,11 @@ class LibraryManagementServiceTest {
     void shouldTransitionToUnhealthyWhenRefreshFails() {
       doThrow(new RuntimeException("simulated refresh failure"))
           .when(libraryRefreshService)
-          .refreshLibrary(any(Library.class));
+          .refreshLibrary(
+              any(Library.class), any(ImageRefreshMode.class), any(MetadataRefreshMode.class));
 
-      libraryManagementService.refreshLibrary(savedLibraryId);
+      libraryManagementService.refreshLibrary(
+          savedLibraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
       var library = fakeLibraryRepository.findById(savedLibraryId).orElseThrow();
       assertThat(library.getStatus()).isEqualTo(LibraryStatus.UNHEALTHY);
@@ -1567,7 +1604,9 @@ class LibraryManagementServiceTest {
 
       assertThrows(
           LibraryNotFoundException.class,
-          () -> libraryManagementService.refreshLibrary(nonExistentId));
+          () ->
+              libraryManagementService.refreshLibrary(
+                  nonExistentId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL));
     }
 
     @Test
@@ -1579,7 +1618,9 @@ class LibraryManagementServiceTest {
 
       assertThrows(
           LibraryScanInProgressException.class,
-          () -> libraryManagementService.refreshLibrary(savedLibraryId));
+          () ->
+              libraryManagementService.refreshLibrary(
+                  savedLibraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL));
     }
 
     @Test
@@ -1592,13 +1633,16 @@ class LibraryManagementServiceTest {
 
       assertThrows(
           LibraryRefreshInProgressException.class,
-          () -> libraryManagementService.refreshLibrary(savedLibraryId));
+          () ->
+              libraryManagementService.refreshLibrary(
+                  savedLibraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL));
     }
 
     @Test
     @DisplayName("Should publish RefreshEndedEvent when refresh succeeds")
     void shouldPublishRefreshEndedEventWhenRefreshSucceeds() {
-      libraryManagementService.refreshLibrary(savedLibraryId);
+      libraryManagementService.refreshLibrary(
+          savedLibraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
       var events = capturingEventPublisher.getEventsOfType(RefreshEndedEvent.class);
       assertThat(events).hasSize(1);
@@ -1610,9 +1654,11 @@ class LibraryManagementServiceTest {
     void shouldPublishRefreshEndedEventWhenRefreshFails() {
       doThrow(new RuntimeException("simulated refresh failure"))
           .when(libraryRefreshService)
-          .refreshLibrary(any(Library.class));
+          .refreshLibrary(
+              any(Library.class), any(ImageRefreshMode.class), any(MetadataRefreshMode.class));
 
-      libraryManagementService.refreshLibrary(savedLibraryId);
+      libraryManagementService.refreshLibrary(
+          savedLibraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
       var events = capturingEventPublisher.getEventsOfType(RefreshEndedEvent.class);
       assertThat(events).hasSize(1);
@@ -1626,7 +1672,8 @@ class LibraryManagementServiceTest {
       library.setStatus(LibraryStatus.UNHEALTHY);
       fakeLibraryRepository.save(library);
 
-      libraryManagementService.refreshLibrary(savedLibraryId);
+      libraryManagementService.refreshLibrary(
+          savedLibraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
       var updated = fakeLibraryRepository.findById(savedLibraryId).orElseThrow();
       assertThat(updated.getStatus()).isEqualTo(LibraryStatus.HEALTHY);
@@ -1645,14 +1692,20 @@ class LibraryManagementServiceTest {
                 return null;
               })
           .when(libraryRefreshService)
-          .refreshLibrary(any(Library.class));
+          .refreshLibrary(
+              any(Library.class), any(ImageRefreshMode.class), any(MetadataRefreshMode.class));
 
-      Thread.startVirtualThread(() -> libraryManagementService.refreshLibrary(savedLibraryId));
+      Thread.startVirtualThread(
+          () ->
+              libraryManagementService.refreshLibrary(
+                  savedLibraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL));
       assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
 
       assertThrows(
           LibraryRefreshInProgressException.class,
-          () -> libraryManagementService.refreshLibrary(savedLibraryId));
+          () ->
+              libraryManagementService.refreshLibrary(
+                  savedLibraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL));
 
       release.countDown();
     }
@@ -1663,7 +1716,8 @@ class LibraryManagementServiceTest {
       var controlledRefreshService = new BlockingLibraryRefreshService();
       var service = libraryManagementServiceWithRefreshService(controlledRefreshService);
 
-      service.triggerAsyncRefresh(savedLibraryId);
+      service.triggerAsyncRefresh(
+          savedLibraryId, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
       assertThat(controlledRefreshService.awaitStarted()).isTrue();
       try {
@@ -1692,7 +1746,8 @@ class LibraryManagementServiceTest {
       var recordingRefreshService = new RecordingLibraryRefreshService();
       var service = libraryManagementServiceWithRefreshService(recordingRefreshService);
 
-      service.triggerAsyncRefresh(savedLibraryId, ImageRefreshMode.REFRESH_IF_CHANGED);
+      service.triggerAsyncRefresh(
+          savedLibraryId, ImageRefreshMode.REFRESH_IF_CHANGED, MetadataRefreshMode.FULL);
 
       assertThat(capturingEventPublisher.awaitRefreshEnded()).isTrue();
       assertThat(recordingRefreshService.imageRefreshMode())
@@ -1734,7 +1789,10 @@ class LibraryManagementServiceTest {
     }
 
     @Override
-    public void refreshLibrary(Library library) {
+    public void refreshLibrary(
+        Library library,
+        ImageRefreshMode imageRefreshMode,
+        MetadataRefreshMode metadataRefreshMode) {
       executingThread.set(Thread.currentThread());
       started.countDown();
       try {
@@ -1773,7 +1831,10 @@ class LibraryManagementServiceTest {
     }
 
     @Override
-    public void refreshLibrary(Library library, ImageRefreshMode requestedImageRefreshMode) {
+    public void refreshLibrary(
+        Library library,
+        ImageRefreshMode requestedImageRefreshMode,
+        MetadataRefreshMode metadataRefreshMode) {
       imageRefreshMode.set(requestedImageRefreshMode);
     }
 
@@ -1782,6 +1843,18 @@ class LibraryManagementServiceTest {
     }
   }
 
+  private double scannedFiles(String outcome) {
+    return scanMeters
+        .get(LibraryScanMetrics.FILES_METRIC)
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private long stageCount(String stage) {
+    return scanMeters.get(LibraryScanMetrics.STAGE_METRIC).tag("stage", stage).timer().count();
+  }
+
   private Path createRootLibraryDirectory() throws IOException {
     var library = fakeLibraryRepository.findById(savedLibraryId);
 
@@ -1832,7 +1905,8 @@ class LibraryManagementServiceTest {
         libraryRefreshService,
         alternateFileSystem,
         libraryMutationTransaction,
-        mutationTransactions);
+        mutationTransactions,
+        LibraryScanMetrics.noop());
   }
 
   private LibraryManagementService libraryManagementServiceWith(
@@ -1852,7 +1926,8 @@ class LibraryManagementServiceTest {
         libraryRefreshService,
         fileSystem,
         libraryMutationTransaction,
-        mutationTransactions);
+        mutationTransactions,
+        LibraryScanMetrics.noop());
   }
 
   private LibraryManagementService libraryManagementServiceWithRefreshService(
@@ -1872,7 +1947,8 @@ class LibraryManagementServiceTest {
         refreshService,
         fileSystem,
         libraryMutationTransaction,
-        mutationTransactions);
+        mutationTransactions,
+        LibraryScanMetrics.noop());
   }
 
   private Path pathWithDisplayName(String filepathUri, String displayName) throws IOException {
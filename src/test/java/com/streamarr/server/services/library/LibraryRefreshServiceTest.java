@@ -6,6 +6,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.jimfs.Configuration;
@@ -17,10 +19,12 @@ import com.streamarr.server.domain.ExternalSourceType;
 import com.streamarr.server.domain.Library;
 import com.streamarr.server.domain.LibraryBackend;
 import com.streamarr.server.domain.LibraryStatus;
+import com.streamarr.server.domain.media.Episode;
 import com.streamarr.server.domain.media.ImageEntityType;
 import com.streamarr.server.domain.media.ImageType;
 import com.streamarr.server.domain.media.MediaType;
 import com.streamarr.server.domain.media.Movie;
+import com.streamarr.server.domain.media.Season;
 import com.streamarr.server.domain.media.Series;
 import com.streamarr.server.domain.metadata.Company;
 import com.streamarr.server.domain.metadata.Person;
@@ -42,20 +46,25 @@ import com.streamarr.server.services.PersonService;
 import com.streamarr.server.services.SeriesService;
 import com.streamarr.server.services.metadata.ImageRefreshMode;
 import com.streamarr.server.services.metadata.ImageVariantService;
+import com.streamarr.server.services.metadata.MetadataRefreshMode;
 import com.streamarr.server.services.metadata.MetadataResult;
 import com.streamarr.server.services.metadata.RemoteSearchResult;
+import com.streamarr.server.services.metadata.TmdbCacheMode;
 import com.streamarr.server.services.metadata.events.ImageSource.TmdbImageSource;
 import com.streamarr.server.services.metadata.events.MetadataEnrichedEvent;
 import com.streamarr.server.services.metadata.movie.MovieMetadataProviderResolver;
 import com.streamarr.server.services.metadata.series.SeasonDetails;
 import com.streamarr.server.services.metadata.series.SeriesMetadataProviderResolver;
 import com.streamarr.server.services.pagination.PaginationService;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -148,7 +157,7 @@ class LibraryRefreshServiceTest {
     stubSeriesMetadata("60059", "Better Call Saul (Updated)", library);
     when(seriesProviderResolver.getAvailableSeasonNumbers(any(), any())).thenReturn(List.of());
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(seriesRepository.findById(series1.getId()).orElseThrow().getTitle())
         .isEqualTo("Breaking Bad (Updated)");
@@ -163,7 +172,7 @@ class LibraryRefreshServiceTest {
     var series =
         seriesRepository.save(Series.builder().title("No TMDB ID").library(library).build());
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(seriesRepository.findById(series.getId()).orElseThrow().getTitle())
         .isEqualTo("No TMDB ID");
@@ -181,7 +190,7 @@ class LibraryRefreshServiceTest {
     stubSeriesMetadata("1396", "Working Series (Updated)", library);
     when(seriesProviderResolver.getAvailableSeasonNumbers(any(), any())).thenReturn(List.of());
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(seriesRepository.findById(failingSeries.getId()).orElseThrow().getTitle())
         .isEqualTo("Failing Series");
@@ -201,7 +210,7 @@ class LibraryRefreshServiceTest {
     stubSeriesMetadata("1396", "Working Series (Updated)", library);
     when(seriesProviderResolver.getAvailableSeasonNumbers(any(), any())).thenReturn(List.of());
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(seriesRepository.findById(explodingSeries.getId()).orElseThrow().getTitle())
         .isEqualTo("Exploding Series");
@@ -226,7 +235,7 @@ class LibraryRefreshServiceTest {
                             .build()))
                 .build());
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(seriesRepository.findById(series.getId()).orElseThrow().getTitle())
         .isEqualTo("IMDB-only Series");
@@ -260,7 +269,7 @@ class LibraryRefreshServiceTest {
     when(seriesProviderResolver.getSeasonDetails(library, "1396", 1))
         .thenReturn(Optional.of(seasonDetails));
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     var seasons = seasonRepository.findBySeriesIdOrderBySeasonNumber(series.getId());
     assertThat(seasons).hasSize(1);
@@ -303,7 +312,8 @@ class LibraryRefreshServiceTest {
                                 .build()))
                     .build()));
 
-    refreshService.refreshLibrary(library, ImageRefreshMode.REFRESH_IF_CHANGED);
+    refreshService.refreshLibrary(
+        library, ImageRefreshMode.REFRESH_IF_CHANGED, MetadataRefreshMode.FULL);
 
     assertThat(eventPublisher.getEventsOfType(MetadataEnrichedEvent.class))
         .hasSize(3)
@@ -326,7 +336,7 @@ class LibraryRefreshServiceTest {
     when(movieProviderResolver.getMetadata(argThatHasExternalId("27205"), eq(library)))
         .thenReturn(Optional.of(new MetadataResult<>(freshMovie, List.of(), Map.of(), Map.of())));
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(movieRepository.findById(movie.getId()).orElseThrow().getTitle())
         .isEqualTo("Inception (Updated)");
@@ -363,7 +373,8 @@ class LibraryRefreshServiceTest {
                             List.of(new TmdbImageSource(ImageType.LOGO, "/studio.jpg"))))
                     .build()));
 
-    refreshService.refreshLibrary(library, ImageRefreshMode.FORCE_REFRESH);
+    refreshService.refreshLibrary(
+        library, ImageRefreshMode.FORCE_REFRESH, MetadataRefreshMode.FULL);
 
     assertThat(eventPublisher.getEventsOfType(MetadataEnrichedEvent.class))
         .hasSize(3)
@@ -380,7 +391,7 @@ class LibraryRefreshServiceTest {
     var library = buildMovieLibrary();
     var movie = movieRepository.save(Movie.builder().title("No TMDB ID").library(library).build());
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(movieRepository.findById(movie.getId()).orElseThrow().getTitle())
         .isEqualTo("No TMDB ID");
@@ -399,7 +410,10 @@ class LibraryRefreshServiceTest {
             .externalAgentStrategy(ExternalAgentStrategy.TMDB)
             .build();
 
-    assertThatThrownBy(() -> refreshService.refreshLibrary(library))
+    assertThatThrownBy(
+            () ->
+                refreshService.refreshLibrary(
+                    library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL))
         .isInstanceOf(UnsupportedMediaTypeException.class);
   }
 
@@ -425,7 +439,7 @@ class LibraryRefreshServiceTest {
     when(seriesProviderResolver.getSeasonDetails(library, "1396", 2))
         .thenReturn(Optional.of(seasonDetails));
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     var seasons = seasonRepository.findBySeriesIdOrderBySeasonNumber(series.getId());
     assertThat(seasons).hasSize(1);
@@ -441,7 +455,7 @@ class LibraryRefreshServiceTest {
     when(movieProviderResolver.getMetadata(argThatHasExternalId("27205"), eq(library)))
         .thenReturn(Optional.empty());
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(movieRepository.findById(movie.getId()).orElseThrow().getTitle())
         .isEqualTo("Inception");
@@ -461,7 +475,7 @@ class LibraryRefreshServiceTest {
     when(movieProviderResolver.getMetadata(argThatHasExternalId("27205"), eq(library)))
         .thenReturn(Optional.of(new MetadataResult<>(freshMovie, List.of(), Map.of(), Map.of())));
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(movieRepository.findById(failingMovie.getId()).orElseThrow().getTitle())
         .isEqualTo("Failing Movie");
@@ -474,7 +488,7 @@ class LibraryRefreshServiceTest {
   void shouldCompleteSuccessfullyWhenSeriesLibraryHasNoItems() {
     var library = buildSeriesLibrary();
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(seriesRepository.findAll()).isEmpty();
     assertThat(seasonRepository.findAll()).isEmpty();
@@ -485,7 +499,7 @@ class LibraryRefreshServiceTest {
   void shouldCompleteSuccessfullyWhenMovieLibraryHasNoItems() {
     var library = buildMovieLibrary();
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(movieRepository.findAll()).isEmpty();
   }
@@ -511,11 +525,172 @@ class LibraryRefreshServiceTest {
                     .episodes(List.of())
                     .build()));
 
-    refreshService.refreshLibrary(library);
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
 
     assertThat(seasonRepository.findBySeriesIdOrderBySeasonNumber(series.getId())).isEmpty();
   }
 
+  @Test
+  @DisplayName("Should fetch seasons concurrently when series has several seasons")
+  void shouldFetchSeasonsConcurrentlyWhenSeriesHasSeveralSeasons() {
+    var library = buildSeriesLibrary();
+    var series = saveSeriesWithTmdbId("Breaking Bad", "1396", library);
+
+    stubSeriesMetadata("1396", "Breaking Bad", library);
+    when(seriesProviderResolver.getAvailableSeasonNumbers(library, "1396"))
+        .thenReturn(List.of(1, 2));
+    // Each fetch only answers once both are in flight, so a sequential loop would time out.
+    var inFlight = new CountDownLatch(2);
+    for (var seasonNumber : List.of(1, 2)) {
+      when(seriesProviderResolver.getSeasonDetails(library, "1396", seasonNumber))
+          .thenAnswer(
+              invocation -> {
+                inFlight.countDown();
+                if (!inFlight.await(5, TimeUnit.SECONDS)) {
+                  return Optional.empty();
+                }
+                return Optional.of(
+                    SeasonDetails.builder()
+                        .name("Season " + seasonNumber)
+                        .seasonNumber(seasonNumber)
+                        .imageSources(List.of())
+                        .episodes(
+                            List.of(
+                                SeasonDetails.EpisodeDetails.builder()
+                                    .episodeNumber(1)
+                                    .name("Episode " + seasonNumber + "x1")
+                                    .imageSources(List.of())
+                                    .build()))
+                        .build());
+              });
+    }
+
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
+
+    var seasons = seasonRepository.findBySeriesIdOrderBySeasonNumber(series.getId());
+    assertThat(seasons).extracting(Season::getTitle).containsExactly("Season 1", "Season 2");
+    assertThat(episodeRepository.findBySeasonIdOrderByEpisodeNumber(seasons.get(1).getId()))
+        .extracting(Episode::getTitle)
+        .containsExactly("Episode 2x1");
+  }
+
+  @Test
+  @DisplayName("Should refresh only changed movies when changed-only refresh has a sync watermark")
+  void shouldRefreshOnlyChangedMoviesWhenChangedOnlyRefreshHasSyncWatermark() {
+    var lastSync = Instant.parse("2026-10-01T00:00:00Z");
+    var library = buildMovieLibrary();
+    library.setMetadataSyncedOn(lastSync);
+    var changed = saveMovieWithTmdbId("Inception", "27205", library);
+    var unchanged = saveMovieWithTmdbId("Interstellar", "157336", library);
+
+    when(movieProviderResolver.getChangedExternalIds(library, lastSync))
+        .thenReturn(Optional.of(Set.of("27205", "550")));
+    stubMovieMetadata("27205", "Inception (Updated)", library);
+    stubMovieMetadata("157336", "Interstellar (Updated)", library);
+
+    refreshService.refreshLibrary(
+        library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.CHANGED_ONLY);
+
+    assertThat(movieRepository.findById(changed.getId()).orElseThrow().getTitle())
+        .isEqualTo("Inception (Updated)");
+    assertThat(movieRepository.findById(unchanged.getId()).orElseThrow().getTitle())
+        .isEqualTo("Interstellar");
+    verify(movieProviderResolver, never())
+        .getMetadata(argThatHasExternalId("157336"), eq(library));
+    assertThat(library.getMetadataSyncedOn()).isAfter(lastSync);
+  }
+
+  @Test
+  @DisplayName("Should refresh every series when changed-only refresh finds no change feed")
+  void shouldRefreshEverySeriesWhenChangedOnlyRefreshFindsNoChangeFeed() {
+    var lastSync = Instant.parse("2026-08-01T00:00:00Z");
+    var library = buildSeriesLibrary();
+    library.setMetadataSyncedOn(lastSync);
+    var series = saveSeriesWithTmdbId("Breaking Bad", "1396", library);
+
+    when(seriesProviderResolver.getChangedExternalIds(library, lastSync))
+        .thenReturn(Optional.empty());
+    stubSeriesMetadata("1396", "Breaking Bad (Updated)", library);
+    when(seriesProviderResolver.getAvailableSeasonNumbers(any(), any())).thenReturn(List.of());
+
+    refreshService.refreshLibrary(
+        library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.CHANGED_ONLY);
+
+    assertThat(seriesRepository.findById(series.getId()).orElseThrow().getTitle())
+        .isEqualTo("Breaking Bad (Updated)");
+    assertThat(library.getMetadataSyncedOn()).isAfter(lastSync);
+  }
+
+  @Test
+  @DisplayName("Should refresh every movie without asking for changes when library never synced")
+  void shouldRefreshEveryMovieWithoutAskingForChangesWhenLibraryNeverSynced() {
+    var library = buildMovieLibrary();
+    var movie = saveMovieWithTmdbId("Inception", "27205", library);
+    stubMovieMetadata("27205", "Inception (Updated)", library);
+    var before = Instant.now();
+
+    refreshService.refreshLibrary(
+        library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.CHANGED_ONLY);
+
+    assertThat(movieRepository.findById(movie.getId()).orElseThrow().getTitle())
+        .isEqualTo("Inception (Updated)");
+    verify(movieProviderResolver, never()).getChangedExternalIds(any(), any());
+    assertThat(library.getMetadataSyncedOn()).isAfterOrEqualTo(before);
+  }
+
+  @Test
+  @DisplayName("Should keep the sync watermark when an item fails to refresh")
+  void shouldKeepSyncWatermarkWhenItemFailsToRefresh() {
+    var lastSync = Instant.parse("2026-10-01T00:00:00Z");
+    var library = buildMovieLibrary();
+    library.setMetadataSyncedOn(lastSync);
+    saveMovieWithTmdbId("Inception", "27205", library);
+
+    when(movieProviderResolver.getChangedExternalIds(library, lastSync))
+        .thenReturn(Optional.of(Set.of("27205")));
+    when(movieProviderResolver.getMetadata(argThatHasExternalId("27205"), eq(library)))
+        .thenReturn(Optional.empty());
+
+    refreshService.refreshLibrary(
+        library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.CHANGED_ONLY);
+
+    assertThat(library.getMetadataSyncedOn()).isEqualTo(lastSync);
+  }
+
+  @Test
+  @DisplayName("Should not leave a stale cached movie behind the sync watermark after full refresh")
+  void shouldNotLeaveStaleCachedMovieBehindSyncWatermarkAfterFullRefresh() {
+    var library = buildMovieLibrary();
+    var movie = saveMovieWithTmdbId("Inception", "27205", library);
+    var staleMovie = Movie.builder().title("Inception").titleSort("inception").build();
+    var freshMovie =
+        Movie.builder().title("Inception (Updated)").titleSort("inception (updated)").build();
+    // A cached body still within its max-stale TTL, answered unless the request revalidates.
+    when(movieProviderResolver.getMetadata(argThatHasExternalId("27205"), eq(library)))
+        .thenAnswer(
+            invocation ->
+                Optional.of(
+                    new MetadataResult<>(
+                        TmdbCacheMode.current() == TmdbCacheMode.REVALIDATE
+                            ? freshMovie
+                            : staleMovie,
+                        List.of(),
+                        Map.of(),
+                        Map.of())));
+
+    refreshService.refreshLibrary(library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.FULL);
+
+    var watermark = library.getMetadataSyncedOn();
+    when(movieProviderResolver.getChangedExternalIds(library, watermark))
+        .thenReturn(Optional.of(Set.of()));
+
+    refreshService.refreshLibrary(
+        library, ImageRefreshMode.PRESERVE, MetadataRefreshMode.CHANGED_ONLY);
+
+    assertThat(movieRepository.findById(movie.getId()).orElseThrow().getTitle())
+        .isEqualTo("Inception (Updated)");
+  }
+
   private Library buildSeriesLibrary() {
     return Library.builder()
         .id(UUID.randomUUID())
@@ -569,6 +744,12 @@ class LibraryRefreshServiceTest {
         .thenReturn(Optional.of(new MetadataResult<>(freshSeries, List.of(), Map.of(), Map.of())));
   }
 
+  private void stubMovieMetadata(String tmdbId, String freshTitle, Library library) {
+    var freshMovie = Movie.builder().title(freshTitle).titleSort(freshTitle.toLowerCase()).build();
+    when(movieProviderResolver.getMetadata(argThatHasExternalId(tmdbId), eq(library)))
+        .thenReturn(Optional.of(new MetadataResult<>(freshMovie, List.of(), Map.of(), Map.of())));
+  }
+
   private static <T> T argThatHasExternalId(String externalId) {
     return argThat(
         arg -> {
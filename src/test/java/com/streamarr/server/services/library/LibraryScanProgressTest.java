@@ -0,0 +1,221 @@
+package com.streamarr.server.services.library;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.streamarr.server.domain.Library;
+import com.streamarr.server.fakes.CapturingSpanExporter;
+import com.streamarr.server.fixtures.LibraryFixtureCreator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("Library Scan Progress Tests")
+class LibraryScanProgressTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final LibraryScanMetrics metrics =
+      new LibraryScanMetrics(meterRegistry, OpenTelemetry.noop());
+
+  @Test
+  @DisplayName("Should run work untimed when the calling thread is not scanning")
+  void shouldRunWorkUntimedWhenCallingThreadIsNotScanning() {
+    var result = LibraryScanProgress.timeStage(ScanStage.PARSE, () -> "parsed");
+
+    assertThat(result).isEqualTo("parsed");
+    assertThat(stageCount("parse")).isZero();
+    assertThat(LibraryScanProgress.current()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should attribute stage time to the scan when work is carried to another thread")
+  void shouldAttributeStageTimeToScanWhenWorkIsCarriedToAnotherThread() {
+    var scan = metrics.start(library());
+
+    scan.run(
+        () -> {
+          var thread =
+              Thread.startVirtualThread(
+                  LibraryScanProgress.carryCurrent(
+                      () -> LibraryScanProgress.timeStage(ScanStage.IMAGES, () -> {})));
+          joinUninterruptibly(thread);
+        });
+
+    assertThat(stageCount("images")).isEqualTo(1);
+    assertThat(LibraryScanProgress.current()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should not leave the scan on a pool thread when the pool starts it during a scan")
+  void shouldNotLeaveScanOnPoolThreadWhenPoolStartsItDuringScan() throws Exception {
+    var scan = metrics.start(library());
+    var seenByPoolThread = new AtomicReference<Boolean>();
+
+    try (var pool = Executors.newSingleThreadExecutor()) {
+      scan.run(() -> pool.submit(() -> {}));
+      pool.submit(() -> seenByPoolThread.set(LibraryScanProgress.current().isPresent())).get();
+    }
+
+    assertThat(seenByPoolThread).hasValue(false);
+  }
+
+  @Test
+  @DisplayName("Should keep per-file spans out of the scan trace when files settle quickly")
+  void shouldKeepPerFileSpansOutOfScanTraceWhenFilesSettleQuickly() {
+    var exporter = new CapturingSpanExporter();
+    var library = library();
+
+    try (var tracerProvider = tracerProvider(exporter)) {
+      var tracedMetrics = tracedMetrics(tracerProvider);
+      var scan = tracedMetrics.start(library);
+      for (var index = 0; index < 3; index++) {
+        scan.traceFile(
+            "Movie " + index + " (2024).mkv",
+            () -> {
+              LibraryScanProgress.timeStage(ScanStage.PARSE, () -> {});
+              return ScanFileOutcome.NEW;
+            });
+      }
+      tracedMetrics.finish(library, scan, null);
+    }
+
+    assertThat(exporter.spans())
+        .singleElement()
+        .satisfies(
+            span -> {
+              assertThat(span.getName()).isEqualTo(LibraryScanMetrics.SCAN_SPAN);
+              assertThat(span.getTotalRecordedEvents()).isZero();
+              assertThat(span.getAttributes().asMap())
+                  .containsKey(AttributeKey.longKey("library.scan.stage.parse.ms"));
+            });
+  }
+
+  @Test
+  @DisplayName("Should trace a failed file on its own linked to the scan when processing throws")
+  void shouldTraceFailedFileOnItsOwnLinkedToScanWhenProcessingThrows() {
+    var exporter = new CapturingSpanExporter();
+    var library = library();
+
+    try (var tracerProvider = tracerProvider(exporter)) {
+      var tracedMetrics = tracedMetrics(tracerProvider);
+      var scan = tracedMetrics.start(library);
+      assertThatThrownBy(
+              () ->
+                  scan.traceFile(
+                      "Broken (2024).mkv",
+                      () -> {
+                        throw new IllegalStateException("simulated failure");
+                      }))
+          .isInstanceOf(IllegalStateException.class);
+      tracedMetrics.finish(library, scan, null);
+    }
+
+    var scanSpan = spanNamed(exporter, LibraryScanMetrics.SCAN_SPAN);
+    var fileSpan = spanNamed(exporter, LibraryScanMetrics.FILE_SPAN);
+    assertThat(fileSpan.getTraceId()).isNotEqualTo(scanSpan.getTraceId());
+    assertThat(fileSpan.getParentSpanContext().isValid()).isFalse();
+    assertThat(fileSpan.getLinks())
+        .extracting(LinkData::getSpanContext)
+        .containsExactly(scanSpan.getSpanContext());
+    assertThat(fileSpan.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    assertThat(fileSpan.getAttributes().get(LibraryScanMetrics.FILE_NAME))
+        .isEqualTo("Broken (2024).mkv");
+    assertThat(fileSpan.getAttributes().get(LibraryScanMetrics.FILE_OUTCOME)).isEqualTo("failed");
+  }
+
+  @Test
+  @DisplayName("Should settle file as failed when processing throws")
+  void shouldSettleFileAsFailedWhenProcessingThrows() {
+    var scan = metrics.start(library());
+
+    assertThatThrownBy(
+            () ->
+                scan.traceFile(
+                    "Broken (2024).mkv",
+                    () -> {
+                      throw new IllegalStateException("simulated failure");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(scan.filesProcessed()).isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get(LibraryScanMetrics.FILES_METRIC)
+                .tag("outcome", "failed")
+                .counter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should split TMDB requests by cache result when recording requests")
+  void shouldSplitTmdbRequestsByCacheResultWhenRecordingRequests() {
+    var scan = metrics.start(library());
+
+    scan.recordTmdbRequest(true);
+    scan.recordTmdbRequest(false);
+    scan.recordTmdbRequest(false);
+
+    assertThat(tmdbRequests("hit")).isEqualTo(1);
+    assertThat(tmdbRequests("miss")).isEqualTo(2);
+    assertThat(scan.summary()).contains("tmdb requests=3 (cache hits=1)");
+  }
+
+  private static SdkTracerProvider tracerProvider(CapturingSpanExporter exporter) {
+    return SdkTracerProvider.builder()
+        .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+        .build();
+  }
+
+  private LibraryScanMetrics tracedMetrics(SdkTracerProvider tracerProvider) {
+    return new LibraryScanMetrics(
+        meterRegistry, OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build());
+  }
+
+  private static SpanData spanNamed(CapturingSpanExporter exporter, String name) {
+    return exporter.spans().stream()
+        .filter(span -> span.getName().equals(name))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static Library library() {
+    var library = LibraryFixtureCreator.buildFakeLibrary();
+    library.setId(UUID.randomUUID());
+    return library;
+  }
+
+  private static void joinUninterruptibly(Thread thread) {
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private long stageCount(String stage) {
+    return meterRegistry.get(LibraryScanMetrics.STAGE_METRIC).tag("stage", stage).timer().count();
+  }
+
+  private double tmdbRequests(String cache) {
+    return meterRegistry
+        .get(LibraryScanMetrics.TMDB_REQUESTS_METRIC)
+        .tag("cache", cache)
+        .counter()
+        .count();
+  }
+}
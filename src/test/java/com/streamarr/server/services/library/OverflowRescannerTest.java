@@ -0,0 +1,214 @@
+package com.streamarr.server.services.library;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.streamarr.server.domain.media.MediaFile;
+import com.streamarr.server.domain.media.MediaFileStatus;
+import com.streamarr.server.fakes.FakeMediaFileRepository;
+import com.streamarr.server.services.filepath.FilepathCodec;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("Overflow Rescanner Tests")
+class OverflowRescannerTest {
+
+  private static final UUID LIBRARY_ID = UUID.randomUUID();
+  private static final Executor DIRECT = Runnable::run;
+
+  private FileSystem fileSystem;
+  private AtomicInteger walks;
+  private FakeMediaFileRepository mediaFileRepository;
+  private List<Path> reported;
+  private OverflowRescanner rescanner;
+
+  @BeforeEach
+  void setUp() {
+    fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    walks = new AtomicInteger();
+    mediaFileRepository =
+        new FakeMediaFileRepository() {
+          @Override
+          public List<MediaFile> findByLibraryId(UUID libraryId) {
+            walks.incrementAndGet();
+            return super.findByLibraryId(libraryId);
+          }
+        };
+    reported = new ArrayList<>();
+    rescanner = buildRescanner(OverflowRescanner.MAX_FILES);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    fileSystem.close();
+  }
+
+  @Test
+  @DisplayName("Should report only files missing from library when subtree is rescanned")
+  void shouldReportOnlyFilesMissingFromLibraryWhenSubtreeIsRescanned() throws IOException {
+    var root = fileSystem.getPath("/media/shows/Show");
+    var known = createFile("/media/shows/Show/Season 1/Show - S01E01.mkv");
+    var missed = createFile("/media/shows/Show/Season 1/Show - S01E02.mkv");
+    var outside = createFile("/media/shows/Other/Other - S01E01.mkv");
+    saveMediaFile(known);
+
+    rescanner.request(root, LIBRARY_ID);
+    settle();
+
+    assertThat(reported).containsExactly(missed).doesNotContain(outside);
+  }
+
+  @Test
+  @DisplayName("Should wait for burst to settle when overflow requested")
+  void shouldWaitForBurstToSettleWhenOverflowRequested() throws IOException {
+    var root = createFile("/media/movies/Movie (2024).mkv").getParent();
+
+    rescanner.request(root, LIBRARY_ID);
+    for (int tick = 1; tick < OverflowRescanner.SETTLE_TICKS; tick++) {
+      rescanner.tick(DIRECT);
+    }
+
+    assertThat(walks).hasValue(0);
+
+    rescanner.tick(DIRECT);
+
+    assertThat(walks).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should walk once when overflows repeat for the same subtree")
+  void shouldWalkOnceWhenOverflowsRepeatForSameSubtree() throws IOException {
+    var root = createFile("/media/movies/Movie (2024).mkv").getParent();
+
+    rescanner.request(root, LIBRARY_ID);
+    rescanner.tick(DIRECT);
+    rescanner.request(root, LIBRARY_ID);
+    rescanner.request(root.resolve("Extras"), LIBRARY_ID);
+    settle();
+    settle();
+
+    assertThat(walks).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should fold queued subdirectory into ancestor when ancestor overflows")
+  void shouldFoldQueuedSubdirectoryIntoAncestorWhenAncestorOverflows() throws IOException {
+    var file = createFile("/media/movies/Collection/Movie (2024).mkv");
+
+    rescanner.request(file.getParent(), LIBRARY_ID);
+    rescanner.request(fileSystem.getPath("/media/movies"), LIBRARY_ID);
+    settle();
+
+    assertThat(walks).hasValue(1);
+    assertThat(reported).containsExactly(file);
+  }
+
+  @Test
+  @DisplayName("Should walk again when overflow arrives during walk")
+  void shouldWalkAgainWhenOverflowArrivesDuringWalk() throws IOException {
+    var root = createFile("/media/movies/Movie (2024).mkv").getParent();
+    var started = new ArrayList<Runnable>();
+
+    rescanner.request(root, LIBRARY_ID);
+    for (int tick = 0; tick < OverflowRescanner.SETTLE_TICKS; tick++) {
+      rescanner.tick(started::add);
+    }
+    rescanner.request(root, LIBRARY_ID);
+    rescanner.request(root, LIBRARY_ID);
+    started.getFirst().run();
+    settle();
+
+    assertThat(started).hasSize(1);
+    assertThat(walks).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should walk eventually when overflows keep arriving")
+  void shouldWalkEventuallyWhenOverflowsKeepArriving() throws IOException {
+    var root = createFile("/media/movies/Movie (2024).mkv").getParent();
+
+    for (int tick = 0; tick < OverflowRescanner.MAX_SETTLE_TICKS; tick++) {
+      rescanner.request(root, LIBRARY_ID);
+      rescanner.tick(DIRECT);
+    }
+
+    assertThat(walks).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should stop walking when file limit is reached")
+  void shouldStopWalkingWhenFileLimitIsReached() throws IOException {
+    rescanner = buildRescanner(2);
+    for (int i = 1; i <= 5; i++) {
+      createFile("/media/movies/Movie " + i + " (2024).mkv");
+    }
+
+    rescanner.request(fileSystem.getPath("/media/movies"), LIBRARY_ID);
+    settle();
+
+    assertThat(reported).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("Should skip walk when overflowed directory no longer exists")
+  void shouldSkipWalkWhenOverflowedDirectoryNoLongerExists() {
+    rescanner.request(fileSystem.getPath("/media/movies/Gone"), LIBRARY_ID);
+    settle();
+
+    assertThat(walks).hasValue(0);
+    assertThat(reported).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should drop queued rescans when cleared")
+  void shouldDropQueuedRescansWhenCleared() throws IOException {
+    var root = createFile("/media/movies/Movie (2024).mkv").getParent();
+    rescanner.request(root, LIBRARY_ID);
+
+    rescanner.clear();
+    settle();
+
+    assertThat(walks).hasValue(0);
+  }
+
+  private void settle() {
+    for (int tick = 0; tick < OverflowRescanner.SETTLE_TICKS; tick++) {
+      rescanner.tick(DIRECT);
+    }
+  }
+
+  private OverflowRescanner buildRescanner(int maxFiles) {
+    return new OverflowRescanner(mediaFileRepository, reported::add, maxFiles);
+  }
+
+  private Path createFile(String name) throws IOException {
+    var path = fileSystem.getPath(name);
+    Files.createDirectories(path.getParent());
+    Files.createFile(path);
+    return path;
+  }
+
+  private void saveMediaFile(Path path) {
+    mediaFileRepository.save(
+        MediaFile.builder()
+            .filename(path.getFileName().toString())
+            .filepathUri(FilepathCodec.encode(path))
+            .libraryId(LIBRARY_ID)
+            .status(MediaFileStatus.MATCHED)
+            .build());
+  }
+}
@@ -0,0 +1,63 @@
+package com.streamarr.server.services.library;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.methvin.watcher.hashing.FileHasher;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@Tag("UnitTest")
+@DisplayName("Scan Index File Hasher Tests")
+class ScanIndexFileHasherTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("Should answer from the index when an indexed file is first hashed")
+  void shouldAnswerFromIndexWhenIndexedFileIsFirstHashed() throws IOException {
+    var file = Files.createFile(tempDir.resolve("Show - S01E01.mkv"));
+    var hasher = new ScanIndexFileHasher(List.of(file));
+
+    assertThat(hasher.hash(file)).isEqualTo(ScanIndexFileHasher.INDEXED);
+  }
+
+  @Test
+  @DisplayName("Should hash by modified time when an indexed file is hashed again")
+  void shouldHashByModifiedTimeWhenIndexedFileIsHashedAgain() throws IOException {
+    var file = Files.createFile(tempDir.resolve("Show - S01E01.mkv"));
+    var hasher = new ScanIndexFileHasher(List.of(file));
+
+    var first = hasher.hash(file);
+    var second = hasher.hash(file);
+
+    assertThat(second)
+        .isNotEqualTo(first)
+        .isEqualTo(FileHasher.LAST_MODIFIED_TIME.hash(file));
+  }
+
+  @Test
+  @DisplayName("Should hash by modified time when the file is not indexed")
+  void shouldHashByModifiedTimeWhenFileIsNotIndexed() throws IOException {
+    var file = Files.createFile(tempDir.resolve("Show - S01E01.srt"));
+    var hasher = new ScanIndexFileHasher(List.of());
+
+    assertThat(hasher.hash(file)).isEqualTo(FileHasher.LAST_MODIFIED_TIME.hash(file));
+  }
+
+  @Test
+  @DisplayName("Should hash by modified time when the index has been discarded")
+  void shouldHashByModifiedTimeWhenIndexHasBeenDiscarded() throws IOException {
+    var file = Files.createFile(tempDir.resolve("Show - S01E01.mkv"));
+    var hasher = new ScanIndexFileHasher(List.of(file));
+
+    hasher.discardIndex();
+
+    assertThat(hasher.hash(file)).isEqualTo(FileHasher.LAST_MODIFIED_TIME.hash(file));
+  }
+}
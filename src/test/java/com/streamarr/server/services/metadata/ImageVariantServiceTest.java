@@ -5,19 +5,23 @@ import static com.streamarr.server.fakes.TestImages.createTestImage;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.data.Offset.offset;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
+import com.streamarr.server.config.ImageProperties;
 import com.streamarr.server.domain.media.AmbientColors;
+import com.streamarr.server.domain.media.ImageFormat;
 import com.streamarr.server.domain.media.ImageSize;
 import com.streamarr.server.domain.media.ImageType;
 import com.streamarr.server.exceptions.ImageProcessingException;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.Optional;
 import javax.imageio.ImageIO;
 import lombok.Builder;
@@ -47,6 +51,53 @@ class ImageVariantServiceTest {
             ImageSize.SMALL, ImageSize.MEDIUM, ImageSize.LARGE, ImageSize.ORIGINAL);
   }
 
+  @Test
+  @DisplayName("Should encode every variant as JPEG when no formats are configured")
+  void shouldEncodeEveryVariantAsJpegWhenNoFormatsAreConfigured() {
+    var imageData = createTestImage(600, 900);
+
+    var variants = imageVariantService.generateVariants(imageData, ImageType.POSTER);
+
+    assertThat(variants)
+        .extracting(ImageVariantService.GeneratedVariant::format)
+        .containsOnly(ImageFormat.JPEG);
+  }
+
+  @Test
+  @DisplayName("Should add a WebP encoding of each resized variant when WebP is configured")
+  void shouldAddWebpEncodingOfEachResizedVariantWhenWebpIsConfigured() {
+    assumeTrue(ImageIO.getImageWritersByFormatName("webp").hasNext());
+    var service = new ImageVariantService(new ImageProperties("/data/images"));
+    var imageData = createTestImage(600, 900);
+
+    var variants = service.generateVariants(imageData, ImageType.POSTER);
+
+    assertThat(variants)
+        .filteredOn(v -> v.format() == ImageFormat.WEBP)
+        .extracting(ImageVariantService.GeneratedVariant::variant)
+        .containsExactlyInAnyOrder(ImageSize.SMALL, ImageSize.MEDIUM, ImageSize.LARGE);
+    assertThat(variants)
+        .filteredOn(v -> v.format() == ImageFormat.JPEG)
+        .hasSize(4);
+  }
+
+  @Test
+  @DisplayName("Should share dimensions and placeholder across formats when WebP is configured")
+  void shouldShareDimensionsAndPlaceholderAcrossFormatsWhenWebpIsConfigured() {
+    assumeTrue(ImageIO.getImageWritersByFormatName("webp").hasNext());
+    var service = new ImageVariantService(new ImageProperties("/data/images"));
+    var imageData = createTestImage(600, 900);
+
+    var variants = service.generateVariants(imageData, ImageType.POSTER);
+
+    var jpeg = smallVariant(variants, ImageFormat.JPEG);
+    var webp = smallVariant(variants, ImageFormat.WEBP);
+    assertThat(webp.width()).isEqualTo(jpeg.width());
+    assertThat(webp.height()).isEqualTo(jpeg.height());
+    assertThat(webp.blurHash()).isEqualTo(jpeg.blurHash());
+    assertThat(webp.data()).isNotEqualTo(jpeg.data());
+  }
+
   @Test
   @DisplayName("Should resize small variant to 185px width when image type is poster")
   void shouldResizeSmallVariantTo185pxWidthWhenImageTypeIsPoster() {
@@ -132,6 +183,35 @@ class ImageVariantServiceTest {
     assertThat(original.height()).isEqualTo(900);
   }
 
+  @Test
+  @DisplayName("Should report source dimensions when the original is decoded subsampled")
+  void shouldReportSourceDimensionsWhenOriginalIsDecodedSubsampled() {
+    var imageData = createTestImage(2000, 3000);
+
+    var variants = imageVariantService.generateVariants(imageData, ImageType.POSTER);
+
+    var original =
+        variants.stream().filter(v -> v.variant() == ImageSize.ORIGINAL).findFirst().orElseThrow();
+    assertThat(original.width()).isEqualTo(2000);
+    assertThat(original.height()).isEqualTo(3000);
+    assertThat(original.data()).isSameAs(imageData);
+  }
+
+  @Test
+  @DisplayName("Should keep the aspect ratio of every size when derived progressively")
+  void shouldKeepAspectRatioOfEverySizeWhenDerivedProgressively() {
+    var imageData = createTestImage(2000, 3000);
+
+    var variants = imageVariantService.generateVariants(imageData, ImageType.POSTER);
+
+    assertThat(variants)
+        .filteredOn(v -> v.variant() != ImageSize.ORIGINAL)
+        .extracting(ImageVariantService.GeneratedVariant::width)
+        .containsExactlyInAnyOrder(185, 342, 500);
+    assertThat(variants)
+        .allSatisfy(v -> assertThat(v.height()).isCloseTo(v.width() * 3 / 2, offset(1)));
+  }
+
   @Test
   @DisplayName("Should compute BlurHash when variant is small")
   void shouldComputeBlurHashWhenVariantIsSmall() {
@@ -259,6 +339,15 @@ class ImageVariantServiceTest {
     assertThat(a).isNotEqualTo(b);
   }
 
+  @Test
+  @DisplayName("Should not consider variants equal when format differs")
+  void shouldNotConsiderVariantsEqualWhenFormatDiffers() {
+    var a = defaultVariantBuilder().format(ImageFormat.JPEG).build();
+    var b = defaultVariantBuilder().format(ImageFormat.WEBP).build();
+
+    assertThat(a).isNotEqualTo(b);
+  }
+
   @Test
   @DisplayName("Should not consider variant equal when compared to null")
   void shouldNotConsiderVariantEqualWhenComparedToNull() {
@@ -300,6 +389,14 @@ class ImageVariantServiceTest {
         .blurHash("hash");
   }
 
+  private static ImageVariantService.GeneratedVariant smallVariant(
+      List<ImageVariantService.GeneratedVariant> variants, ImageFormat format) {
+    return variants.stream()
+        .filter(v -> v.variant() == ImageSize.SMALL && v.format() == format)
+        .findFirst()
+        .orElseThrow();
+  }
+
   private static AmbientColors ambientColors(String primary) {
     return AmbientColors.builder()
         .topLeft("#010101")
@@ -313,13 +410,20 @@ class ImageVariantServiceTest {
   @Builder(builderClassName = "GeneratedVariantBuilder", builderMethodName = "emptyVariantBuilder")
   private static ImageVariantService.GeneratedVariant buildVariant(
       ImageSize variant,
+      ImageFormat format,
       byte[] data,
       int width,
       int height,
       String blurHash,
       AmbientColors ambientColors) {
     return new ImageVariantService.GeneratedVariant(
-        variant, data, width, height, blurHash, Optional.ofNullable(ambientColors));
+        variant,
+        format == null ? ImageFormat.JPEG : format,
+        data,
+        width,
+        height,
+        blurHash,
+        Optional.ofNullable(ambientColors));
   }
 
   @Test
@@ -344,7 +448,7 @@ class ImageVariantServiceTest {
 
     try (var mockedImageIO = mockStatic(ImageIO.class)) {
       mockedImageIO
-          .when(() -> ImageIO.read(any(InputStream.class)))
+          .when(() -> ImageIO.createImageInputStream(any(InputStream.class)))
           .thenThrow(new IOException("disk error"));
 
       assertThatThrownBy(() -> imageVariantService.generateVariants(imageData, ImageType.POSTER))
@@ -3,6 +3,7 @@ package com.streamarr.server.services.metadata;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -18,7 +19,11 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpTimeoutException;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
@@ -637,6 +642,61 @@ class TheMovieDatabaseHttpServiceIT extends AbstractWireMockIntegrationTest {
     assertThat(season.getEpisodes().get(1).getName()).isEqualTo("Cat's in the Bag...");
   }
 
+  @Test
+  @DisplayName("Should collect changed movie ids across every page when reading change feed")
+  void shouldCollectChangedMovieIdsAcrossEveryPageWhenReadingChangeFeed() throws Exception {
+    wireMock.stubFor(
+        get(urlPathEqualTo("/movie/changes"))
+            .withQueryParam("page", equalTo("1"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("Content-Type", "application/json")
+                    .withBody(
+                        """
+                        {
+                          "results": [{"id": 27205, "adult": false}, {"id": 550, "adult": false}],
+                          "page": 1,
+                          "total_pages": 2,
+                          "total_results": 3
+                        }
+                        """)));
+    wireMock.stubFor(
+        get(urlPathEqualTo("/movie/changes"))
+            .withQueryParam("page", equalTo("2"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("Content-Type", "application/json")
+                    .withBody(
+                        """
+                        {
+                          "results": [{"id": 157336, "adult": false}],
+                          "page": 2,
+                          "total_pages": 2,
+                          "total_results": 3
+                        }
+                        """)));
+
+    var since = Instant.now().minus(Duration.ofDays(2));
+    var changedIds = service.getChangedMovieIds(since);
+
+    assertThat(changedIds).contains(Set.of("27205", "550", "157336"));
+    wireMock.verify(
+        getRequestedFor(urlPathEqualTo("/movie/changes"))
+            .withQueryParam(
+                "start_date", equalTo(LocalDate.ofInstant(since, ZoneOffset.UTC).toString())));
+  }
+
+  @Test
+  @DisplayName("Should report no change feed when watermark is older than TMDB retains changes")
+  void shouldReportNoChangeFeedWhenWatermarkIsOlderThanTmdbRetainsChanges() throws Exception {
+    var changedIds = service.getChangedTvSeriesIds(Instant.now().minus(Duration.ofDays(30)));
+
+    assertThat(changedIds).isEmpty();
+    wireMock.verify(0, getRequestedFor(urlPathEqualTo("/tv/changes")));
+  }
+
   @Test
   @DisplayName("Should return image bytes when download succeeds")
   void shouldReturnImageBytesWhenDownloadSucceeds() throws Exception {
@@ -0,0 +1,52 @@
+package com.streamarr.server.services.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("TMDB Request Priority Tests")
+class TmdbRequestPriorityTest {
+
+  @Test
+  @DisplayName("Should treat work as a scan when no priority was declared")
+  void shouldTreatWorkAsScanWhenNoPriorityWasDeclared() {
+    assertThat(TmdbRequestPriority.current()).isEqualTo(TmdbRequestPriority.SCAN);
+  }
+
+  @Test
+  @DisplayName("Should restore the outer priority when a nested task finishes")
+  void shouldRestoreOuterPriorityWhenNestedTaskFinishes() {
+    var inner = new AtomicReference<TmdbRequestPriority>();
+    var outer = new AtomicReference<TmdbRequestPriority>();
+
+    TmdbRequestPriority.REFRESH.run(
+        () -> {
+          TmdbRequestPriority.INTERACTIVE.run(() -> inner.set(TmdbRequestPriority.current()));
+          outer.set(TmdbRequestPriority.current());
+        });
+
+    assertThat(inner.get()).isEqualTo(TmdbRequestPriority.INTERACTIVE);
+    assertThat(outer.get()).isEqualTo(TmdbRequestPriority.REFRESH);
+    assertThat(TmdbRequestPriority.current()).isEqualTo(TmdbRequestPriority.SCAN);
+  }
+
+  @Test
+  @DisplayName("Should carry the priority into threads the task fans out to")
+  void shouldCarryPriorityIntoThreadsTaskFansOutTo() {
+    var forked = new AtomicReference<TmdbRequestPriority>();
+
+    TmdbRequestPriority.REFRESH.run(
+        () -> {
+          try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> forked.set(TmdbRequestPriority.current()));
+          }
+        });
+
+    assertThat(forked.get()).isEqualTo(TmdbRequestPriority.REFRESH);
+  }
+}
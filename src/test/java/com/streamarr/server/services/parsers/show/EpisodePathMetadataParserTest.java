@@ -2,8 +2,10 @@ package com.streamarr.server.services.parsers.show;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.streamarr.server.fixtures.EpisodeFilenameFixture;
 import com.streamarr.server.services.parsers.MetadataParser;
 import com.streamarr.server.services.parsers.show.regex.EpisodeRegexFixtures;
+import com.streamarr.server.services.parsers.show.regex.UnfilteredEpisodeRegexFixtures;
 import java.time.LocalDate;
 import java.util.stream.Stream;
 import lombok.Builder;
@@ -939,4 +941,73 @@ class EpisodePathMetadataParserTest {
       assertThat(result.isSuccess()).isTrue();
     }
   }
+
+  @Nested
+  @DisplayName("Prefiltered Matching Tests")
+  class PrefilteredMatchingTests {
+
+    private final EpisodePathMetadataParser referenceParser =
+        new EpisodePathMetadataParser(new UnfilteredEpisodeRegexFixtures());
+
+    @Test
+    @DisplayName("Should match the full regex cascade when parsing a release-style corpus")
+    void shouldMatchFullRegexCascadeWhenParsingReleaseStyleCorpus() {
+      var corpus = EpisodeFilenameFixture.releaseStyleCorpus(5_000, 40L);
+
+      assertThat(corpus)
+          .allSatisfy(
+              filename ->
+                  assertThat(outcome(episodePathExtractionService, filename))
+                      .as(filename)
+                      .isEqualTo(outcome(referenceParser, filename)));
+    }
+
+    @TestFactory
+    @DisplayName("Should match the full regex cascade when a filename nearly fits a pattern")
+    Stream<DynamicTest> shouldMatchFullRegexCascadeWhenFilenameNearlyFitsPattern() {
+      return Stream.of(
+              "/tv/Show/Show.S01.mkv",
+              "/tv/Show/Show - E-01.mkv",
+              "/tv/Show/Show 1920x1080.mkv",
+              "/tv/Show/Show_part_iv.avi",
+              "/tv/Show/Show PART.1.avi",
+              "/tv/Show/Show\tS01\tE02.mkv",
+              "/tv/Show/Show 2020_01_02.ts",
+              "/tv/Show/[Group] Show.mkv",
+              "D:\\TV\\Show\\Season 1\\03.mkv",
+              "/tv/Show/season_2/04 title.mkv",
+              "/tv/Show/Show - 1x02 - 1x03.mkv",
+              "/tv/Show/Show sXe.mkv",
+              "",
+              "/")
+          .map(
+              filename ->
+                  DynamicTest.dynamicTest(
+                      filename,
+                      () ->
+                          assertThat(outcome(episodePathExtractionService, filename))
+                              .isEqualTo(outcome(referenceParser, filename))));
+    }
+
+    private static String outcome(MetadataParser<EpisodePathResult> parser, String filename) {
+      try {
+        return parser
+            .parse(filename)
+            .map(
+                result ->
+                    String.join(
+                        "|",
+                        String.valueOf(result.getSeriesName()),
+                        String.valueOf(result.getSeasonNumber()),
+                        String.valueOf(result.getEpisodeNumber()),
+                        String.valueOf(result.getEndingEpisodeNumber()),
+                        String.valueOf(result.getDate()),
+                        String.valueOf(result.isOnlyDate()),
+                        String.valueOf(result.isSuccess())))
+            .orElse("no match");
+      } catch (RuntimeException e) {
+        return e.getClass().getName();
+      }
+    }
+  }
 }
@@ -1,7 +1,9 @@
 package com.streamarr.server.services.parsers.show.regex;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.streamarr.server.fixtures.EpisodeFilenameFixture;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DynamicTest;
@@ -27,4 +29,49 @@ class EpisodeRegexFixturesTest {
                           regexContainer.regex().matcher(regexContainer.exampleMatch()).matches());
                     }));
   }
+
+  @TestFactory
+  @DisplayName("Should pass the prefilter when a corpus filename matches the expression")
+  Stream<DynamicTest> shouldPassPrefilterWhenCorpusFilenameMatchesExpression() {
+    var corpus = EpisodeFilenameFixture.releaseStyleCorpus(5_000, 40L);
+
+    return Stream.concat(
+            episodeRegexFixtures.getStandardRegexContainerList().stream(),
+            episodeRegexFixtures.getMultipleEpisodeRegexContainerList().stream())
+        .map(
+            regexContainer ->
+                DynamicTest.dynamicTest(
+                    "prefilter for: " + regexContainer.expression(),
+                    () -> {
+                      var rejectedMatches =
+                          corpus.stream()
+                              .filter(filename -> matches(regexContainer, filename))
+                              .filter(filename -> !regexContainer.prefilter().test(filename))
+                              .toList();
+
+                      assertThat(rejectedMatches).isEmpty();
+                    }));
+  }
+
+  @TestFactory
+  @DisplayName("Should pass the prefilter when given the example match")
+  Stream<DynamicTest> shouldPassPrefilterWhenGivenExampleMatch() {
+    return episodeRegexFixtures.getStandardRegexContainerList().stream()
+        .map(
+            regexContainer ->
+                DynamicTest.dynamicTest(
+                    "prefilter example: " + regexContainer.exampleMatch(),
+                    () ->
+                        assertThat(regexContainer.prefilter().test(regexContainer.exampleMatch()))
+                            .isTrue()));
+  }
+
+  private static boolean matches(EpisodeRegexContainer regexContainer, String filename) {
+    // The parser matches date expressions after swapping underscores for dashes.
+    var input =
+        regexContainer instanceof EpisodeRegexContainer.DateRegex
+            ? filename.replace('_', '-')
+            : filename;
+    return regexContainer.regex().matcher(input).matches();
+  }
 }
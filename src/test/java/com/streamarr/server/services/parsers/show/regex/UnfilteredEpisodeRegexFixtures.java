@@ -0,0 +1,43 @@
+package com.streamarr.server.services.parsers.show.regex;
+
+import java.util.List;
+
+/**
+ * The production expressions with every prefilter removed, so each filename runs the full regex
+ * cascade. Serves as the reference the prefiltered parser must agree with.
+ */
+public class UnfilteredEpisodeRegexFixtures extends EpisodeRegexFixtures {
+
+  private final List<EpisodeRegexContainer> standardRegexContainerList =
+      withoutPrefilters(super.getStandardRegexContainerList());
+  private final List<EpisodeRegexContainer> multipleEpisodeRegexContainerList =
+      withoutPrefilters(super.getMultipleEpisodeRegexContainerList());
+
+  @Override
+  public List<EpisodeRegexContainer> getStandardRegexContainerList() {
+    return standardRegexContainerList;
+  }
+
+  @Override
+  public List<EpisodeRegexContainer> getMultipleEpisodeRegexContainerList() {
+    return multipleEpisodeRegexContainerList;
+  }
+
+  private static List<EpisodeRegexContainer> withoutPrefilters(
+      List<EpisodeRegexContainer> containers) {
+    return containers.stream().map(UnfilteredEpisodeRegexFixtures::withoutPrefilter).toList();
+  }
+
+  private static EpisodeRegexContainer withoutPrefilter(EpisodeRegexContainer container) {
+    return switch (container) {
+      case EpisodeRegexContainer.DateRegex d ->
+          new EpisodeRegexContainer.DateRegex(d.expression(), d.exampleMatch(), d.regex(), null);
+      case EpisodeRegexContainer.NamedGroupRegex n ->
+          new EpisodeRegexContainer.NamedGroupRegex(
+              n.expression(), n.exampleMatch(), n.regex(), null);
+      case EpisodeRegexContainer.IndexedGroupRegex i ->
+          new EpisodeRegexContainer.IndexedGroupRegex(
+              i.expression(), i.exampleMatch(), i.regex(), null);
+    };
+  }
+}
@@ -0,0 +1,709 @@
+package com.streamarr.server.services.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.streamarr.server.AbstractIntegrationTest;
+import com.streamarr.server.config.StreamingProperties;
+import com.streamarr.server.domain.media.MediaFile;
+import com.streamarr.server.domain.media.MediaFileStatus;
+import com.streamarr.server.domain.streaming.MediaProbe;
+import com.streamarr.server.fakes.FakeFfmpegCapabilityProcessFactory;
+import com.streamarr.server.fakes.FakeFfprobeService;
+import com.streamarr.server.fakes.FakePacedFfmpegProcessManager;
+import com.streamarr.server.fixtures.LibraryFixtureCreator;
+import com.streamarr.server.repositories.LibraryRepository;
+import com.streamarr.server.repositories.media.MediaFileRepository;
+import com.streamarr.server.services.streaming.ffmpeg.FfmpegProcessManager;
+import com.streamarr.server.services.streaming.ffmpeg.TranscodeCapabilityService;
+import com.streamarr.server.support.AuthTestSupport;
+import com.streamarr.server.support.AuthTestSupport.TestIdentity;
+import com.sun.management.OperatingSystemMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.convention.TestBean;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * How many concurrent viewers one server sustains. The real server runs on a random port against
+ * Testcontainers PostgreSQL; only FFmpeg is faked, by a producer that writes placeholder segments
+ * at a configurable multiple of real time. Each simulated player creates a session over GraphQL,
+ * then behaves like a browser HLS player: it fetches the multivariant and media playlists,
+ * fetches segments in order while keeping a bounded buffer, seeks, switches variants, and reports
+ * its timeline.
+ *
+ * <p>Tagged {@code LoadTest} and excluded from every build; run it explicitly and shape it with
+ * {@code -Dloadtest.*} properties (see {@link LoadProfile}). The report is logged and written to
+ * {@code target/streaming-load-report.json}. Client and server share one JVM, so heap and CPU are
+ * the sum of both; the fake producer and player threads are cheap next to the server's work.
+ */
+@Slf4j
+@Tag("LoadTest")
+@DisplayName("HLS Streaming Load Test")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      // Every player's full ladder runs at once; the machine is under test, not the config cap.
+      "streaming.max-concurrent-transcodes=1000000",
+      "streaming.segment-base-path=${java.io.tmpdir}/streamarr-load-segments/${random.uuid}"
+    })
+class HlsStreamingLoadTest extends AbstractIntegrationTest {
+
+  private static final Path REPORT_PATH = Path.of("target", "streaming-load-report.json");
+  private static final Duration MEDIA_DURATION = Duration.ofHours(2);
+  // hls.js's default forward buffer.
+  private static final double BUFFER_TARGET_SECONDS = 30;
+  private static final Duration TIMELINE_REPORT_INTERVAL = Duration.ofSeconds(10);
+
+  private static final String CREATE_SESSION =
+      """
+      mutation($mediaFileId: ID!) {
+        createStreamSession(mediaFileId: $mediaFileId) { id streamUrl }
+      }""";
+  private static final String REPORT_TIMELINE =
+      """
+      mutation($sessionId: ID!, $position: Int!, $state: PlaybackState!) {
+        reportStreamSessionTimeline(
+          sessionId: $sessionId, positionSeconds: $position, state: $state)
+      }""";
+  private static final String DESTROY_SESSION =
+      "mutation($sessionId: ID!) { destroyStreamSession(sessionId: $sessionId) }";
+
+  private static final LoadProfile PROFILE = LoadProfile.fromSystemProperties();
+  private static final FakePacedFfmpegProcessManager FAKE_FFMPEG =
+      new FakePacedFfmpegProcessManager(
+          PROFILE.producerSpeed(), MEDIA_DURATION, PROFILE.segmentKib() * 1024);
+  private static final FakeFfprobeService FAKE_FFPROBE = new FakeFfprobeService();
+
+  static {
+    // HEVC against the default h264-only client forces a video transcode, so every session gets
+    // the full quality ladder for players to switch between.
+    FAKE_FFPROBE.setDefaultProbe(
+        MediaProbe.builder()
+            .duration(MEDIA_DURATION)
+            .framerate(23.976)
+            .width(1920)
+            .height(1080)
+            .videoCodec("hevc")
+            .audioCodec("aac")
+            .bitrate(8_000_000L)
+            .build());
+  }
+
+  @TestBean FfmpegProcessManager processManager;
+  @TestBean TranscodeCapabilityService capabilityService;
+  @TestBean FfprobeService ffprobeService;
+
+  static FfmpegProcessManager processManager() {
+    return FAKE_FFMPEG;
+  }
+
+  static TranscodeCapabilityService capabilityService() {
+    var service =
+        new TranscodeCapabilityService("ffmpeg", new FakeFfmpegCapabilityProcessFactory());
+    service.detectCapabilities();
+    return service;
+  }
+
+  static FfprobeService ffprobeService() {
+    return FAKE_FFPROBE;
+  }
+
+  @LocalServerPort private int port;
+
+  @Autowired private AuthTestSupport authTestSupport;
+  @Autowired private LibraryRepository libraryRepository;
+  @Autowired private MediaFileRepository mediaFileRepository;
+  @Autowired private StreamingProperties streamingProperties;
+  @Autowired private MeterRegistry meterRegistry;
+  @Autowired private ObjectMapper objectMapper;
+
+  @Test
+  @Timeout(value = 1, unit = TimeUnit.HOURS)
+  @DisplayName("Should serve every player when load runs for the configured duration")
+  void shouldServeEveryPlayerWhenLoadRunsForConfiguredDuration() throws Exception {
+    var mediaFileId = seedMediaFile();
+    var players =
+        IntStream.range(0, PROFILE.players())
+            .mapToObj(_ -> authTestSupport.createIdentity())
+            .toList();
+    var stats = new LoadStats();
+
+    try (var resources = ResourceSampler.start();
+        var client = HttpClient.newHttpClient()) {
+      var deadline = System.nanoTime() + PROFILE.duration().toNanos();
+      try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (int i = 0; i < players.size(); i++) {
+          var player =
+              new Player(
+                  client, players.get(i), mediaFileId, new SplittableRandom(PROFILE.seed() + i));
+          executor.submit(() -> player.run(stats, deadline));
+        }
+      }
+
+      writeReport(stats.report(resources.usage(), FAKE_FFMPEG, meterRegistry));
+    } finally {
+      players.forEach(authTestSupport::deleteIdentity);
+    }
+
+    assertThat(stats.failures).isEmpty();
+    assertThat(stats.segments.sum()).isPositive();
+  }
+
+  private UUID seedMediaFile() {
+    var library = libraryRepository.saveAndFlush(LibraryFixtureCreator.buildFakeLibrary());
+    var file =
+        MediaFile.builder()
+            .filepathUri("file:///media/movies/load-" + UUID.randomUUID() + ".mkv")
+            .filename("load.mkv")
+            .status(MediaFileStatus.MATCHED)
+            .size(8_000_000_000L)
+            .libraryId(library.getId())
+            .build();
+    return mediaFileRepository.saveAndFlush(file).getId();
+  }
+
+  private void writeReport(LoadReport report) throws IOException {
+    var json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+    Files.createDirectories(REPORT_PATH.getParent());
+    Files.writeString(REPORT_PATH, json);
+    log.info("Streaming load report ({}):\n{}", REPORT_PATH.toAbsolutePath(), json);
+  }
+
+  /**
+   * The run's shape. Defaults suit a laptop; raise {@code players} until segment waits or
+   * rebuffers climb.
+   *
+   * @param players concurrent viewers ({@code loadtest.players}, default 20)
+   * @param duration wall-clock run length, ISO-8601 ({@code loadtest.duration}, default PT2M)
+   * @param producerSpeed fake encode speed as a multiple of real time ({@code
+   *     loadtest.producer-speed}, default 3)
+   * @param playbackSpeed how fast players consume media ({@code loadtest.playback-speed}, default
+   *     2); above the producer speed, every player eventually outruns its encode
+   * @param segmentKib placeholder segment size ({@code loadtest.segment-kib}, default 32)
+   * @param seekChance chance of a random seek after each segment ({@code loadtest.seek-chance},
+   *     default 0.02)
+   * @param switchChance chance of moving one rung up or down the ladder after each segment
+   *     ({@code loadtest.switch-chance}, default 0.05)
+   * @param seed base seed for the players' choices ({@code loadtest.seed}, default 40)
+   */
+  record LoadProfile(
+      int players,
+      Duration duration,
+      double producerSpeed,
+      double playbackSpeed,
+      int segmentKib,
+      double seekChance,
+      double switchChance,
+      long seed) {
+
+    LoadProfile {
+      if (players <= 0) {
+        throw new IllegalArgumentException("loadtest.players must be positive, got " + players);
+      }
+      if (duration.isZero() || duration.isNegative()) {
+        throw new IllegalArgumentException("loadtest.duration must be positive, got " + duration);
+      }
+      if (producerSpeed <= 0) {
+        throw new IllegalArgumentException(
+            "loadtest.producer-speed must be positive, got " + producerSpeed);
+      }
+      if (playbackSpeed <= 0) {
+        throw new IllegalArgumentException(
+            "loadtest.playback-speed must be positive, got " + playbackSpeed);
+      }
+      if (segmentKib <= 0) {
+        throw new IllegalArgumentException(
+            "loadtest.segment-kib must be positive, got " + segmentKib);
+      }
+    }
+
+    static LoadProfile fromSystemProperties() {
+      return new LoadProfile(
+          Integer.parseInt(System.getProperty("loadtest.players", "20")),
+          Duration.parse(System.getProperty("loadtest.duration", "PT2M")),
+          Double.parseDouble(System.getProperty("loadtest.producer-speed", "3")),
+          Double.parseDouble(System.getProperty("loadtest.playback-speed", "2")),
+          Integer.parseInt(System.getProperty("loadtest.segment-kib", "32")),
+          Double.parseDouble(System.getProperty("loadtest.seek-chance", "0.02")),
+          Double.parseDouble(System.getProperty("loadtest.switch-chance", "0.05")),
+          Long.parseLong(System.getProperty("loadtest.seed", "40")));
+    }
+  }
+
+  /** One viewer: a profile-scoped identity watching one session until the deadline. */
+  private final class Player {
+
+    private final HttpClient client;
+    private final TestIdentity identity;
+    private final UUID mediaFileId;
+    private final SplittableRandom random;
+    private final URI baseUri = URI.create("http://localhost:" + port + "/");
+    private final int segmentSeconds =
+        (int) streamingProperties.targetSegmentDuration().toSeconds();
+
+    private LoadStats stats;
+    private String sessionId;
+    private Playhead playhead;
+    private long nextTimelineReport;
+
+    private Player(
+        HttpClient client, TestIdentity identity, UUID mediaFileId, SplittableRandom random) {
+      this.client = client;
+      this.identity = identity;
+      this.mediaFileId = mediaFileId;
+      this.random = random;
+    }
+
+    private void run(LoadStats stats, long deadline) {
+      this.stats = stats;
+      try {
+        var created =
+            graphql(CREATE_SESSION, Map.of("mediaFileId", mediaFileId.toString()))
+                .path("createStreamSession");
+        sessionId = created.path("id").asString();
+        stats.sessions.increment();
+
+        var multivariantUri = baseUri.resolve(created.path("streamUrl").asString());
+        var variants = playlistEntries(multivariantUri, text(multivariantUri, "multivariant"));
+        watch(variants, deadline);
+      } catch (PlayerFailure e) {
+        stats.fail(e.getMessage());
+      } catch (IOException | RuntimeException e) {
+        stats.fail(e.getClass().getSimpleName());
+      } catch (InterruptedException _) {
+        Thread.currentThread().interrupt();
+      } finally {
+        closeSession();
+      }
+    }
+
+    private void watch(List<URI> variants, long deadline)
+        throws IOException, InterruptedException {
+      var variant = 0;
+      var segments = loadVariant(variants.get(variant));
+      var index = 0;
+      var firstAfterStart = true;
+      playhead = new Playhead(0);
+      nextTimelineReport = System.nanoTime() + TIMELINE_REPORT_INTERVAL.toNanos();
+
+      while (System.nanoTime() < deadline && index < segments.size()) {
+        var startup = firstAfterStart;
+        var started = System.nanoTime();
+        var segment = get(segments.get(index), "segment");
+        stats.recordSegment(System.nanoTime() - started, segment.length, startup);
+        firstAfterStart = false;
+        index++;
+        playhead.fetched();
+        if (startup) {
+          playhead.startPlaying();
+        }
+
+        if (random.nextDouble() < PROFILE.seekChance()) {
+          index = random.nextInt(segments.size());
+          playhead = new Playhead(index);
+          firstAfterStart = true;
+          stats.seeks.increment();
+          continue;
+        }
+
+        if (variants.size() > 1 && random.nextDouble() < PROFILE.switchChance()) {
+          variant = neighbour(variant, variants.size());
+          segments = loadVariant(variants.get(variant));
+          stats.switches.increment();
+        }
+
+        reportTimelineWhenDue();
+        awaitBufferRoom(deadline);
+      }
+    }
+
+    private int neighbour(int variant, int count) {
+      if (variant == 0) {
+        return 1;
+      }
+      if (variant == count - 1) {
+        return variant - 1;
+      }
+
+      return random.nextBoolean() ? variant + 1 : variant - 1;
+    }
+
+    /** The variant's segment URIs, after fetching its init segment when the run is fMP4. */
+    private List<URI> loadVariant(URI playlistUri) throws IOException, InterruptedException {
+      var playlist = text(playlistUri, "playlist");
+      var map = playlist.lines().filter(line -> line.startsWith("#EXT-X-MAP:URI=")).findFirst();
+      if (map.isPresent()) {
+        var initUri = map.get().substring("#EXT-X-MAP:URI=\"".length(), map.get().length() - 1);
+        get(playlistUri.resolve(initUri), "init");
+      }
+
+      return playlistEntries(playlistUri, playlist);
+    }
+
+    private List<URI> playlistEntries(URI playlistUri, String playlist) {
+      return playlist
+          .lines()
+          .filter(line -> !line.isBlank() && !line.startsWith("#"))
+          .map(playlistUri::resolve)
+          .toList();
+    }
+
+    /** Past the buffer target, waits for playback to drain it; an empty buffer is a rebuffer. */
+    private void awaitBufferRoom(long deadline) throws InterruptedException {
+      var buffered = playhead.bufferedSeconds();
+      if (buffered < 0) {
+        stats.rebuffers.increment();
+        playhead.resumeAtBufferEdge();
+        return;
+      }
+
+      var excess = buffered - BUFFER_TARGET_SECONDS;
+      if (excess > 0) {
+        var sleepNanos = (long) (excess / PROFILE.playbackSpeed() * 1_000_000_000L);
+        TimeUnit.NANOSECONDS.sleep(Math.min(sleepNanos, deadline - System.nanoTime()));
+      }
+    }
+
+    private void reportTimelineWhenDue() throws IOException, InterruptedException {
+      if (System.nanoTime() < nextTimelineReport) {
+        return;
+      }
+
+      nextTimelineReport = System.nanoTime() + TIMELINE_REPORT_INTERVAL.toNanos();
+      reportTimeline("PLAYING");
+    }
+
+    private void reportTimeline(String state) throws IOException, InterruptedException {
+      graphql(
+          REPORT_TIMELINE,
+          Map.of("sessionId", sessionId, "position", playhead.positionSeconds(), "state", state));
+    }
+
+    /** Counted when it fails: a session that is never destroyed keeps its producers running. */
+    private void closeSession() {
+      if (sessionId == null) {
+        return;
+      }
+
+      try {
+        if (playhead != null) {
+          reportTimeline("STOPPED");
+        }
+        graphql(DESTROY_SESSION, Map.of("sessionId", sessionId));
+      } catch (IOException | RuntimeException e) {
+        stats.fail("close: " + e.getMessage());
+      } catch (InterruptedException _) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private String text(URI uri, String kind) throws IOException, InterruptedException {
+      return new String(get(uri, kind), StandardCharsets.UTF_8);
+    }
+
+    private byte[] get(URI uri, String kind) throws IOException, InterruptedException {
+      var response =
+          send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+      if (response.statusCode() != 200) {
+        throw new PlayerFailure(kind + " HTTP " + response.statusCode());
+      }
+
+      return response.body();
+    }
+
+    private JsonNode graphql(String query, Map<String, Object> variables)
+        throws IOException, InterruptedException {
+      var body = objectMapper.writeValueAsString(Map.of("query", query, "variables", variables));
+      // Minted per call: a long run outlives one access token.
+      var bearer = authTestSupport.profileBearer(identity);
+      var request =
+          HttpRequest.newBuilder(baseUri.resolve("graphql"))
+              .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+              .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearer)
+              .POST(HttpRequest.BodyPublishers.ofString(body))
+              .build();
+      var response = send(request, HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new PlayerFailure("graphql HTTP " + response.statusCode());
+      }
+
+      var tree = objectMapper.readTree(response.body());
+      if (tree.has("errors")) {
+        throw new PlayerFailure("graphql " + tree.get("errors"));
+      }
+
+      return tree.path("data");
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+        throws IOException, InterruptedException {
+      stats.requests.increment();
+      return client.send(request, handler);
+    }
+
+    /** Media time fetched versus media time played since the last start or seek. */
+    private final class Playhead {
+
+      private final int startIndex;
+      private long startNanos = System.nanoTime();
+      private int fetchedSegments;
+
+      private Playhead(int startIndex) {
+        this.startIndex = startIndex;
+      }
+
+      private void fetched() {
+        fetchedSegments++;
+      }
+
+      /** The startup or seek wait is not playback; the clock starts once media arrives. */
+      private void startPlaying() {
+        startNanos = System.nanoTime();
+      }
+
+      private double playedSeconds() {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0 * PROFILE.playbackSpeed();
+      }
+
+      private double bufferedSeconds() {
+        return (double) fetchedSegments * segmentSeconds - playedSeconds();
+      }
+
+      /** Playback stalled at the last fetched segment; the clock restarts from there. */
+      private void resumeAtBufferEdge() {
+        var playableNanos =
+            (long) (fetchedSegments * segmentSeconds / PROFILE.playbackSpeed() * 1_000_000_000L);
+        startNanos = System.nanoTime() - playableNanos;
+      }
+
+      private int positionSeconds() {
+        return startIndex * segmentSeconds + (int) playedSeconds();
+      }
+    }
+  }
+
+  private static final class PlayerFailure extends RuntimeException {
+
+    private PlayerFailure(String message) {
+      super(message);
+    }
+  }
+
+  private static final class LoadStats {
+
+    private final long startedNanos = System.nanoTime();
+    private final ConcurrentLinkedQueue<Long> startupWaits = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Long> steadyWaits = new ConcurrentLinkedQueue<>();
+    private final LongAdder sessions = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder segments = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder seeks = new LongAdder();
+    private final LongAdder switches = new LongAdder();
+    private final LongAdder rebuffers = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    /** Startup covers the first segment of a session and of every seek; steady is the rest. */
+    private void recordSegment(long waitNanos, int size, boolean startup) {
+      (startup ? startupWaits : steadyWaits).add(waitNanos);
+      segments.increment();
+      bytes.add(size);
+    }
+
+    private void fail(String kind) {
+      failures.computeIfAbsent(kind, _ -> new LongAdder()).increment();
+    }
+
+    private LoadReport report(
+        ResourceUsage resources, FakePacedFfmpegProcessManager ffmpeg, MeterRegistry registry) {
+      var elapsedSeconds = (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+      return new LoadReport(
+          PROFILE,
+          elapsedSeconds,
+          sessions.sum(),
+          requests.sum() / elapsedSeconds,
+          segments.sum(),
+          segments.sum() / elapsedSeconds,
+          bytes.sum() / 1_048_576.0 / elapsedSeconds,
+          seeks.sum(),
+          switches.sum(),
+          rebuffers.sum(),
+          sums(failures),
+          Percentiles.of(startupWaits),
+          Percentiles.of(steadyWaits),
+          serverCounts(registry, StreamingMetrics.SEGMENT_WAIT_METRIC, "outcome"),
+          serverCounts(registry, StreamingMetrics.REPLACEMENTS_METRIC, "reason"),
+          ffmpeg.producersStarted(),
+          ffmpeg.segmentsWritten(),
+          resources);
+    }
+
+    private static Map<String, Long> sums(Map<String, LongAdder> adders) {
+      var sums = new TreeMap<String, Long>();
+      adders.forEach((key, adder) -> sums.put(key, adder.sum()));
+      return sums;
+    }
+
+    private static Map<String, Long> serverCounts(MeterRegistry registry, String name, String tag) {
+      var counts = new TreeMap<String, Long>();
+      registry
+          .find(name)
+          .meters()
+          .forEach(
+              meter -> {
+                var count = (long) meter.measure().iterator().next().getValue();
+                counts.merge(meter.getId().getTag(tag), count, Long::sum);
+              });
+      return counts;
+    }
+  }
+
+  record LoadReport(
+      LoadProfile profile,
+      double elapsedSeconds,
+      long sessions,
+      double requestsPerSecond,
+      long segments,
+      double segmentsPerSecond,
+      double mebibytesPerSecond,
+      long seeks,
+      long variantSwitches,
+      long rebuffers,
+      Map<String, Long> failures,
+      Percentiles startupSegmentWaitMillis,
+      Percentiles steadySegmentWaitMillis,
+      Map<String, Long> serverSegmentWaits,
+      Map<String, Long> serverProducerReplacements,
+      long producersStarted,
+      long segmentsProduced,
+      ResourceUsage resources) {}
+
+  /** Client-observed segment latency: request sent to last body byte read. */
+  record Percentiles(long count, double p50, double p95, double p99, double max) {
+
+    static Percentiles of(ConcurrentLinkedQueue<Long> nanos) {
+      var sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+      if (sorted.length == 0) {
+        return new Percentiles(0, 0, 0, 0, 0);
+      }
+
+      return new Percentiles(
+          sorted.length,
+          millis(sorted, 0.50),
+          millis(sorted, 0.95),
+          millis(sorted, 0.99),
+          sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+      var index = (int) Math.ceil(quantile * sorted.length) - 1;
+      return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+  }
+
+  record ResourceUsage(
+      int processors,
+      double averageCpuPercent,
+      double peakCpuPercent,
+      long peakHeapMib,
+      long endHeapMib,
+      long gcCount,
+      long gcMillis) {}
+
+  /** Samples process CPU and heap once a second for the length of the run. */
+  private static final class ResourceSampler implements AutoCloseable {
+
+    private final OperatingSystemMXBean os =
+        ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+    private final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong peakHeap = new AtomicLong();
+    private final DoubleAccumulator peakCpu = new DoubleAccumulator(Math::max, 0);
+    private final long startNanos = System.nanoTime();
+    private final long startCpuNanos = os.getProcessCpuTime();
+    private final long startGcCount = gcCount();
+    private final long startGcMillis = gcMillis();
+
+    static ResourceSampler start() {
+      var sampler = new ResourceSampler();
+      sampler.scheduler.scheduleAtFixedRate(sampler::sample, 0, 1, TimeUnit.SECONDS);
+      return sampler;
+    }
+
+    private void sample() {
+      peakHeap.accumulateAndGet(heapUsed(), Math::max);
+      var load = os.getProcessCpuLoad();
+      if (load >= 0) {
+        peakCpu.accumulate(load * 100);
+      }
+    }
+
+    ResourceUsage usage() {
+      var processors = os.getAvailableProcessors();
+      var wallNanos = (double) (System.nanoTime() - startNanos) * processors;
+      return new ResourceUsage(
+          processors,
+          (os.getProcessCpuTime() - startCpuNanos) / wallNanos * 100,
+          peakCpu.get(),
+          peakHeap.get() / 1_048_576,
+          heapUsed() / 1_048_576,
+          gcCount() - startGcCount,
+          gcMillis() - startGcMillis);
+    }
+
+    private static long heapUsed() {
+      return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long gcCount() {
+      return ManagementFactory.getGarbageCollectorMXBeans().stream()
+          .mapToLong(gc -> Math.max(gc.getCollectionCount(), 0))
+          .sum();
+    }
+
+    private static long gcMillis() {
+      return ManagementFactory.getGarbageCollectorMXBeans().stream()
+          .mapToLong(gc -> Math.max(gc.getCollectionTime(), 0))
+          .sum();
+    }
+
+    @Override
+    public void close() {
+      scheduler.shutdownNow();
+    }
+  }
+}
@@ -1,10 +1,18 @@
 package com.streamarr.server.services.streaming;
 
 import static com.streamarr.server.fixtures.StreamSessionFixture.defaultPlaybackAuthorityBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.streamarr.server.config.StreamingProperties;
 import com.streamarr.server.domain.streaming.PlaybackAuthority;
 import com.streamarr.server.fakes.FakeAuthSessionRepository;
+import com.streamarr.server.fakes.MutableClock;
+import com.streamarr.server.services.events.auth.PlaybackAuthorityRevokedEvent;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -15,6 +23,12 @@ import org.springframework.dao.DataAccessResourceFailureException;
 @DisplayName("Live Playback Authority Gate Tests")
 class LivePlaybackAuthorityGateTest {
 
+  private static final Duration CACHE_TTL = Duration.ofSeconds(30);
+
+  private final MutableClock clock = new MutableClock();
+  private final CountingAuthSessionRepository repository = new CountingAuthSessionRepository();
+  private final PlaybackAuthority authority = defaultPlaybackAuthorityBuilder().build();
+
   /**
    * Authority unreadable must mean playback denied. This pins the fail-closed contract so a future
    * "resilience" change (catch-and-allow, cached last-known-good) cannot merge green.
@@ -23,16 +37,157 @@ class LivePlaybackAuthorityGateTest {
   @DisplayName(
       "Should propagate repository failure instead of allowing playback when authorizing playback")
   void shouldPropagateRepositoryFailureInsteadOfAllowingPlaybackWhenAuthorizingPlayback() {
-    var repository =
+    var failingRepository =
         new FakeAuthSessionRepository() {
           @Override
           public boolean hasLivePlaybackAuthority(PlaybackAuthority authority) {
             throw new DataAccessResourceFailureException("database unavailable");
           }
         };
-    var gate = new LivePlaybackAuthorityGate(repository);
-    var authority = defaultPlaybackAuthorityBuilder().build();
+    var gate = new LivePlaybackAuthorityGate(failingRepository, properties(CACHE_TTL), clock);
 
     assertThatThrownBy(() -> gate.allows(authority)).isInstanceOf(DataAccessException.class);
   }
+
+  @Test
+  @DisplayName("Should reuse an allowed answer when the same authority is checked within the TTL")
+  void shouldReuseAllowedAnswerWhenSameAuthorityIsCheckedWithinTtl() {
+    var gate = gate(CACHE_TTL);
+
+    assertThat(gate.allows(authority)).isTrue();
+    clock.advance(CACHE_TTL.minusSeconds(1));
+
+    assertThat(gate.allows(authority)).isTrue();
+    assertThat(repository.queries()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should query again when the cached answer has expired")
+  void shouldQueryAgainWhenCachedAnswerHasExpired() {
+    var gate = gate(CACHE_TTL);
+    gate.allows(authority);
+    clock.advance(CACHE_TTL);
+    repository.deny();
+
+    assertThat(gate.allows(authority)).isFalse();
+    assertThat(repository.queries()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should never cache a denial when authority is withdrawn")
+  void shouldNeverCacheDenialWhenAuthorityIsWithdrawn() {
+    var gate = gate(CACHE_TTL);
+    repository.deny();
+    gate.allows(authority);
+    repository.allow();
+
+    assertThat(gate.allows(authority)).isTrue();
+    assertThat(repository.queries()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should deny on the next check when the authorization session is revoked")
+  void shouldDenyOnNextCheckWhenAuthorizationSessionIsRevoked() {
+    var gate = gate(CACHE_TTL);
+    gate.allows(authority);
+    repository.deny();
+
+    gate.onPlaybackAuthorityRevoked(
+        PlaybackAuthorityRevokedEvent.forSession(authority.authSessionId()));
+
+    assertThat(gate.allows(authority)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should deny on the next check when the account loses a grant")
+  void shouldDenyOnNextCheckWhenAccountLosesGrant() {
+    var gate = gate(CACHE_TTL);
+    gate.allows(authority);
+    repository.deny();
+
+    gate.onPlaybackAuthorityRevoked(PlaybackAuthorityRevokedEvent.forAccount(authority.accountId()));
+
+    assertThat(gate.allows(authority)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should keep unrelated entries when another session is revoked")
+  void shouldKeepUnrelatedEntriesWhenAnotherSessionIsRevoked() {
+    var gate = gate(CACHE_TTL);
+    gate.allows(authority);
+
+    gate.onPlaybackAuthorityRevoked(PlaybackAuthorityRevokedEvent.forSession(UUID.randomUUID()));
+
+    assertThat(gate.allows(authority)).isTrue();
+    assertThat(repository.queries()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not cache an answer read before a concurrent revocation committed")
+  void shouldNotCacheAnswerReadBeforeConcurrentRevocationCommitted() {
+    var gate = gate(CACHE_TTL);
+    repository.duringNextQuery(
+        () ->
+            gate.onPlaybackAuthorityRevoked(
+                PlaybackAuthorityRevokedEvent.forSession(authority.authSessionId())));
+
+    assertThat(gate.allows(authority)).isTrue();
+    repository.deny();
+
+    assertThat(gate.allows(authority)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should query on every check when the TTL is zero")
+  void shouldQueryOnEveryCheckWhenTtlIsZero() {
+    var gate = gate(Duration.ZERO);
+
+    gate.allows(authority);
+    gate.allows(authority);
+
+    assertThat(repository.queries()).isEqualTo(2);
+  }
+
+  private LivePlaybackAuthorityGate gate(Duration ttl) {
+    return new LivePlaybackAuthorityGate(repository, properties(ttl), clock);
+  }
+
+  private static StreamingProperties properties(Duration ttl) {
+    return StreamingProperties.builder().playbackAuthorityCacheTtl(ttl).build();
+  }
+
+  private static final class CountingAuthSessionRepository extends FakeAuthSessionRepository {
+
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicBoolean allowed = new AtomicBoolean(true);
+    private Runnable duringNextQuery;
+
+    @Override
+    public boolean hasLivePlaybackAuthority(PlaybackAuthority authority) {
+      queries.incrementAndGet();
+      var answer = allowed.get();
+      if (duringNextQuery != null) {
+        var action = duringNextQuery;
+        duringNextQuery = null;
+        action.run();
+      }
+      return answer;
+    }
+
+    void allow() {
+      allowed.set(true);
+    }
+
+    void deny() {
+      allowed.set(false);
+    }
+
+    void duringNextQuery(Runnable action) {
+      duringNextQuery = action;
+    }
+
+    int queries() {
+      return queries.get();
+    }
+  }
 }
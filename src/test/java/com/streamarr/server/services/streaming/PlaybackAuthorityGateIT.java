@@ -116,6 +116,17 @@ class PlaybackAuthorityGateIT extends AbstractIntegrationTest {
     assertThat(authorityGate.allows(authority)).isFalse();
   }
 
+  @Test
+  @DisplayName(
+      "Should deny previously allowed playback authority when household membership is revoked")
+  void shouldDenyPreviouslyAllowedPlaybackAuthorityWhenHouseholdMembershipIsRevoked() {
+    assertThat(authorityGate.allows(authority)).isTrue();
+
+    membershipRepository.revokeMembership(identity.account().getId(), identity.household().getId());
+
+    assertThat(authorityGate.allows(authority)).isFalse();
+  }
+
   @Test
   @DisplayName("Should deny playback authority when profile grant is revoked")
   void shouldDenyPlaybackAuthorityWhenProfileGrantIsRevoked() {
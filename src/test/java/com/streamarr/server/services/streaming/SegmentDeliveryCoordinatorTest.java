@@ -11,6 +11,7 @@ import ch.qos.logback.core.read.ListAppender;
 import com.streamarr.server.config.StreamingProperties;
 import com.streamarr.server.domain.streaming.StreamSession;
 import com.streamarr.server.domain.streaming.TranscodeHandle;
+import com.streamarr.server.domain.streaming.TranscodeProgress;
 import com.streamarr.server.domain.streaming.TranscodeRequest;
 import com.streamarr.server.domain.streaming.TranscodeStatus;
 import com.streamarr.server.exceptions.TranscodeException;
@@ -21,6 +22,7 @@ import com.streamarr.server.fakes.MutableClock;
 import com.streamarr.server.fixtures.StreamingRigFixture;
 import com.streamarr.server.fixtures.StreamingRigFixture.StreamingRig;
 import com.streamarr.server.services.concurrency.MutexFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
@@ -44,6 +46,9 @@ import org.slf4j.LoggerFactory;
 class SegmentDeliveryCoordinatorTest {
 
   private static final Duration STALL_THRESHOLD = Duration.ofMillis(200);
+  private static final Duration PROGRESS_STALL_THRESHOLD = Duration.ofMillis(100);
+  private static final Duration SLOW_ENCODE_WINDOW = Duration.ofMillis(150);
+  private static final Duration ENCODE_STEP = Duration.ofMillis(30);
   private static final ExecutionTargetId TARGET_A = new ExecutionTargetId("worker-a");
   private static final ExecutionTargetId TARGET_B = new ExecutionTargetId("worker-b");
   private static final ExecutionTargetId TARGET_C = new ExecutionTargetId("worker-c");
@@ -54,6 +59,7 @@ class SegmentDeliveryCoordinatorTest {
   private StreamingProperties properties;
   private ProducerLifecycleService lifecycle;
   private MutableClock clock;
+  private SimpleMeterRegistry meterRegistry;
   private SegmentDeliveryCoordinator coordinator;
 
   @BeforeEach
@@ -62,12 +68,15 @@ class SegmentDeliveryCoordinatorTest {
     segmentStore = new FakeSegmentStore();
     runtimeRegistry = new FakeRuntimeStreamSessionRegistry();
     clock = new MutableClock();
+    meterRegistry = new SimpleMeterRegistry();
     properties =
         StreamingProperties.builder()
             .maxConcurrentTranscodes(3)
             .targetSegmentDuration(Duration.ofSeconds(6))
             .sessionTimeout(Duration.ofSeconds(60))
             .producerStallThreshold(STALL_THRESHOLD)
+            .producerProgressStallThreshold(PROGRESS_STALL_THRESHOLD)
+            .producerSlowEncodeWindow(SLOW_ENCODE_WINDOW)
             .build();
     var rig = rigWith(transcodeExecutor, segmentStore);
     lifecycle = rig.lifecycle();
@@ -91,6 +100,7 @@ class SegmentDeliveryCoordinatorTest {
         .runtimeRegistry(runtimeRegistry)
         .clock(clock)
         .pollInterval(pollInterval)
+        .metrics(new StreamingMetrics(meterRegistry))
         .build();
   }
 
@@ -127,6 +137,32 @@ class SegmentDeliveryCoordinatorTest {
     awaitLivenessChecks(transcodeExecutor, count);
   }
 
+  private long segmentWaits(String outcome) {
+    return meterRegistry
+        .get(StreamingMetrics.SEGMENT_WAIT_METRIC)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+
+  private void reportEncodedUpTo(UUID sessionId, long outTimeMicros) {
+    transcodeExecutor.reportProgress(
+        sessionId,
+        StreamSession.defaultVariant(),
+        new TranscodeProgress(1, 24.0, 1800.0, outTimeMicros, 0, 0, 1.0, false));
+  }
+
+  /** Advances the clock in {@link #ENCODE_STEP}s, reporting output time gained at {@code speed}. */
+  private void encodeSteadily(UUID sessionId, long fromMicros, double speed, int steps) {
+    var outTimeMicros = fromMicros;
+    for (var step = 0; step < steps; step++) {
+      clock.advance(ENCODE_STEP);
+      outTimeMicros += (long) (ENCODE_STEP.toNanos() / 1_000 * speed);
+      reportEncodedUpTo(sessionId, outTimeMicros);
+      awaitLivenessChecks(2);
+    }
+  }
+
   @Test
   @DisplayName(
       "Should serve a segment the moment it exists without waiting for its successor when delivering a segment")
@@ -141,6 +177,52 @@ class SegmentDeliveryCoordinatorTest {
     assertThat(((SegmentDelivery.Ready) delivery).data()).containsExactly(0x47);
   }
 
+  @Test
+  @DisplayName("Should record an immediate wait and the bytes served when the segment exists")
+  void shouldRecordImmediateWaitAndBytesServedWhenSegmentExists() {
+    var session = startedSession();
+    segmentStore.addSegment(session.getSessionId(), "segment0.ts", new byte[] {0x47, 0x47});
+
+    coordinator.deliver(session.getSessionId(), StreamSession.defaultVariant(), "segment0.ts");
+
+    assertThat(segmentWaits("immediate")).isEqualTo(1);
+    assertThat(segmentWaits("waited")).isZero();
+    assertThat(meterRegistry.get(StreamingMetrics.SEGMENT_BYTES_METRIC).counter().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should record a waited delivery when the segment is published during the wait")
+  void shouldRecordWaitedDeliveryWhenSegmentIsPublishedDuringTheWait() throws Exception {
+    var session = startedSession();
+
+    var delivery = deliverAsync(session.getSessionId(), "segment0.ts");
+    awaitLivenessChecks(1);
+    segmentStore.addSegment(session.getSessionId(), "segment0.ts", new byte[] {0x47});
+
+    assertThat(delivery.get(2, TimeUnit.SECONDS)).isInstanceOf(SegmentDelivery.Ready.class);
+    assertThat(segmentWaits("waited")).isEqualTo(1);
+    assertThat(segmentWaits("immediate")).isZero();
+  }
+
+  @Test
+  @DisplayName("Should record time to first segment once per session when delivering segments")
+  void shouldRecordTimeToFirstSegmentOncePerSessionWhenDeliveringSegments() {
+    var session = defaultSessionBuilder().createdAt(clock.instant()).build();
+    runtimeRegistry.save(session);
+    lifecycle.startAll(session, 0, 0);
+    segmentStore.addSegment(session.getSessionId(), "segment0.ts", new byte[] {0x47});
+    segmentStore.addSegment(session.getSessionId(), "segment1.ts", new byte[] {0x47});
+    clock.advance(Duration.ofSeconds(3));
+
+    coordinator.deliver(session.getSessionId(), StreamSession.defaultVariant(), "segment0.ts");
+    coordinator.deliver(session.getSessionId(), StreamSession.defaultVariant(), "segment1.ts");
+
+    var firstSegment = meterRegistry.get(StreamingMetrics.FIRST_SEGMENT_METRIC).timer();
+    assertThat(firstSegment.count()).isEqualTo(1);
+    assertThat(firstSegment.totalTime(TimeUnit.SECONDS)).isEqualTo(3);
+  }
+
   @Test
   @DisplayName("Should return session ended when the session does not exist")
   void shouldReturnSessionEndedWhenTheSessionDoesNotExist() {
@@ -345,6 +427,14 @@ class SegmentDeliveryCoordinatorTest {
     assertThat(replacement.variantLabel()).isEqualTo(StreamSession.defaultVariant());
     assertThat(session.getHandle().orElseThrow().status()).isEqualTo(TranscodeStatus.ACTIVE);
     assertThat(session.getHandle().orElseThrow().attemptId()).isEqualTo(replacement.attemptId());
+    assertThat(segmentWaits("recovered")).isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get(StreamingMetrics.REPLACEMENTS_METRIC)
+                .tag("reason", "dead")
+                .counter()
+                .count())
+        .isEqualTo(1);
   }
 
   @Test
@@ -408,6 +498,147 @@ class SegmentDeliveryCoordinatorTest {
         .contains(session.getSessionId() + "/" + StreamSession.defaultVariant());
   }
 
+  @Test
+  @DisplayName(
+      "Should replace a producer whose encode output time stops moving before the publication threshold")
+  void shouldReplaceProducerWhoseEncodeOutputTimeStopsMovingBeforeThePublicationThreshold()
+      throws Exception {
+    var session = startedSession();
+    var startsBefore = transcodeExecutor.getStartedRequests().size();
+
+    var delivery = deliverAsync(session.getSessionId(), "segment1.ts");
+    segmentStore.addSegment(session.getSessionId(), "segment0.ts", new byte[] {1});
+    reportEncodedUpTo(session.getSessionId(), 6_000_000);
+    awaitLivenessChecks(2);
+    reportEncodedUpTo(session.getSessionId(), 7_000_000);
+    awaitLivenessChecks(2);
+    // Inside the publication threshold, so only the frozen output time can classify the stall.
+    clock.advance(PROGRESS_STALL_THRESHOLD);
+    transcodeExecutor.awaitStartedRequestCount(startsBefore + 1);
+    segmentStore.addSegment(session.getSessionId(), "segment1.ts", new byte[] {1});
+
+    assertThat(delivery.get(2, TimeUnit.SECONDS)).isInstanceOf(SegmentDelivery.Ready.class);
+    assertThat(transcodeExecutor.getStoppedVariants())
+        .contains(session.getSessionId() + "/" + StreamSession.defaultVariant());
+  }
+
+  @Test
+  @DisplayName(
+      "Should not judge a producer on encode progress until its output time has moved when delivering a segment")
+  void shouldNotJudgeProducerOnEncodeProgressUntilItsOutputTimeHasMovedWhenDeliveringSegment()
+      throws Exception {
+    var session = startedSession();
+    var startsBefore = transcodeExecutor.getStartedRequests().size();
+
+    var delivery = deliverAsync(session.getSessionId(), "segment1.ts");
+    segmentStore.addSegment(session.getSessionId(), "segment0.ts", new byte[] {1});
+    // FFmpeg still probing its input repeats one output time; that is not a frozen encoder.
+    reportEncodedUpTo(session.getSessionId(), 0);
+    awaitLivenessChecks(2);
+    clock.advance(PROGRESS_STALL_THRESHOLD.plusMillis(50));
+    awaitLivenessChecks(3);
+
+    assertThat(transcodeExecutor.getStoppedVariants()).isEmpty();
+    assertThat(transcodeExecutor.getStartedRequests()).hasSize(startsBefore);
+    segmentStore.addSegment(session.getSessionId(), "segment1.ts", new byte[] {1});
+    assertThat(delivery.get(2, TimeUnit.SECONDS)).isInstanceOf(SegmentDelivery.Ready.class);
+  }
+
+  @Test
+  @DisplayName(
+      "Should move a steadily slow producer to another target before the publication threshold when delivering a segment")
+  void shouldMoveSteadilySlowProducerToAnotherTargetBeforePublicationThresholdWhenDelivering()
+      throws Exception {
+    transcodeExecutor.setExecutionTargets(List.of(TARGET_B, TARGET_A));
+    var session = startedSession();
+
+    var delivery = deliverAsync(session.getSessionId(), "segment1.ts");
+    segmentStore.addSegment(session.getSessionId(), "segment0.ts", new byte[] {1});
+    reportEncodedUpTo(session.getSessionId(), 6_000_000);
+    awaitLivenessChecks(2);
+    // Output time never freezes, but 0.4x across a whole window cannot keep up with playback.
+    encodeSteadily(session.getSessionId(), 6_000_000, 0.4, 6);
+    transcodeExecutor.awaitStartedTarget(TARGET_A);
+    segmentStore.addSegment(session.getSessionId(), "segment1.ts", new byte[] {1});
+
+    assertThat(delivery.get(2, TimeUnit.SECONDS)).isInstanceOf(SegmentDelivery.Ready.class);
+    assertThat(transcodeExecutor.getStartedTargets()).containsExactly(TARGET_A);
+    assertThat(
+            meterRegistry
+                .get(StreamingMetrics.REPLACEMENTS_METRIC)
+                .tag("reason", "slow")
+                .counter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName(
+      "Should not restart a slow producer on the target already running it when that target is listed first")
+  void shouldNotRestartSlowProducerOnTargetAlreadyRunningItWhenThatTargetIsListedFirst()
+      throws Exception {
+    transcodeExecutor.setExecutionTargets(List.of(TARGET_A, TARGET_B));
+    // The initial dispatch is first fit, so this run is on TARGET_A without the coordinator
+    // having chosen it.
+    var session = startedSession();
+
+    var delivery = deliverAsync(session.getSessionId(), "segment1.ts");
+    segmentStore.addSegment(session.getSessionId(), "segment0.ts", new byte[] {1});
+    reportEncodedUpTo(session.getSessionId(), 6_000_000);
+    awaitLivenessChecks(2);
+    encodeSteadily(session.getSessionId(), 6_000_000, 0.4, 6);
+    transcodeExecutor.awaitStartedTarget(TARGET_B);
+    segmentStore.addSegment(session.getSessionId(), "segment1.ts", new byte[] {1});
+
+    assertThat(delivery.get(2, TimeUnit.SECONDS)).isInstanceOf(SegmentDelivery.Ready.class);
+    assertThat(transcodeExecutor.getStartedTargets()).containsExactly(TARGET_B);
+  }
+
+  @Test
+  @DisplayName(
+      "Should keep a slow producer when the executor cannot say which target runs it when delivering a segment")
+  void shouldKeepSlowProducerWhenExecutorCannotSayWhichTargetRunsItWhenDeliveringSegment()
+      throws Exception {
+    transcodeExecutor.setExecutionTargets(List.of(TARGET_A, TARGET_B));
+    transcodeExecutor.hideRunningTargets();
+    var session = startedSession();
+    var startsBefore = transcodeExecutor.getStartedRequests().size();
+
+    var delivery = deliverAsync(session.getSessionId(), "segment1.ts");
+    segmentStore.addSegment(session.getSessionId(), "segment0.ts", new byte[] {1});
+    reportEncodedUpTo(session.getSessionId(), 6_000_000);
+    awaitLivenessChecks(2);
+    encodeSteadily(session.getSessionId(), 6_000_000, 0.4, 6);
+    awaitLivenessChecks(3);
+
+    assertThat(transcodeExecutor.getStoppedVariants()).isEmpty();
+    assertThat(transcodeExecutor.getStartedRequests()).hasSize(startsBefore);
+    segmentStore.addSegment(session.getSessionId(), "segment1.ts", new byte[] {1});
+    assertThat(delivery.get(2, TimeUnit.SECONDS)).isInstanceOf(SegmentDelivery.Ready.class);
+  }
+
+  @Test
+  @DisplayName(
+      "Should keep a steadily slow producer when no other target could run it when delivering a segment")
+  void shouldKeepSteadilySlowProducerWhenNoOtherTargetCouldRunItWhenDeliveringSegment()
+      throws Exception {
+    var session = startedSession();
+    var startsBefore = transcodeExecutor.getStartedRequests().size();
+
+    var delivery = deliverAsync(session.getSessionId(), "segment1.ts");
+    segmentStore.addSegment(session.getSessionId(), "segment0.ts", new byte[] {1});
+    reportEncodedUpTo(session.getSessionId(), 6_000_000);
+    awaitLivenessChecks(2);
+    // A byte-identical run on the only target is no faster; restarting it would only lose work.
+    encodeSteadily(session.getSessionId(), 6_000_000, 0.4, 6);
+    awaitLivenessChecks(3);
+
+    assertThat(transcodeExecutor.getStoppedVariants()).isEmpty();
+    assertThat(transcodeExecutor.getStartedRequests()).hasSize(startsBefore);
+    segmentStore.addSegment(session.getSessionId(), "segment1.ts", new byte[] {1});
+    assertThat(delivery.get(2, TimeUnit.SECONDS)).isInstanceOf(SegmentDelivery.Ready.class);
+  }
+
   @Test
   @DisplayName(
       "Should not replace a cold-starting producer that is still within its startup budget when delivering a segment")
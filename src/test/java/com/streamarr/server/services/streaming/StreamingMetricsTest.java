@@ -0,0 +1,86 @@
+package com.streamarr.server.services.streaming;
+
+import static com.streamarr.server.fixtures.StreamSessionFixture.defaultSessionBuilder;
+import static com.streamarr.server.fixtures.StreamSessionFixture.fullTranscodeDecision;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.streamarr.server.domain.streaming.ContainerFormat;
+import com.streamarr.server.fakes.FakeRuntimeStreamSessionRegistry;
+import com.streamarr.server.services.streaming.ProducerLifecycleService.ReplacementReason;
+import com.streamarr.server.services.streaming.StreamingMetrics.WaitOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("Streaming Metrics Tests")
+class StreamingMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final StreamingMetrics metrics = new StreamingMetrics(meterRegistry);
+
+  @Test
+  @DisplayName("Should tag each segment wait with its outcome when recording waits")
+  void shouldTagEachSegmentWaitWithItsOutcomeWhenRecordingWaits() {
+    metrics.recordSegmentWait(metrics.startSegmentWait(), WaitOutcome.RECOVERED);
+    metrics.recordSegmentWait(metrics.startSegmentWait(), WaitOutcome.UNRECOVERABLE);
+
+    assertThat(waits("recovered")).isEqualTo(1);
+    assertThat(waits("unrecoverable")).isEqualTo(1);
+    assertThat(waits("immediate")).isZero();
+  }
+
+  @Test
+  @DisplayName("Should register one series per outcome and reason before anything is recorded")
+  void shouldRegisterOneSeriesPerOutcomeAndReasonBeforeAnythingIsRecorded() {
+    assertThat(meterRegistry.get(StreamingMetrics.SEGMENT_WAIT_METRIC).timers())
+        .hasSize(WaitOutcome.values().length);
+    assertThat(meterRegistry.get(StreamingMetrics.REPLACEMENTS_METRIC).counters())
+        .hasSize(ReplacementReason.values().length);
+  }
+
+  @Test
+  @DisplayName("Should count replacements by reason when recording replacements")
+  void shouldCountReplacementsByReasonWhenRecordingReplacements() {
+    metrics.recordReplacement(ReplacementReason.RESUME_FAILED);
+    metrics.recordReplacement(ReplacementReason.RESUME_FAILED);
+
+    var resumeFailed =
+        meterRegistry
+            .get(StreamingMetrics.REPLACEMENTS_METRIC)
+            .tag("reason", "resume-failed")
+            .counter();
+    assertThat(resumeFailed.count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should report live sessions per transcode mode when bound to the session registry")
+  void shouldReportLiveSessionsPerTranscodeModeWhenBoundToTheSessionRegistry() {
+    var registry = new FakeRuntimeStreamSessionRegistry();
+    metrics.bindSessions(registry);
+
+    registry.save(defaultSessionBuilder().build());
+    registry.save(defaultSessionBuilder().build());
+    registry.save(
+        defaultSessionBuilder()
+            .transcodeDecision(fullTranscodeDecision("h264", ContainerFormat.MPEGTS))
+            .build());
+
+    assertThat(sessions("remux")).isEqualTo(2);
+    assertThat(sessions("full-transcode")).isEqualTo(1);
+    assertThat(sessions("audio-transcode")).isZero();
+  }
+
+  private long waits(String outcome) {
+    return meterRegistry
+        .get(StreamingMetrics.SEGMENT_WAIT_METRIC)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+
+  private double sessions(String mode) {
+    return meterRegistry.get(StreamingMetrics.SESSIONS_METRIC).tag("mode", mode).gauge().value();
+  }
+}
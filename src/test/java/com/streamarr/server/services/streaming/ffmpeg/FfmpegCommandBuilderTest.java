@@ -513,6 +513,17 @@ class FfmpegCommandBuilderTest {
     assertThat(cmd).isNotEmpty().contains("-y").doesNotContain("-nostdin");
   }
 
+  @Test
+  @DisplayName("Should report progress on stdout instead of stats when building command")
+  void shouldReportProgressOnStdoutInsteadOfStatsWhenBuildingCommand() {
+    var j = job(TranscodeMode.REMUX, "h264", "aac", ContainerFormat.MPEGTS, "copy", true);
+
+    var cmd = builder.buildCommand(j);
+
+    assertThat(cmd).containsSubsequence("-progress", "pipe:1").contains("-nostats");
+    assertThat(cmd.indexOf("-progress")).isLessThan(cmd.indexOf("-i"));
+  }
+
   @Test
   @DisplayName("Should set HLS time when building command")
   void shouldSetHlsTimeWhenBuildingCommand() {
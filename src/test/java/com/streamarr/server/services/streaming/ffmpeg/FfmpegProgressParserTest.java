@@ -0,0 +1,112 @@
+package com.streamarr.server.services.streaming.ffmpeg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.streamarr.server.domain.streaming.TranscodeProgress;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("FFmpeg Progress Parser Tests")
+class FfmpegProgressParserTest {
+
+  private final FfmpegProgressParser parser = new FfmpegProgressParser();
+
+  @Test
+  @DisplayName("Should report a snapshot of the block when a progress line closes it")
+  void shouldReportSnapshotOfTheBlockWhenProgressLineClosesIt() {
+    var progress =
+        parseBlock(
+            "frame=240",
+            "fps=47.93",
+            "stream_0_0_q=28.0",
+            "bitrate=1843.2kbits/s",
+            "total_size=2359296",
+            "out_time_us=10010000",
+            "out_time_ms=10010000",
+            "out_time=00:00:10.010000",
+            "dup_frames=2",
+            "drop_frames=1",
+            "speed=2.01x",
+            "progress=continue");
+
+    assertThat(progress)
+        .isEqualTo(new TranscodeProgress(240, 47.93, 1843.2, 10_010_000, 2, 1, 2.01, false));
+  }
+
+  @Test
+  @DisplayName("Should read unavailable values as unknown when FFmpeg reports N/A")
+  void shouldReadUnavailableValuesAsUnknownWhenFfmpegReportsNa() {
+    var progress =
+        parseBlock(
+            "frame=0",
+            "fps=0.00",
+            "bitrate=N/A",
+            "out_time_us=N/A",
+            "speed=N/A",
+            "progress=continue");
+
+    assertThat(progress.bitrateKbps()).isNaN();
+    assertThat(progress.speed()).isNaN();
+    assertThat(progress.hasOutTime()).isFalse();
+    assertThat(progress.duplicatedFrames()).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("Should read a negative output time as unknown")
+  void shouldReadNegativeOutputTimeAsUnknown() {
+    var progress = parseBlock("out_time_us=-23220", "progress=continue");
+
+    assertThat(progress.hasOutTime()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should read a speed padded with spaces")
+  void shouldReadSpeedPaddedWithSpaces() {
+    var progress = parseBlock("speed=   0.5x", "progress=continue");
+
+    assertThat(progress.speed()).isEqualTo(0.5);
+  }
+
+  @Test
+  @DisplayName("Should mark the snapshot ended when FFmpeg reports the end")
+  void shouldMarkSnapshotEndedWhenFfmpegReportsTheEnd() {
+    var progress = parseBlock("out_time_us=5000000", "progress=end");
+
+    assertThat(progress.ended()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should carry values into the next block when FFmpeg omits them")
+  void shouldCarryValuesIntoNextBlockWhenFfmpegOmitsThem() {
+    parseBlock("frame=10", "out_time_us=1000000", "progress=continue");
+
+    var progress = parseBlock("out_time_us=2000000", "progress=continue");
+
+    assertThat(progress.frame()).isEqualTo(10);
+    assertThat(progress.outTimeMicros()).isEqualTo(2_000_000);
+  }
+
+  @Test
+  @DisplayName("Should report nothing when the line does not close a block")
+  void shouldReportNothingWhenLineDoesNotCloseBlock() {
+    assertThat(parseLine("frame=10")).isNull();
+    assertThat(parseLine("not a progress line")).isNull();
+  }
+
+  private TranscodeProgress parseBlock(String... lines) {
+    TranscodeProgress progress = null;
+    for (var line : lines) {
+      progress = parseLine(line);
+    }
+    return progress;
+  }
+
+  private TranscodeProgress parseLine(String line) {
+    // Padded on both sides, as lines sit mid-buffer when read from the pipe.
+    var bytes = ("##" + line + "##").getBytes(StandardCharsets.US_ASCII);
+    return parser.parseLine(bytes, 2, bytes.length - 2);
+  }
+}
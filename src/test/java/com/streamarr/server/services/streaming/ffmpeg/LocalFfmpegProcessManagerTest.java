@@ -3,6 +3,7 @@ package com.streamarr.server.services.streaming.ffmpeg;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
@@ -11,7 +12,9 @@ import ch.qos.logback.core.AppenderBase;
 import ch.qos.logback.core.read.ListAppender;
 import com.streamarr.server.domain.streaming.StreamSession;
 import com.streamarr.server.exceptions.TranscodeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
@@ -373,4 +376,56 @@ class LocalFfmpegProcessManagerTest {
         .extracting(ILoggingEvent::getFormattedMessage)
         .noneMatch(message -> message.contains("completed"));
   }
+
+  @Test
+  @DisplayName("Should expose reported progress as variant gauges until the process stops")
+  void shouldExposeReportedProgressAsVariantGaugesUntilTheProcessStops() {
+    var meterRegistry = new SimpleMeterRegistry();
+    var meteredManager = new LocalFfmpegProcessManager(meterRegistry);
+    var sessionId = UUID.randomUUID();
+    var report = "out_time_us=12500000\nspeed=1.5x\nfps=36.0\nprogress=continue\n";
+
+    meteredManager.startProcess(
+        sessionId, "720p", List.of("bash", "-c", "printf '" + report + "'; sleep 30"), tempDir);
+
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(meteredManager.progress(sessionId, "720p"))
+                    .hasValueSatisfying(p -> assertThat(p.speed()).isEqualTo(1.5)));
+    var outTime =
+        meterRegistry
+            .get(LocalFfmpegProcessManager.OUT_TIME_METRIC)
+            .tag("session", sessionId.toString())
+            .tag("variant", "720p")
+            .gauge();
+    assertThat(outTime.value()).isEqualTo(12.5);
+    assertThat(meterRegistry.get(LocalFfmpegProcessManager.FPS_METRIC).gauge().value())
+        .isEqualTo(36.0);
+
+    meteredManager.stopProcess(sessionId);
+
+    assertThat(meteredManager.progress(sessionId, "720p")).isEmpty();
+    assertThat(meterRegistry.find(LocalFfmpegProcessManager.OUT_TIME_METRIC).gauges()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should count only live processes when reading the process gauge")
+  void shouldCountOnlyLiveProcessesWhenReadingTheProcessGauge() throws Exception {
+    var meterRegistry = new SimpleMeterRegistry();
+    var meteredManager = new LocalFfmpegProcessManager(meterRegistry);
+    var sessionId = UUID.randomUUID();
+    var processes = meterRegistry.get(LocalFfmpegProcessManager.PROCESSES_METRIC).gauge();
+
+    meteredManager.startProcess(sessionId, "720p", List.of("sleep", "30"), tempDir);
+    var exited = meteredManager.startProcess(sessionId, "480p", List.of("true"), tempDir);
+    exited.waitFor(5, TimeUnit.SECONDS);
+
+    assertThat(processes.value()).isEqualTo(1);
+
+    meteredManager.stopProcess(sessionId);
+
+    assertThat(processes.value()).isZero();
+  }
 }
@@ -0,0 +1,83 @@
+package com.streamarr.server.services.streaming.ffmpeg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.ByteArrayInputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+@DisplayName("Progress Drainer Tests")
+class ProgressDrainerTest {
+
+  @Test
+  @DisplayName("Should keep the latest block when blocks arrive split across writes")
+  void shouldKeepLatestBlockWhenBlocksArriveSplitAcrossWrites() throws Exception {
+    var output = new PipedOutputStream();
+    var input = new PipedInputStream(output);
+
+    try (var drainer = new ProgressDrainer(input)) {
+      write(output, "frame=10\nout_time_us=1000");
+      write(output, "000\r\nprogress=continue\nframe=20\nout_time_us=2000000\n");
+
+      await()
+          .atMost(Duration.ofSeconds(2))
+          .untilAsserted(
+              () ->
+                  assertThat(drainer.getLatest())
+                      .hasValueSatisfying(p -> assertThat(p.outTimeMicros()).isEqualTo(1_000_000)));
+
+      write(output, "progress=continue\n");
+
+      await()
+          .atMost(Duration.ofSeconds(2))
+          .untilAsserted(
+              () ->
+                  assertThat(drainer.getLatest())
+                      .hasValueSatisfying(p -> assertThat(p.frame()).isEqualTo(20)));
+    }
+  }
+
+  @Test
+  @DisplayName("Should report nothing before the first block is complete")
+  void shouldReportNothingBeforeFirstBlockIsComplete() throws Exception {
+    var output = new PipedOutputStream();
+    var input = new PipedInputStream(output);
+
+    try (var drainer = new ProgressDrainer(input)) {
+      write(output, "frame=10\n");
+
+      assertThat(drainer.getLatest()).isEmpty();
+      assertThat(drainer.getLatestOrUnknown().hasOutTime()).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("Should skip a line longer than the buffer and keep parsing after it")
+  void shouldSkipLineLongerThanBufferAndKeepParsingAfterIt() {
+    var longLine = "progress=" + "x".repeat(ProgressDrainer.BUFFER_SIZE * 2);
+    var report = longLine + "\nout_time_us=3000000\nprogress=continue\n";
+    var input = new ByteArrayInputStream(report.getBytes(StandardCharsets.US_ASCII));
+
+    try (var drainer = new ProgressDrainer(input)) {
+      await()
+          .atMost(Duration.ofSeconds(2))
+          .untilAsserted(
+              () ->
+                  assertThat(drainer.getLatest())
+                      .hasValueSatisfying(
+                          p -> assertThat(p.outTimeMicros()).isEqualTo(3_000_000)));
+    }
+  }
+
+  private static void write(PipedOutputStream output, String text) throws Exception {
+    output.write(text.getBytes(StandardCharsets.US_ASCII));
+    output.flush();
+  }
+}
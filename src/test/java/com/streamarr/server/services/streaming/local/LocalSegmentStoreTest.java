@@ -46,6 +46,25 @@ class LocalSegmentStoreTest {
     assertThat(outputDir).exists().isDirectory().hasParentRaw(tempDir);
   }
 
+  @Test
+  @DisplayName("Should total the bytes of every session's files when reporting stored bytes")
+  void shouldTotalBytesOfEverySessionsFilesWhenReportingStoredBytes() throws IOException {
+    var sessionDir = store.getOutputDirectory(UUID.randomUUID());
+    var variantDir = store.getOutputDirectory(UUID.randomUUID(), "720p");
+    Files.write(sessionDir.resolve("segment0.ts"), new byte[10]);
+    Files.write(variantDir.resolve("init.mp4"), new byte[5]);
+
+    assertThat(store.storedBytes()).isEqualTo(15);
+  }
+
+  @Test
+  @DisplayName("Should report no stored bytes when the base directory does not exist")
+  void shouldReportNoStoredBytesWhenBaseDirectoryDoesNotExist() {
+    var missingStore = new LocalSegmentStore(tempDir.resolve("missing"));
+
+    assertThat(missingStore.storedBytes()).isZero();
+  }
+
   @Test
   @DisplayName("Should return same output directory when called twice for same session")
   void shouldReturnSameOutputDirectoryWhenCalledTwiceForSameSession() {
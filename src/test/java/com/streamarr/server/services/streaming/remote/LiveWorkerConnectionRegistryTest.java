@@ -4,6 +4,7 @@ import static com.streamarr.transcode.protocol.ProtoUuid.fromProto;
 import static com.streamarr.transcode.protocol.ProtoUuid.toProto;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.streamarr.server.services.streaming.ExecutionTargetId;
 import com.streamarr.transcode.v1.EstablishWorkerSessionResponse;
 import com.streamarr.transcode.v1.MediaSourceRef;
 import com.streamarr.transcode.v1.SegmentUploadMetadata;
@@ -15,6 +16,7 @@ import com.streamarr.transcode.v1.WorkerRegistration;
 import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -140,6 +142,32 @@ class LiveWorkerConnectionRegistryTest {
     assertThat(registry.availableSlots(SOURCE_NAMESPACE_ID)).isEqualTo(2);
   }
 
+  @Test
+  @DisplayName(
+      "Should report the worker each untargeted dispatch landed on when managing a connection")
+  void shouldReportWorkerEachUntargetedDispatchLandedOnWhenManagingConnection() {
+    var registry = new LiveWorkerConnectionRegistry();
+    var secondWorkerId = UUID.randomUUID();
+    registry.register(WORKER_ID, registration(), new CancellableObserver());
+    registry.register(secondWorkerId, registration(secondWorkerId, 1), new CancellableObserver());
+    var first = variantJob();
+    var second = variantJob();
+    var firstAttemptId = fromProto(first.getJobAttemptId());
+    var secondAttemptId = fromProto(second.getJobAttemptId());
+
+    assertThat(registry.dispatch(first)).isTrue();
+    assertThat(registry.dispatch(second)).isTrue();
+
+    // One slot each, so the two attempts must be on different workers.
+    var targets =
+        List.of(registry.targetRunning(firstAttemptId), registry.targetRunning(secondAttemptId));
+    assertThat(targets)
+        .map(Optional::orElseThrow)
+        .containsExactlyInAnyOrderElementsOf(registry.eligibleWorkers(SOURCE_NAMESPACE_ID));
+    registry.stopStreamSession(fromProto(second.getStreamSessionId()));
+    assertThat(registry.targetRunning(secondAttemptId)).isEmpty();
+  }
+
   @Test
   @DisplayName(
       "Should survive stopping a session whose worker call is cancelled but not yet reaped when managing a connection")
@@ -17,6 +17,7 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -88,6 +89,27 @@ class FileProcessingTaskCoordinatorIT extends AbstractIntegrationTest {
     assertThat(taskRepository.count()).isEqualTo(1);
   }
 
+  @Test
+  @DisplayName("Should create pending tasks and keep existing ones when batch of files discovered")
+  void shouldCreatePendingTasksAndKeepExistingOnesWhenBatchOfFilesDiscovered() {
+    var existingPath = Path.of("/media/movies/Existing (2024).mkv");
+    var existing = coordinator.createTask(existingPath, testLibrary.getId());
+    var first = Path.of("/media/movies/First (2024).mkv");
+    var second = Path.of("/media/movies/Second (2024).mkv");
+
+    var tasks =
+        coordinator.createTasks(
+            Map.of(
+                existingPath, testLibrary.getId(),
+                first, testLibrary.getId(),
+                second, testLibrary.getId()));
+
+    assertThat(tasks).containsOnlyKeys(existingPath, first, second);
+    assertThat(tasks.get(existingPath).getId()).isEqualTo(existing.getId());
+    assertThat(tasks.get(first).getStatus()).isEqualTo(FileProcessingTaskStatus.PENDING);
+    assertThat(taskRepository.count()).isEqualTo(3);
+  }
+
   @Test
   @DisplayName("Should transition to processing when task claimed")
   void shouldTransitionToProcessingWhenTaskClaimed() {
@@ -10,7 +10,11 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -61,6 +65,53 @@ class FileProcessingTaskCoordinatorTest {
     assertThat(repository.count()).isEqualTo(1);
   }
 
+  @Test
+  @DisplayName("Should insert every new task in one batch when several files discovered")
+  void shouldInsertEveryNewTaskInOneBatchWhenSeveralFilesDiscovered() {
+    var batches = new AtomicInteger();
+    repository =
+        new FakeFileProcessingTaskRepository() {
+          @Override
+          public <S extends FileProcessingTask> List<S> saveAll(Iterable<S> entities) {
+            batches.incrementAndGet();
+            return super.saveAll(entities);
+          }
+        };
+    coordinator = new FileProcessingTaskCoordinator(repository, clock, LEASE_DURATION);
+    var libraryId = UUID.randomUUID();
+    var paths =
+        List.of(
+            Path.of("/media/movies/First (2024).mkv"),
+            Path.of("/media/movies/Second (2024).mkv"),
+            Path.of("/media/movies/Third (2024).mkv"));
+    var libraryIdsByPath = new LinkedHashMap<Path, UUID>();
+    paths.forEach(path -> libraryIdsByPath.put(path, libraryId));
+
+    var tasks = coordinator.createTasks(libraryIdsByPath);
+
+    assertThat(tasks).containsOnlyKeys(paths);
+    assertThat(tasks.values())
+        .extracting(FileProcessingTask::getStatus)
+        .containsOnly(FileProcessingTaskStatus.PENDING);
+    assertThat(batches).hasValue(1);
+    assertThat(repository.count()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should return existing task when batch includes a file already being processed")
+  void shouldReturnExistingTaskWhenBatchIncludesFileAlreadyBeingProcessed() {
+    var path = Path.of("/media/movies/Existing (2024).mkv");
+    var libraryId = UUID.randomUUID();
+    var existing = coordinator.createTask(path, libraryId);
+
+    var tasks =
+        coordinator.createTasks(
+            Map.of(path, libraryId, Path.of("/media/movies/New (2024).mkv"), libraryId));
+
+    assertThat(tasks.get(path).getId()).isEqualTo(existing.getId());
+    assertThat(repository.count()).isEqualTo(2);
+  }
+
   @Test
   @DisplayName("Should set owner and lease when task claimed")
   void shouldSetOwnerAndLeaseWhenTaskClaimed() {